@@ -2,6 +2,9 @@ package solutions.alterego.androidbound;
 
 import android.annotation.TargetApi;
 import android.content.Context;
+import android.content.pm.PackageInfo;
+import android.content.pm.PackageManager;
+import android.content.res.Resources;
 import android.os.Build;
 import android.view.LayoutInflater;
 import android.view.LayoutInflater.Factory;
@@ -9,9 +12,16 @@ import android.view.LayoutInflater.Factory2;
 import android.view.View;
 import android.view.ViewGroup;
 
+import java.io.File;
+import java.io.IOException;
 import java.lang.ref.WeakReference;
 import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
+import io.reactivex.schedulers.Schedulers;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.experimental.Accessors;
@@ -25,19 +35,46 @@ import solutions.alterego.androidbound.android.interfaces.IBindableLayoutInflate
 import solutions.alterego.androidbound.android.interfaces.IFontManager;
 import solutions.alterego.androidbound.android.interfaces.IImageLoader;
 import solutions.alterego.androidbound.android.interfaces.IViewResolver;
+import solutions.alterego.androidbound.android.ui.BindableButton;
+import solutions.alterego.androidbound.android.ui.BindableEditText;
+import solutions.alterego.androidbound.android.ui.BindableFrameLayout;
+import solutions.alterego.androidbound.android.ui.BindableGridView;
+import solutions.alterego.androidbound.android.ui.BindableHorizontalScrollView;
+import solutions.alterego.androidbound.android.ui.BindableImageView;
+import solutions.alterego.androidbound.android.ui.BindableLinearLayout;
+import solutions.alterego.androidbound.android.ui.BindableListView;
+import solutions.alterego.androidbound.android.ui.BindableProgressBar;
+import solutions.alterego.androidbound.android.ui.BindableRecyclerView;
+import solutions.alterego.androidbound.android.ui.BindableRelativeLayout;
+import solutions.alterego.androidbound.android.ui.BindableScrollView;
+import solutions.alterego.androidbound.android.ui.BindableSeekbar;
+import solutions.alterego.androidbound.android.ui.BindableSwipeRefreshLayout;
+import solutions.alterego.androidbound.android.ui.BindableSwitch;
+import solutions.alterego.androidbound.android.ui.BindableTextView;
+import solutions.alterego.androidbound.android.ui.BindableToggleButton;
+import solutions.alterego.androidbound.android.ui.BindableVideoView;
+import solutions.alterego.androidbound.android.ui.BindableView;
 import solutions.alterego.androidbound.android.viewresolvers.ChainedViewResolver;
 import solutions.alterego.androidbound.android.viewresolvers.NullViewResolver;
 import solutions.alterego.androidbound.android.viewresolvers.ViewResolver;
+import solutions.alterego.androidbound.binding.GeneratedLayoutBinders;
 import solutions.alterego.androidbound.binding.NullViewBindingEngine;
 import solutions.alterego.androidbound.binding.ViewBindingEngine;
+import solutions.alterego.androidbound.binding.interfaces.ILayoutBinder;
+import solutions.alterego.androidbound.converters.interfaces.IMultiValueConverter;
 import solutions.alterego.androidbound.converters.interfaces.IValueConverter;
+import solutions.alterego.androidbound.helpers.Reflector;
+import solutions.alterego.androidbound.helpers.reflector.MetadataStore;
 import solutions.alterego.androidbound.interfaces.ILogger;
 import solutions.alterego.androidbound.interfaces.IViewBinder;
 import solutions.alterego.androidbound.interfaces.IViewBindingEngine;
+import solutions.alterego.androidbound.parsers.SpecificationTable;
 
 @Accessors(prefix = "m")
 public class ViewBinder implements IViewBinder {
 
+    private static final String METADATA_STORE_FILE = "androidbound_metadata.bin";
+
     @Getter
     @Setter
     private ILogger mLogger = NullLogger.instance;
@@ -57,6 +94,10 @@ public class ViewBinder implements IViewBinder {
     @Getter
     private IViewBindingEngine mViewBindingEngine = NullViewBindingEngine.instance;
 
+    private GeneratedLayoutBinders mLayoutBinders;
+
+    private final Set<ILayoutBinder> mRegisteredLayoutBinders = Collections.newSetFromMap(new ConcurrentHashMap<ILayoutBinder, Boolean>());
+
     /**
      * For APIs >= 11 && < 21, there was a framework bug that prevented a LayoutInflater's
      * Factory2 from being merged properly if set after a cloneInContext from a LayoutInflater
@@ -82,12 +123,14 @@ public class ViewBinder implements IViewBinder {
 
     private void init() {
         mViewBindingEngine = new ViewBindingEngine(getLogger());
+        mLayoutBinders = new GeneratedLayoutBinders(getLogger());
 
         mViewResolver = new ChainedViewResolver(new ViewResolver(getLogger()));
         mInflaterFactory = new BindableLayoutInflaterFactory(this, mViewResolver);
-        setFontManager(new FontManager(getLogger()));
+        setFontManager(new FontManager(getContext(), getLogger()));
 
         registerDefaultConverters();
+        registerSpecificationTable();
     }
 
     @Override
@@ -120,6 +163,22 @@ public class ViewBinder implements IViewBinder {
         return null;
     }
 
+    private void registerSpecificationTable() {
+        Context context = getContext();
+        if (context == null) {
+            return;
+        }
+
+        try {
+            ByteBuffer table = SpecificationTable.readAsset(context.getAssets(), SpecificationTable.ASSET_NAME);
+            if (table != null) {
+                mViewBindingEngine.registerSpecificationTable(table);
+            }
+        } catch (IOException e) {
+            getLogger().error("cannot read " + SpecificationTable.ASSET_NAME + ": " + e.getMessage());
+        }
+    }
+
     private void registerDefaultConverters() {
         registerConverter(new BooleanToVisibilityConverter());
         registerConverter(new BooleanToInvisibilityConverter());
@@ -135,6 +194,21 @@ public class ViewBinder implements IViewBinder {
         return mViewBindingEngine.findConverter(name);
     }
 
+    @Override
+    public void registerMultiConverter(IMultiValueConverter converter) {
+        mViewBindingEngine.registerMultiConverter(converter);
+    }
+
+    @Override
+    public IMultiValueConverter findMultiConverter(String name) {
+        return mViewBindingEngine.findMultiConverter(name);
+    }
+
+    @Override
+    public void clearConverterCaches() {
+        mViewBindingEngine.clearConverterCaches();
+    }
+
     @Override
     public void registerResource(String name, Object resource) {
         mViewBindingEngine.registerResource(name, resource);
@@ -165,6 +239,51 @@ public class ViewBinder implements IViewBinder {
         mViewBindingEngine.setImageLoader(imageLoader);
     }
 
+    @Override
+    public void prewarm(Class<?>... types) {
+        for (final Class<?> type : types) {
+            Schedulers.computation().scheduleDirect(new Runnable() {
+                @Override
+                public void run() {
+                    Reflector.prewarm(type);
+                }
+            });
+        }
+    }
+
+    @Override
+    public void prewarmBindableViews() {
+        // listed here rather than in a static field, so the view classes only load when the app asks for the warm-up
+        prewarm(BindableButton.class, BindableEditText.class, BindableFrameLayout.class, BindableGridView.class,
+                BindableHorizontalScrollView.class, BindableImageView.class, BindableLinearLayout.class, BindableListView.class,
+                BindableProgressBar.class, BindableRecyclerView.class, BindableRelativeLayout.class, BindableScrollView.class,
+                BindableSeekbar.class, BindableSwipeRefreshLayout.class, BindableSwitch.class, BindableTextView.class,
+                BindableToggleButton.class, BindableVideoView.class, BindableView.class);
+    }
+
+    @Override
+    public void enableMetadataStore() {
+        Context context = getContext();
+        if (context == null) {
+            return;
+        }
+
+        PackageInfo packageInfo;
+        try {
+            packageInfo = context.getPackageManager().getPackageInfo(context.getPackageName(), 0);
+        } catch (PackageManager.NameNotFoundException e) {
+            getLogger().error("cannot read the version code, not using the metadata store: " + e.getMessage());
+            return;
+        }
+
+        MetadataStore metadataStore = new MetadataStore(new File(context.getCacheDir(), METADATA_STORE_FILE), packageInfo.versionCode,
+                packageInfo.lastUpdateTime);
+        if (metadataStore.load()) {
+            getLogger().debug("loaded binding metadata for version code " + packageInfo.versionCode);
+        }
+        Reflector.setMetadataStore(metadataStore);
+    }
+
     @Override
     public View inflate(Context context, Object source, int layoutResID, ViewGroup viewGroup) {
         return inflate(context, source, layoutResID, viewGroup, viewGroup != null);
@@ -190,6 +309,10 @@ public class ViewBinder implements IViewBinder {
 
     @Override
     public View inflate(Context context, Object source, int layoutResID, ViewGroup viewGroup, boolean attachToRoot) {
+        if (source != null) {
+            registerGeneratedLayoutBinder(context, source, layoutResID);
+        }
+
         LayoutInflater inflater = LayoutInflater.from(context).cloneInContext(context);
 
         if (android.os.Build.VERSION.SDK_INT >= 11 && context instanceof Factory2) {
@@ -203,6 +326,20 @@ public class ViewBinder implements IViewBinder {
         return inflater.inflate(layoutResID, viewGroup, attachToRoot);
     }
 
+    private void registerGeneratedLayoutBinder(Context context, Object source, int layoutResID) {
+        String layoutName;
+        try {
+            layoutName = context.getResources().getResourceEntryName(layoutResID);
+        } catch (Resources.NotFoundException e) {
+            return;
+        }
+
+        ILayoutBinder layoutBinder = mLayoutBinders.find(source.getClass(), layoutName);
+        if (layoutBinder != null && mRegisteredLayoutBinders.add(layoutBinder)) {
+            mViewBindingEngine.registerLayoutBinder(layoutBinder);
+        }
+    }
+
     @TargetApi(Build.VERSION_CODES.HONEYCOMB)
     private void setFactory2(Context context, Object source, LayoutInflater inflater) {
         LayoutInflater.Factory2 factory2 = mInflaterFactory.inflaterFor(source, (Factory2) context);
@@ -253,6 +390,7 @@ public class ViewBinder implements IViewBinder {
 
         mViewBindingEngine.dispose();
         mViewBindingEngine = NullViewBindingEngine.instance;
+        mRegisteredLayoutBinders.clear();
 
         mViewResolver.dispose();
         mViewResolver = NullViewResolver.instance;
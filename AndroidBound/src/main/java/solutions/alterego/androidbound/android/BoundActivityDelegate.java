@@ -141,6 +141,11 @@ public class BoundActivityDelegate implements IActivityLifecycle, IBoundActivity
 
     @Override
     public void onStart() {
+        View boundView = getBoundDecorView();
+        if (boundView != null) {
+            getViewBinder().getViewBindingEngine().resumeBindingsForViewAndChildren(boundView);
+        }
+
         if (getViewModels() != null) {
             for (ViewModel viewModel : getViewModels().values()) {
                 viewModel.onStart();
@@ -175,8 +180,17 @@ public class BoundActivityDelegate implements IActivityLifecycle, IBoundActivity
         }
     }
 
+    /**
+     * Bindings are suspended while the activity isn't visible, changes the view models make meanwhile are applied once on
+     * {@link #onStart()}.
+     */
     @Override
     public void onStop() {
+        View boundView = getBoundDecorView();
+        if (boundView != null) {
+            getViewBinder().getViewBindingEngine().suspendBindingsForViewAndChildren(boundView);
+        }
+
         if (getViewModels() != null) {
             for (ViewModel viewModel : getViewModels().values()) {
                 viewModel.onStop();
@@ -184,6 +198,14 @@ public class BoundActivityDelegate implements IActivityLifecycle, IBoundActivity
         }
     }
 
+    private View getBoundDecorView() {
+        Activity activity = getBoundActivity();
+        if (activity == null || (mViewBinder == null && !(activity instanceof IBindableView)) || activity.getWindow() == null) {
+            return null;
+        }
+        return activity.getWindow().peekDecorView();
+    }
+
     @Override
     public void onSaveInstanceState(Bundle outState) {
         mShouldCallCreate = false;
@@ -224,6 +246,10 @@ public class BoundActivityDelegate implements IActivityLifecycle, IBoundActivity
 
     @Override
     public void onConfigurationChanged(Configuration newConfig) {
+        if (mViewBinder != null || getBoundActivity() instanceof IBindableView) {
+            getViewBinder().clearConverterCaches();
+        }
+
         if (getViewModels() != null) {
             for (ViewModel viewModel : getViewModels().values()) {
                 if (viewModel instanceof INeedsConfigurationChange) {
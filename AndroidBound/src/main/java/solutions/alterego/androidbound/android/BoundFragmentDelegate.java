@@ -159,6 +159,10 @@ public class BoundFragmentDelegate
 
     @Override
     public void onStart() {
+        if (mBoundView != null) {
+            getViewBinder().getViewBindingEngine().resumeBindingsForViewAndChildren(mBoundView);
+        }
+
         if (getViewModels() != null) {
             for (ViewModel viewModel : getViewModels().values()) {
                 viewModel.onStart();
@@ -191,6 +195,10 @@ public class BoundFragmentDelegate
 
     @Override
     public void onStop() {
+        if (mBoundView != null) {
+            getViewBinder().getViewBindingEngine().suspendBindingsForViewAndChildren(mBoundView);
+        }
+
         if (getViewModels() != null) {
             for (ViewModel viewModel : getViewModels().values()) {
                 viewModel.onStop();
@@ -225,6 +233,10 @@ public class BoundFragmentDelegate
 
     @Override
     public void onConfigurationChanged(Configuration newConfig) {
+        if (mViewBinder != null || getBoundActivity() instanceof IBindableView) {
+            getViewBinder().clearConverterCaches();
+        }
+
         if (getViewModels() != null) {
             for (ViewModel viewModel : getViewModels().values()) {
                 if (viewModel instanceof INeedsConfigurationChange) {
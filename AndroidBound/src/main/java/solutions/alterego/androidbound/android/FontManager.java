@@ -1,30 +1,51 @@
 package solutions.alterego.androidbound.android;
 
+import android.content.Context;
+import android.content.res.AssetManager;
 import android.graphics.Typeface;
 
-import java.util.HashMap;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
 
-import lombok.Getter;
-import lombok.Setter;
+import io.reactivex.Completable;
+import io.reactivex.functions.Action;
+import io.reactivex.functions.Consumer;
+import io.reactivex.schedulers.Schedulers;
 import solutions.alterego.androidbound.NullLogger;
 import solutions.alterego.androidbound.android.interfaces.IFontManager;
 import solutions.alterego.androidbound.interfaces.ILogger;
 
-
+/**
+ * Font names are case-insensitive; they are lower-cased once when registered, and a lookup by another spelling is remembered
+ * so it's lower-cased only the first time. Asset fonts are loaded when they're first used unless they were preloaded.
+ */
 public class FontManager implements IFontManager {
 
     private ILogger mLogger = NullLogger.instance;
 
-    @Getter
-    @Setter
-    private Typeface mDefaultFont;
+    private volatile Typeface mDefaultFont;
+
+    private AssetManager mAssets;
+
+    private final ConcurrentHashMap<String, Typeface> mRegisteredFonts = new ConcurrentHashMap<String, Typeface>();
+
+    private final ConcurrentHashMap<String, String> mFontAssets = new ConcurrentHashMap<String, String>();
 
-    private HashMap<String, Typeface> mRegisteredFonts = new HashMap<String, Typeface>();
+    private final ConcurrentHashMap<String, String> mNormalizedNames = new ConcurrentHashMap<String, String>();
 
     public FontManager(ILogger logger) {
         mLogger = logger;
     }
 
+    public FontManager(Context context, ILogger logger) {
+        this(logger);
+        if (context != null) {
+            mAssets = context.getApplicationContext().getAssets();
+        }
+    }
+
     @Override
     public Typeface getDefaultFont() {
         return mDefaultFont;
@@ -37,16 +58,90 @@ public class FontManager implements IFontManager {
 
     @Override
     public void registerFont(String name, Typeface font) {
-        mRegisteredFonts.put(name.toLowerCase(), font);
+        mRegisteredFonts.put(normalize(name), font);
+    }
+
+    @Override
+    public void registerFontAsset(String name, String assetPath) {
+        String key = normalize(name);
+        if (!assetPath.equals(mFontAssets.put(key, assetPath))) {
+            mRegisteredFonts.remove(key);
+        }
+    }
+
+    @Override
+    public void preloadFonts(String... names) {
+        final Collection<String> keys = names.length == 0 ? mFontAssets.keySet() : Arrays.asList(names);
+
+        Completable.fromAction(new Action() {
+            @Override
+            public void run() throws Exception {
+                for (String name : keys) {
+                    getFont(name);
+                }
+            }
+        })
+                .subscribeOn(Schedulers.io())
+                .subscribe(new Action() {
+                    @Override
+                    public void run() throws Exception {
+                        mLogger.debug("Preloaded fonts " + keys);
+                    }
+                }, new Consumer<Throwable>() {
+                    @Override
+                    public void accept(Throwable throwable) throws Exception {
+                        mLogger.error("Could not preload fonts " + keys + ": " + throwable.getMessage());
+                    }
+                });
     }
 
     @Override
     public Typeface getFont(String name) {
-        if ((name != null) && (!name.equalsIgnoreCase("")) && (mRegisteredFonts.containsKey(name.toLowerCase()))) {
-            return mRegisteredFonts.get(name.toLowerCase());
-        } else {
+        if (name == null || name.length() == 0) {
             return mDefaultFont;
         }
+
+        String key = mNormalizedNames.get(name);
+        if (key == null) {
+            key = normalize(name);
+            if (mRegisteredFonts.containsKey(key) || mFontAssets.containsKey(key)) {
+                mNormalizedNames.put(name, key);
+            }
+        }
+
+        Typeface font = mRegisteredFonts.get(key);
+        if (font == null) {
+            font = loadFontAsset(key);
+        }
+        return font != null ? font : mDefaultFont;
     }
 
+    private Typeface loadFontAsset(String key) {
+        String assetPath = mFontAssets.get(key);
+        if (assetPath == null) {
+            return null;
+        }
+
+        try {
+            Typeface font = createFontFromAsset(assetPath);
+            if (font == null) {
+                return null;
+            }
+            Typeface existing = mRegisteredFonts.putIfAbsent(key, font);
+            mLogger.debug("Loaded font " + key + " from " + assetPath);
+            return existing != null ? existing : font;
+        } catch (RuntimeException e) {
+            mLogger.error("Could not load font " + key + " from " + assetPath + ": " + e.getMessage());
+            mFontAssets.remove(key, assetPath);
+            return null;
+        }
+    }
+
+    Typeface createFontFromAsset(String assetPath) {
+        return mAssets == null ? null : Typeface.createFromAsset(mAssets, assetPath);
+    }
+
+    private static String normalize(String name) {
+        return name.toLowerCase(Locale.US);
+    }
 }
@@ -6,13 +6,20 @@ import android.view.ViewGroup;
 import android.view.ViewStub;
 import android.widget.BaseAdapter;
 
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.TreeSet;
 
+import io.reactivex.disposables.Disposable;
+import io.reactivex.disposables.Disposables;
+import io.reactivex.functions.Consumer;
 import lombok.Getter;
 import solutions.alterego.androidbound.NullLogger;
 import solutions.alterego.androidbound.android.interfaces.IBindableView;
+import solutions.alterego.androidbound.android.interfaces.IHasStableId;
 import solutions.alterego.androidbound.android.interfaces.INeedsBoundView;
+import solutions.alterego.androidbound.binding.data.BindableList;
 import solutions.alterego.androidbound.binding.interfaces.IBindingAssociationEngine;
 import solutions.alterego.androidbound.interfaces.ILogger;
 import solutions.alterego.androidbound.interfaces.IViewBinder;
@@ -21,6 +28,11 @@ public class BindableListAdapter extends BaseAdapter {
 
     private static final int VIEW_LAYOUT_TAG = 1 + 2 << 24;
 
+    /**
+     * The bindings of an item view, looked up once when it's inflated instead of walking its tree on every recycle.
+     */
+    private static final int VIEW_BINDINGS_TAG = 2 + 2 << 24;
+
     private final Context context;
 
     private IViewBinder viewBinder;
@@ -34,13 +46,24 @@ public class BindableListAdapter extends BaseAdapter {
     @Getter
     private List<?> itemsSource;
 
+    /**
+     * Layout to view type, the item template being type 0.
+     */
+    private Map<Integer, Integer> mViewTypes = new HashMap<>();
+
+    private boolean mHasStableIds;
+
     private ILogger mLogger;
 
+    private Disposable mItemsSourceDisposable = Disposables.disposed();
+
     public BindableListAdapter(Context ctx, IViewBinder vb, int itemTemplate, List<?> items) {
         context = ctx;
         viewBinder = vb;
         mItemTemplate = itemTemplate;
         itemsSource = items;
+        updateViewTypes();
+        subscribeToList(items);
 
         if (viewBinder == null) {
             if (context instanceof IBindableView) {
@@ -55,11 +78,37 @@ public class BindableListAdapter extends BaseAdapter {
 
     public void setItemsSource(List<?> value) {
         itemsSource = value;
+        subscribeToList(value);
         notifyDataSetChanged();
     }
 
+    /**
+     * A {@link BindableList} is shown as it is; ListView has no range notifications, so each of its changes
+     * just invalidates the list.
+     */
+    private void subscribeToList(List<?> items) {
+        mItemsSourceDisposable.dispose();
+        if (items instanceof BindableList) {
+            mItemsSourceDisposable = ((BindableList<?>) items).onChanges()
+                    .subscribe(new Consumer<BindableList.Change>() {
+                        @Override
+                        public void accept(BindableList.Change change) throws Exception {
+                            notifyDataSetChanged();
+                        }
+                    });
+        }
+    }
+
+    public void dispose() {
+        mItemsSourceDisposable.dispose();
+    }
+
+    /**
+     * ListView reads the view types when the adapter is set, so set it again after the templates change.
+     */
     public void setTemplatesForObjects(Map<Class<?>, Integer> templatesForObjects) {
         mTemplatesForObjects = templatesForObjects;
+        updateViewTypes();
 
         if (itemsSource != null) {
             notifyDataSetChanged(); //TODO test this?
@@ -76,18 +125,55 @@ public class BindableListAdapter extends BaseAdapter {
         return (itemsSource != null && itemsSource.size() > position) ? itemsSource.get(position) : null;
     }
 
+    /**
+     * Enabling stable ids states that every item implements {@link IHasStableId}, which identifies it; otherwise the
+     * ids are the positions. Like view types, it's read when the adapter is set, so it doesn't depend on the items.
+     */
+    public void setHasStableIds(boolean hasStableIds) {
+        mHasStableIds = hasStableIds;
+    }
+
+    @Override
+    public boolean hasStableIds() {
+        return mHasStableIds;
+    }
+
     @Override
     public long getItemId(int position) {
-        return position;
+        if (!mHasStableIds) {
+            return position;
+        }
+
+        Object item = getItem(position);
+        if (item instanceof IHasStableId) {
+            return ((IHasStableId) item).getStableId();
+        }
+        throw new IllegalStateException("Stable ids are enabled, but the item at " + position + " doesn't implement IHasStableId: "
+                + (item != null ? item.getClass().getName() : null));
+    }
+
+    @Override
+    public int getViewTypeCount() {
+        return mViewTypes.size();
+    }
+
+    @Override
+    public int getItemViewType(int position) {
+        Integer viewType = mViewTypes.get(getLayoutTemplateForObject(getItem(position)));
+        return viewType != null ? viewType : 0;
     }
 
     @Override
     public View getView(int position, View convertView, ViewGroup parent) {
-        if (convertView == null) {
-            convertView = inflateViewForObject(getItem(position), parent);
-        }
+        Object objectForLayout = getItem(position);
+        int layout = getLayoutTemplateForObject(objectForLayout);
 
-        convertView = checkInflatedView(convertView, position, parent);
+        //ListView recycles views of the same view type, so the tag check only fails for views coming from elsewhere
+        if (convertView != null && Integer.valueOf(layout).equals(convertView.getTag(VIEW_LAYOUT_TAG))) {
+            bindTo(convertView, objectForLayout);
+        } else {
+            convertView = inflateViewForObject(objectForLayout, layout, parent);
+        }
 
         if (convertView == null) {
             mLogger.warning("BindableListAdapter getView is null, returning ViewStub!");
@@ -101,7 +187,12 @@ public class BindableListAdapter extends BaseAdapter {
             return;
         }
 
-        List<IBindingAssociationEngine> bindings = viewBinder.getViewBindingEngine().getBindingsForView(convertView);
+        @SuppressWarnings("unchecked")
+        List<IBindingAssociationEngine> bindings = (List<IBindingAssociationEngine>) convertView.getTag(VIEW_BINDINGS_TAG);
+        if (bindings == null || bindings.isEmpty()) {
+            bindings = viewBinder.getViewBindingEngine().getBindingsForView(convertView);
+            convertView.setTag(VIEW_BINDINGS_TAG, bindings);
+        }
         if (bindings == null || bindings.size() < 1) {
             mLogger.verbose("BindableListItemView bindTo bindings == null or 0");
             return;
@@ -113,30 +204,27 @@ public class BindableListAdapter extends BaseAdapter {
         }
     }
 
-    private View inflateViewForObject(Object objectForLayout, ViewGroup parent) {
-        int layoutToInflate = getLayoutTemplateForObject(objectForLayout);
-
+    private View inflateViewForObject(Object objectForLayout, int layoutToInflate, ViewGroup parent) {
         View inflatedView = viewBinder.inflate(context, objectForLayout, layoutToInflate, parent, false);
         inflatedView.setTag(VIEW_LAYOUT_TAG, layoutToInflate);
+        inflatedView.setTag(VIEW_BINDINGS_TAG, viewBinder.getViewBindingEngine().getBindingsForView(inflatedView));
         if (objectForLayout instanceof INeedsBoundView) {
             ((INeedsBoundView) objectForLayout).setBoundView(inflatedView);
         }
         return inflatedView;
     }
 
-    private View checkInflatedView(View inflatedView, int position, ViewGroup parent) {
-        Object objectForLayout = getItem(position);
-
-        //if the view has a tag and that tag corresponds to the layout ref for the object, we can just bind again
-        if (inflatedView.getTag(VIEW_LAYOUT_TAG) != null
-                && (int) inflatedView.getTag(VIEW_LAYOUT_TAG) == getLayoutTemplateForObject(objectForLayout)) {
-            bindTo(inflatedView, objectForLayout);
-        } else {
-            //it was a different view layout, we need to inflate again
-            inflatedView = inflateViewForObject(objectForLayout, parent);
+    private void updateViewTypes() {
+        Map<Integer, Integer> viewTypes = new HashMap<>();
+        viewTypes.put(mItemTemplate, 0);
+        if (mTemplatesForObjects != null) {
+            for (Integer layout : new TreeSet<>(mTemplatesForObjects.values())) {
+                if (!viewTypes.containsKey(layout)) {
+                    viewTypes.put(layout, viewTypes.size());
+                }
+            }
         }
-
-        return inflatedView;
+        mViewTypes = viewTypes;
     }
 
     private int getLayoutTemplateForObject(Object objectForLayout) {
@@ -144,7 +232,7 @@ public class BindableListAdapter extends BaseAdapter {
 
         //if we have separate templates for objects through Java code, they will override itemTemplate layout ref set from XML.
         //that way you can also use XML itemTemplate as default layout.
-        if (mTemplatesForObjects != null && mTemplatesForObjects.containsKey(objectForLayout.getClass())) {
+        if (objectForLayout != null && mTemplatesForObjects != null && mTemplatesForObjects.containsKey(objectForLayout.getClass())) {
             layoutToInflate = mTemplatesForObjects.get(objectForLayout.getClass());
         }
 
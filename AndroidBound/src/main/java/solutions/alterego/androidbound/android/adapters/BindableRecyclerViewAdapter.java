@@ -9,7 +9,9 @@ import android.view.ViewGroup;
 
 import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Queue;
@@ -25,6 +27,8 @@ import io.reactivex.schedulers.Schedulers;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.experimental.Accessors;
+import solutions.alterego.androidbound.binding.data.BindableList;
+import solutions.alterego.androidbound.binding.data.IndexedGroupingList;
 import solutions.alterego.androidbound.interfaces.IViewBinder;
 
 import static android.support.v7.util.DiffUtil.calculateDiff;
@@ -32,11 +36,25 @@ import static android.support.v7.util.DiffUtil.calculateDiff;
 @Accessors(prefix = "m")
 public class BindableRecyclerViewAdapter extends RecyclerView.Adapter<RecyclerView.ViewHolder> {
 
+    /**
+     * View type of the section headers of an {@link IndexedGroupingList}, -1 being RecyclerView's invalid type.
+     */
+    public static final int SECTION_HEADER_VIEW_TYPE = -2;
+
+    /**
+     * View type of the items whose class has no template of its own, shown with the item template.
+     */
+    public static final int ITEM_TEMPLATE_VIEW_TYPE = -3;
+
     private final IViewBinder mViewBinder;
 
     @Getter
     private int mItemTemplate;
 
+    @Getter
+    @Setter
+    private int mSectionHeaderTemplate;
+
     @Getter
     private Map<Class<?>, Integer> mTemplatesForObjects = new HashMap<>();
 
@@ -45,6 +63,13 @@ public class BindableRecyclerViewAdapter extends RecyclerView.Adapter<RecyclerVi
 
     private SparseArray<Class<?>> mObjectIndex;
 
+    private Map<Class<?>, Integer> mTemplateViewTypes = new IdentityHashMap<>();
+
+    /**
+     * View type of every item class seen so far, resolved through its superclasses and interfaces on first sight.
+     */
+    Map<Class<?>, Integer> mResolvedViewTypes = new IdentityHashMap<>();
+
     @Getter
     @Setter
     private RecyclerView.LayoutManager mLayoutManager;
@@ -58,6 +83,12 @@ public class BindableRecyclerViewAdapter extends RecyclerView.Adapter<RecyclerVi
 
     private Disposable mAddValueDisposable = Disposables.disposed();
 
+    private BindableList<?> mBindableList;
+
+    private Disposable mBindableListDisposable = Disposables.disposed();
+
+    private IndexedGroupingList<?, ?> mSections;
+
     public BindableRecyclerViewAdapter(IViewBinder vb, int itemTemplate) {
         mViewBinder = vb;
         mItemTemplate = itemTemplate;
@@ -65,10 +96,18 @@ public class BindableRecyclerViewAdapter extends RecyclerView.Adapter<RecyclerVi
 
     @Override
     public RecyclerView.ViewHolder onCreateViewHolder(ViewGroup parent, int viewType) {
-        Class<?> clazz = mObjectIndex.get(viewType);
+        if (viewType == SECTION_HEADER_VIEW_TYPE && mSectionHeaderTemplate != 0) {
+            return new BindableRecyclerViewItemViewHolder(
+                    mViewBinder.inflate(parent.getContext(), null, mSectionHeaderTemplate, parent, false),
+                    mViewBinder, parent);
+        }
+
+        Class<?> clazz = mObjectIndex != null ? mObjectIndex.get(viewType) : null;
         int layoutRes = mItemTemplate;
 
-        if (clazz != null && mTemplatesForObjects.containsKey(clazz)) {
+        if (viewType == SECTION_HEADER_VIEW_TYPE) {
+            mViewBinder.getLogger().error("BindableRecyclerViewAdapter has sections but no sectionHeaderTemplate, using itemTemplate");
+        } else if (clazz != null && mTemplatesForObjects.containsKey(clazz)) {
             layoutRes = mTemplatesForObjects.get(clazz);
             mViewBinder.getLogger().verbose(
                     "BindableRecyclerViewAdapter creating VH for viewType = " + viewType + " i.e. class = " + clazz
@@ -97,6 +136,30 @@ public class BindableRecyclerViewAdapter extends RecyclerView.Adapter<RecyclerVi
         }
     }
 
+    @Override
+    public void onViewRecycled(RecyclerView.ViewHolder holder) {
+        super.onViewRecycled(holder);
+        if (holder instanceof BindableRecyclerViewItemViewHolder) {
+            ((BindableRecyclerViewItemViewHolder) holder).onRecycled();
+        }
+    }
+
+    @Override
+    public void onViewAttachedToWindow(RecyclerView.ViewHolder holder) {
+        super.onViewAttachedToWindow(holder);
+        if (holder instanceof BindableRecyclerViewItemViewHolder) {
+            ((BindableRecyclerViewItemViewHolder) holder).onAttachedToWindow();
+        }
+    }
+
+    @Override
+    public void onViewDetachedFromWindow(RecyclerView.ViewHolder holder) {
+        super.onViewDetachedFromWindow(holder);
+        if (holder instanceof BindableRecyclerViewItemViewHolder) {
+            ((BindableRecyclerViewItemViewHolder) holder).onDetachedFromWindow();
+        }
+    }
+
     @Override
     public int getItemCount() {
         return getItemsSource() != null ? getItemsSource().size() : 0;
@@ -104,16 +167,62 @@ public class BindableRecyclerViewAdapter extends RecyclerView.Adapter<RecyclerVi
 
     @Override
     public int getItemViewType(int position) {
+        if (mSections != null && mSections.isHeader(position)) {
+            return SECTION_HEADER_VIEW_TYPE;
+        }
+
         Object obj = getItemsSource().get(position);
-        int viewType = mObjectIndex.indexOfValue(obj.getClass());
-        mViewBinder.getLogger().verbose(
-                "BindableRecyclerViewAdapter getItemViewType viewType = " + viewType + " i.e. class = " + obj.getClass()
-                        .toString()
-                        + " for position = " + position);
+        if (obj == null) {
+            return ITEM_TEMPLATE_VIEW_TYPE;
+        }
+
+        Integer viewType = mResolvedViewTypes.get(obj.getClass());
+        if (viewType == null) {
+            viewType = resolveViewType(obj.getClass());
+            mResolvedViewTypes.put(obj.getClass(), viewType);
+        }
         return viewType;
     }
 
+    /**
+     * The closest superclass with a template wins, then the first interface with one, searched breadth first.
+     */
+    private int resolveViewType(Class<?> type) {
+        for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+            Integer viewType = mTemplateViewTypes.get(current);
+            if (viewType != null) {
+                return viewType;
+            }
+        }
+
+        Queue<Class<?>> interfaces = new ArrayDeque<>();
+        for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+            Collections.addAll(interfaces, current.getInterfaces());
+        }
+        while (!interfaces.isEmpty()) {
+            Class<?> current = interfaces.remove();
+            Integer viewType = mTemplateViewTypes.get(current);
+            if (viewType != null) {
+                return viewType;
+            }
+            Collections.addAll(interfaces, current.getInterfaces());
+        }
+
+        return ITEM_TEMPLATE_VIEW_TYPE;
+    }
+
     public void setItemsSource(final List<?> value) {
+        if (value instanceof BindableList) {
+            bindList((BindableList<?>) value);
+            return;
+        }
+        if (value instanceof IndexedGroupingList) {
+            bindSections((IndexedGroupingList<?, ?>) value);
+            return;
+        }
+        unbindList();
+        unbindSections();
+
         final List<?> oldItems = new ArrayList<>(mItemsSource);
         mSetValuesDisposable.dispose();
         mSetValuesDisposable = Observable.just(value)
@@ -167,6 +276,16 @@ public class BindableRecyclerViewAdapter extends RecyclerView.Adapter<RecyclerVi
     }
 
     public void addItemsSource(List<?> values) {
+        if (mSections != null) {
+            mViewBinder.getLogger().warning("BindableRecyclerViewAdapter shows sections, change them through the IndexedGroupingList");
+            return;
+        }
+        if (mBindableList != null && values != null) {
+            addToList(values);
+            return;
+        }
+        unbindList();
+
         if (values == null) {
             if (mItemsSource != null) {
                 int size = mItemsSource.size();
@@ -202,6 +321,126 @@ public class BindableRecyclerViewAdapter extends RecyclerView.Adapter<RecyclerVi
                 });
     }
 
+    /**
+     * Shows the list as it is and follows its range events from now on, without copying or diffing it.
+     */
+    private void bindList(BindableList<?> list) {
+        if (list == mBindableList) {
+            return;
+        }
+
+        mSetValuesDisposable.dispose();
+        mBindableListDisposable.dispose();
+        pendingUpdates.clear();
+
+        mSections = null;
+        mBindableList = list;
+        mItemsSource = list;
+        notifyDataSetChanged();
+        subscribeToList();
+    }
+
+    /**
+     * Shows the sections with a header row each, following their changes like {@link #bindList(BindableList)} does.
+     */
+    private void bindSections(IndexedGroupingList<?, ?> sections) {
+        if (sections == mSections) {
+            return;
+        }
+
+        mSetValuesDisposable.dispose();
+        mBindableListDisposable.dispose();
+        pendingUpdates.clear();
+
+        mBindableList = null;
+        mSections = sections;
+        mItemsSource = sections;
+        notifyDataSetChanged();
+        subscribeToList();
+    }
+
+    private void unbindSections() {
+        if (mSections == null) {
+            return;
+        }
+
+        mBindableListDisposable.dispose();
+        mSections = null;
+        mItemsSource = new ArrayList<>();
+        notifyDataSetChanged();
+    }
+
+    private void subscribeToList() {
+        Observable<BindableList.Change> changes = mSections != null ? mSections.onChanges() : mBindableList.onChanges();
+        mBindableListDisposable = changes
+                .subscribe(new Consumer<BindableList.Change>() {
+                    @Override
+                    public void accept(BindableList.Change change) throws Exception {
+                        dispatchChange(change);
+                    }
+                });
+    }
+
+    private void dispatchChange(BindableList.Change change) {
+        switch (change.getType()) {
+            case Inserted:
+                notifyItemRangeInserted(change.getPosition(), change.getCount());
+                break;
+            case Removed:
+                notifyItemRangeRemoved(change.getPosition(), change.getCount());
+                break;
+            case Moved:
+                notifyItemMoved(change.getPosition(), change.getToPosition());
+                break;
+            case Changed:
+                notifyItemRangeChanged(change.getPosition(), change.getCount());
+                break;
+        }
+    }
+
+    /**
+     * Goes back to a private copy of the bound list, so the diffing paths never change the caller's list.
+     */
+    private void unbindList() {
+        if (mBindableList == null) {
+            return;
+        }
+
+        mBindableListDisposable.dispose();
+        mItemsSource = new ArrayList<>(mBindableList);
+        mBindableList = null;
+    }
+
+    /**
+     * Replaces the items already in the list and appends the others with one addAll, so they're one Inserted change.
+     */
+    @SuppressWarnings("unchecked")
+    private void addToList(List<?> values) {
+        BindableList<Object> list = (BindableList<Object>) mBindableList;
+        int size = list.size();
+        Map<Object, Integer> positions = new HashMap<>(size);
+        for (int index = size - 1; index >= 0; index--) {
+            positions.put(list.get(index), index);
+        }
+
+        List<Object> added = new ArrayList<>();
+        for (Object value : values) {
+            if (value == null) {
+                continue;
+            }
+            Integer index = positions.get(value);
+            if (index == null) {
+                positions.put(value, size + added.size());
+                added.add(value);
+            } else if (index < size) {
+                list.set(index, value);
+            } else {
+                added.set(index - size, value);
+            }
+        }
+        list.addAll(added);
+    }
+
     /* to prevent Cannot call this method in a scroll callback. Scroll callbacks might be run during a measure
     & layout pass where you cannot change the RecyclerView data. Any method call that might change the structure
     of the RecyclerView or the adapter contents should be postponed to the next frame.*/
@@ -222,11 +461,14 @@ public class BindableRecyclerViewAdapter extends RecyclerView.Adapter<RecyclerVi
 
         mTemplatesForObjects = templatesForObjects;
         mObjectIndex = new SparseArray<>();
+        mTemplateViewTypes = new IdentityHashMap<>();
+        mResolvedViewTypes = new IdentityHashMap<>();
 
         Class<?>[] classes = mTemplatesForObjects.keySet().toArray(new Class[mTemplatesForObjects.keySet().size()]);
 
         for (int index = 0; index < classes.length; index++) {
             mObjectIndex.put(index, classes[index]);
+            mTemplateViewTypes.put(classes[index], index);
         }
 
         if (mItemsSource != null) {
@@ -235,6 +477,16 @@ public class BindableRecyclerViewAdapter extends RecyclerView.Adapter<RecyclerVi
     }
 
     public void removeItems(final List<?> value) {
+        if (mSections != null) {
+            mViewBinder.getLogger().warning("BindableRecyclerViewAdapter shows sections, change them through the IndexedGroupingList");
+            return;
+        }
+        if (mBindableList != null) {
+            if (value != null) {
+                mBindableList.removeAll(value);
+            }
+            return;
+        }
         if (mItemsSource == null) {
             return;
         }
@@ -274,11 +526,25 @@ public class BindableRecyclerViewAdapter extends RecyclerView.Adapter<RecyclerVi
                 });
     }
 
+    @Override
+    public void onAttachedToRecyclerView(RecyclerView recyclerView) {
+        super.onAttachedToRecyclerView(recyclerView);
+        if ((mBindableList != null || mSections != null) && mBindableListDisposable.isDisposed()) {
+            notifyDataSetChanged();
+            subscribeToList();
+        }
+    }
+
     @Override
     public void onDetachedFromRecyclerView(RecyclerView recyclerView) {
         super.onDetachedFromRecyclerView(recyclerView);
+        dispose();
+    }
+
+    public void dispose() {
         mRemoveItemsDisposable.dispose();
         mSetValuesDisposable.dispose();
         mAddValueDisposable.dispose();
+        mBindableListDisposable.dispose();
     }
 }
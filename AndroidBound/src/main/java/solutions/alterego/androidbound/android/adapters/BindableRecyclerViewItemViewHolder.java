@@ -6,6 +6,7 @@ import android.support.v7.widget.StaggeredGridLayoutManager;
 import android.view.View;
 import android.view.ViewGroup;
 
+import java.util.Collections;
 import java.util.List;
 
 import solutions.alterego.androidbound.NullLogger;
@@ -76,6 +77,38 @@ public class BindableRecyclerViewItemViewHolder extends RecyclerView.ViewHolder
         }
     }
 
+    /**
+     * The holder went back to the pool: its bindings stop observing the item until the next bind re-points them.
+     */
+    public void onRecycled() {
+        for (IBindingAssociationEngine binding : getBindings()) {
+            binding.detachDataContext();
+        }
+    }
+
+    /**
+     * The item view left the window but may be re-attached without being bound again, so its bindings are only suspended.
+     */
+    public void onDetachedFromWindow() {
+        for (IBindingAssociationEngine binding : getBindings()) {
+            binding.suspend();
+        }
+    }
+
+    public void onAttachedToWindow() {
+        for (IBindingAssociationEngine binding : getBindings()) {
+            binding.resume();
+        }
+    }
+
+    private List<IBindingAssociationEngine> getBindings() {
+        if (mViewBinder == null) {
+            return Collections.emptyList();
+        }
+        List<IBindingAssociationEngine> bindings = mViewBinder.getViewBindingEngine().getBindingsForView(itemView);
+        return bindings != null ? bindings : Collections.<IBindingAssociationEngine>emptyList();
+    }
+
     public void unbind() {
         if (mViewBinder == null) {
             return;
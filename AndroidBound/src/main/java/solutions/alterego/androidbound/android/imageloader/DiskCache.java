@@ -0,0 +1,171 @@
+package solutions.alterego.androidbound.android.imageloader;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.net.URLConnection;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Comparator;
+
+import solutions.alterego.androidbound.interfaces.ILogger;
+
+/**
+ * Keeps downloaded images as files named by the hash of their URI and trims the least recently used ones once the
+ * directory grows over its maximum size. Files are written under a temporary name and renamed, so concurrent downloads
+ * of the same URI never expose a partial file.
+ */
+public class DiskCache {
+
+    private static final int CONNECT_TIMEOUT_MS = 15000;
+
+    private static final int READ_TIMEOUT_MS = 30000;
+
+    private static final String TEMP_SUFFIX = ".tmp";
+
+    private final File mDirectory;
+
+    private final long mMaxSize;
+
+    private ILogger mLogger;
+
+    public DiskCache(File directory, long maxSize, ILogger logger) {
+        mDirectory = directory;
+        mMaxSize = maxSize;
+        mLogger = logger.getLogger(this);
+    }
+
+    /**
+     * @return the cached file for the URI, or null if it wasn't downloaded yet
+     */
+    public File get(String uri) {
+        File file = new File(mDirectory, keyFor(uri));
+        if (!file.isFile()) {
+            return null;
+        }
+        file.setLastModified(System.currentTimeMillis());
+        return file;
+    }
+
+    /**
+     * Returns the cached file for the URI, downloading it first if needed. Blocks, so it must not be called on the main thread.
+     */
+    public File fetch(String uri) throws IOException {
+        File file = get(uri);
+        if (file != null) {
+            return file;
+        }
+
+        if (!mDirectory.isDirectory() && !mDirectory.mkdirs()) {
+            throw new IOException("Cannot create cache directory " + mDirectory);
+        }
+
+        file = new File(mDirectory, keyFor(uri));
+        File temp = File.createTempFile(file.getName(), TEMP_SUFFIX, mDirectory);
+        try {
+            download(uri, temp);
+            if (!temp.renameTo(file) && !file.isFile()) {
+                throw new IOException("Cannot move " + temp + " to " + file);
+            }
+        } finally {
+            temp.delete();
+        }
+
+        mLogger.verbose("Cached " + uri + " as " + file.getName());
+        trim(file);
+        return file;
+    }
+
+    public void clear() {
+        File[] files = mDirectory.listFiles();
+        if (files != null) {
+            for (File file : files) {
+                file.delete();
+            }
+        }
+    }
+
+    private void download(String uri, File destination) throws IOException {
+        URLConnection connection = new URL(uri).openConnection();
+        connection.setConnectTimeout(CONNECT_TIMEOUT_MS);
+        connection.setReadTimeout(READ_TIMEOUT_MS);
+        if (connection instanceof HttpURLConnection) {
+            int code = ((HttpURLConnection) connection).getResponseCode();
+            if (code / 100 != 2) {
+                ((HttpURLConnection) connection).disconnect();
+                throw new IOException("Loading " + uri + " failed with HTTP " + code);
+            }
+        }
+
+        InputStream input = connection.getInputStream();
+        OutputStream output = new FileOutputStream(destination);
+        try {
+            byte[] buffer = new byte[8192];
+            int read;
+            while ((read = input.read(buffer)) != -1) {
+                output.write(buffer, 0, read);
+            }
+        } finally {
+            input.close();
+            output.close();
+        }
+    }
+
+    /**
+     * Deletes the least recently used files until the directory fits, never {@code written}, which the caller is about to
+     * load, nor the temporary files of downloads still in progress.
+     */
+    private synchronized void trim(File written) {
+        File[] files = mDirectory.listFiles();
+        if (files == null) {
+            return;
+        }
+
+        long size = 0;
+        for (File file : files) {
+            size += file.length();
+        }
+        if (size <= mMaxSize) {
+            return;
+        }
+
+        Arrays.sort(files, new Comparator<File>() {
+            @Override
+            public int compare(File lhs, File rhs) {
+                long left = lhs.lastModified();
+                long right = rhs.lastModified();
+                return left < right ? -1 : (left == right ? 0 : 1);
+            }
+        });
+        for (File file : files) {
+            if (size <= mMaxSize) {
+                break;
+            }
+            if (file.equals(written) || file.getName().endsWith(TEMP_SUFFIX)) {
+                continue;
+            }
+            long length = file.length();
+            if (file.delete()) {
+                size -= length;
+            }
+        }
+    }
+
+    static String keyFor(String uri) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-1").digest(uri.getBytes("UTF-8"));
+            StringBuilder key = new StringBuilder(digest.length * 2);
+            for (byte b : digest) {
+                key.append(Character.forDigit((b >> 4) & 0xf, 16)).append(Character.forDigit(b & 0xf, 16));
+            }
+            return key.toString();
+        } catch (NoSuchAlgorithmException | java.io.UnsupportedEncodingException e) {
+            return Integer.toHexString(uri.hashCode());
+        }
+    }
+}
@@ -0,0 +1,196 @@
+package solutions.alterego.androidbound.android.imageloader;
+
+import android.content.ContentResolver;
+import android.content.Context;
+import android.graphics.Bitmap;
+import android.graphics.BitmapFactory;
+import android.net.Uri;
+import android.support.v4.util.LruCache;
+import android.text.TextUtils;
+import android.util.DisplayMetrics;
+import android.view.ViewGroup;
+import android.widget.ImageView;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.Callable;
+
+import io.reactivex.Single;
+import io.reactivex.android.schedulers.AndroidSchedulers;
+import io.reactivex.disposables.Disposable;
+import io.reactivex.functions.Consumer;
+import io.reactivex.schedulers.Schedulers;
+import solutions.alterego.androidbound.android.interfaces.IImageLoader;
+import solutions.alterego.androidbound.interfaces.ILogger;
+
+/**
+ * Reference {@link IImageLoader}: remote images are kept in a {@link DiskCache}, decoded bitmaps in a memory LRU, and
+ * images are subsampled to the size of the target view. Loading another URI into the same view, e.g. a recycled
+ * list row, cancels the request still running for it.
+ * <p>
+ * Must be called on the main thread, like the bindings do.
+ */
+public class ReferenceImageLoader implements IImageLoader {
+
+    public static final long DEFAULT_DISK_CACHE_SIZE = 50 * 1024 * 1024;
+
+    private static final String CACHE_DIRECTORY = "androidbound-images";
+
+    private final LruCache<String, Bitmap> mMemoryCache;
+
+    private final DiskCache mDiskCache;
+
+    private final ContentResolver mContentResolver;
+
+    private final DisplayMetrics mDisplayMetrics;
+
+    private final Map<ImageView, Disposable> mRequests = new WeakHashMap<ImageView, Disposable>();
+
+    private ILogger mLogger;
+
+    public ReferenceImageLoader(Context context, ILogger logger) {
+        this(context, (int) Math.min(Runtime.getRuntime().maxMemory() / 8, Integer.MAX_VALUE), DEFAULT_DISK_CACHE_SIZE, logger);
+    }
+
+    public ReferenceImageLoader(Context context, int memoryCacheBytes, long diskCacheBytes, ILogger logger) {
+        mLogger = logger.getLogger(this);
+        mContentResolver = context.getApplicationContext().getContentResolver();
+        mDisplayMetrics = context.getResources().getDisplayMetrics();
+        mDiskCache = new DiskCache(new File(context.getCacheDir(), CACHE_DIRECTORY), diskCacheBytes, logger);
+        mMemoryCache = new LruCache<String, Bitmap>(memoryCacheBytes) {
+            @Override
+            protected int sizeOf(String key, Bitmap bitmap) {
+                return bitmap.getRowBytes() * bitmap.getHeight();
+            }
+        };
+    }
+
+    @Override
+    public void loadImageFromUri(final String uri, final ImageView image) {
+        cancel(image);
+
+        if (TextUtils.isEmpty(uri)) {
+            image.setImageDrawable(null);
+            return;
+        }
+
+        final int width = targetSize(image.getWidth(), image.getLayoutParams() != null ? image.getLayoutParams().width : 0,
+                mDisplayMetrics.widthPixels);
+        final int height = targetSize(image.getHeight(), image.getLayoutParams() != null ? image.getLayoutParams().height : 0,
+                mDisplayMetrics.heightPixels);
+        final String key = uri + '#' + width + 'x' + height;
+
+        Bitmap cached = mMemoryCache.get(key);
+        if (cached != null) {
+            image.setImageBitmap(cached);
+            return;
+        }
+
+        image.setImageDrawable(null);
+        mRequests.put(image, Single.fromCallable(new Callable<Bitmap>() {
+            @Override
+            public Bitmap call() throws Exception {
+                return decode(uri, width, height);
+            }
+        })
+                .subscribeOn(Schedulers.io())
+                .observeOn(AndroidSchedulers.mainThread())
+                .subscribe(new Consumer<Bitmap>() {
+                    @Override
+                    public void accept(Bitmap bitmap) throws Exception {
+                        mRequests.remove(image);
+                        mMemoryCache.put(key, bitmap);
+                        image.setImageBitmap(bitmap);
+                    }
+                }, new Consumer<Throwable>() {
+                    @Override
+                    public void accept(Throwable throwable) throws Exception {
+                        mRequests.remove(image);
+                        mLogger.warning("Could not load image " + uri + ": " + throwable.getMessage());
+                    }
+                }));
+    }
+
+    /**
+     * Cancels the request still running for the view, if there is one.
+     */
+    public void cancel(ImageView image) {
+        Disposable request = mRequests.remove(image);
+        if (request != null) {
+            request.dispose();
+        }
+    }
+
+    public void clearMemoryCache() {
+        mMemoryCache.evictAll();
+    }
+
+    public DiskCache getDiskCache() {
+        return mDiskCache;
+    }
+
+    protected Bitmap decode(String uri, int width, int height) throws IOException {
+        BitmapFactory.Options options = new BitmapFactory.Options();
+        options.inJustDecodeBounds = true;
+        decodeStream(uri, options);
+
+        options.inSampleSize = calculateInSampleSize(options.outWidth, options.outHeight, width, height);
+        options.inJustDecodeBounds = false;
+        Bitmap bitmap = decodeStream(uri, options);
+        if (bitmap == null) {
+            throw new IOException("Cannot decode " + uri);
+        }
+        return bitmap;
+    }
+
+    private Bitmap decodeStream(String uri, BitmapFactory.Options options) throws IOException {
+        InputStream input = open(uri);
+        try {
+            return BitmapFactory.decodeStream(input, null, options);
+        } finally {
+            input.close();
+        }
+    }
+
+    private InputStream open(String uri) throws IOException {
+        if (uri.startsWith("http://") || uri.startsWith("https://")) {
+            return new FileInputStream(mDiskCache.fetch(uri));
+        }
+
+        InputStream input = mContentResolver.openInputStream(Uri.parse(uri));
+        if (input == null) {
+            throw new IOException("Cannot open " + uri);
+        }
+        return input;
+    }
+
+    private static int targetSize(int measured, int layout, int screen) {
+        if (measured > 0) {
+            return measured;
+        }
+        if (layout > 0) {
+            return layout;
+        }
+        return layout == ViewGroup.LayoutParams.WRAP_CONTENT ? 0 : screen;
+    }
+
+    /**
+     * @return the largest power of two that keeps the decoded image at least as large as the requested size,
+     * or 1 if the size isn't known
+     */
+    static int calculateInSampleSize(int width, int height, int requestedWidth, int requestedHeight) {
+        int inSampleSize = 1;
+        if (requestedWidth <= 0 || requestedHeight <= 0) {
+            return inSampleSize;
+        }
+
+        while (width / (inSampleSize * 2) >= requestedWidth && height / (inSampleSize * 2) >= requestedHeight) {
+            inSampleSize *= 2;
+        }
+        return inSampleSize;
+    }
+}
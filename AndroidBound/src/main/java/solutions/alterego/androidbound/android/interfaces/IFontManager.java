@@ -10,6 +10,16 @@ public interface IFontManager {
 
     void registerFont(String name, Typeface font);
 
+    /**
+     * Registers a font that's loaded from the assets the first time it's used, or earlier by {@link #preloadFonts}.
+     */
+    void registerFontAsset(String name, String assetPath);
+
+    /**
+     * Loads the asset fonts with the given names on a background thread, or all registered asset fonts if no names are given.
+     */
+    void preloadFonts(String... names);
+
     Typeface getFont(String name);
 
 }
@@ -0,0 +1,11 @@
+package solutions.alterego.androidbound.android.interfaces;
+
+/**
+ * Implemented by items that know their own id, used by {@link solutions.alterego.androidbound.android.adapters.BindableListAdapter}
+ * when stable ids are enabled.
+ */
+public interface IHasStableId {
+
+    long getStableId();
+
+}
@@ -11,7 +11,9 @@ import android.widget.AdapterView.OnItemClickListener;
 import android.widget.AdapterView.OnItemLongClickListener;
 import android.widget.GridView;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import io.reactivex.Observable;
 import solutions.alterego.androidbound.android.adapters.BindableListAdapter;
@@ -31,6 +33,10 @@ public class BindableGridView extends GridView implements OnItemClickListener, O
 
     private IViewBinder viewBinder;
 
+    private Map<Class<?>, Integer> mTemplatesForObjects = new HashMap<>();
+
+    private boolean mHasStableIds;
+
     public BindableGridView(Context context, AttributeSet attrs) {
         super(context, attrs);
         setupListView(attrs);
@@ -163,12 +169,30 @@ public class BindableGridView extends GridView implements OnItemClickListener, O
     public void setItemsSource(List<?> value) {
         if (mAdapter == null) {
             mAdapter = new BindableListAdapter(getContext(), getViewBinder(), itemTemplate, value);
+            mAdapter.setTemplatesForObjects(mTemplatesForObjects);
+            mAdapter.setHasStableIds(mHasStableIds);
             setAdapter(mAdapter);
         } else {
             mAdapter.setItemsSource(value);
         }
     }
 
+    public void setTemplatesForObjects(Map<Class<?>, Integer> map) {
+        mTemplatesForObjects = map;
+        if (mAdapter != null) {
+            mAdapter.setTemplatesForObjects(mTemplatesForObjects);
+            setAdapter(mAdapter); //the view types are only read in setAdapter
+        }
+    }
+
+    public void setHasStableIds(boolean hasStableIds) {
+        mHasStableIds = hasStableIds;
+        if (mAdapter != null) {
+            mAdapter.setHasStableIds(hasStableIds);
+            setAdapter(mAdapter);
+        }
+    }
+
     @Override
     public boolean onItemLongClick(AdapterView<?> parent, View view, int position, long id) {
         try {
@@ -40,6 +40,8 @@ public class BindableListView extends ListView implements OnItemClickListener, O
 
     private IViewBinder viewBinder;
 
+    private boolean mHasStableIds;
+
     public BindableListView(Context context, AttributeSet attrs) {
         super(context, attrs);
         setupListView(attrs);
@@ -158,6 +160,9 @@ public class BindableListView extends ListView implements OnItemClickListener, O
         setOnItemLongClickListener(null);
 
         mTemplatesForObjects = new HashMap<>();
+        if (mAdapter != null) {
+            mAdapter.dispose();
+        }
         mAdapter = null;
         viewBinder = null;
     }
@@ -175,6 +180,7 @@ public class BindableListView extends ListView implements OnItemClickListener, O
         if (mAdapter == null) {
             mAdapter = new BindableListAdapter(getContext(), getViewBinder(), itemTemplate, value);
             mAdapter.setTemplatesForObjects(mTemplatesForObjects);
+            mAdapter.setHasStableIds(mHasStableIds);
             setAdapter(mAdapter);
         } else {
             mAdapter.setItemsSource(value);
@@ -185,6 +191,15 @@ public class BindableListView extends ListView implements OnItemClickListener, O
         mTemplatesForObjects = map;
         if (mAdapter != null) {
             mAdapter.setTemplatesForObjects(mTemplatesForObjects);
+            setAdapter(mAdapter); //the view types are only read in setAdapter
+        }
+    }
+
+    public void setHasStableIds(boolean hasStableIds) {
+        mHasStableIds = hasStableIds;
+        if (mAdapter != null) {
+            mAdapter.setHasStableIds(hasStableIds);
+            setAdapter(mAdapter);
         }
     }
 
@@ -92,6 +92,9 @@ public class BindableRecyclerView extends RecyclerView implements IBindableView,
 
     private final int mItemTemplate;
 
+    @Getter
+    private int mSectionHeaderTemplate;
+
     @Getter
     private Map<Class<?>, Integer> mTemplatesForObjects;
 
@@ -128,6 +131,7 @@ public class BindableRecyclerView extends RecyclerView implements IBindableView,
                         .setThreshold(5).build();
 
         mItemTemplate = getItemTemplate(attrs);
+        mSectionHeaderTemplate = attrs.getAttributeResourceValue(null, BindingResources.attr.BindableRecyclerView.sectionHeaderTemplate, 0);
         mTemplatesForObjects = new HashMap<>();
         setLayoutManager(getLayoutManager(attrs));
     }
@@ -168,6 +172,7 @@ public class BindableRecyclerView extends RecyclerView implements IBindableView,
     private void createAdapterChecked() {
         if (mAdapter == null) {
             mAdapter = new BindableRecyclerViewAdapter(getViewBinder(), mItemTemplate);
+            mAdapter.setSectionHeaderTemplate(mSectionHeaderTemplate);
             mAdapter.setTemplatesForObjects(mTemplatesForObjects);
             setAdapter(mAdapter);
         }
@@ -217,6 +222,13 @@ public class BindableRecyclerView extends RecyclerView implements IBindableView,
         }
     }
 
+    public void setSectionHeaderTemplate(int sectionHeaderTemplate) {
+        mSectionHeaderTemplate = sectionHeaderTemplate;
+        if (mAdapter != null) {
+            mAdapter.setSectionHeaderTemplate(sectionHeaderTemplate);
+        }
+    }
+
     public void setTemplatesForObjects(Map<Class<?>, Integer> map) {
         mTemplatesForObjects = map;
         if (mAdapter != null) {
@@ -301,6 +313,9 @@ public class BindableRecyclerView extends RecyclerView implements IBindableView,
 
         propertyChanged = null;
         mViewBinder = null;
+        if (mAdapter != null) {
+            mAdapter.dispose();
+        }
         mAdapter = null;
         mTemplatesForObjects = new HashMap<>();
     }
@@ -10,11 +10,45 @@ import android.view.View;
 import android.widget.SeekBar;
 
 import io.reactivex.Observable;
+import solutions.alterego.androidbound.NullLogger;
 import solutions.alterego.androidbound.binding.interfaces.INotifyPropertyChanged;
+import solutions.alterego.androidbound.helpers.Reflector;
+import solutions.alterego.androidbound.helpers.reflector.IWritableIntPropertyAccessor;
+import solutions.alterego.androidbound.helpers.reflector.PropertyInfo;
 import solutions.alterego.androidbound.interfaces.ICommand;
 
 public class BindableSeekbar extends AppCompatSeekBar implements INotifyPropertyChanged {
 
+    /**
+     * Progress is bound both ways and changes on every step of a drag, so it is read and written without reflection
+     * and without boxing the value.
+     */
+    static final IWritableIntPropertyAccessor PROGRESS = new IWritableIntPropertyAccessor() {
+        @Override
+        public Object get(Object subject) {
+            return ((BindableSeekbar) subject).getProgress();
+        }
+
+        @Override
+        public void set(Object subject, Object value) {
+            ((BindableSeekbar) subject).setProgress(((Number) value).intValue());
+        }
+
+        @Override
+        public int getInt(Object subject) {
+            return ((BindableSeekbar) subject).getProgress();
+        }
+
+        @Override
+        public void setInt(Object subject, int value) {
+            ((BindableSeekbar) subject).setProgress(value);
+        }
+    };
+
+    static {
+        Reflector.registerProperty(BindableSeekbar.class, new PropertyInfo("Progress", int.class, true, PROGRESS, NullLogger.instance));
+    }
+
     private ICommand progressTrackBegin = ICommand.empty;
 
     private ICommand progressTrackEnd = ICommand.empty;
@@ -180,10 +214,13 @@ public class BindableSeekbar extends AppCompatSeekBar implements INotifyProperty
 
         @Override
         public void onProgressChanged(SeekBar seekBar, int progress, boolean fromUser) {
-            if (!mDelegate.isDisposed() && progressTrackChanged.canExecute(null)) {
+            if (mDelegate.isDisposed()) {
+                return;
+            }
+            if (progressTrackChanged.canExecute(null)) {
                 progressTrackChanged.execute(null);
-                mDelegate.notifyPropertyChanged("Progress");
             }
+            mDelegate.notifyPropertyChanged("Progress");
         }
     };
 
@@ -6,11 +6,15 @@ import android.view.ViewGroup;
 import android.widget.AbsListView;
 
 import io.reactivex.Observable;
+import io.reactivex.disposables.Disposable;
+import io.reactivex.disposables.Disposables;
+import io.reactivex.functions.Consumer;
 import io.reactivex.subjects.PublishSubject;
 import lombok.Getter;
 import lombok.experimental.Accessors;
 import solutions.alterego.androidbound.binding.interfaces.INotifyPropertyChanged;
 import solutions.alterego.androidbound.interfaces.ICommand;
+import solutions.alterego.androidbound.interfaces.INotifyCanExecuteChanged;
 
 @Accessors(prefix = "m")
 public class BindableViewDelegate implements INotifyPropertyChanged, View.OnClickListener, View.OnLongClickListener {
@@ -25,6 +29,15 @@ public class BindableViewDelegate implements INotifyPropertyChanged, View.OnClic
     @Getter
     private ICommand mClick = ICommand.empty;
 
+    private Disposable mClickEnabledDisposable = Disposables.disposed();
+
+    /**
+     * Set while the click command keeps the view disabled, with the enabled state it had before, e.g. from XML or a binding.
+     */
+    private boolean mDisabledByClick;
+
+    private boolean mEnabledBeforeClick;
+
     @Getter
     private ICommand mLongClick = ICommand.empty;
 
@@ -72,6 +85,9 @@ public class BindableViewDelegate implements INotifyPropertyChanged, View.OnClic
     }
 
     public void setClick(ICommand value) {
+        mClickEnabledDisposable.dispose();
+        restoreEnabled();
+
         if (value == null || value == ICommand.empty || mDisposed) {
             mOriginalView.setClickable(false);
             setClickListener(false);
@@ -82,6 +98,43 @@ public class BindableViewDelegate implements INotifyPropertyChanged, View.OnClic
         mOriginalView.setClickable(true);
         setClickListener(true);
         mClick = value;
+
+        if (value instanceof INotifyCanExecuteChanged) {
+            mClickEnabledDisposable = ((INotifyCanExecuteChanged) value).onCanExecuteChanged()
+                    .distinctUntilChanged()
+                    .subscribe(new Consumer<Boolean>() {
+                        @Override
+                        public void accept(Boolean canExecute) throws Exception {
+                            if (canExecute) {
+                                restoreEnabled();
+                            } else {
+                                disableForClick();
+                            }
+                        }
+                    });
+        }
+    }
+
+    private void disableForClick() {
+        if (mDisabledByClick) {
+            return;
+        }
+        mDisabledByClick = true;
+        mEnabledBeforeClick = mOriginalView.isEnabled();
+        mOriginalView.setEnabled(false);
+    }
+
+    /**
+     * Leaves the view alone when something else enabled it in the meantime.
+     */
+    private void restoreEnabled() {
+        if (!mDisabledByClick) {
+            return;
+        }
+        mDisabledByClick = false;
+        if (!mOriginalView.isEnabled()) {
+            mOriginalView.setEnabled(mEnabledBeforeClick);
+        }
     }
 
     private void setClickListener(boolean setListener) {
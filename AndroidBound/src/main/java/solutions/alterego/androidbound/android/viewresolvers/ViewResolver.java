@@ -4,8 +4,11 @@ import android.content.Context;
 import android.util.AttributeSet;
 import android.view.View;
 
+import java.lang.reflect.Constructor;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 import solutions.alterego.androidbound.android.ui.BindableButton;
 import solutions.alterego.androidbound.android.ui.BindableEditText;
@@ -26,7 +29,6 @@ import solutions.alterego.androidbound.android.ui.BindableTextView;
 import solutions.alterego.androidbound.android.ui.BindableToggleButton;
 import solutions.alterego.androidbound.android.ui.BindableVideoView;
 import solutions.alterego.androidbound.android.ui.BindableView;
-import solutions.alterego.androidbound.helpers.Reflector;
 import solutions.alterego.androidbound.interfaces.ILogger;
 import solutions.alterego.androidbound.android.interfaces.IViewResolver;
 
@@ -73,6 +75,18 @@ public class ViewResolver implements IViewResolver {
         }
     };
 
+    private static final int STATS_INTERVAL = 100;
+
+    /**
+     * Resolved constructors by tag name, including {@link ViewConstructor#UNRESOLVED} for names that didn't resolve,
+     * so every inflation after the first one is a single constructor call.
+     */
+    private final Map<String, ViewConstructor> constructors = new ConcurrentHashMap<String, ViewConstructor>();
+
+    private final AtomicLong lookups = new AtomicLong();
+
+    private final AtomicLong cacheHits = new AtomicLong();
+
     private ILogger logger;
 
     public ViewResolver(ILogger logger) {
@@ -81,34 +95,61 @@ public class ViewResolver implements IViewResolver {
 
     @Override
     public View createView(String name, Context context, AttributeSet attrs) {
+        long lookup = lookups.incrementAndGet();
+        ViewConstructor constructor = constructors.get(name);
+        if (constructor != null) {
+            cacheHits.incrementAndGet();
+        } else {
+            constructor = resolveConstructor(name);
+            constructors.put(name, constructor);
+        }
+        logStatsIfNeeded(lookup);
+
+        if (constructor == ViewConstructor.UNRESOLVED) {
+            return null;
+        }
+
+        try {
+            return constructor.newInstance(context, attrs);
+        } catch (Exception e) {
+            logger.warning("failed creating instance of class " + constructor.getDeclaringClass() + ", message: " + e.getMessage());
+        }
+
+        return null;
+    }
+
+    private ViewConstructor resolveConstructor(String name) {
         Class<?> resolvedClass = resolveName(name);
         if (resolvedClass == null) {
             logger.warning("View not found for name " + name);
-            return null;
+            return ViewConstructor.UNRESOLVED;
         }
-        try {
-            if (Reflector.canCreateInstance(resolvedClass, twoArgs)) {
-                return Reflector.createInstance(resolvedClass, twoArgs, new Object[]{
-                        context, attrs
-                });
-            }
 
-            if (Reflector.canCreateInstance(resolvedClass, oneArg)) {
-                return Reflector.createInstance(resolvedClass, oneArg, new Object[]{
-                        context
-                });
+        for (Class<?>[] parameterTypes : new Class<?>[][]{twoArgs, oneArg, {}}) {
+            try {
+                return new ViewConstructor(resolvedClass.getConstructor(parameterTypes));
+            } catch (NoSuchMethodException e) {
+                // try the next constructor signature
+            } catch (SecurityException e) {
+                logger.warning("cannot access constructors of class " + resolvedClass + ", message: " + e.getMessage());
+                break;
             }
+        }
 
-            if (Reflector.canCreateInstance(resolvedClass, null)) {
-                return Reflector.createInstance(resolvedClass, null, null);
-            }
+        logger.warning("failed creating instance of class " + resolvedClass + ", message: constructor not found");
+        return ViewConstructor.UNRESOLVED;
+    }
 
-            throw new Exception("constructor not found");
-        } catch (Exception e) {
-            logger.warning("failed creating instance of class " + resolvedClass + ", message: " + e.getMessage());
+    /**
+     * Logs once every {@link #STATS_INTERVAL} lookups, {@code lookup} being the number this thread got from the counter.
+     * Hits of lookups running concurrently may or may not be counted yet.
+     */
+    private void logStatsIfNeeded(long lookup) {
+        if (lookup % STATS_INTERVAL == 0) {
+            long hits = cacheHits.get();
+            logger.debug("ViewResolver constructor cache: lookups = " + lookup + ", hits = " + hits + ", hit rate = " + (hits * 100 / lookup)
+                    + "%, cached names = " + constructors.size());
         }
-
-        return null;
     }
 
     private Class<?> resolveName(String name) {
@@ -141,6 +182,35 @@ public class ViewResolver implements IViewResolver {
 
     @Override
     public void dispose() {
+        constructors.clear();
+    }
+
+    private static final class ViewConstructor {
 
+        static final ViewConstructor UNRESOLVED = new ViewConstructor(null);
+
+        private final Constructor<?> constructor;
+
+        private final int parameterCount;
+
+        ViewConstructor(Constructor<?> constructor) {
+            this.constructor = constructor;
+            this.parameterCount = constructor != null ? constructor.getParameterTypes().length : 0;
+        }
+
+        Class<?> getDeclaringClass() {
+            return constructor.getDeclaringClass();
+        }
+
+        View newInstance(Context context, AttributeSet attrs) throws Exception {
+            switch (parameterCount) {
+                case 2:
+                    return (View) constructor.newInstance(context, attrs);
+                case 1:
+                    return (View) constructor.newInstance(context);
+                default:
+                    return (View) constructor.newInstance();
+            }
+        }
     }
 }
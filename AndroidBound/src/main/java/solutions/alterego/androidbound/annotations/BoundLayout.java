@@ -0,0 +1,18 @@
+package solutions.alterego.androidbound.annotations;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a ViewModel as the binding source of the given layouts (resource names, e.g. "activity_main").
+ * The AndroidBoundCompiler annotation processor checks the bindings of these layouts against the ViewModel
+ * and generates a {@link solutions.alterego.androidbound.binding.interfaces.ILayoutBinder} for each of them.
+ */
+@Retention(RetentionPolicy.CLASS)
+@Target(ElementType.TYPE)
+public @interface BoundLayout {
+
+    String[] value();
+}
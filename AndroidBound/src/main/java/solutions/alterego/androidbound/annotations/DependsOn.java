@@ -0,0 +1,18 @@
+package solutions.alterego.androidbound.annotations;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Names the properties a {@code can*} method of a ViewModel reads. The command binding then evaluates it only when the
+ * ViewModel raises one of them through {@link solutions.alterego.androidbound.binding.interfaces.INotifyPropertyChanged},
+ * instead of on every click, and enables or disables the bound view accordingly.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface DependsOn {
+
+    String[] value();
+}
@@ -1,17 +1,24 @@
 package solutions.alterego.androidbound.binding;
 
 import java.util.Locale;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import io.reactivex.disposables.Disposable;
 import io.reactivex.disposables.Disposables;
+import io.reactivex.functions.Action;
 import io.reactivex.functions.Consumer;
 import io.reactivex.schedulers.Schedulers;
 import solutions.alterego.androidbound.NullLogger;
 import solutions.alterego.androidbound.binding.data.BindingMode;
 import solutions.alterego.androidbound.binding.data.BindingRequest;
 import solutions.alterego.androidbound.binding.data.BindingSpecification;
+import solutions.alterego.androidbound.binding.data.BindingTiming;
 import solutions.alterego.androidbound.binding.interfaces.IBinding;
+import solutions.alterego.androidbound.binding.interfaces.IBindingChangeListener;
 import solutions.alterego.androidbound.binding.interfaces.IBindingAssociationEngine;
+import solutions.alterego.androidbound.binding.interfaces.IPrimitiveBinding;
+import solutions.alterego.androidbound.binding.interfaces.IPrimitiveBindingChangeListener;
+import solutions.alterego.androidbound.converters.DefaultConverter;
 import solutions.alterego.androidbound.converters.interfaces.IValueConverter;
 import solutions.alterego.androidbound.factories.IBindingFactory;
 import solutions.alterego.androidbound.interfaces.ILogger;
@@ -33,16 +40,78 @@ public class BindingAssociationEngine implements IBindingAssociationEngine {
 
     private Disposable mTargetDisposable;
 
-    private Disposable mSourceAccumulateDisposable = Disposables.disposed();
-
-    private Disposable mTargetAccumulateDisposable = Disposables.disposed();
-
     private ILogger mLogger = NullLogger.instance;
 
     private IBindingFactory mSourceFactory;
 
     private IBindingFactory mTargetFactory;
 
+    private boolean mPrimitiveCopy;
+
+    private volatile boolean mSuspended;
+
+    private volatile boolean mSourceDetached;
+
+    private final AtomicBoolean mTargetDirty = new AtomicBoolean();
+
+    private final IBindingChangeListener mSourceListener = new IPrimitiveBindingChangeListener() {
+        @Override
+        public void onPrimitiveChanged(IBinding binding, long bits) {
+            if (!mPrimitiveCopy || needsTargetAccumulate() || needsTargetRemove()) {
+                onBindingChanged(binding, binding.getValue());
+            } else if (mSuspended) {
+                mTargetDirty.set(true);
+                if (!mSuspended) {
+                    updateDirtyTarget();
+                }
+            } else {
+                updateTargetFromSourceBits(bits);
+            }
+        }
+
+        @Override
+        public void onBindingChanged(IBinding binding, Object value) {
+            if (needsTargetAccumulate()) {
+                accumulateItems(value);
+            } else if (needsTargetRemove()) {
+                removeItems(value);
+            } else if (mSuspended) {
+                mTargetDirty.set(true);
+                if (!mSuspended) {
+                    updateDirtyTarget();
+                }
+            } else {
+                updateTargetFromSource(value);
+            }
+        }
+    };
+
+    private final IBindingChangeListener mTargetListener = new IPrimitiveBindingChangeListener() {
+        @Override
+        public void onPrimitiveChanged(IBinding binding, long bits) {
+            if (mSourceDetached) {
+                return;
+            }
+            if (!mPrimitiveCopy || needsSourceAccumulate()) {
+                onBindingChanged(binding, binding.getValue());
+            } else {
+                updateSourceFromTargetBits(bits);
+            }
+        }
+
+        @Override
+        public void onBindingChanged(IBinding binding, Object value) {
+            if (mSourceDetached) {
+                return;
+            }
+            if (needsSourceAccumulate()) {
+                accumulateItemsToSource(value);
+            } else {
+                updateSourceFromTarget(value);
+            }
+        }
+    };
+
     public BindingAssociationEngine(BindingRequest request, IBindingFactory sourceFactory, IBindingFactory targetFactory, ILogger logger) {
         mMode = request.getSpecification().getMode();
         mSourceFactory = sourceFactory;
@@ -53,10 +122,6 @@ public class BindingAssociationEngine implements IBindingAssociationEngine {
         createTargetBinding(request.getTarget());
         createSourceBinding(request.getSource());
 
-        createRemoveBinding(request.getSource());
-        createAccumulateSourceBinding(request.getSource());
-        createAccumulateTargetBinding(request.getTarget());
-
         if (needsTargetUpdate()) {
             updateSourceFromTarget(mTargetBinding.getValue());
         }
@@ -82,24 +147,31 @@ public class BindingAssociationEngine implements IBindingAssociationEngine {
         return mDataContext;
     }
 
+    /**
+     * A source property binding is re-pointed to the new data context if it's of the same class, e.g. the next item of a
+     * list, and only recreated otherwise.
+     */
     public void setDataContext(Object value) {
-        if (mDataContext == value) {
+        if (mDataContext == value && !mSourceDetached) {
             return;
         }
         mDataContext = value;
 
-        if (mSourceBinding != null) {
-            mSourceBinding.dispose();
-        }
-        if (mSourceDisposable != null) {
-            mSourceDisposable.dispose();
-        }
-        if (mSourceAccumulateDisposable != null) {
-            mSourceAccumulateDisposable.dispose();
+        if (mSourceBinding != null && mSourceBinding.repoint(value)) {
+            if (mSourceDetached) {
+                subscribeToSource();
+            }
+        } else {
+            if (mSourceBinding != null) {
+                mSourceBinding.dispose();
+            }
+            if (mSourceDisposable != null) {
+                mSourceDisposable.dispose();
+            }
+            createSourceBinding(value);
         }
+        mSourceDetached = false;
 
-        createAccumulateSourceBinding(value);
-        createSourceBinding(value);
         if (needsSourceUpdate()) {
             updateTargetFromSource(mSourceBinding.getValue());
         }
@@ -109,21 +181,22 @@ public class BindingAssociationEngine implements IBindingAssociationEngine {
         }
     }
 
+    /**
+     * The only source binding of this association; its changes update, accumulate into or remove from the target, depending on the mode.
+     */
     private void createSourceBinding(Object source) {
-        boolean needsSubs = needsSourceDisposable();
+        boolean needsSubs = needsSourceDisposable() || needsTargetAccumulate() || needsTargetRemove();
 
         mSourceBinding = mSourceFactory.create(source, mBindingSpecification.getSource(), needsSubs);
+        subscribeToSource();
+        mPrimitiveCopy = canCopyPrimitive();
+    }
 
-        if (needsSubs) {
+    private void subscribeToSource() {
+        mSourceDisposable = null;
+        if (needsSourceDisposable() || needsTargetAccumulate() || needsTargetRemove()) {
             if (mSourceBinding.hasChanges()) {
-                mSourceDisposable = mSourceBinding.getChanges()
-                        .subscribeOn(Schedulers.computation())
-                        .subscribe(new Consumer<Exceptional<Object>>() {
-                            @Override
-                            public void accept(Exceptional<Object> value) throws Exception {
-                                updateTargetFromSource(value);
-                            }
-                        });
+                mSourceDisposable = listen(mSourceBinding, mSourceListener, !needsTargetAccumulate() && !needsTargetRemove());
             } else {
                 mLogger.warning("Binding " + mBindingSpecification.getSource()
                         + " needs Disposable, but changes were not available");
@@ -131,85 +204,105 @@ public class BindingAssociationEngine implements IBindingAssociationEngine {
         }
     }
 
-    private void createRemoveBinding(Object target) {
-        boolean needsSubs = needsTargetRemove();
-        mTargetBinding = mTargetFactory.create(target, mBindingSpecification.getTarget(), needsSubs);
-        if (needsSubs) {
-            if (mTargetBinding.hasChanges()) {
-                mTargetDisposable = mTargetBinding.getChanges()
-                        .subscribeOn(Schedulers.computation())
-                        .subscribe(new Consumer<Exceptional<Object>>() {
-                            @Override
-                            public void accept(Exceptional<Object> value) throws Exception {
-                                removeItems(value);
-                            }
-                        });
-            } else {
-                mLogger.warning("Binding " + mBindingSpecification.getTarget() + " needs Disposable, but changes were not available.");
-            }
+    /**
+     * Both ends being the same primitive type with nothing converting between them, values are copied through the
+     * primitive accessors instead of being converted and set boxed. Changes the bindings raise unboxed stay unboxed
+     * all the way to the other end, see {@link IPrimitiveBindingChangeListener}.
+     */
+    private boolean canCopyPrimitive() {
+        return mBindingSpecification.getValueConverter() == DefaultConverter.instance
+                && isPrimitive(mSourceBinding) && isPrimitive(mTargetBinding)
+                && mSourceBinding.getType() == mTargetBinding.getType();
+    }
+
+    private static boolean isPrimitive(IBinding binding) {
+        return binding instanceof IPrimitiveBinding && ((IPrimitiveBinding) binding).isPrimitive();
+    }
+
+    private static void copyPrimitive(Object value, IPrimitiveBinding binding) {
+        Class<?> type = binding.getType();
+        if (type == int.class) {
+            binding.setInt(((Number) value).intValue());
+        } else if (type == long.class) {
+            binding.setLong(((Number) value).longValue());
+        } else if (type == float.class) {
+            binding.setFloat(((Number) value).floatValue());
+        } else if (type == double.class) {
+            binding.setDouble(((Number) value).doubleValue());
+        } else if (type == boolean.class) {
+            binding.setBoolean((Boolean) value);
+        } else {
+            binding.setValue(value);
         }
     }
 
+    /**
+     * Writes a value passed on unboxed, encoded as in {@link IPrimitiveBindingChangeListener}; both ends have the same type.
+     */
+    private static void copyPrimitiveBits(long bits, IPrimitiveBinding binding) {
+        Class<?> type = binding.getType();
+        if (type == int.class) {
+            binding.setInt((int) bits);
+        } else if (type == long.class) {
+            binding.setLong(bits);
+        } else if (type == float.class) {
+            binding.setFloat(Float.intBitsToFloat((int) bits));
+        } else if (type == double.class) {
+            binding.setDouble(Double.longBitsToDouble(bits));
+        } else if (type == boolean.class) {
+            binding.setBoolean(bits != 0);
+        }
+    }
+
+    /**
+     * The only target binding of this association; its changes either update or accumulate into the source, depending on the mode.
+     */
     private void createTargetBinding(Object target) {
-        boolean needsSubs = needsTargetDisposable();
+        boolean needsSubs = needsTargetDisposable() || needsSourceAccumulate();
 
         mTargetBinding = mTargetFactory.create(target, mBindingSpecification.getTarget(), needsSubs);
 
         if (needsSubs) {
             if (mTargetBinding.hasChanges()) {
-                mTargetDisposable = mTargetBinding.getChanges()
-                        .subscribeOn(Schedulers.computation())
-                        .subscribe(new Consumer<Exceptional<Object>>() {
-                            @Override
-                            public void accept(Exceptional<Object> value) throws Exception {
-                                updateSourceFromTarget(value);
-                            }
-                        });
+                mTargetDisposable = listen(mTargetBinding, mTargetListener, !needsSourceAccumulate());
             } else {
                 mLogger.warning("Binding " + mBindingSpecification.getTarget() + " needs Disposable, but changes were not available.");
             }
         }
     }
 
+    /**
+     * Changes are received through a listener on the binding, which passes them on without allocating. Only timing
+     * modifiers need the Rx stream of the binding.
+     */
+    private Disposable listen(final IBinding binding, final IBindingChangeListener listener, boolean updatesValue) {
+        if (updatesValue && mBindingSpecification.getTiming() != BindingTiming.None) {
+            return binding.getChanges()
+                    .subscribeOn(Schedulers.computation())
+                    .compose(timing())
+                    .subscribe(new Consumer<Exceptional<Object>>() {
+                        @Override
+                        public void accept(Exceptional<Object> value) throws Exception {
+                            listener.onBindingChanged(binding, value);
+                        }
+                    });
+        }
 
-    private void createAccumulateSourceBinding(Object source) {
-        boolean needsSubs = needsTargetAccumulate();
-
-        mSourceBinding = mSourceFactory.create(source, mBindingSpecification.getSource(), needsSubs);
-
-        if (needsSubs) {
-            if (mSourceBinding.hasChanges()) {
-                mSourceAccumulateDisposable = mSourceBinding.getChanges()
-                        .subscribeOn(Schedulers.computation())
-                        .subscribe(new Consumer<Exceptional<Object>>() {
-                            @Override
-                            public void accept(Exceptional<Object> value) throws Exception {
-                                accumulateItems(value);
-                            }
-                        });
-            } else {
-                mLogger.warning("Binding " + mBindingSpecification.getSource() + " needs Disposable, but changes were not available");
+        binding.addChangeListener(listener);
+        return Disposables.fromAction(new Action() {
+            @Override
+            public void run() throws Exception {
+                binding.removeChangeListener(listener);
             }
-        }
+        });
     }
 
-    private void createAccumulateTargetBinding(Object target) {
-        boolean needsSubs = needsSourceAccumulate();
-        mTargetBinding = mTargetFactory.create(target, mBindingSpecification.getTarget(), needsSubs);
-        if (needsSubs) {
-            if (mTargetBinding.hasChanges()) {
-                mTargetAccumulateDisposable = mTargetBinding.getChanges()
-                        .subscribeOn(Schedulers.computation())
-                        .subscribe(new Consumer<Exceptional<Object>>() {
-                            @Override
-                            public void accept(Exceptional<Object> value) throws Exception {
-                                accumulateItemsToSource(value);
-                            }
-                        });
-            } else {
-                mLogger.warning("Binding " + mBindingSpecification.getTarget() + " needs Disposable, but changes were not available.");
-            }
-        }
+    /**
+     * Timing modifiers only apply to value updates, accumulated and removed items are never dropped.
+     */
+    private TimingTransformer<Exceptional<Object>> timing() {
+        return new TimingTransformer<Exceptional<Object>>(mBindingSpecification.getTiming(), mBindingSpecification.getTimingInterval(),
+                Schedulers.computation());
     }
 
     private boolean needsSourceDisposable() {
@@ -272,13 +365,15 @@ public class BindingAssociationEngine implements IBindingAssociationEngine {
     protected void updateTargetFromSource(Object source) {
         Object result;
         try {
+            if (mPrimitiveCopy && source != IBinding.noValue && unwrap(source) != null) {
+                copyPrimitive(unwrap(source), (IPrimitiveBinding) mTargetBinding);
+                return;
+            }
+
             if (source != IBinding.noValue) {
                 IValueConverter converter = mBindingSpecification.getValueConverter();
                 result = converter
                         .convert(unwrap(source), mTargetBinding.getType(), mBindingSpecification.getConverterParameter(), Locale.getDefault());
-                mLogger.verbose(
-                        "updating target type = " + mTargetBinding.getType() + " with unwrapped source = " + unwrap(source) + ", result = " + result
-                                + " using converter = " + converter);
             } else {
                 mLogger.warning("Switching to fallback value for " + mBindingSpecification.getSource());
                 result = mBindingSpecification.getFallbackValue();
@@ -292,15 +387,26 @@ public class BindingAssociationEngine implements IBindingAssociationEngine {
         }
     }
 
+    private void updateTargetFromSourceBits(long bits) {
+        try {
+            copyPrimitiveBits(bits, (IPrimitiveBinding) mTargetBinding);
+        } catch (Exception e) {
+            mLogger.error(
+                    "Error occurred while binding " + mBindingSpecification.getSource() + " to target " + mBindingSpecification.getTarget() + ": " + e
+                            .getMessage());
+        }
+    }
+
     protected void updateSourceFromTarget(Object target) {
         try {
+            if (mPrimitiveCopy && unwrap(target) != null) {
+                copyPrimitive(unwrap(target), (IPrimitiveBinding) mSourceBinding);
+                return;
+            }
+
             IValueConverter converter = mBindingSpecification.getValueConverter();
             Object result = converter
                     .convertBack(unwrap(target), mSourceBinding.getType(), mBindingSpecification.getConverterParameter(), Locale.getDefault());
-            mLogger.verbose(
-                    "updating source type = " + mSourceBinding.getType() + " with unwrapped target = " + unwrap(target) + ", result = " + result
-                            + " using converter = " + converter);
-
             mSourceBinding.setValue(result);
         } catch (Exception e) {
             mLogger.error(
@@ -309,6 +415,16 @@ public class BindingAssociationEngine implements IBindingAssociationEngine {
         }
     }
 
+    private void updateSourceFromTargetBits(long bits) {
+        try {
+            copyPrimitiveBits(bits, (IPrimitiveBinding) mSourceBinding);
+        } catch (Exception e) {
+            mLogger.error(
+                    "Error occurred while binding " + mBindingSpecification.getTarget() + " to source " + mBindingSpecification.getSource() + ": " + e
+                            .getMessage());
+        }
+    }
+
     private Object unwrap(Object obj) {
         if (obj instanceof Exceptional) {
             return ((Exceptional) obj).value();
@@ -381,6 +497,42 @@ public class BindingAssociationEngine implements IBindingAssociationEngine {
         }
     }
 
+    /**
+     * Accumulated items are still added while suspended, they can't be coalesced into one update.
+     */
+    @Override
+    public void suspend() {
+        mSuspended = true;
+    }
+
+    @Override
+    public void resume() {
+        mSuspended = false;
+        updateDirtyTarget();
+    }
+
+    /**
+     * Stops observing the data context and drops target changes, until {@link #setDataContext(Object)} is called again.
+     */
+    @Override
+    public void detachDataContext() {
+        mSourceDetached = true;
+        if (mSourceDisposable != null) {
+            mSourceDisposable.dispose();
+            mSourceDisposable = null;
+        }
+        if (mSourceBinding != null) {
+            mSourceBinding.detach();
+        }
+        mTargetDirty.set(false);
+    }
+
+    private void updateDirtyTarget() {
+        if (mTargetDirty.getAndSet(false) && mSourceBinding != null) {
+            updateTargetFromSource(mSourceBinding.getValue());
+        }
+    }
+
     public void setLogger(ILogger logger) {
         mLogger = logger.getLogger(this);
     }
@@ -398,8 +550,5 @@ public class BindingAssociationEngine implements IBindingAssociationEngine {
         if (mTargetBinding != null) {
             mTargetBinding.dispose();
         }
-
-        mTargetAccumulateDisposable.dispose();
-        mSourceAccumulateDisposable.dispose();
     }
 }
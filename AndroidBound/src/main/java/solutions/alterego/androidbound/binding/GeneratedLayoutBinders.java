@@ -0,0 +1,92 @@
+package solutions.alterego.androidbound.binding;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import solutions.alterego.androidbound.NullLogger;
+import solutions.alterego.androidbound.binding.interfaces.ILayoutBinder;
+import solutions.alterego.androidbound.interfaces.ILogger;
+import solutions.alterego.androidbound.interfaces.INeedsLogger;
+
+/**
+ * Finds the layout binders generated by AndroidBoundCompiler. A binder for ViewModel {@code com.example.MainViewModel}
+ * and layout {@code activity_main} is named {@code com.example.MainViewModel_ActivityMainLayoutBinder}; superclasses of the
+ * ViewModel are looked up too. Misses are cached, so apps without generated binders only pay for the first lookup.
+ */
+public class GeneratedLayoutBinders implements INeedsLogger {
+
+    public static final String BINDER_SUFFIX = "LayoutBinder";
+
+    private static final ILayoutBinder NO_BINDER = new LayoutBinder() {
+        @Override
+        public String getLayoutName() {
+            return null;
+        }
+
+        @Override
+        public Class<?> getViewModelType() {
+            return null;
+        }
+
+        @Override
+        public void registerAccessors() {
+        }
+
+        @Override
+        protected void registerSpecifications() {
+        }
+    };
+
+    private final Map<String, ILayoutBinder> mBinders = new ConcurrentHashMap<>();
+
+    private ILogger mLogger = NullLogger.instance;
+
+    public GeneratedLayoutBinders(ILogger logger) {
+        setLogger(logger);
+    }
+
+    /**
+     * @return the generated binder, or null if there is none for this ViewModel and layout
+     */
+    public ILayoutBinder find(Class<?> viewModelType, String layoutName) {
+        String key = viewModelType.getName() + '#' + layoutName;
+        ILayoutBinder binder = mBinders.get(key);
+        if (binder == null) {
+            binder = load(viewModelType, layoutName);
+            mBinders.put(key, binder);
+        }
+        return binder == NO_BINDER ? null : binder;
+    }
+
+    public static String binderClassName(String viewModelClassName, String layoutName) {
+        StringBuilder name = new StringBuilder(viewModelClassName.replace('$', '_')).append('_');
+        for (String part : layoutName.split("_")) {
+            if (part.length() > 0) {
+                name.append(Character.toUpperCase(part.charAt(0))).append(part.substring(1));
+            }
+        }
+        return name.append(BINDER_SUFFIX).toString();
+    }
+
+    private ILayoutBinder load(Class<?> viewModelType, String layoutName) {
+        for (Class<?> type = viewModelType; type != null && type != Object.class; type = type.getSuperclass()) {
+            String className = binderClassName(type.getName(), layoutName);
+            try {
+                Class<?> binderClass = Class.forName(className, true, type.getClassLoader());
+                mLogger.debug("found generated layout binder " + className);
+                return (ILayoutBinder) binderClass.newInstance();
+            } catch (ClassNotFoundException e) {
+                // not generated for this type, try the superclass
+            } catch (Exception e) {
+                mLogger.error("couldn't create generated layout binder " + className + ": " + e.getMessage());
+                return NO_BINDER;
+            }
+        }
+        return NO_BINDER;
+    }
+
+    @Override
+    public void setLogger(ILogger logger) {
+        mLogger = logger.getLogger(this);
+    }
+}
@@ -0,0 +1,93 @@
+package solutions.alterego.androidbound.binding;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import solutions.alterego.androidbound.NullLogger;
+import solutions.alterego.androidbound.binding.data.BindingMode;
+import solutions.alterego.androidbound.binding.data.BindingSpecification;
+import solutions.alterego.androidbound.binding.data.BindingTiming;
+import solutions.alterego.androidbound.binding.interfaces.ILayoutBinder;
+import solutions.alterego.androidbound.converters.interfaces.IValueConverterProvider;
+import solutions.alterego.androidbound.helpers.Reflector;
+import solutions.alterego.androidbound.helpers.reflector.IPropertyAccessor;
+import solutions.alterego.androidbound.helpers.reflector.PropertyInfo;
+import solutions.alterego.androidbound.resources.interfaces.IResourceProvider;
+import solutions.alterego.androidbound.utils.StringUtils;
+
+/**
+ * Base class of the layout binders generated by AndroidBoundCompiler, one for each layout listed in
+ * {@link solutions.alterego.androidbound.annotations.BoundLayout}.
+ */
+public abstract class LayoutBinder implements ILayoutBinder {
+
+    private Map<String, List<BindingSpecification>> mSpecifications;
+
+    private IValueConverterProvider mConverterProvider;
+
+    private IResourceProvider mResourceProvider;
+
+    private boolean mNeedsRuntimeParsing;
+
+    @Override
+    public synchronized Map<String, List<BindingSpecification>> createSpecifications(IValueConverterProvider converterProvider,
+            IResourceProvider resourceProvider) {
+        mConverterProvider = converterProvider;
+        mResourceProvider = resourceProvider;
+        mSpecifications = new HashMap<>();
+
+        registerSpecifications();
+
+        Map<String, List<BindingSpecification>> result = mSpecifications;
+        mSpecifications = null;
+        mConverterProvider = null;
+        mResourceProvider = null;
+        return result;
+    }
+
+    protected abstract void registerSpecifications();
+
+    protected void specifications(String bindingString, BindingSpecification... specifications) {
+        if (!mNeedsRuntimeParsing) {
+            mSpecifications.put(bindingString, Arrays.asList(specifications));
+        }
+        mNeedsRuntimeParsing = false;
+    }
+
+    protected BindingSpecification specification(String target, BindingMode mode, String converter, String source,
+            String parameterName, String parameterString, String fallbackName, String fallbackString) {
+        if (mConverterProvider.findMultiConverter(converter) != null) {
+            // multi-source arguments are only known once the converter is, leave this binding string to the runtime parser
+            mNeedsRuntimeParsing = true;
+        }
+
+        return new BindingSpecification.BindingSpecificationBuilder()
+                .setTarget(target)
+                .setSource(source)
+                .setMode(mode)
+                .setValueConverter(mConverterProvider.findConverter(converter))
+                .setConverterParameter(resolveResource(parameterString, parameterName))
+                .setFallbackValue(resolveResource(fallbackString, fallbackName))
+                .build();
+    }
+
+    protected BindingSpecification timed(BindingSpecification specification, BindingTiming timing, long interval) {
+        return specification.toBuilder()
+                .setTiming(timing)
+                .setTimingInterval(interval)
+                .build();
+    }
+
+    protected void registerProperty(Class<?> type, String name, Class<?> propertyType, boolean canWrite, IPropertyAccessor accessor) {
+        Reflector.registerProperty(type, new PropertyInfo(name, propertyType, canWrite, accessor, NullLogger.instance));
+    }
+
+    private Object resolveResource(String constValue, String namedValue) {
+        if (namedValue != null) {
+            return mResourceProvider.find(namedValue);
+        }
+        return StringUtils.unescape(constValue);
+    }
+}
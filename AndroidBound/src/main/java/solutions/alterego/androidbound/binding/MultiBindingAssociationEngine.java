@@ -0,0 +1,205 @@
+package solutions.alterego.androidbound.binding;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import io.reactivex.android.schedulers.AndroidSchedulers;
+import io.reactivex.disposables.CompositeDisposable;
+import io.reactivex.functions.Consumer;
+import io.reactivex.schedulers.Schedulers;
+import solutions.alterego.androidbound.NullLogger;
+import solutions.alterego.androidbound.binding.data.BindingMode;
+import solutions.alterego.androidbound.binding.data.BindingRequest;
+import solutions.alterego.androidbound.binding.data.BindingSpecification;
+import solutions.alterego.androidbound.binding.interfaces.IBinding;
+import solutions.alterego.androidbound.binding.interfaces.IBindingAssociationEngine;
+import solutions.alterego.androidbound.factories.IBindingFactory;
+import solutions.alterego.androidbound.interfaces.ILogger;
+import solutions.alterego.androidbound.utils.Exceptional;
+
+/**
+ * Binds several sources to one target through an {@link solutions.alterego.androidbound.converters.interfaces.IMultiValueConverter}.
+ * Source changes only mark the association dirty; the converter runs once on the next main thread pass, so changes
+ * to several sources in the same frame set the target only once. Multi bindings are one-way, from the sources to the target.
+ */
+public class MultiBindingAssociationEngine implements IBindingAssociationEngine {
+
+    private final BindingSpecification mBindingSpecification;
+
+    private final IBindingFactory mSourceFactory;
+
+    private final List<IBinding> mSourceBindings = new ArrayList<IBinding>();
+
+    private CompositeDisposable mSourceDisposables = new CompositeDisposable();
+
+    private final AtomicBoolean mUpdatePending = new AtomicBoolean();
+
+    private final AtomicBoolean mTargetDirty = new AtomicBoolean();
+
+    private volatile boolean mSuspended;
+
+    private final Runnable mUpdateTarget = new Runnable() {
+        @Override
+        public void run() {
+            mUpdatePending.set(false);
+            updateTargetFromSources();
+        }
+    };
+
+    private IBinding mTargetBinding;
+
+    private Object mDataContext;
+
+    private ILogger mLogger = NullLogger.instance;
+
+    public MultiBindingAssociationEngine(BindingRequest request, IBindingFactory sourceFactory, IBindingFactory targetFactory, ILogger logger) {
+        mBindingSpecification = request.getSpecification();
+        mSourceFactory = sourceFactory;
+        setLogger(logger);
+
+        BindingMode mode = mBindingSpecification.getMode();
+        if (mode != BindingMode.Default && mode != BindingMode.OneWay && mode != BindingMode.OneWayOneTime) {
+            mLogger.warning("Multi binding to " + mBindingSpecification.getTarget() + " only supports one-way modes, " + mode + " is used as OneWay");
+        }
+
+        mTargetBinding = targetFactory.create(request.getTarget(), mBindingSpecification.getTarget(), false);
+        createSourceBindings(request.getSource());
+        updateTargetFromSources();
+    }
+
+    @Override
+    public Object getDataContext() {
+        return mDataContext;
+    }
+
+    @Override
+    public void setDataContext(Object value) {
+        if (mDataContext == value) {
+            return;
+        }
+        mDataContext = value;
+
+        disposeSourceBindings();
+        createSourceBindings(value);
+        updateTargetFromSources();
+    }
+
+    private void createSourceBindings(Object source) {
+        boolean needsSubs = mBindingSpecification.getMode() != BindingMode.OneWayOneTime;
+        mSourceDisposables = new CompositeDisposable();
+
+        for (String path : mBindingSpecification.getSources()) {
+            IBinding binding = mSourceFactory.create(source, path, needsSubs);
+            mSourceBindings.add(binding);
+
+            if (!needsSubs) {
+                continue;
+            }
+            if (binding.hasChanges()) {
+                mSourceDisposables.add(binding.getChanges()
+                        .subscribeOn(Schedulers.computation())
+                        .compose(new TimingTransformer<Exceptional<Object>>(mBindingSpecification.getTiming(),
+                                mBindingSpecification.getTimingInterval(), Schedulers.computation()))
+                        .subscribe(new Consumer<Exceptional<Object>>() {
+                            @Override
+                            public void accept(Exceptional<Object> value) throws Exception {
+                                scheduleTargetUpdate();
+                            }
+                        }));
+            } else {
+                mLogger.warning("Binding " + path + " needs Disposable, but changes were not available");
+            }
+        }
+    }
+
+    private void scheduleTargetUpdate() {
+        if (mSuspended) {
+            mTargetDirty.set(true);
+            if (mSuspended || !mTargetDirty.getAndSet(false)) {
+                return;
+            }
+        }
+        if (mUpdatePending.compareAndSet(false, true)) {
+            AndroidSchedulers.mainThread().scheduleDirect(mUpdateTarget);
+        }
+    }
+
+    protected void updateTargetFromSources() {
+        if (mTargetBinding == null) {
+            return;
+        }
+
+        Object result;
+        try {
+            Object[] values = new Object[mSourceBindings.size()];
+            boolean hasValues = true;
+            for (int i = 0; i < values.length; i++) {
+                values[i] = mSourceBindings.get(i).getValue();
+                if (values[i] == IBinding.noValue) {
+                    hasValues = false;
+                    break;
+                }
+            }
+
+            if (hasValues) {
+                result = mBindingSpecification.getMultiValueConverter()
+                        .convert(values, mTargetBinding.getType(), mBindingSpecification.getConverterParameter(), Locale.getDefault());
+            } else {
+                mLogger.warning("Switching to fallback value for " + mBindingSpecification.getSources());
+                result = mBindingSpecification.getFallbackValue();
+            }
+
+            mTargetBinding.setValue(result);
+        } catch (Exception e) {
+            mLogger.error("Error occurred while binding " + mBindingSpecification.getSources() + " to target " + mBindingSpecification.getTarget()
+                    + ": " + e.getMessage());
+        }
+    }
+
+    private void disposeSourceBindings() {
+        mSourceDisposables.dispose();
+        for (IBinding binding : mSourceBindings) {
+            binding.dispose();
+        }
+        mSourceBindings.clear();
+    }
+
+    /**
+     * Source bindings are released, the next {@link #setDataContext(Object)} creates them again.
+     */
+    @Override
+    public void detachDataContext() {
+        disposeSourceBindings();
+        mDataContext = null;
+        mTargetDirty.set(false);
+    }
+
+    @Override
+    public void suspend() {
+        mSuspended = true;
+    }
+
+    @Override
+    public void resume() {
+        mSuspended = false;
+        if (mTargetDirty.getAndSet(false)) {
+            scheduleTargetUpdate();
+        }
+    }
+
+    @Override
+    public void setLogger(ILogger logger) {
+        mLogger = logger.getLogger(this);
+    }
+
+    @Override
+    public void dispose() {
+        disposeSourceBindings();
+        if (mTargetBinding != null) {
+            mTargetBinding.dispose();
+            mTargetBinding = null;
+        }
+    }
+}
@@ -3,11 +3,14 @@ package solutions.alterego.androidbound.binding;
 import android.content.Context;
 import android.view.View;
 
+import java.nio.ByteBuffer;
 import java.util.List;
 
 import solutions.alterego.androidbound.android.interfaces.IImageLoader;
 import solutions.alterego.androidbound.binding.interfaces.IBinder;
 import solutions.alterego.androidbound.binding.interfaces.IBindingAssociationEngine;
+import solutions.alterego.androidbound.binding.interfaces.ILayoutBinder;
+import solutions.alterego.androidbound.converters.interfaces.IMultiValueConverter;
 import solutions.alterego.androidbound.converters.interfaces.IValueConverter;
 import solutions.alterego.androidbound.interfaces.ILogger;
 import solutions.alterego.androidbound.interfaces.IViewBindingEngine;
@@ -55,6 +58,21 @@ public class NullViewBindingEngine implements IViewBindingEngine {
         return null;
     }
 
+    @Override
+    public void registerMultiConverter(IMultiValueConverter converter) {
+
+    }
+
+    @Override
+    public IMultiValueConverter findMultiConverter(String name) {
+        return null;
+    }
+
+    @Override
+    public void clearConverterCaches() {
+
+    }
+
     @Override
     public void lazyBindView(View view, Object source) {
 
@@ -85,6 +103,16 @@ public class NullViewBindingEngine implements IViewBindingEngine {
 
     }
 
+    @Override
+    public void suspendBindingsForViewAndChildren(View rootView) {
+
+    }
+
+    @Override
+    public void resumeBindingsForViewAndChildren(View rootView) {
+
+    }
+
     @Override
     public void clearAllBindings() {
 
@@ -95,6 +123,16 @@ public class NullViewBindingEngine implements IViewBindingEngine {
 
     }
 
+    @Override
+    public void registerLayoutBinder(ILayoutBinder layoutBinder) {
+
+    }
+
+    @Override
+    public void registerSpecificationTable(ByteBuffer table) {
+
+    }
+
     @Override
     public IImageLoader getImageLoader() {
         return null;
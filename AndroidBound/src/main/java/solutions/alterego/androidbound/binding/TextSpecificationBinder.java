@@ -47,8 +47,11 @@ public class TextSpecificationBinder implements IBinder {
 
                 mLogger.debug("Creating full binding for " + source + " " + target);
 
-                BindingAssociationEngine bindingAssociationEngine = new BindingAssociationEngine(request, mSourceFactory, mTargetFactory, mLogger);
-                bindings.add(bindingAssociationEngine);
+                if (specification.isMultiBinding()) {
+                    bindings.add(new MultiBindingAssociationEngine(request, mSourceFactory, mTargetFactory, mLogger));
+                } else {
+                    bindings.add(new BindingAssociationEngine(request, mSourceFactory, mTargetFactory, mLogger));
+                }
             } else {
                 mLogger.debug("Cannot create binding for " + source + " " + target + ", path is null or empty!");
             }
@@ -0,0 +1,50 @@
+package solutions.alterego.androidbound.binding;
+
+import java.util.concurrent.TimeUnit;
+
+import io.reactivex.Observable;
+import io.reactivex.ObservableSource;
+import io.reactivex.ObservableTransformer;
+import io.reactivex.Scheduler;
+import solutions.alterego.androidbound.binding.data.BindingTiming;
+
+/**
+ * Applies the {@link BindingTiming} of a binding specification to one direction of an association.
+ * <ul>
+ * <li>debounce - waits until the changes pause for the interval and passes the last one</li>
+ * <li>throttle - passes the first change right away and drops the others for the interval</li>
+ * <li>sample - passes the latest change once per interval, including the last one before completion</li>
+ * </ul>
+ */
+class TimingTransformer<T> implements ObservableTransformer<T, T> {
+
+    private final BindingTiming mTiming;
+
+    private final long mInterval;
+
+    private final Scheduler mScheduler;
+
+    TimingTransformer(BindingTiming timing, long interval, Scheduler scheduler) {
+        mTiming = timing == null ? BindingTiming.None : timing;
+        mInterval = interval;
+        mScheduler = scheduler;
+    }
+
+    @Override
+    public ObservableSource<T> apply(Observable<T> upstream) {
+        if (mInterval <= 0) {
+            return upstream;
+        }
+
+        switch (mTiming) {
+            case Debounce:
+                return upstream.debounce(mInterval, TimeUnit.MILLISECONDS, mScheduler);
+            case Throttle:
+                return upstream.throttleFirst(mInterval, TimeUnit.MILLISECONDS, mScheduler);
+            case Sample:
+                return upstream.sample(mInterval, TimeUnit.MILLISECONDS, mScheduler, true);
+            default:
+                return upstream;
+        }
+    }
+}
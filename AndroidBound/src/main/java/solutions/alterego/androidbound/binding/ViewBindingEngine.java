@@ -1,11 +1,18 @@
 package solutions.alterego.androidbound.binding;
 
+import android.app.Activity;
 import android.content.Context;
+import android.content.ContextWrapper;
+import android.os.Build;
 import android.support.v7.widget.RecyclerView;
 import android.view.View;
 import android.view.ViewGroup;
 import android.widget.AbsListView;
 
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -20,7 +27,9 @@ import solutions.alterego.androidbound.android.interfaces.INeedsBoundView;
 import solutions.alterego.androidbound.android.interfaces.INeedsImageLoader;
 import solutions.alterego.androidbound.binding.interfaces.IBinder;
 import solutions.alterego.androidbound.binding.interfaces.IBindingAssociationEngine;
+import solutions.alterego.androidbound.binding.interfaces.ILayoutBinder;
 import solutions.alterego.androidbound.converters.ValueConverterService;
+import solutions.alterego.androidbound.converters.interfaces.IMultiValueConverter;
 import solutions.alterego.androidbound.converters.interfaces.IValueConverter;
 import solutions.alterego.androidbound.factories.SourceBindingFactory;
 import solutions.alterego.androidbound.factories.TargetBindingFactory;
@@ -30,6 +39,7 @@ import solutions.alterego.androidbound.interfaces.INeedsLogger;
 import solutions.alterego.androidbound.interfaces.IViewBindingEngine;
 import solutions.alterego.androidbound.parsers.BindingSpecificationListParser;
 import solutions.alterego.androidbound.parsers.BindingSpecificationParser;
+import solutions.alterego.androidbound.parsers.SpecificationTable;
 import solutions.alterego.androidbound.resources.ResourceService;
 
 @Accessors(prefix="m")
@@ -51,12 +61,27 @@ public class ViewBindingEngine implements IViewBindingEngine {
 
     private ResourceService mResourceService;
 
+    private BindingSpecificationParser mBindingParser;
+
+    private BindingSpecificationListParser mListParser;
+
     @Getter
     private IBinder mBinder;
 
-    private Map<View, List<IBindingAssociationEngine>> mBoundViews = new ConcurrentHashMap<>();
+    /**
+     * Views are held weakly, so a missed {@link #disposeOf(Context)} doesn't keep a whole Activity alive.
+     * Once a view is collected its reference lands in {@link #mCollectedViews} and the orphaned bindings get disposed.
+     */
+    private Map<ViewReference, List<IBindingAssociationEngine>> mBoundViews = new ConcurrentHashMap<>();
+
+    private Map<ViewReference, String> mLazyBoundViews = new ConcurrentHashMap<>();
 
-    private Map<View, String> mLazyBoundViews = new ConcurrentHashMap<>();
+    /**
+     * The bindings suspended under a root view, resumed with it even if their item views were recycled meanwhile.
+     */
+    private Map<ViewReference, List<IBindingAssociationEngine>> mSuspendedViews = new ConcurrentHashMap<>();
+
+    private final ReferenceQueue<View> mCollectedViews = new ReferenceQueue<>();
 
     public ViewBindingEngine(ILogger logger) {
         setLogger(logger);
@@ -65,15 +90,16 @@ public class ViewBindingEngine implements IViewBindingEngine {
 
         SourceBindingFactory sourceFactory = new SourceBindingFactory(getLogger());
         TargetBindingFactory targetFactory = new TargetBindingFactory(getLogger());
-        BindingSpecificationParser bindingParser = new BindingSpecificationParser(mConverterService, mResourceService, getLogger());
-        BindingSpecificationListParser listParser = new BindingSpecificationListParser(bindingParser, getLogger());
+        mBindingParser = new BindingSpecificationParser(mConverterService, mResourceService, getLogger());
+        mListParser = new BindingSpecificationListParser(mBindingParser, getLogger());
 
-        mBinder = new TextSpecificationBinder(listParser, sourceFactory, targetFactory, getLogger());
+        mBinder = new TextSpecificationBinder(mListParser, sourceFactory, targetFactory, getLogger());
     }
 
     @Override
     public void registerConverter(IValueConverter converter) {
         mConverterService.registerConverter(converter);
+        clearDecodedSpecifications();
     }
 
     @Override
@@ -81,9 +107,56 @@ public class ViewBindingEngine implements IViewBindingEngine {
         return mConverterService.findConverter(name);
     }
 
+    @Override
+    public void registerMultiConverter(IMultiValueConverter converter) {
+        mConverterService.registerMultiConverter(converter);
+        clearDecodedSpecifications();
+    }
+
+    @Override
+    public IMultiValueConverter findMultiConverter(String name) {
+        return mConverterService.findMultiConverter(name);
+    }
+
+    @Override
+    public void clearConverterCaches() {
+        mConverterService.clearConverterCaches();
+    }
+
     @Override
     public void registerResource(String name, Object resource) {
         mResourceService.registerResource(name, resource);
+        clearDecodedSpecifications();
+    }
+
+    /**
+     * Specifications decoded from the table resolved their converters and resources when first looked up, the later
+     * lookups resolve them again. Specifications of layout binders are resolved once, when the binder is registered.
+     */
+    private void clearDecodedSpecifications() {
+        if (mListParser != null) {
+            mListParser.clearDecodedSpecifications();
+        }
+    }
+
+    @Override
+    public void registerLayoutBinder(ILayoutBinder layoutBinder) {
+        mLogger.debug("registering generated binder for layout = " + layoutBinder.getLayoutName() + ", view model = " + layoutBinder
+                .getViewModelType());
+
+        layoutBinder.registerAccessors();
+        mListParser.registerSpecifications(layoutBinder.createSpecifications(mConverterService, mResourceService));
+    }
+
+    @Override
+    public void registerSpecificationTable(ByteBuffer table) {
+        try {
+            SpecificationTable specificationTable = new SpecificationTable(table, mBindingParser);
+            mLogger.debug("registering specification table with " + specificationTable.size() + " binding strings");
+            mListParser.setSpecificationTable(specificationTable);
+        } catch (IllegalArgumentException e) {
+            mLogger.error("ignoring specification table: " + e.getMessage());
+        }
     }
 
     @Override
@@ -103,17 +176,21 @@ public class ViewBindingEngine implements IViewBindingEngine {
             for (int childIndex = 0; childIndex < ((ViewGroup) view).getChildCount(); childIndex++) {
                 checkAndBindView(((ViewGroup) view).getChildAt(childIndex), source);
             }
-            bindViewToSource(source, view, mLazyBoundViews.get(view));
-        } else if (mLazyBoundViews.containsKey(view)) {
-            bindViewToSource(source, view, mLazyBoundViews.get(view));
-            mLazyBoundViews.remove(view);
+            bindViewToSource(source, view, mLazyBoundViews.get(new ViewReference(view)));
+        } else {
+            String bindingString = mLazyBoundViews.remove(new ViewReference(view));
+            if (bindingString != null) {
+                bindViewToSource(source, view, bindingString);
+            }
         }
     }
 
     @Override
     public void registerLazyBindingsFor(View view, String bindingString) {
-        mLazyBoundViews.put(view, bindingString);
-        if (mBoundViews.containsKey(view)) {
+        purgeCollectedViews();
+
+        mLazyBoundViews.put(new ViewReference(view, mCollectedViews), bindingString);
+        if (mBoundViews.containsKey(new ViewReference(view))) {
             clearBindingForViewAndChildren(view);
         }
     }
@@ -146,22 +223,26 @@ public class ViewBindingEngine implements IViewBindingEngine {
             return;
         }
 
-        if (mBoundViews.containsKey(view)) {
-            mBoundViews.get(view).addAll(bindings);
+        purgeCollectedViews();
+
+        List<IBindingAssociationEngine> existing = mBoundViews.get(new ViewReference(view));
+        if (existing != null) {
+            existing.addAll(bindings);
         } else {
-            mBoundViews.put(view, bindings);
+            mBoundViews.put(new ViewReference(view, mCollectedViews), bindings);
         }
     }
 
     @Override
     public List<IBindingAssociationEngine> getBindingsForView(View rootView) {
+        purgeCollectedViews();
         return getBindingsForViewAndChildrenRecursive(rootView, new ArrayList<IBindingAssociationEngine>());
     }
 
     private List<IBindingAssociationEngine> getBindingsForViewAndChildrenRecursive(View rootView, List<IBindingAssociationEngine> bindings) {
-
-        if (mBoundViews.containsKey(rootView)) {
-            bindings.addAll(mBoundViews.get(rootView));
+        List<IBindingAssociationEngine> viewBindings = mBoundViews.get(new ViewReference(rootView));
+        if (viewBindings != null) {
+            bindings.addAll(viewBindings);
         }
 
         if (!(rootView instanceof ViewGroup)) {
@@ -182,6 +263,7 @@ public class ViewBindingEngine implements IViewBindingEngine {
 
     @Override
     public void clearBindingForViewAndChildren(View rootView) {
+        purgeCollectedViews();
         clearBindingsForView(rootView);
 
         if (rootView == null || !(rootView instanceof ViewGroup)) {
@@ -194,6 +276,58 @@ public class ViewBindingEngine implements IViewBindingEngine {
         }
     }
 
+    /**
+     * Unlike {@link #getBindingsForView(View)}, this includes the bindings of the item views that lists and recycler
+     * views show, which would otherwise keep updating while nothing is visible.
+     */
+    @Override
+    public void suspendBindingsForViewAndChildren(View rootView) {
+        if (rootView == null) {
+            return;
+        }
+        purgeCollectedViews();
+        List<IBindingAssociationEngine> bindings = getBindingsForViewAndItemsRecursive(rootView, new ArrayList<IBindingAssociationEngine>());
+        for (IBindingAssociationEngine binding : bindings) {
+            binding.suspend();
+        }
+        mSuspendedViews.put(new ViewReference(rootView, mCollectedViews), bindings);
+    }
+
+    /**
+     * Resumes the bindings suspended with {@code rootView}, and the ones of the views it shows now, e.g. items bound
+     * while it was suspended.
+     */
+    @Override
+    public void resumeBindingsForViewAndChildren(View rootView) {
+        if (rootView == null) {
+            return;
+        }
+        List<IBindingAssociationEngine> suspended = mSuspendedViews.remove(new ViewReference(rootView));
+        if (suspended != null) {
+            for (IBindingAssociationEngine binding : suspended) {
+                binding.resume();
+            }
+        }
+        for (IBindingAssociationEngine binding : getBindingsForViewAndItemsRecursive(rootView, new ArrayList<IBindingAssociationEngine>())) {
+            binding.resume();
+        }
+    }
+
+    private List<IBindingAssociationEngine> getBindingsForViewAndItemsRecursive(View rootView, List<IBindingAssociationEngine> bindings) {
+        List<IBindingAssociationEngine> viewBindings = mBoundViews.get(new ViewReference(rootView));
+        if (viewBindings != null) {
+            bindings.addAll(viewBindings);
+        }
+
+        if (rootView instanceof ViewGroup) {
+            ViewGroup viewGroup = (ViewGroup) rootView;
+            for (int i = 0; i < viewGroup.getChildCount(); i++) {
+                getBindingsForViewAndItemsRecursive(viewGroup.getChildAt(i), bindings);
+            }
+        }
+        return bindings;
+    }
+
     protected void clearBindingsForView(View view) {
         if (view == null) {
             return;
@@ -201,16 +335,14 @@ public class ViewBindingEngine implements IViewBindingEngine {
 
         mLogger.verbose("clearBindingsFor view = " + view + ", current bound views size = " + mBoundViews.size());
 
-        if (mLazyBoundViews.containsKey(view)) {
-            mLazyBoundViews.remove(view);
-        }
+        ViewReference key = new ViewReference(view);
+        mLazyBoundViews.remove(key);
 
-        if (!mBoundViews.containsKey(view)) {
+        List<IBindingAssociationEngine> bindings = mBoundViews.remove(key);
+        if (bindings == null) {
             return;
         }
 
-        List<IBindingAssociationEngine> bindings = mBoundViews.get(view);
-
         for (IBindingAssociationEngine binding : bindings) {
             binding.dispose();
         }
@@ -220,21 +352,67 @@ public class ViewBindingEngine implements IViewBindingEngine {
         }
 
         bindings.clear();
-        mBoundViews.remove(view);
 
         mLogger.verbose("clearBindingsFor finished for view = " + view + ", remaining bound views size = " + mBoundViews.size());
 
         if (isDebugMode()) {
-            for (View remainingview : mBoundViews.keySet()) {
-                if (remainingview.getContext() == view.getContext()) {
+            for (Map.Entry<ViewReference, List<IBindingAssociationEngine>> entry : mBoundViews.entrySet()) {
+                View remainingview = entry.getKey().get();
+                if (remainingview == null) {
+                    continue;
+                }
+
+                if (contextOf(remainingview) == contextOf(view)) {
                     mLogger.verbose(
-                            "clearBindingsFor found another remaining view with the same context as " + view + ", context = " + view.getContext()
+                            "clearBindingsFor found another remaining view with the same context as " + view + ", context = " + contextOf(view)
                                     + ", found remaining view = " + remainingview);
+                } else if (isContextDestroyed(contextOf(remainingview))) {
+                    mLogger.warning("clearBindingsFor found " + entry.getValue().size() + " leaked bindings for view = " + remainingview
+                            + ", its context = " + contextOf(remainingview) + " was already destroyed: " + entry.getValue());
                 }
             }
         }
     }
 
+    Context contextOf(View view) {
+        return view.getContext();
+    }
+
+    static boolean isContextDestroyed(Context context) {
+        while (context instanceof ContextWrapper && !(context instanceof Activity)) {
+            context = ((ContextWrapper) context).getBaseContext();
+        }
+
+        if (!(context instanceof Activity)) {
+            return false;
+        }
+
+        Activity activity = (Activity) context;
+        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.JELLY_BEAN_MR1) {
+            return activity.isDestroyed();
+        }
+        return activity.isFinishing();
+    }
+
+    private void purgeCollectedViews() {
+        Reference<? extends View> collected;
+        while ((collected = mCollectedViews.poll()) != null) {
+            mLazyBoundViews.remove(collected);
+            mSuspendedViews.remove(collected);
+
+            List<IBindingAssociationEngine> orphans = mBoundViews.remove(collected);
+            if (orphans == null) {
+                continue;
+            }
+
+            mLogger.warning("purgeCollectedViews disposing " + orphans.size() + " bindings of a collected view, its context was never disposed of");
+            for (IBindingAssociationEngine binding : orphans) {
+                binding.dispose();
+            }
+            orphans.clear();
+        }
+    }
+
     @Override
     public void clearAllBindings() {
         for (List<IBindingAssociationEngine> bindings : mBoundViews.values()) {
@@ -245,14 +423,18 @@ public class ViewBindingEngine implements IViewBindingEngine {
         }
         mBoundViews.clear();
         mLazyBoundViews.clear();
+        mSuspendedViews.clear();
     }
 
     @Override
     public void disposeOf(Context ctx) {
         getLogger().verbose("disposing of context = " + ctx);
 
-        for (View view : mBoundViews.keySet()) {
-            if (view.getContext() == ctx) {
+        purgeCollectedViews();
+
+        for (ViewReference reference : mBoundViews.keySet()) {
+            View view = reference.get();
+            if (view != null && contextOf(view) == ctx) {
                 clearBindingsForView(view); //it doesn't go deep because we're gonna get all of them anyway
             }
         }
@@ -263,10 +445,46 @@ public class ViewBindingEngine implements IViewBindingEngine {
         clearAllBindings();
 
         mBinder = null;
+        mListParser = null;
+        mBindingParser = null;
         mConverterService = null;
         mResourceService = null;
         mImageLoader = IImageLoader.nullImageLoader;
         mLogger = NullLogger.instance;
     }
 
+    /**
+     * Identity-based weak key, equal to another one only while both still point to the same view.
+     */
+    private static final class ViewReference extends WeakReference<View> {
+
+        private final int mHashCode;
+
+        ViewReference(View view) {
+            super(view);
+            mHashCode = System.identityHashCode(view);
+        }
+
+        ViewReference(View view, ReferenceQueue<View> queue) {
+            super(view, queue);
+            mHashCode = System.identityHashCode(view);
+        }
+
+        @Override
+        public int hashCode() {
+            return mHashCode;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (this == other) {
+                return true;
+            }
+            if (!(other instanceof ViewReference)) {
+                return false;
+            }
+            View view = get();
+            return view != null && view == ((ViewReference) other).get();
+        }
+    }
 }
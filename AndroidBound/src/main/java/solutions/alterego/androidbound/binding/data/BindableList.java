@@ -0,0 +1,194 @@
+package solutions.alterego.androidbound.binding.data;
+
+import android.os.Looper;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.RandomAccess;
+
+import io.reactivex.Observable;
+import io.reactivex.subjects.PublishSubject;
+import lombok.Getter;
+import lombok.experimental.Accessors;
+import solutions.alterego.androidbound.interfaces.IDisposable;
+
+/**
+ * List that reports its changes as position ranges, so that {@link solutions.alterego.androidbound.android.adapters.BindableRecyclerViewAdapter}
+ * and {@link solutions.alterego.androidbound.android.adapters.BindableListAdapter} can show it without copying or diffing it.
+ * The adapters read it directly, so it can only be changed on the main thread.
+ */
+public class BindableList<T> extends AbstractList<T> implements RandomAccess, IDisposable {
+
+    private final ArrayList<T> mItems;
+
+    private PublishSubject<Change> mChanges = PublishSubject.create();
+
+    public BindableList() {
+        mItems = new ArrayList<T>();
+    }
+
+    public BindableList(Collection<? extends T> items) {
+        mItems = new ArrayList<T>(items);
+    }
+
+    /**
+     * @return the changes of this list, delivered synchronously on the main thread after they're applied, none once disposed
+     */
+    public Observable<Change> onChanges() {
+        if (mChanges == null) {
+            return Observable.empty();
+        }
+        return mChanges.hide();
+    }
+
+    @Override
+    public T get(int index) {
+        return mItems.get(index);
+    }
+
+    @Override
+    public int size() {
+        return mItems.size();
+    }
+
+    @Override
+    public T set(int index, T item) {
+        checkThread();
+        T old = mItems.set(index, item);
+        notifyChange(Change.Type.Changed, index, 1);
+        return old;
+    }
+
+    @Override
+    public void add(int index, T item) {
+        checkThread();
+        mItems.add(index, item);
+        modCount++;
+        notifyChange(Change.Type.Inserted, index, 1);
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends T> items) {
+        return addAll(mItems.size(), items);
+    }
+
+    @Override
+    public boolean addAll(int index, Collection<? extends T> items) {
+        checkThread();
+        if (items.isEmpty()) {
+            return false;
+        }
+        mItems.addAll(index, items);
+        modCount++;
+        notifyChange(Change.Type.Inserted, index, items.size());
+        return true;
+    }
+
+    @Override
+    public T remove(int index) {
+        checkThread();
+        T old = mItems.remove(index);
+        modCount++;
+        notifyChange(Change.Type.Removed, index, 1);
+        return old;
+    }
+
+    @Override
+    protected void removeRange(int fromIndex, int toIndex) {
+        checkThread();
+        if (fromIndex >= toIndex) {
+            return;
+        }
+        mItems.subList(fromIndex, toIndex).clear();
+        modCount++;
+        notifyChange(Change.Type.Removed, fromIndex, toIndex - fromIndex);
+    }
+
+    @Override
+    public void clear() {
+        removeRange(0, mItems.size());
+    }
+
+    /**
+     * Moves an item, which adapters can animate instead of showing a removal and an insertion.
+     */
+    public void move(int fromIndex, int toIndex) {
+        checkThread();
+        if (fromIndex == toIndex) {
+            return;
+        }
+        mItems.add(toIndex, mItems.remove(fromIndex));
+        modCount++;
+        if (mChanges != null) {
+            mChanges.onNext(new Change(Change.Type.Moved, fromIndex, 1, toIndex));
+        }
+    }
+
+    /**
+     * Replaces all the items; reported as one removal and one insertion.
+     */
+    public void replaceAll(List<? extends T> items) {
+        clear();
+        addAll(items);
+    }
+
+    @Override
+    public void dispose() {
+        if (mChanges != null) {
+            mChanges.onComplete();
+            mChanges = null;
+        }
+    }
+
+    protected void checkThread() {
+        if (Looper.myLooper() != Looper.getMainLooper()) {
+            throw new IllegalStateException("BindableList can only be changed on the main thread");
+        }
+    }
+
+    private void notifyChange(Change.Type type, int position, int count) {
+        if (mChanges != null) {
+            mChanges.onNext(new Change(type, position, count, -1));
+        }
+    }
+
+    @Accessors(prefix = "m")
+    public static final class Change {
+
+        public enum Type {
+            Inserted,
+            Removed,
+            Moved,
+            Changed
+        }
+
+        @Getter
+        private final Type mType;
+
+        @Getter
+        private final int mPosition;
+
+        @Getter
+        private final int mCount;
+
+        /**
+         * The new position of a moved item, -1 for the other changes.
+         */
+        @Getter
+        private final int mToPosition;
+
+        Change(Type type, int position, int count, int toPosition) {
+            mType = type;
+            mPosition = position;
+            mCount = count;
+            mToPosition = toPosition;
+        }
+
+        @Override
+        public String toString() {
+            return mType + "(" + mPosition + ", " + mCount + (mType == Type.Moved ? " -> " + mToPosition : "") + ")";
+        }
+    }
+}
@@ -9,6 +9,9 @@ import io.reactivex.subjects.PublishSubject;
 import solutions.alterego.androidbound.binding.interfaces.INotifyPropertyChanged;
 import solutions.alterego.androidbound.utils.Iterables;
 
+/**
+ * @see ObservableMap for a map with per-key and batched notifications and a thread-safe mode
+ */
 public class BindableMap<K, V> extends HashMap<K, V> implements INotifyPropertyChanged {
 
     private static final long serialVersionUID = 1L;
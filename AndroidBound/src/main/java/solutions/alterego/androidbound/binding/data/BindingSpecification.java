@@ -1,22 +1,183 @@
 package solutions.alterego.androidbound.binding.data;
 
-import lombok.Data;
+import java.lang.ref.WeakReference;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
 import lombok.experimental.Accessors;
+import solutions.alterego.androidbound.converters.interfaces.IMultiValueConverter;
 import solutions.alterego.androidbound.converters.interfaces.IValueConverter;
 
-@Data
+/**
+ * Immutable, built through {@link BindingSpecificationBuilder}, which returns one shared instance for all specifications
+ * with the same content, e.g. the same binding of every row of a list.
+ */
+@Getter
+@ToString
+@EqualsAndHashCode
 @Accessors(prefix = "m")
-public class BindingSpecification {
+public final class BindingSpecification {
+
+    /**
+     * Canonical instances, held weakly so converters and resources of a finished screen can still be collected.
+     */
+    private static final Map<BindingSpecification, WeakReference<BindingSpecification>> sInterned =
+            new WeakHashMap<BindingSpecification, WeakReference<BindingSpecification>>();
+
+    private final String mTarget;
+
+    private final String mSource;
+
+    private final IValueConverter mValueConverter;
+
+    private final Object mConverterParameter;
+
+    private final BindingMode mMode;
+
+    private final Object mFallbackValue;
+
+    /**
+     * Source paths of a multi-source binding, null for the usual single-source ones.
+     */
+    private final List<String> mSources;
+
+    private final IMultiValueConverter mMultiValueConverter;
+
+    private final BindingTiming mTiming;
+
+    private final long mTimingInterval;
+
+    BindingSpecification(BindingSpecificationBuilder builder) {
+        mTarget = builder.mTarget;
+        mSource = builder.mSource;
+        mValueConverter = builder.mValueConverter;
+        mConverterParameter = builder.mConverterParameter;
+        mMode = builder.mMode;
+        mFallbackValue = builder.mFallbackValue;
+        mSources = builder.mSources != null ? Collections.unmodifiableList(builder.mSources) : null;
+        mMultiValueConverter = builder.mMultiValueConverter;
+        mTiming = builder.mTiming;
+        mTimingInterval = builder.mTimingInterval;
+    }
+
+    public boolean isMultiBinding() {
+        return mMultiValueConverter != null && mSources != null;
+    }
+
+    public BindingSpecificationBuilder toBuilder() {
+        return new BindingSpecificationBuilder(this);
+    }
+
+    static BindingSpecification intern(BindingSpecification specification) {
+        synchronized (sInterned) {
+            WeakReference<BindingSpecification> reference = sInterned.get(specification);
+            BindingSpecification interned = reference != null ? reference.get() : null;
+            if (interned != null) {
+                return interned;
+            }
+            sInterned.put(specification, new WeakReference<BindingSpecification>(specification));
+            return specification;
+        }
+    }
+
+    public static class BindingSpecificationBuilder {
+
+        private String mTarget;
+
+        private String mSource;
+
+        private IValueConverter mValueConverter;
+
+        private Object mConverterParameter;
+
+        private BindingMode mMode;
+
+        private Object mFallbackValue;
+
+        private List<String> mSources;
+
+        private IMultiValueConverter mMultiValueConverter;
+
+        private BindingTiming mTiming = BindingTiming.None;
+
+        private long mTimingInterval;
+
+        public BindingSpecificationBuilder() {
+        }
+
+        private BindingSpecificationBuilder(BindingSpecification specification) {
+            mTarget = specification.mTarget;
+            mSource = specification.mSource;
+            mValueConverter = specification.mValueConverter;
+            mConverterParameter = specification.mConverterParameter;
+            mMode = specification.mMode;
+            mFallbackValue = specification.mFallbackValue;
+            mSources = specification.mSources;
+            mMultiValueConverter = specification.mMultiValueConverter;
+            mTiming = specification.mTiming;
+            mTimingInterval = specification.mTimingInterval;
+        }
+
+        public BindingSpecificationBuilder setTarget(String target) {
+            mTarget = target;
+            return this;
+        }
+
+        public BindingSpecificationBuilder setSource(String source) {
+            mSource = source;
+            return this;
+        }
+
+        public BindingSpecificationBuilder setValueConverter(IValueConverter valueConverter) {
+            mValueConverter = valueConverter;
+            return this;
+        }
+
+        public BindingSpecificationBuilder setConverterParameter(Object converterParameter) {
+            mConverterParameter = converterParameter;
+            return this;
+        }
+
+        public BindingSpecificationBuilder setMode(BindingMode mode) {
+            mMode = mode;
+            return this;
+        }
 
-    private String mTarget;
+        public BindingSpecificationBuilder setFallbackValue(Object fallbackValue) {
+            mFallbackValue = fallbackValue;
+            return this;
+        }
 
-    private String mSource;
+        public BindingSpecificationBuilder setSources(List<String> sources) {
+            mSources = sources;
+            return this;
+        }
 
-    private IValueConverter mValueConverter;
+        public BindingSpecificationBuilder setMultiValueConverter(IMultiValueConverter multiValueConverter) {
+            mMultiValueConverter = multiValueConverter;
+            return this;
+        }
 
-    private Object mConverterParameter;
+        public BindingSpecificationBuilder setTiming(BindingTiming timing) {
+            mTiming = timing;
+            return this;
+        }
 
-    private BindingMode mMode;
+        public BindingSpecificationBuilder setTimingInterval(long timingInterval) {
+            mTimingInterval = timingInterval;
+            return this;
+        }
 
-    private Object mFallbackValue;
-}
\ No newline at end of file
+        /**
+         * @return the shared instance for this content
+         */
+        public BindingSpecification build() {
+            return intern(new BindingSpecification(this));
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package solutions.alterego.androidbound.binding.data;
+
+/**
+ * Rate limiting applied to the change streams of a binding, written as {@code | debounce(300)},
+ * {@code | throttle(300)} or {@code | sample(300)} after the binding, the interval being in milliseconds.
+ */
+public enum BindingTiming {
+    None,
+    Debounce,
+    Throttle,
+    Sample
+}
@@ -0,0 +1,238 @@
+package solutions.alterego.androidbound.binding.data;
+
+import android.os.Looper;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+
+import io.reactivex.Observable;
+import io.reactivex.subjects.PublishSubject;
+import solutions.alterego.androidbound.interfaces.IDisposable;
+import solutions.alterego.androidbound.utils.GroupedList;
+import solutions.alterego.androidbound.utils.GroupingList;
+
+/**
+ * Sections of items seen as one flat list, each section being its key (the header row) followed by its items, which is how
+ * {@link solutions.alterego.androidbound.android.adapters.BindableRecyclerViewAdapter} shows it.
+ * <p>
+ * The section sizes are kept in a Fenwick tree, so converting between a flat position and (section, offset) and changing
+ * the items of a section are O(log n) in the number of sections; adding or removing a whole section is O(n).
+ * Changes are reported with flat positions like {@link BindableList} does, and likewise only allowed on the main thread.
+ */
+public class IndexedGroupingList<TKey, T> extends AbstractList<Object> implements RandomAccess, IDisposable {
+
+    private final List<GroupedList<TKey, T>> mSections = new ArrayList<GroupedList<TKey, T>>();
+
+    private final Map<TKey, Integer> mSectionIndices = new HashMap<TKey, Integer>();
+
+    /**
+     * 1-based Fenwick tree of the section sizes, a header and its items.
+     */
+    private int[] mTree = new int[1];
+
+    private int mSize;
+
+    private PublishSubject<BindableList.Change> mChanges = PublishSubject.create();
+
+    public IndexedGroupingList() {
+    }
+
+    public IndexedGroupingList(GroupingList<TKey, T> groups) {
+        for (GroupedList<TKey, T> group : groups) {
+            GroupedList<TKey, T> section = new GroupedList<TKey, T>(group.Key);
+            section.addAll(group);
+            mSections.add(section);
+        }
+        reindex();
+    }
+
+    /**
+     * @return the changes of this list in flat positions, delivered synchronously on the main thread after they're applied,
+     * none once disposed
+     */
+    public Observable<BindableList.Change> onChanges() {
+        if (mChanges == null) {
+            return Observable.empty();
+        }
+        return mChanges.hide();
+    }
+
+    /**
+     * @return the key of the section for a header position, the item otherwise
+     */
+    @Override
+    public Object get(int position) {
+        int section = getSectionForPosition(position);
+        int offset = position - headerPosition(section) - 1;
+        GroupedList<TKey, T> items = mSections.get(section);
+        return offset < 0 ? items.Key : items.get(offset);
+    }
+
+    @Override
+    public int size() {
+        return mSize;
+    }
+
+    public int getSectionCount() {
+        return mSections.size();
+    }
+
+    public TKey getSectionKey(int section) {
+        return mSections.get(section).Key;
+    }
+
+    public List<T> getSection(int section) {
+        return Collections.unmodifiableList(mSections.get(section));
+    }
+
+    public int indexOfKey(TKey key) {
+        Integer section = mSectionIndices.get(key);
+        return section != null ? section : -1;
+    }
+
+    public boolean isHeader(int position) {
+        return getOffsetForPosition(position) < 0;
+    }
+
+    public int getSectionForPosition(int position) {
+        if (position < 0 || position >= mSize) {
+            throw new IndexOutOfBoundsException("position " + position + ", size " + mSize);
+        }
+
+        int section = 0;
+        int remaining = position;
+        for (int step = Integer.highestOneBit(mSections.size()); step > 0; step >>= 1) {
+            int next = section + step;
+            if (next <= mSections.size() && mTree[next] <= remaining) {
+                section = next;
+                remaining -= mTree[next];
+            }
+        }
+        return section;
+    }
+
+    /**
+     * @return the index of the item in its section, -1 for the header
+     */
+    public int getOffsetForPosition(int position) {
+        return position - headerPosition(getSectionForPosition(position)) - 1;
+    }
+
+    /**
+     * @param offset the index of the item in the section, -1 for the header
+     */
+    public int getPosition(int section, int offset) {
+        if (section < 0 || section >= mSections.size()) {
+            throw new IndexOutOfBoundsException("section " + section + ", sections " + mSections.size());
+        }
+        return headerPosition(section) + 1 + offset;
+    }
+
+    public void addSection(TKey key, Collection<? extends T> items) {
+        addSection(mSections.size(), key, items);
+    }
+
+    public void addSection(int section, TKey key, Collection<? extends T> items) {
+        checkThread();
+        GroupedList<TKey, T> added = new GroupedList<TKey, T>(key);
+        added.addAll(items);
+        mSections.add(section, added);
+        reindex();
+        notifyChange(BindableList.Change.Type.Inserted, headerPosition(section), added.size() + 1);
+    }
+
+    public void removeSection(int section) {
+        checkThread();
+        int position = headerPosition(section);
+        GroupedList<TKey, T> removed = mSections.remove(section);
+        reindex();
+        notifyChange(BindableList.Change.Type.Removed, position, removed.size() + 1);
+    }
+
+    public void addItem(int section, T item) {
+        addItem(section, mSections.get(section).size(), item);
+    }
+
+    public void addItem(int section, int offset, T item) {
+        checkThread();
+        mSections.get(section).add(offset, item);
+        update(section, 1);
+        notifyChange(BindableList.Change.Type.Inserted, getPosition(section, offset), 1);
+    }
+
+    public T removeItem(int section, int offset) {
+        checkThread();
+        int position = getPosition(section, offset);
+        T removed = mSections.get(section).remove(offset);
+        update(section, -1);
+        notifyChange(BindableList.Change.Type.Removed, position, 1);
+        return removed;
+    }
+
+    public T setItem(int section, int offset, T item) {
+        checkThread();
+        T old = mSections.get(section).set(offset, item);
+        notifyChange(BindableList.Change.Type.Changed, getPosition(section, offset), 1);
+        return old;
+    }
+
+    @Override
+    public void dispose() {
+        if (mChanges != null) {
+            mChanges.onComplete();
+            mChanges = null;
+        }
+    }
+
+    protected void checkThread() {
+        if (Looper.myLooper() != Looper.getMainLooper()) {
+            throw new IllegalStateException("IndexedGroupingList can only be changed on the main thread");
+        }
+    }
+
+    private int headerPosition(int section) {
+        int position = 0;
+        for (int i = section; i > 0; i -= i & -i) {
+            position += mTree[i];
+        }
+        return position;
+    }
+
+    private void update(int section, int delta) {
+        for (int i = section + 1; i < mTree.length; i += i & -i) {
+            mTree[i] += delta;
+        }
+        mSize += delta;
+        modCount++;
+    }
+
+    private void reindex() {
+        int count = mSections.size();
+        mTree = new int[count + 1];
+        mSize = 0;
+        mSectionIndices.clear();
+        for (int i = 1; i <= count; i++) {
+            GroupedList<TKey, T> section = mSections.get(i - 1);
+            mSectionIndices.put(section.Key, i - 1);
+            mTree[i] += section.size() + 1;
+            mSize += section.size() + 1;
+            int parent = i + (i & -i);
+            if (parent <= count) {
+                mTree[parent] += mTree[i];
+            }
+        }
+        modCount++;
+    }
+
+    private void notifyChange(BindableList.Change.Type type, int position, int count) {
+        if (mChanges != null) {
+            mChanges.onNext(new BindableList.Change(type, position, count, -1));
+        }
+    }
+}
@@ -0,0 +1,234 @@
+package solutions.alterego.androidbound.binding.data;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import io.reactivex.Observable;
+import io.reactivex.subjects.PublishSubject;
+import io.reactivex.subjects.Subject;
+import solutions.alterego.androidbound.binding.interfaces.INotifyPropertyChanged;
+import solutions.alterego.androidbound.utils.Exceptional;
+
+/**
+ * Map that notifies its changes per key and in batches: {@link #putAll(Map)} and {@link #clear()} raise a single
+ * {@link #onKeysChanged()} event, and a binding to a key subscribes to {@link #onKeyChanged(Object)} instead of filtering
+ * every change of the map. Bindings to its keys use {@link solutions.alterego.androidbound.binding.types.MapEntryBinding}.
+ * <p>
+ * The map returned by {@link #concurrent()} can be changed from any thread, but doesn't accept null keys or values.
+ * The key, entry and value views are read-only, so that every change goes through the notifying methods.
+ */
+public class ObservableMap<K, V> implements Map<K, V>, INotifyPropertyChanged {
+
+    private static final Object NULL_KEY = new Object();
+
+    private final Map<K, V> mMap;
+
+    private final ConcurrentMap<Object, Subject<Exceptional<V>>> mKeySubjects = new ConcurrentHashMap<Object, Subject<Exceptional<V>>>();
+
+    private final Subject<Set<K>> mKeysSubject;
+
+    private final Subject<String> mPropertySubject;
+
+    private final boolean mConcurrent;
+
+    public ObservableMap() {
+        this(new HashMap<K, V>(), false);
+    }
+
+    private ObservableMap(Map<K, V> map, boolean concurrent) {
+        mMap = map;
+        mConcurrent = concurrent;
+        mKeysSubject = subject();
+        mPropertySubject = subject();
+    }
+
+    public static <K, V> ObservableMap<K, V> concurrent() {
+        return new ObservableMap<K, V>(new ConcurrentHashMap<K, V>(), true);
+    }
+
+    /**
+     * @return the new values of the key, starting with the next change; null when it's removed
+     */
+    public Observable<Exceptional<V>> onKeyChanged(Object key) {
+        Object subjectKey = key == null ? NULL_KEY : key;
+        Subject<Exceptional<V>> subject = mKeySubjects.get(subjectKey);
+        if (subject == null) {
+            Subject<Exceptional<V>> created = subject();
+            subject = mKeySubjects.putIfAbsent(subjectKey, created);
+            if (subject == null) {
+                subject = created;
+            }
+        }
+        return subject.hide();
+    }
+
+    /**
+     * @return the keys changed by each operation, once per {@link #putAll(Map)} or {@link #clear()}
+     */
+    public Observable<Set<K>> onKeysChanged() {
+        return mKeysSubject.hide();
+    }
+
+    @Override
+    public Observable<String> onPropertyChanged() {
+        return mPropertySubject.hide();
+    }
+
+    @Override
+    public V put(K key, V value) {
+        V oldValue = mMap.put(key, value);
+        if (!same(oldValue, value)) {
+            notifyKeys(Collections.singleton(key));
+        }
+        return oldValue;
+    }
+
+    @Override
+    public void putAll(Map<? extends K, ? extends V> map) {
+        if (map == null) {
+            return;
+        }
+
+        Set<K> changed = new LinkedHashSet<K>();
+        for (Map.Entry<? extends K, ? extends V> entry : map.entrySet()) {
+            if (!same(mMap.put(entry.getKey(), entry.getValue()), entry.getValue())) {
+                changed.add(entry.getKey());
+            }
+        }
+        notifyKeys(changed);
+    }
+
+    @Override
+    public V remove(Object key) {
+        boolean contains = mMap.containsKey(key);
+        V oldValue = mMap.remove(key);
+        if (contains) {
+            @SuppressWarnings("unchecked")
+            K removed = (K) key;
+            notifyKeys(Collections.singleton(removed));
+        }
+        return oldValue;
+    }
+
+    /**
+     * On a concurrent map every key is taken out on its own, so a put racing with the clear is either removed and reported
+     * here or stays in the map, instead of being dropped between reading the keys and clearing them.
+     */
+    @Override
+    public void clear() {
+        Set<K> changed = new LinkedHashSet<K>();
+        if (mConcurrent) {
+            for (K key : mMap.keySet()) {
+                if (mMap.remove(key) != null) {
+                    changed.add(key);
+                }
+            }
+        } else {
+            changed.addAll(mMap.keySet());
+            mMap.clear();
+        }
+        notifyKeys(changed);
+    }
+
+    @Override
+    public V get(Object key) {
+        return mMap.get(key);
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return mMap.containsKey(key);
+    }
+
+    @Override
+    public boolean containsValue(Object value) {
+        return mMap.containsValue(value);
+    }
+
+    @Override
+    public int size() {
+        return mMap.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return mMap.isEmpty();
+    }
+
+    @Override
+    public Set<K> keySet() {
+        return Collections.unmodifiableSet(mMap.keySet());
+    }
+
+    @Override
+    public Collection<V> values() {
+        return Collections.unmodifiableCollection(mMap.values());
+    }
+
+    @Override
+    public Set<Entry<K, V>> entrySet() {
+        return Collections.unmodifiableMap(mMap).entrySet();
+    }
+
+    public boolean isConcurrent() {
+        return mConcurrent;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o == this || mMap.equals(o);
+    }
+
+    @Override
+    public int hashCode() {
+        return mMap.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return mMap.toString();
+    }
+
+    @Override
+    public void dispose() {
+        for (Subject<Exceptional<V>> subject : mKeySubjects.values()) {
+            subject.onComplete();
+        }
+        mKeySubjects.clear();
+        mKeysSubject.onComplete();
+        mPropertySubject.onComplete();
+        mMap.clear();
+    }
+
+    private void notifyKeys(Set<K> keys) {
+        if (keys.isEmpty()) {
+            return;
+        }
+
+        for (K key : keys) {
+            Subject<Exceptional<V>> subject = mKeySubjects.get(key == null ? NULL_KEY : key);
+            if (subject != null) {
+                subject.onNext(Exceptional.right(mMap.get(key)));
+            }
+            if (key != null && mPropertySubject.hasObservers()) {
+                mPropertySubject.onNext(key.toString());
+            }
+        }
+        mKeysSubject.onNext(Collections.unmodifiableSet(keys));
+    }
+
+    private <T> Subject<T> subject() {
+        PublishSubject<T> subject = PublishSubject.create();
+        return mConcurrent ? subject.toSerialized() : subject;
+    }
+
+    private static boolean same(Object oldValue, Object value) {
+        return oldValue == value || (oldValue != null && oldValue.equals(value));
+    }
+}
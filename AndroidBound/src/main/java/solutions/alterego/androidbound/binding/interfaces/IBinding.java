@@ -21,5 +21,21 @@ public interface IBinding extends IDisposable, INeedsLogger {
 
     Observable<Exceptional<Object>> getChanges();
 
+    void addChangeListener(IBindingChangeListener listener);
+
+    void removeChangeListener(IBindingChangeListener listener);
+
     void removeValue(Object result);
+
+    /**
+     * Moves this binding to another subject, e.g. the next item shown by a recycled view, keeping its listeners.
+     *
+     * @return false if the binding can't be re-pointed and has to be recreated
+     */
+    boolean repoint(Object subject);
+
+    /**
+     * Stops observing the subject until the next {@link #repoint(Object)}.
+     */
+    void detach();
 }
@@ -8,4 +8,19 @@ public interface IBindingAssociationEngine extends INeedsLogger, IDisposable {
     Object getDataContext();
 
     void setDataContext(Object value);
+
+    /**
+     * Stops observing the current data context until the next {@link #setDataContext(Object)}, e.g. for a recycled list item.
+     */
+    void detachDataContext();
+
+    /**
+     * Stops applying source changes to the target, only remembering that it's out of date, e.g. while its view isn't visible.
+     */
+    void suspend();
+
+    /**
+     * Applies the latest source value once if anything changed while suspended, and passes further changes on again.
+     */
+    void resume();
 }
\ No newline at end of file
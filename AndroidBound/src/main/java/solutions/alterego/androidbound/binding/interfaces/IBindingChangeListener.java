@@ -0,0 +1,12 @@
+package solutions.alterego.androidbound.binding.interfaces;
+
+/**
+ * Receives the changes of a binding directly, without the wrapping and the operators of {@link IBinding#getChanges()}.
+ */
+public interface IBindingChangeListener {
+
+    /**
+     * Called on the thread that raised the change, with the value as it was raised.
+     */
+    void onBindingChanged(IBinding binding, Object value);
+}
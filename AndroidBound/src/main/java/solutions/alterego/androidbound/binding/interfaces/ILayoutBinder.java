@@ -0,0 +1,19 @@
+package solutions.alterego.androidbound.binding.interfaces;
+
+import java.util.List;
+import java.util.Map;
+
+import solutions.alterego.androidbound.binding.data.BindingSpecification;
+import solutions.alterego.androidbound.converters.interfaces.IValueConverterProvider;
+import solutions.alterego.androidbound.resources.interfaces.IResourceProvider;
+
+public interface ILayoutBinder {
+
+    String getLayoutName();
+
+    Class<?> getViewModelType();
+
+    void registerAccessors();
+
+    Map<String, List<BindingSpecification>> createSpecifications(IValueConverterProvider converterProvider, IResourceProvider resourceProvider);
+}
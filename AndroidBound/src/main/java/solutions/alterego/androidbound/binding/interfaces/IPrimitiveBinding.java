@@ -0,0 +1,29 @@
+package solutions.alterego.androidbound.binding.interfaces;
+
+/**
+ * Binding on a property of a primitive type, which can be read and written without boxing the value.
+ */
+public interface IPrimitiveBinding extends IBinding {
+
+    boolean isPrimitive();
+
+    int getInt();
+
+    void setInt(int value);
+
+    long getLong();
+
+    void setLong(long value);
+
+    float getFloat();
+
+    void setFloat(float value);
+
+    double getDouble();
+
+    void setDouble(double value);
+
+    boolean getBoolean();
+
+    void setBoolean(boolean value);
+}
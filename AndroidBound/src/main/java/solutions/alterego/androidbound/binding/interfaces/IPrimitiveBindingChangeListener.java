@@ -0,0 +1,15 @@
+package solutions.alterego.androidbound.binding.interfaces;
+
+/**
+ * Listener that also takes the changes of a primitive property unboxed, so they reach the other side of the
+ * association without allocating.
+ */
+public interface IPrimitiveBindingChangeListener extends IBindingChangeListener {
+
+    /**
+     * Called instead of {@link #onBindingChanged(IBinding, Object)} when a primitive property changed. The value is
+     * encoded in the bits as the type of the binding requires: floats as {@link Float#floatToIntBits(float)}, doubles
+     * as {@link Double#doubleToLongBits(double)}, booleans as 1 or 0.
+     */
+    void onPrimitiveChanged(IBinding binding, long bits);
+}
@@ -1,9 +1,14 @@
 package solutions.alterego.androidbound.binding.types;
 
+import java.lang.ref.WeakReference;
+import java.util.Arrays;
+
 import io.reactivex.Observable;
 import io.reactivex.subjects.PublishSubject;
 import solutions.alterego.androidbound.NullLogger;
 import solutions.alterego.androidbound.binding.interfaces.IBinding;
+import solutions.alterego.androidbound.binding.interfaces.IBindingChangeListener;
+import solutions.alterego.androidbound.binding.interfaces.IPrimitiveBindingChangeListener;
 import solutions.alterego.androidbound.interfaces.ILogger;
 import solutions.alterego.androidbound.interfaces.INeedsLogger;
 import solutions.alterego.androidbound.utils.Exceptional;
@@ -12,12 +17,37 @@ public abstract class BindingBase implements IBinding, INeedsLogger {
 
     private static final Observable<Exceptional<Object>> NO_CHANGES = Observable.empty();
 
+    private static final IBindingChangeListener[] NO_LISTENERS = new IBindingChangeListener[0];
+
+    /**
+     * Applied value of add and remove writes, any change raised while they are applied is their echo.
+     */
+    protected static final Object ANY_VALUE = new Object();
+
+    /**
+     * Applied value of primitive writes, which is kept unboxed in {@link #mApplyingBits}.
+     */
+    private static final Object PRIMITIVE_VALUE = new Object();
+
     private PublishSubject<Exceptional<Object>> mChanges = PublishSubject.create();
 
+    /**
+     * Copied on write, so a change is dispatched to the listeners without allocating.
+     */
+    private volatile IBindingChangeListener[] mListeners = NO_LISTENERS;
+
     private Object mSubject;
 
+    private WeakReference<Object> mWeakSubject;
+
     private ILogger mLogger = NullLogger.instance;
 
+    private volatile Thread mApplyingThread;
+
+    private volatile Object mApplyingValue;
+
+    private volatile long mApplyingBits;
+
     public BindingBase(Object subject, ILogger logger) {
         mSubject = subject;
         setLogger(logger);
@@ -40,11 +70,146 @@ public abstract class BindingBase implements IBinding, INeedsLogger {
         return mChanges != null;
     }
 
+    public synchronized void addChangeListener(IBindingChangeListener listener) {
+        IBindingChangeListener[] listeners = Arrays.copyOf(mListeners, mListeners.length + 1);
+        listeners[listeners.length - 1] = listener;
+        mListeners = listeners;
+    }
+
+    public synchronized void removeChangeListener(IBindingChangeListener listener) {
+        IBindingChangeListener[] listeners = mListeners;
+        for (int i = 0; i < listeners.length; i++) {
+            if (listeners[i] == listener) {
+                IBindingChangeListener[] remaining = new IBindingChangeListener[listeners.length - 1];
+                System.arraycopy(listeners, 0, remaining, 0, i);
+                System.arraycopy(listeners, i + 1, remaining, i, listeners.length - i - 1);
+                mListeners = remaining.length == 0 ? NO_LISTENERS : remaining;
+                return;
+            }
+        }
+    }
+
     protected void notifyChange(Object value) {
-        if (mChanges == null) {
+        PublishSubject<Exceptional<Object>> changes = mChanges;
+        if (changes == null) {
             return;
         }
-        mChanges.onNext(wrap(value));
+        if (isEcho(value)) {
+            mLogger.verbose("Dropping the echo of a value applied to this binding");
+            return;
+        }
+        IBindingChangeListener[] listeners = mListeners;
+        for (int i = 0; i < listeners.length; i++) {
+            listeners[i].onBindingChanged(this, value);
+        }
+        if (changes.hasObservers()) {
+            changes.onNext(wrap(value));
+        }
+    }
+
+    /**
+     * Same as {@link #notifyChange(Object)} for a primitive property, with the value encoded as in
+     * {@link #primitiveBits(Object)}. Listeners that take primitives get the bits; the value is only read boxed for the
+     * other listeners and the observers of {@link #getChanges()}, if there are any.
+     */
+    protected void notifyPrimitiveChange(long bits) {
+        PublishSubject<Exceptional<Object>> changes = mChanges;
+        if (changes == null) {
+            return;
+        }
+        if (isPrimitiveEcho(bits)) {
+            mLogger.verbose("Dropping the echo of a value applied to this binding");
+            return;
+        }
+        Object value = null;
+        IBindingChangeListener[] listeners = mListeners;
+        for (int i = 0; i < listeners.length; i++) {
+            if (listeners[i] instanceof IPrimitiveBindingChangeListener) {
+                ((IPrimitiveBindingChangeListener) listeners[i]).onPrimitiveChanged(this, bits);
+            } else {
+                if (value == null) {
+                    value = getValue();
+                }
+                listeners[i].onBindingChanged(this, value);
+            }
+        }
+        if (changes.hasObservers()) {
+            changes.onNext(wrap(value != null ? value : getValue()));
+        }
+    }
+
+    /**
+     * Marks the start of a write coming from the other side of the association. Until {@link #endApplying()}, the changes
+     * this binding raises on the same thread with the applied value are echoes of that write and are not passed on.
+     */
+    protected void beginApplying(Object value) {
+        mApplyingValue = value;
+        mApplyingThread = Thread.currentThread();
+    }
+
+    /**
+     * Same as {@link #beginApplying(Object)} for a primitive write, without boxing the applied value. The bits are
+     * encoded as in {@link #primitiveBits(Object)}.
+     */
+    protected void beginApplyingPrimitive(long bits) {
+        mApplyingBits = bits;
+        beginApplying(PRIMITIVE_VALUE);
+    }
+
+    protected static long primitiveBits(Object value) {
+        if (value instanceof Float) {
+            return Float.floatToIntBits((Float) value);
+        } else if (value instanceof Double) {
+            return Double.doubleToLongBits((Double) value);
+        } else if (value instanceof Boolean) {
+            return (Boolean) value ? 1 : 0;
+        } else if (value instanceof Character) {
+            return (Character) value;
+        }
+        return ((Number) value).longValue();
+    }
+
+    protected void endApplying() {
+        mApplyingThread = null;
+        mApplyingValue = null;
+    }
+
+    private boolean isPrimitiveEcho(long bits) {
+        if (mApplyingThread != Thread.currentThread()) {
+            return false;
+        }
+
+        Object applied = mApplyingValue;
+        if (applied == ANY_VALUE) {
+            return true;
+        }
+        if (applied == PRIMITIVE_VALUE) {
+            return bits == mApplyingBits;
+        }
+        return (applied instanceof Number || applied instanceof Boolean || applied instanceof Character)
+                && primitiveBits(applied) == bits;
+    }
+
+    private boolean isEcho(Object value) {
+        if (mApplyingThread != Thread.currentThread()) {
+            return false;
+        }
+
+        Object applied = mApplyingValue;
+        if (value instanceof Exceptional) {
+            value = ((Exceptional) value).value();
+        }
+        if (applied == ANY_VALUE || applied == value) {
+            return true;
+        }
+        if (applied == PRIMITIVE_VALUE) {
+            return (value instanceof Number || value instanceof Boolean || value instanceof Character)
+                    && primitiveBits(value) == mApplyingBits;
+        }
+        if (applied instanceof CharSequence && value instanceof CharSequence) {
+            return applied.toString().equals(value.toString());
+        }
+        return applied != null && applied.equals(value);
     }
 
     protected void setupChanges(boolean hasChanges) {
@@ -61,9 +226,33 @@ public abstract class BindingBase implements IBinding, INeedsLogger {
     }
 
     protected Object getSubject() {
+        if (mWeakSubject != null) {
+            return mWeakSubject.get();
+        }
         return mSubject;
     }
 
+    /**
+     * Re-points this binding to another subject, keeping the weak or strong hold chosen for the previous one.
+     */
+    protected void setSubject(Object subject) {
+        if (mWeakSubject != null) {
+            mWeakSubject = new WeakReference<>(subject);
+        } else {
+            mSubject = subject;
+        }
+    }
+
+    /**
+     * Stops this binding from keeping its subject alive, e.g. views that must stay collectable while bound.
+     */
+    protected void holdSubjectWeakly() {
+        if (mSubject != null) {
+            mWeakSubject = new WeakReference<>(mSubject);
+            mSubject = null;
+        }
+    }
+
     protected ILogger getLogger() {
         return mLogger;
     }
@@ -72,11 +261,22 @@ public abstract class BindingBase implements IBinding, INeedsLogger {
         mLogger = logger.getLogger(this);
     }
 
+    /**
+     * Bindings are not re-pointed unless they override this.
+     */
+    public boolean repoint(Object subject) {
+        return false;
+    }
+
+    public void detach() {
+    }
+
     public void dispose() {
         if (mChanges != null) {
             mChanges.onComplete();
         }
         mChanges = null;
+        mListeners = NO_LISTENERS;
     }
 
     private Exceptional wrap(Object value) {
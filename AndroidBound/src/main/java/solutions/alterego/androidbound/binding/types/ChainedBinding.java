@@ -2,12 +2,10 @@ package solutions.alterego.androidbound.binding.types;
 
 import java.util.List;
 
-import io.reactivex.disposables.Disposable;
-import io.reactivex.functions.Consumer;
 import solutions.alterego.androidbound.binding.interfaces.IBinding;
+import solutions.alterego.androidbound.binding.interfaces.IBindingChangeListener;
 import solutions.alterego.androidbound.factories.IBindingFactory;
 import solutions.alterego.androidbound.interfaces.ILogger;
-import solutions.alterego.androidbound.utils.Exceptional;
 
 public class ChainedBinding extends PropertyBinding {
 
@@ -19,7 +17,14 @@ public class ChainedBinding extends PropertyBinding {
 
     private IBinding mCurrentBinding;
 
-    private Disposable mCurrentBindingChanged;
+    private Object mCurrentValue;
+
+    private final IBindingChangeListener mCurrentBindingListener = new IBindingChangeListener() {
+        @Override
+        public void onBindingChanged(IBinding binding, Object value) {
+            notifyChange(value);
+        }
+    };
 
     private String mMemberName;
 
@@ -33,26 +38,58 @@ public class ChainedBinding extends PropertyBinding {
         updateChildBinding();
     }
 
+    /**
+     * Only the segments below this one are touched: the child binding is kept if the value is the same instance (observing
+     * it again after a {@link #detach()}), re-pointed if it's of the same class, and recreated through the factory only
+     * otherwise.
+     */
     protected void updateChildBinding() {
+        Object currentValue = getInfo().getValue(getSubject());
         if (mCurrentBinding != null) {
-            mCurrentBindingChanged.dispose();
-            mCurrentBinding.dispose();
-            mCurrentBindingChanged = null;
+            if (currentValue == mCurrentValue) {
+                mCurrentBinding.repoint(currentValue);
+                return;
+            }
+            if (mCurrentBinding.repoint(currentValue)) {
+                mCurrentValue = currentValue;
+                return;
+            }
+            disposeChildBinding();
         }
 
-        Object currentValue = getInfo().getValue(getSubject());
         if (currentValue == null) {
             return;
         }
 
+        mCurrentValue = currentValue;
         mCurrentBinding = mBindingFactory.create(currentValue, mTokens, this.mNeedChangesIfPossible);
-        mCurrentBindingChanged = mCurrentBinding.getChanges()
-                .subscribe(new Consumer<Exceptional<Object>>() {
-                    @Override
-                    public void accept(Exceptional<Object> value) throws Exception {
-                        notifyChange(value);
-                    }
-                });
+        mCurrentBinding.addChangeListener(mCurrentBindingListener);
+    }
+
+    @Override
+    public boolean repoint(Object subject) {
+        if (!super.repoint(subject)) {
+            return false;
+        }
+        updateChildBinding();
+        return true;
+    }
+
+    @Override
+    public void detach() {
+        super.detach();
+        if (mCurrentBinding != null) {
+            mCurrentBinding.detach();
+        }
+    }
+
+    private void disposeChildBinding() {
+        if (mCurrentBinding != null) {
+            mCurrentBinding.removeChangeListener(mCurrentBindingListener);
+            mCurrentBinding.dispose();
+            mCurrentBinding = null;
+        }
+        mCurrentValue = null;
     }
 
     @Override
@@ -92,13 +129,6 @@ public class ChainedBinding extends PropertyBinding {
     @Override
     public void dispose() {
         super.dispose();
-        if (mCurrentBindingChanged != null) {
-            mCurrentBindingChanged.dispose();
-            mCurrentBindingChanged = null;
-        }
-        if (mCurrentBinding != null) {
-            mCurrentBinding.dispose();
-            mCurrentBinding = null;
-        }
+        disposeChildBinding();
     }
 }
@@ -2,17 +2,50 @@ package solutions.alterego.androidbound.binding.types;
 
 import android.view.View;
 
+import java.util.Arrays;
+import java.util.List;
+
+import io.reactivex.Completable;
+import io.reactivex.Observable;
+import io.reactivex.Scheduler;
+import io.reactivex.Single;
+import io.reactivex.android.schedulers.AndroidSchedulers;
+import io.reactivex.disposables.Disposable;
+import io.reactivex.disposables.Disposables;
+import io.reactivex.functions.Action;
+import io.reactivex.functions.Consumer;
+import io.reactivex.functions.Predicate;
+import io.reactivex.schedulers.Schedulers;
+import io.reactivex.subjects.BehaviorSubject;
+import solutions.alterego.androidbound.annotations.DependsOn;
+import solutions.alterego.androidbound.binding.interfaces.INotifyPropertyChanged;
 import solutions.alterego.androidbound.helpers.Reflector;
 import solutions.alterego.androidbound.helpers.reflector.CommandInfo;
 import solutions.alterego.androidbound.interfaces.ICommand;
 import solutions.alterego.androidbound.interfaces.ILogger;
+import solutions.alterego.androidbound.interfaces.INotifyCanExecuteChanged;
 
 public class CommandBinding extends BindingBase {
 
+    private static Scheduler mCommandScheduler = Schedulers.io();
+
     private ICommand mCommand = ICommand.empty;
 
     private CommandInfo mInfo;
 
+    private boolean mBusy;
+
+    /**
+     * The last result of a {@link DependsOn} checker, only evaluated again when one of its properties changes.
+     */
+    private boolean mCanExecute = true;
+
+    private boolean mCheckerHasDependencies;
+
+    private BehaviorSubject<Boolean> mCanExecuteChanged = BehaviorSubject.createDefault(true);
+
+    private Disposable mDependenciesDisposable = Disposables.disposed();
+
     public CommandBinding(Object subject, String commandName, ILogger logger) {
         super(subject, logger);
 
@@ -28,58 +61,160 @@ public class CommandBinding extends BindingBase {
         return Reflector.isCommand(subject.getClass(), commandName);
     }
 
+    /**
+     * Sets where the {@link io.reactivex.Completable} or {@link io.reactivex.Single} returned by an async {@code do*} method
+     * is subscribed, {@link Schedulers#io()} by default. Its result is always observed on the main thread.
+     */
+    public static void setCommandScheduler(Scheduler scheduler) {
+        mCommandScheduler = scheduler != null ? scheduler : Schedulers.io();
+    }
+
     private void setupBinding() {
         setupChanges(false);
 
-        if (mInfo.getInvokerMethod() != null) {
-            mCommand = new ICommand() {
-                @Override
-                public boolean canExecute(Object parameter) {
-                    try {
-                        return mInfo.check(getSubject(), parameter);
-                    } catch (Exception ex) {
-                        getLogger().error("Error while checking command " + mInfo.getCommandName() + ": " + ex.getMessage());
+        if (mInfo.getInvokerMethod() == null) {
+            return;
+        }
+
+        setupDependencies();
+
+        mCommand = new BoundCommand();
+    }
+
+    private void setupDependencies() {
+        if (mInfo.getCheckerMethod() == null || mInfo.isCheckerHasParameter() || !(getSubject() instanceof INotifyPropertyChanged)) {
+            return;
+        }
+
+        DependsOn dependsOn = mInfo.getCheckerMethod().getOriginalMethod().getAnnotation(DependsOn.class);
+        if (dependsOn == null) {
+            return;
+        }
+
+        final List<String> dependencies = Arrays.asList(dependsOn.value());
+        mCheckerHasDependencies = true;
+        mCanExecute = check(null, null);
+        publishCanExecute();
+
+        mDependenciesDisposable = ((INotifyPropertyChanged) getSubject()).onPropertyChanged()
+                .filter(new Predicate<String>() {
+                    @Override
+                    public boolean test(String member) throws Exception {
+                        return dependencies.contains(member);
                     }
-                    return true;
-                }
-
-                @Override
-                public void execute(Object parameter) {
-                    try {
-                        mInfo.invoke(getSubject(), parameter);
-                    } catch (Exception ex) {
-                        getLogger().error("Error while raising command " + mInfo.getCommandName() + ": " + ex.getMessage());
+                })
+                .observeOn(AndroidSchedulers.mainThread())
+                .subscribe(new Consumer<String>() {
+                    @Override
+                    public void accept(String member) throws Exception {
+                        mCanExecute = check(null, null);
+                        publishCanExecute();
                     }
-                }
-
-                @Override
-                public boolean canExecute(View view, Object parameter) {
-                    try {
-                        return mInfo.check(getSubject(), view, parameter);
-                    } catch (Exception ex) {
-                        getLogger().error("Error while checking command " + mInfo.getCommandName() + ": " + ex.getMessage());
+                });
+    }
+
+    private boolean canExecute(View view, Object parameter) {
+        if (mBusy) {
+            return false;
+        }
+        if (mCheckerHasDependencies) {
+            return mCanExecute;
+        }
+        return check(view, parameter);
+    }
+
+    private boolean check(View view, Object parameter) {
+        try {
+            return mInfo.check(getSubject(), view, parameter);
+        } catch (Exception ex) {
+            getLogger().error("Error while checking command " + mInfo.getCommandName() + ": " + ex.getMessage());
+        }
+        return true;
+    }
+
+    private void execute(View view, Object parameter) {
+        // a tap delivered before the view got disabled
+        if (mBusy) {
+            return;
+        }
+
+        Object result;
+        try {
+            result = mInfo.invoke(getSubject(), view, parameter);
+        } catch (Exception ex) {
+            getLogger().error("Error while raising command " + mInfo.getCommandName() + ": " + ex.getMessage());
+            return;
+        }
+
+        Completable completable = toCompletable(result);
+        if (completable == null) {
+            return;
+        }
+
+        mBusy = true;
+        publishCanExecute();
+        completable.subscribeOn(mCommandScheduler)
+                .observeOn(AndroidSchedulers.mainThread())
+                .subscribe(new Action() {
+                    @Override
+                    public void run() throws Exception {
+                        onExecuted();
                     }
-                    return true;
-                }
-
-                @Override
-                public void execute(View view, Object parameter) {
-                    try {
-                        mInfo.invoke(getSubject(), view, parameter);
-                    } catch (Exception ex) {
-                        getLogger().error("Error while raising command " + mInfo.getCommandName() + ": " + ex.getMessage());
-                        retryExecute(view, parameter);
+                }, new Consumer<Throwable>() {
+                    @Override
+                    public void accept(Throwable throwable) throws Exception {
+                        getLogger().error("Error while running command " + mInfo.getCommandName() + ": " + throwable.getMessage());
+                        onExecuted();
                     }
-                }
+                });
+    }
 
-                private void retryExecute(View parameter, Object parameter2) {
-                    try {
-                        mInfo.invoke(getSubject(), parameter2);
-                    } catch (Exception e) {
-                        execute(parameter);
-                    }
-                }
-            };
+    private static Completable toCompletable(Object result) {
+        if (result instanceof Completable) {
+            return (Completable) result;
+        } else if (result instanceof Single) {
+            return ((Single<?>) result).toCompletable();
+        }
+        return null;
+    }
+
+    private void onExecuted() {
+        mBusy = false;
+        publishCanExecute();
+    }
+
+    private void publishCanExecute() {
+        boolean canExecute = !mBusy && (!mCheckerHasDependencies || mCanExecute);
+        if (mCanExecuteChanged != null && mCanExecuteChanged.getValue() != canExecute) {
+            mCanExecuteChanged.onNext(canExecute);
+        }
+    }
+
+    private class BoundCommand implements ICommand, INotifyCanExecuteChanged {
+
+        @Override
+        public boolean canExecute(Object parameter) {
+            return CommandBinding.this.canExecute(null, parameter);
+        }
+
+        @Override
+        public void execute(Object parameter) {
+            CommandBinding.this.execute(null, parameter);
+        }
+
+        @Override
+        public boolean canExecute(View view, Object parameter) {
+            return CommandBinding.this.canExecute(view, parameter);
+        }
+
+        @Override
+        public void execute(View view, Object parameter) {
+            CommandBinding.this.execute(view, parameter);
+        }
+
+        @Override
+        public Observable<Boolean> onCanExecuteChanged() {
+            return mCanExecuteChanged != null ? mCanExecuteChanged.hide() : Observable.<Boolean>empty();
         }
     }
 
@@ -110,6 +245,12 @@ public class CommandBinding extends BindingBase {
 
     @Override
     public void dispose() {
+        // a running command is left to finish, only its result is no longer published
+        mDependenciesDisposable.dispose();
+        if (mCanExecuteChanged != null) {
+            mCanExecuteChanged.onComplete();
+            mCanExecuteChanged = null;
+        }
         super.dispose();
     }
 }
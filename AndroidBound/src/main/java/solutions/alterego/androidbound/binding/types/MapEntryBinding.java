@@ -0,0 +1,81 @@
+package solutions.alterego.androidbound.binding.types;
+
+import io.reactivex.disposables.Disposable;
+import io.reactivex.functions.Consumer;
+import solutions.alterego.androidbound.binding.data.ObservableMap;
+import solutions.alterego.androidbound.interfaces.ILogger;
+import solutions.alterego.androidbound.utils.Exceptional;
+
+/**
+ * Binding to a key of an {@link ObservableMap}. It reads and writes the map directly and subscribes only to the changes of
+ * its key, without going through {@link solutions.alterego.androidbound.helpers.Reflector}.
+ */
+public class MapEntryBinding extends BindingBase {
+
+    private final String mKey;
+
+    private Disposable mKeyDisposable;
+
+    public MapEntryBinding(ObservableMap<?, ?> map, String key, boolean needChangesIfPossible, ILogger logger) {
+        super(map, logger);
+        mKey = key;
+
+        if (needChangesIfPossible) {
+            setupChanges(true);
+            mKeyDisposable = map.onKeyChanged(key)
+                    .subscribe(new Consumer<Exceptional<?>>() {
+                        @Override
+                        public void accept(Exceptional<?> value) throws Exception {
+                            notifyChange(value.value());
+                        }
+                    });
+        } else {
+            setupChanges(false);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private ObservableMap<Object, Object> getMap() {
+        return (ObservableMap<Object, Object>) getSubject();
+    }
+
+    @Override
+    public Class<?> getType() {
+        Object value = getMap().get(mKey);
+        return value != null ? value.getClass() : Object.class;
+    }
+
+    @Override
+    public Object getValue() {
+        return getMap().get(mKey);
+    }
+
+    @Override
+    public void setValue(Object value) {
+        beginApplying(value);
+        try {
+            getMap().put(mKey, value);
+        } finally {
+            endApplying();
+        }
+    }
+
+    @Override
+    public void addValue(Object object) {
+        getLogger().warning("Cannot add value to map key " + mKey + ": use a list as its value instead");
+    }
+
+    @Override
+    public void removeValue(Object result) {
+        getLogger().warning("Cannot remove value from map key " + mKey + ": use a list as its value instead");
+    }
+
+    @Override
+    public void dispose() {
+        if (mKeyDisposable != null) {
+            mKeyDisposable.dispose();
+            mKeyDisposable = null;
+        }
+        super.dispose();
+    }
+}
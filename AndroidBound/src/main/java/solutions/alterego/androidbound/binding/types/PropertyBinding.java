@@ -4,19 +4,25 @@ import io.reactivex.disposables.Disposable;
 import io.reactivex.functions.Consumer;
 import io.reactivex.functions.Predicate;
 import solutions.alterego.androidbound.binding.interfaces.INotifyPropertyChanged;
+import solutions.alterego.androidbound.binding.interfaces.IPrimitiveBinding;
 import solutions.alterego.androidbound.helpers.Reflector;
 import solutions.alterego.androidbound.helpers.reflector.PropertyInfo;
 import solutions.alterego.androidbound.interfaces.ILogger;
 
-public class PropertyBinding extends BindingBase {
+public class PropertyBinding extends BindingBase implements IPrimitiveBinding {
 
     private Disposable mMemberDisposable;
 
     private PropertyInfo mPropertyInfo;
 
+    private boolean mNeedChangesIfPossible;
+
+    private boolean mDetached;
+
     public PropertyBinding(Object subject, String propertyName, boolean needChangesIfPossible, ILogger logger) {
         super(subject, logger);
 
+        mNeedChangesIfPossible = needChangesIfPossible;
         mPropertyInfo = Reflector.getProperty(subject.getClass(), propertyName, logger);
         setupBinding(subject, mPropertyInfo.getPropertyName(), needChangesIfPossible);
     }
@@ -48,12 +54,67 @@ public class PropertyBinding extends BindingBase {
         }
     }
 
+    /**
+     * Moves this binding to another subject of the same class, reusing the resolved {@link PropertyInfo} and the change
+     * stream observers are already subscribed to.
+     *
+     * @return false if the subject can't be reused and the binding has to be recreated
+     */
+    @Override
+    public boolean repoint(Object subject) {
+        Object current = getSubject();
+        if (subject == null || current == null || subject.getClass() != current.getClass()) {
+            return false;
+        }
+        if (subject == current && !mDetached) {
+            return true;
+        }
+
+        if (mMemberDisposable != null) {
+            mMemberDisposable.dispose();
+            mMemberDisposable = null;
+        }
+        mDetached = false;
+        setSubject(subject);
+        setupBinding(subject, mPropertyInfo.getPropertyName(), mNeedChangesIfPossible);
+        return true;
+    }
+
+    /**
+     * Stops observing the subject until the next {@link #repoint(Object)}. The subject is kept, so the binding can be
+     * re-pointed to an object of its class.
+     */
+    @Override
+    public void detach() {
+        if (mMemberDisposable != null) {
+            mMemberDisposable.dispose();
+            mMemberDisposable = null;
+        }
+        mDetached = true;
+    }
+
     protected PropertyInfo getInfo() {
         return mPropertyInfo;
     }
 
+    /**
+     * Primitive properties are read and passed on unboxed, see {@link #notifyPrimitiveChange(long)}.
+     */
     protected void onBoundPropertyChanged() {
-        notifyChange(getValue());
+        Class<?> type = isPrimitive() ? getType() : null;
+        if (type == int.class) {
+            notifyPrimitiveChange(getInt());
+        } else if (type == long.class) {
+            notifyPrimitiveChange(getLong());
+        } else if (type == float.class) {
+            notifyPrimitiveChange(Float.floatToIntBits(getFloat()));
+        } else if (type == double.class) {
+            notifyPrimitiveChange(Double.doubleToLongBits(getDouble()));
+        } else if (type == boolean.class) {
+            notifyPrimitiveChange(getBoolean() ? 1 : 0);
+        } else {
+            notifyChange(getValue());
+        }
     }
 
     @Override
@@ -75,7 +136,12 @@ public class PropertyBinding extends BindingBase {
     @Override
     public void setValue(Object value) {
         if (mPropertyInfo.isCanWrite()) {
-            mPropertyInfo.setValue(getSubject(), value);
+            beginApplying(value);
+            try {
+                mPropertyInfo.setValue(getSubject(), value);
+            } finally {
+                endApplying();
+            }
         } else {
             if (mPropertyInfo.isCanRead()) {
                 getLogger().warning(
@@ -87,10 +153,115 @@ public class PropertyBinding extends BindingBase {
         }
     }
 
+    @Override
+    public boolean isPrimitive() {
+        return mPropertyInfo.isPrimitive() && mPropertyInfo.isCanRead();
+    }
+
+    @Override
+    public int getInt() {
+        return mPropertyInfo.getInt(getSubject());
+    }
+
+    @Override
+    public void setInt(int value) {
+        if (!mPropertyInfo.isCanWrite()) {
+            setValue(value);
+            return;
+        }
+        beginApplyingPrimitive(value);
+        try {
+            mPropertyInfo.setInt(getSubject(), value);
+        } finally {
+            endApplying();
+        }
+    }
+
+    @Override
+    public long getLong() {
+        return mPropertyInfo.getLong(getSubject());
+    }
+
+    @Override
+    public void setLong(long value) {
+        if (!mPropertyInfo.isCanWrite()) {
+            setValue(value);
+            return;
+        }
+        beginApplyingPrimitive(value);
+        try {
+            mPropertyInfo.setLong(getSubject(), value);
+        } finally {
+            endApplying();
+        }
+    }
+
+    @Override
+    public float getFloat() {
+        return mPropertyInfo.getFloat(getSubject());
+    }
+
+    @Override
+    public void setFloat(float value) {
+        if (!mPropertyInfo.isCanWrite()) {
+            setValue(value);
+            return;
+        }
+        beginApplyingPrimitive(Float.floatToIntBits(value));
+        try {
+            mPropertyInfo.setFloat(getSubject(), value);
+        } finally {
+            endApplying();
+        }
+    }
+
+    @Override
+    public double getDouble() {
+        return mPropertyInfo.getDouble(getSubject());
+    }
+
+    @Override
+    public void setDouble(double value) {
+        if (!mPropertyInfo.isCanWrite()) {
+            setValue(value);
+            return;
+        }
+        beginApplyingPrimitive(Double.doubleToLongBits(value));
+        try {
+            mPropertyInfo.setDouble(getSubject(), value);
+        } finally {
+            endApplying();
+        }
+    }
+
+    @Override
+    public boolean getBoolean() {
+        return mPropertyInfo.getBoolean(getSubject());
+    }
+
+    @Override
+    public void setBoolean(boolean value) {
+        if (!mPropertyInfo.isCanWrite()) {
+            setValue(value);
+            return;
+        }
+        beginApplyingPrimitive(value ? 1 : 0);
+        try {
+            mPropertyInfo.setBoolean(getSubject(), value);
+        } finally {
+            endApplying();
+        }
+    }
+
     @Override
     public void addValue(Object object) {
         if (mPropertyInfo.isCanAdd()) {
-            mPropertyInfo.addValue(getSubject(), object);
+            beginApplying(ANY_VALUE);
+            try {
+                mPropertyInfo.addValue(getSubject(), object);
+            } finally {
+                endApplying();
+            }
         } else {
             if (mPropertyInfo.isCanRead()) {
                 getLogger().warning(
@@ -105,7 +276,12 @@ public class PropertyBinding extends BindingBase {
     @Override
     public void removeValue(Object result) {
         if (mPropertyInfo.isCanRemove()) {
-            mPropertyInfo.removeValue(getSubject(), result);
+            beginApplying(ANY_VALUE);
+            try {
+                mPropertyInfo.removeValue(getSubject(), result);
+            } finally {
+                endApplying();
+            }
         } else {
             if (mPropertyInfo.isCanRead()) {
                 getLogger().warning(
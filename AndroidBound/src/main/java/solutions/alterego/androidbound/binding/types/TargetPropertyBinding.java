@@ -1,95 +1,160 @@
 package solutions.alterego.androidbound.binding.types;
 
+import android.os.Handler;
+import android.os.Looper;
+
+import java.util.concurrent.atomic.AtomicLong;
+
 import io.reactivex.android.schedulers.AndroidSchedulers;
 import solutions.alterego.androidbound.interfaces.ILogger;
 
+/**
+ * Property binding on a view. Writes are posted to the main thread; the echo a posted write raises is dropped by
+ * {@link BindingBase}, and a posted value that was overtaken by a newer one before it ran is skipped. Value writes
+ * share a single pending slot and runnable, so a burst of them posts once and allocates nothing per value.
+ */
 public class TargetPropertyBinding extends PropertyBinding {
 
-    private UpdatingState currentState = UpdatingState.None;
+    private static final Handler MAIN_THREAD = new Handler(Looper.getMainLooper());
+
+    private final AtomicLong mValueVersion = new AtomicLong();
+
+    private final Object mPendingLock = new Object();
+
+    private Class<?> mPendingType;
+
+    private long mPendingBits;
+
+    private double mPendingReal;
+
+    private Object mPendingValue;
+
+    private long mPendingVersion;
+
+    private boolean mPendingPosted;
+
+    private final Runnable mApplyPending = new Runnable() {
+        @Override
+        public void run() {
+            Class<?> type;
+            long bits;
+            double real;
+            Object value;
+            long version;
+            synchronized (mPendingLock) {
+                type = mPendingType;
+                bits = mPendingBits;
+                real = mPendingReal;
+                value = mPendingValue;
+                version = mPendingVersion;
+                mPendingValue = null;
+                mPendingPosted = false;
+            }
+            if (getSubject() == null || version != mValueVersion.get()) {
+                return;
+            }
 
-    private String propertyName;
+            if (type == Object.class) {
+                TargetPropertyBinding.super.setValue(value);
+            } else if (type == int.class) {
+                TargetPropertyBinding.super.setInt((int) bits);
+            } else if (type == long.class) {
+                TargetPropertyBinding.super.setLong(bits);
+            } else if (type == float.class) {
+                TargetPropertyBinding.super.setFloat((float) real);
+            } else if (type == double.class) {
+                TargetPropertyBinding.super.setDouble(real);
+            } else if (type == boolean.class) {
+                TargetPropertyBinding.super.setBoolean(bits != 0);
+            }
+        }
+    };
+
+    private final String mChangeMessage;
 
     public TargetPropertyBinding(Object subject, String propertyName, boolean needChangesIfPossible, ILogger logger) {
         super(subject, propertyName, needChangesIfPossible, logger);
-        this.propertyName = propertyName;
+        mChangeMessage = "Raising change notification for " + propertyName;
+        holdSubjectWeakly();
     }
 
     @Override
-    public void setValue(final Object value) {
-        if (currentState != UpdatingState.None) {
-            return;
-        }
+    public void setValue(Object value) {
+        postPending(Object.class, 0, 0, value);
+    }
 
-        getLogger().verbose("Receiving set state for type" + (value != null ? value.getClass() : "<null>"));
-        try {
-            currentState = UpdatingState.UpdatingTarget;
-            AndroidSchedulers.mainThread().createWorker().schedule(new Runnable() {
-                @Override
-                public void run() {
-                    TargetPropertyBinding.super.setValue(value);
-                }
-            });
-        } finally {
-            currentState = UpdatingState.None;
-        }
+    @Override
+    public void setInt(int value) {
+        postPending(int.class, value, 0, null);
     }
 
     @Override
-    public void addValue(final Object value) {
-        if (currentState != UpdatingState.None) {
-            return;
-        }
+    public void setLong(long value) {
+        postPending(long.class, value, 0, null);
+    }
 
-        getLogger().verbose("Receiving set state for type" + (value != null ? value.getClass() : "<null>"));
-        try {
-            currentState = UpdatingState.UpdatingTarget;
-            AndroidSchedulers.mainThread().createWorker().schedule(new Runnable() {
-                @Override
-                public void run() {
-                    TargetPropertyBinding.super.addValue(value);
-                }
-            });
-        } finally {
-            currentState = UpdatingState.None;
-        }
+    @Override
+    public void setFloat(float value) {
+        postPending(float.class, 0, value, null);
     }
 
     @Override
-    public void removeValue(final Object value) {
-        if (currentState != UpdatingState.None) {
-            return;
-        }
+    public void setDouble(double value) {
+        postPending(double.class, 0, value, null);
+    }
 
-        getLogger().verbose("Receiving set state for type" + (value != null ? value.getClass() : "<null>"));
-        try {
-            currentState = UpdatingState.UpdatingTarget;
-            AndroidSchedulers.mainThread().createWorker().schedule(new Runnable() {
-                @Override
-                public void run() {
-                    TargetPropertyBinding.super.removeValue(value);
-                }
-            });
-        } finally {
-            currentState = UpdatingState.None;
+    @Override
+    public void setBoolean(boolean value) {
+        postPending(boolean.class, value ? 1 : 0, 0, null);
+    }
+
+    private void postPending(Class<?> type, long bits, double real, Object value) {
+        boolean post;
+        synchronized (mPendingLock) {
+            mPendingType = type;
+            mPendingBits = bits;
+            mPendingReal = real;
+            mPendingValue = value;
+            mPendingVersion = mValueVersion.incrementAndGet();
+            post = !mPendingPosted;
+            mPendingPosted = true;
+        }
+        if (post) {
+            MAIN_THREAD.post(mApplyPending);
         }
     }
 
     @Override
-    protected void onBoundPropertyChanged() {
-        if (currentState != UpdatingState.None) {
-            return;
-        }
+    public void addValue(final Object value) {
+        getLogger().verbose("Receiving add state for type" + (value != null ? value.getClass() : "<null>"));
+        AndroidSchedulers.mainThread().createWorker().schedule(new Runnable() {
+            @Override
+            public void run() {
+                if (getSubject() == null) {
+                    return;
+                }
+                TargetPropertyBinding.super.addValue(value);
+            }
+        });
+    }
 
-        getLogger().verbose("Raising change notification for " + propertyName);
-        try {
-            currentState = UpdatingState.UpdatingSource;
-            super.onBoundPropertyChanged();
-        } finally {
-            currentState = UpdatingState.None;
-        }
+    @Override
+    public void removeValue(final Object value) {
+        getLogger().verbose("Receiving remove state for type" + (value != null ? value.getClass() : "<null>"));
+        AndroidSchedulers.mainThread().createWorker().schedule(new Runnable() {
+            @Override
+            public void run() {
+                if (getSubject() == null) {
+                    return;
+                }
+                TargetPropertyBinding.super.removeValue(value);
+            }
+        });
     }
 
-    private enum UpdatingState {
-        None, UpdatingSource, UpdatingTarget
+    @Override
+    protected void onBoundPropertyChanged() {
+        getLogger().verbose(mChangeMessage);
+        super.onBoundPropertyChanged();
     }
 }
@@ -18,6 +18,8 @@ public class DefaultConverter implements IValueConverter {
 
     private static final Map<String, Method> converters = new HashMap<String, Method>();
 
+    private static final Map<Class<?>, Class<?>> wrappers = new HashMap<Class<?>, Class<?>>();
+
     @Override
     public String getBindingName() {
         return "DefaultConverter";
@@ -34,6 +36,15 @@ public class DefaultConverter implements IValueConverter {
     }
 
     static {
+        wrappers.put(boolean.class, Boolean.class);
+        wrappers.put(byte.class, Byte.class);
+        wrappers.put(short.class, Short.class);
+        wrappers.put(char.class, Character.class);
+        wrappers.put(int.class, Integer.class);
+        wrappers.put(long.class, Long.class);
+        wrappers.put(float.class, Float.class);
+        wrappers.put(double.class, Double.class);
+
         Method[] methods = DefaultConverter.class.getDeclaredMethods();
         for (Method method : methods) {
             if (method.getParameterTypes().length == 1) {
@@ -52,6 +63,10 @@ public class DefaultConverter implements IValueConverter {
             return from; //to.cast(from);
         }
 
+        if (to.isPrimitive() && wrappers.get(to) == from.getClass()) {
+            return from; //already boxed as the primitive type, unboxing would only box it again
+        }
+
         String converterId = from.getClass().getName() + "_" + to.getName();
         Method converter = converters.get(converterId);
         if (converter == null) {
@@ -0,0 +1,148 @@
+package solutions.alterego.androidbound.converters;
+
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import solutions.alterego.androidbound.converters.interfaces.IPureValueConverter;
+import solutions.alterego.androidbound.converters.interfaces.IValueConverter;
+
+/**
+ * Keeps the last {@code maxSize} results of a {@link IPureValueConverter}, keyed by value, target type, parameter and locale.
+ * {@link #convertBack} is not cached.
+ */
+public class MemoizingValueConverter implements IValueConverter {
+
+    private static final Object NULL_RESULT = new Object();
+
+    private final IPureValueConverter mConverter;
+
+    private final Map<Key, Object> mResults;
+
+    private final AtomicLong mHits = new AtomicLong();
+
+    private final AtomicLong mMisses = new AtomicLong();
+
+    public MemoizingValueConverter(IPureValueConverter converter, final int maxSize) {
+        mConverter = converter;
+        mResults = new LinkedHashMap<Key, Object>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Object> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    @Override
+    public String getBindingName() {
+        return mConverter.getBindingName();
+    }
+
+    @Override
+    public Object convert(Object value, Class<?> targetType, Object param, Locale locale) {
+        Key key = new Key(value, targetType, param, locale);
+        Object result;
+        synchronized (mResults) {
+            result = mResults.get(key);
+        }
+
+        if (result != null) {
+            mHits.incrementAndGet();
+            return result == NULL_RESULT ? null : result;
+        }
+
+        mMisses.incrementAndGet();
+        result = mConverter.convert(value, targetType, param, locale);
+        synchronized (mResults) {
+            mResults.put(key, result == null ? NULL_RESULT : result);
+        }
+        return result;
+    }
+
+    @Override
+    public Object convertBack(Object value, Class<?> targetType, Object param, Locale locale) {
+        return mConverter.convertBack(value, targetType, param, locale);
+    }
+
+    public IPureValueConverter getConverter() {
+        return mConverter;
+    }
+
+    public long getHits() {
+        return mHits.get();
+    }
+
+    public long getMisses() {
+        return mMisses.get();
+    }
+
+    public float getHitRate() {
+        long hits = mHits.get();
+        long total = hits + mMisses.get();
+        return total == 0 ? 0f : (float) hits / total;
+    }
+
+    /**
+     * Drops the cached results, e.g. after a configuration change made them stale. The statistics are kept.
+     */
+    public void clear() {
+        synchronized (mResults) {
+            mResults.clear();
+        }
+    }
+
+    private static final class Key {
+
+        private final Object mValue;
+
+        private final Class<?> mTargetType;
+
+        private final Object mParam;
+
+        private final Locale mLocale;
+
+        private final int mHashCode;
+
+        Key(Object value, Class<?> targetType, Object param, Locale locale) {
+            mValue = value;
+            mTargetType = targetType;
+            mParam = param;
+            mLocale = locale;
+
+            int hashCode = hashCode(value);
+            hashCode = 31 * hashCode + hashCode(targetType);
+            hashCode = 31 * hashCode + hashCode(param);
+            mHashCode = 31 * hashCode + hashCode(locale);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) o;
+            return mHashCode == other.mHashCode
+                    && equal(mValue, other.mValue)
+                    && mTargetType == other.mTargetType
+                    && equal(mParam, other.mParam)
+                    && equal(mLocale, other.mLocale);
+        }
+
+        @Override
+        public int hashCode() {
+            return mHashCode;
+        }
+
+        private static int hashCode(Object object) {
+            return object == null ? 0 : object.hashCode();
+        }
+
+        private static boolean equal(Object a, Object b) {
+            return a == null ? b == null : a.equals(b);
+        }
+    }
+}
@@ -3,6 +3,8 @@ package solutions.alterego.androidbound.converters;
 import java.util.HashMap;
 import java.util.Map;
 
+import solutions.alterego.androidbound.converters.interfaces.IMultiValueConverter;
+import solutions.alterego.androidbound.converters.interfaces.IPureValueConverter;
 import solutions.alterego.androidbound.converters.interfaces.IValueConverter;
 import solutions.alterego.androidbound.converters.interfaces.IValueConverterProvider;
 import solutions.alterego.androidbound.interfaces.ILogger;
@@ -10,8 +12,12 @@ import solutions.alterego.androidbound.interfaces.INeedsLogger;
 
 public class ValueConverterService implements IValueConverterProvider, INeedsLogger {
 
+    public static final int MEMOIZED_RESULTS_PER_CONVERTER = 64;
+
     Map<String, IValueConverter> converters = new HashMap<String, IValueConverter>();
 
+    Map<String, IMultiValueConverter> multiConverters = new HashMap<String, IMultiValueConverter>();
+
     private ILogger logger;
 
     public ValueConverterService(ILogger logger) {
@@ -20,6 +26,9 @@ public class ValueConverterService implements IValueConverterProvider, INeedsLog
 
     public void registerConverter(IValueConverter converter) {
         logger.debug("Registering converter " + converter.getBindingName());
+        if (converter instanceof IPureValueConverter) {
+            converter = new MemoizingValueConverter((IPureValueConverter) converter, MEMOIZED_RESULTS_PER_CONVERTER);
+        }
         converters.put(converter.getBindingName(), converter);
     }
 
@@ -32,6 +41,29 @@ public class ValueConverterService implements IValueConverterProvider, INeedsLog
         return DefaultConverter.instance;
     }
 
+    public void registerMultiConverter(IMultiValueConverter converter) {
+        logger.debug("Registering multi converter " + converter.getBindingName());
+        multiConverters.put(converter.getBindingName(), converter);
+    }
+
+    public IMultiValueConverter findMultiConverter(String name) {
+        if (name == null) {
+            return null;
+        }
+        return multiConverters.get(name);
+    }
+
+    public void clearConverterCaches() {
+        for (IValueConverter converter : converters.values()) {
+            if (converter instanceof MemoizingValueConverter) {
+                MemoizingValueConverter memoizing = (MemoizingValueConverter) converter;
+                logger.debug("Clearing converter " + memoizing.getBindingName() + ", hit rate = " + memoizing.getHitRate()
+                        + " (" + memoizing.getHits() + " hits, " + memoizing.getMisses() + " misses)");
+                memoizing.clear();
+            }
+        }
+    }
+
     public void setLogger(ILogger logger) {
         this.logger = logger.getLogger(this);
     }
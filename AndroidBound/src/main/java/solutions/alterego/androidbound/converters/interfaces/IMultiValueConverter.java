@@ -0,0 +1,14 @@
+package solutions.alterego.androidbound.converters.interfaces;
+
+import java.util.Locale;
+
+/**
+ * Converter of a multi-source binding like {@code {Text @= FullName(FirstName, LastName)}}; the values are passed in
+ * the order their sources are listed in the binding.
+ */
+public interface IMultiValueConverter {
+
+    String getBindingName();
+
+    Object convert(Object[] values, Class<?> targetType, Object param, Locale locale);
+}
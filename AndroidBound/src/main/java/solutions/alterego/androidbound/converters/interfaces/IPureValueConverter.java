@@ -0,0 +1,9 @@
+package solutions.alterego.androidbound.converters.interfaces;
+
+/**
+ * Marks a converter whose {@link #convert} result only depends on its arguments. {@link solutions.alterego.androidbound.converters.ValueConverterService}
+ * caches the results of such converters, so the values and parameters they get should be immutable.
+ */
+public interface IPureValueConverter extends IValueConverter {
+
+}
@@ -5,4 +5,16 @@ public interface IValueConverterProvider {
     void registerConverter(IValueConverter converter);
 
     IValueConverter findConverter(String name);
+
+    void registerMultiConverter(IMultiValueConverter converter);
+
+    /**
+     * @return the multi-value converter registered with this name, or null if there is none
+     */
+    IMultiValueConverter findMultiConverter(String name);
+
+    /**
+     * Drops the cached results of the {@link IPureValueConverter}s, e.g. when the configuration changes.
+     */
+    void clearConverterCaches();
 }
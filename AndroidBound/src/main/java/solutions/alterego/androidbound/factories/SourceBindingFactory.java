@@ -3,9 +3,11 @@ package solutions.alterego.androidbound.factories;
 import java.util.Arrays;
 import java.util.List;
 
+import solutions.alterego.androidbound.binding.data.ObservableMap;
 import solutions.alterego.androidbound.binding.interfaces.IBinding;
 import solutions.alterego.androidbound.binding.types.ChainedBinding;
 import solutions.alterego.androidbound.binding.types.CommandBinding;
+import solutions.alterego.androidbound.binding.types.MapEntryBinding;
 import solutions.alterego.androidbound.binding.types.PropertyBinding;
 import solutions.alterego.androidbound.binding.types.SelfBinding;
 import solutions.alterego.androidbound.interfaces.ILogger;
@@ -38,6 +40,8 @@ public class SourceBindingFactory implements IBindingFactory {
     protected IBinding createLeaf(Object source, String property, boolean needChangesIfPossible) {
         if (property.equals("this")) {
             return new SelfBinding(source, mLogger);
+        } else if (source instanceof ObservableMap) {
+            return new MapEntryBinding((ObservableMap<?, ?>) source, property, needChangesIfPossible, mLogger);
         } else if (CommandBinding.isCommand(source, property)) {
             return new CommandBinding(source, property, mLogger);
         } else {
@@ -9,14 +9,20 @@ import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
 
 import io.reactivex.functions.Predicate;
 import solutions.alterego.androidbound.helpers.reflector.CommandInfo;
 import solutions.alterego.androidbound.helpers.reflector.ConstructorInfo;
 import solutions.alterego.androidbound.helpers.reflector.FieldInfo;
+import solutions.alterego.androidbound.helpers.reflector.MetadataStore;
+import solutions.alterego.androidbound.helpers.reflector.MetadataStore.Role;
 import solutions.alterego.androidbound.helpers.reflector.MethodInfo;
 import solutions.alterego.androidbound.helpers.reflector.PropertyInfo;
 import solutions.alterego.androidbound.interfaces.ILogger;
@@ -52,6 +58,14 @@ public class Reflector {
 
     private static SparseArray<SparseArray<FieldInfo>> mObjectFields = new SparseArray<SparseArray<FieldInfo>>();
 
+    private static volatile MetadataStore mMetadataStore;
+
+    private static Map<Class<?>, FutureTask<SparseArray<List<MethodInfo>>>> mMethodsInProgress
+            = new HashMap<Class<?>, FutureTask<SparseArray<List<MethodInfo>>>>();
+
+    private static Map<Class<?>, FutureTask<SparseArray<FieldInfo>>> mFieldsInProgress
+            = new HashMap<Class<?>, FutureTask<SparseArray<FieldInfo>>>();
+
     public static boolean isCommand(Class<?> type, String name) {
         return Iterables.from(getMethods(type, COMMAND_PREFIX_DO + name))
                 .filter(new Predicate<MethodInfo>() {
@@ -112,32 +126,90 @@ public class Reflector {
             return propertyInfo;
         }
 
-        //first we look for getters with prefix "get", if null then with prefix "is"
-        propertyGetter = findGetterWithGetPrefix(type, name);
-        if (propertyGetter == null) {
-            propertyGetter = findGetterWithIsPrefix(type, name);
+        MetadataStore metadataStore = mMetadataStore;
+        if (metadataStore != null) {
+            propertyInfo = getRecordedProperty(metadataStore, type, name, logger);
         }
 
-        if (propertyGetter == null) {
-            propertyGetter = findGetterWithPrefix(type, PROPERTY_PREFIX_ADD, name);
+        if (propertyInfo == null) {
+            //first we look for getters with prefix "get", if null then with prefix "is"
+            propertyGetter = findGetterWithGetPrefix(type, name);
+            if (propertyGetter == null) {
+                propertyGetter = findGetterWithIsPrefix(type, name);
+            }
+
+            if (propertyGetter == null) {
+                propertyGetter = findGetterWithPrefix(type, PROPERTY_PREFIX_ADD, name);
+            }
+
+            if (propertyGetter == null) {
+                propertyGetter = findGetterWithPrefix(type, PROPERTY_PREFIX_REMOVE, name);
+            }
+
+            //if the getter is not null, then we look for the setter; if it is null, we bind directly to the variable
+            if (propertyGetter != null) {
+                propertySetter = findSetter(type, name, propertyGetter);
+                propertyAdd = findAddMethods(type, name, propertyGetter);
+                propertyRemove = findRemoveMethods(type, name, propertyGetter);
+            } else {
+                propertyField = Reflector.getField(type, name);
+            }
+
+            propertyInfo = createProperty(type, name, propertyGetter, propertySetter, propertyAdd, propertyRemove, propertyField, logger);
+
+            if (metadataStore != null) {
+                metadataStore.recordProperty(type, name, original(propertyGetter), original(propertySetter), original(propertyAdd),
+                        original(propertyRemove), propertyField != null ? propertyField.getFieldOriginal() : null);
+            }
         }
 
-        if (propertyGetter == null) {
-            propertyGetter = findGetterWithPrefix(type, PROPERTY_PREFIX_REMOVE, name);
+        synchronized (mSynchronizedObject) {
+            SparseArray<PropertyInfo> sa = mObjectProperties.get(typeCode);
+            if (sa != null) {
+                sa = cloneSparseArray(sa);
+            } else {
+                sa = new SparseArray<PropertyInfo>();
+            }
+            sa.put(nameCode, propertyInfo);
+            mObjectProperties.put(typeCode, sa);
         }
 
-        //if the getter is not null, then we look for the setter; if it is null, we bind directly to the variable
-        if (propertyGetter != null) {
-            propertySetter = findSetter(type, name, propertyGetter);
-            propertyAdd = findAddMethods(type, name, propertyGetter);
-            propertyRemove = findRemoveMethods(type, name, propertyGetter);
-        } else {
-            propertyField = Reflector.getField(type, name);
+        return propertyInfo;
+
+    }
+
+    /**
+     * Registers a property resolved at build time, so {@link #getProperty(Class, String, ILogger)} doesn't have to look it up.
+     */
+    public static void registerProperty(Class<?> type, PropertyInfo propertyInfo) {
+        int typeCode = type.hashCode();
+        int nameCode = propertyInfo.getPropertyName().hashCode();
+
+        synchronized (mSynchronizedObject) {
+            SparseArray<PropertyInfo> sa = mObjectProperties.get(typeCode);
+            if (sa != null) {
+                sa = cloneSparseArray(sa);
+            } else {
+                sa = new SparseArray<PropertyInfo>();
+            }
+            sa.put(nameCode, propertyInfo);
+            mObjectProperties.put(typeCode, sa);
         }
+    }
 
+    /**
+     * Lets {@link #getProperty(Class, String, ILogger)} and {@link #getCommand(Class, String)} fetch the members resolved by
+     * a previous process start directly, and record the ones they resolve now. Null turns it off.
+     */
+    public static void setMetadataStore(MetadataStore metadataStore) {
+        mMetadataStore = metadataStore;
+    }
+
+    private static PropertyInfo createProperty(Class<?> type, String name, MethodInfo propertyGetter, MethodInfo propertySetter,
+            MethodInfo propertyAdd, MethodInfo propertyRemove, FieldInfo propertyField, ILogger logger) {
         boolean isMap = Map.class.isAssignableFrom(type);
 
-        propertyInfo = new PropertyInfo(name,
+        return new PropertyInfo(name,
                 propertyGetter != null || propertyField != null || isMap,
                 propertySetter != null || propertyField != null || isMap,
                 propertyAdd != null,
@@ -150,20 +222,45 @@ public class Reflector {
                 propertyRemove,
                 propertyField,
                 logger);
+    }
 
-        synchronized (mSynchronizedObject) {
-            SparseArray<PropertyInfo> sa = mObjectProperties.get(typeCode);
-            if (sa != null) {
-                sa = cloneSparseArray(sa);
-            } else {
-                sa = new SparseArray<PropertyInfo>();
+    private static PropertyInfo getRecordedProperty(MetadataStore metadataStore, Class<?> type, String name, ILogger logger) {
+        MetadataStore.Member member = metadataStore.findProperty(type, name);
+        if (member == null || member.isEmpty()) {
+            return null;
+        }
+
+        try {
+            FieldInfo propertyField = null;
+            if (member.has(Role.Field)) {
+                Field field = member.field(type);
+                field.setAccessible(true);
+                propertyField = new FieldInfo(field);
             }
-            sa.put(nameCode, propertyInfo);
-            mObjectProperties.put(typeCode, sa);
+            return createProperty(type, name, getRecordedMethod(member, type, Role.Getter), getRecordedMethod(member, type, Role.Setter),
+                    getRecordedMethod(member, type, Role.Adder), getRecordedMethod(member, type, Role.Remover), propertyField, logger);
+        } catch (Exception e) {
+            // the class changed without the build changing, scan it like there was no record
+            return null;
         }
+    }
 
-        return propertyInfo;
+    private static MethodInfo getRecordedMethod(MetadataStore.Member member, Class<?> type, Role role) throws Exception {
+        if (!member.has(role)) {
+            return null;
+        }
+
+        Method method = member.method(type, role);
+        method.setAccessible(true);
+        MethodInfo methodInfo = MethodInfo.getMethodInfo(method);
+        if (methodInfo == MethodInfo.EMPTY) {
+            throw new NoSuchMethodException(method.toString());
+        }
+        return methodInfo;
+    }
 
+    private static Method original(MethodInfo methodInfo) {
+        return methodInfo != null ? methodInfo.getOriginalMethod() : null;
     }
 
     private static MethodInfo findGetterWithIsPrefix(Class<?> type, String name) {
@@ -255,40 +352,51 @@ public class Reflector {
             return retval;
         }
 
-        MethodInfo invoker = null;
-        MethodInfo checker = null;
-        Class<?> invokerParameterType = null;
-        Class<?> checkerParameterType = null;
+        MetadataStore metadataStore = mMetadataStore;
+        if (metadataStore != null) {
+            retval = getRecordedCommand(metadataStore, type, name);
+        }
+
+        if (retval == null) {
+            MethodInfo invoker = null;
+            MethodInfo checker = null;
+            Class<?> invokerParameterType = null;
+            Class<?> checkerParameterType = null;
 
-        List<MethodInfo> invokers = getMethods(type, COMMAND_PREFIX_DO + name);
-        if (invokers != null) {
-            for (MethodInfo mi : invokers) {
-                if (mi.getMethodParameterCount() <= 2) {
-                    invoker = mi;
-                    if (mi.getMethodParameterCount() > 0) {
-                        invokerParameterType = mi.getMethodParameterTypes()[0];
+            List<MethodInfo> invokers = getMethods(type, COMMAND_PREFIX_DO + name);
+            if (invokers != null) {
+                for (MethodInfo mi : invokers) {
+                    if (mi.getMethodParameterCount() <= 2) {
+                        invoker = mi;
+                        if (mi.getMethodParameterCount() > 0) {
+                            invokerParameterType = mi.getMethodParameterTypes()[0];
+                        }
+                        break;
                     }
-                    break;
                 }
             }
-        }
 
-        if (invoker != null) {
-            List<MethodInfo> checkers = getMethods(type, COMMAND_PREFIX_CAN + name);
-            if (checkers != null) {
-                for (MethodInfo mi : checkers) {
-                    if (mi.getMethodParameterCount() <= 1 && mi.getMethodReturnType() == boolean.class) {
-                        checker = mi;
-                        if (mi.getMethodParameterCount() > 0) {
-                            checkerParameterType = mi.getMethodParameterTypes()[0];
+            if (invoker != null) {
+                List<MethodInfo> checkers = getMethods(type, COMMAND_PREFIX_CAN + name);
+                if (checkers != null) {
+                    for (MethodInfo mi : checkers) {
+                        if (mi.getMethodParameterCount() <= 1 && mi.getMethodReturnType() == boolean.class) {
+                            checker = mi;
+                            if (mi.getMethodParameterCount() > 0) {
+                                checkerParameterType = mi.getMethodParameterTypes()[0];
+                            }
+                            break;
                         }
-                        break;
                     }
                 }
             }
-        }
 
-        retval = new CommandInfo(name, invokerParameterType, checkerParameterType, invoker, checker);
+            retval = new CommandInfo(name, invokerParameterType, checkerParameterType, invoker, checker);
+
+            if (metadataStore != null) {
+                metadataStore.recordCommand(type, name, original(invoker), original(checker));
+            }
+        }
 
         synchronized (mSynchronizedObject) {
             SparseArray<CommandInfo> sa = mObjectCommands.get(typeCode);
@@ -306,48 +414,116 @@ public class Reflector {
         return retval;
     }
 
-    public static SparseArray<FieldInfo> getAllFields(Class<?> type) {
-        int typeCode = type.hashCode();
-        SparseArray<FieldInfo> retval = null;
-
-        synchronized (mSynchronizedObject) {
-            retval = mObjectFields.get(typeCode);
+    private static CommandInfo getRecordedCommand(MetadataStore metadataStore, Class<?> type, String name) {
+        MetadataStore.Member member = metadataStore.findCommand(type, name);
+        if (member == null) {
+            return null;
         }
 
-        if (retval != null) {
-            return retval;
+        try {
+            MethodInfo invoker = getRecordedMethod(member, type, Role.Invoker);
+            MethodInfo checker = getRecordedMethod(member, type, Role.Checker);
+            return new CommandInfo(name,
+                    invoker != null && invoker.getMethodParameterCount() > 0 ? invoker.getMethodParameterTypes()[0] : null,
+                    checker != null && checker.getMethodParameterCount() > 0 ? checker.getMethodParameterTypes()[0] : null,
+                    invoker,
+                    checker);
+        } catch (Exception e) {
+            return null;
         }
+    }
 
-        retval = getFieldsForClass(type);
-
-        synchronized (mSynchronizedObject) {
-            mObjectFields.put(typeCode, retval);
-        }
+    public static SparseArray<FieldInfo> getAllFields(final Class<?> type) {
+        return computeOnce(type, mObjectFields, mFieldsInProgress, new Callable<SparseArray<FieldInfo>>() {
+            @Override
+            public SparseArray<FieldInfo> call() throws Exception {
+                return getFieldsForClass(type);
+            }
+        });
+    }
 
-        return retval;
+    public static SparseArray<List<MethodInfo>> getAllMethods(final Class<?> type) {
+        return computeOnce(type, mObjectMethods, mMethodsInProgress, new Callable<SparseArray<List<MethodInfo>>>() {
+            @Override
+            public SparseArray<List<MethodInfo>> call() throws Exception {
+                return getMethodsForClass(type);
+            }
+        });
     }
 
-    public static SparseArray<List<MethodInfo>> getAllMethods(Class<?> type) {
-        int typecode = type.hashCode();
-        SparseArray<List<MethodInfo>> retval = null;
+    /**
+     * Returns the cached value of {@code type}, or computes it. Another thread (usually a prewarm) may be computing the same
+     * type already, the caller then waits for it instead of repeating it.
+     */
+    static <T> T computeOnce(Class<?> type, SparseArray<T> cache, Map<Class<?>, FutureTask<T>> inProgress, Callable<T> computation) {
+        int typeCode = type.hashCode();
+        FutureTask<T> task;
+        boolean owner = false;
 
         synchronized (mSynchronizedObject) {
-            retval = mObjectMethods.get(typecode);
-        }
+            T retval = cache.get(typeCode);
+            if (retval != null) {
+                return retval;
+            }
 
-        if (retval != null) {
-            return retval;
+            task = inProgress.get(type);
+            if (task == null) {
+                task = new FutureTask<T>(computation);
+                inProgress.put(type, task);
+                owner = true;
+            }
         }
 
-        retval = getMethodsForClass(type);
+        if (owner) {
+            task.run();
+        }
 
-        synchronized (mSynchronizedObject) {
-            mObjectMethods.put(typecode, retval);
+        T retval = null;
+        try {
+            retval = getUninterruptibly(task);
+        } finally {
+            if (owner) {
+                synchronized (mSynchronizedObject) {
+                    if (retval != null) {
+                        cache.put(typeCode, retval);
+                    }
+                    inProgress.remove(type);
+                }
+            }
         }
 
         return retval;
     }
 
+    /**
+     * Fills the method and field caches of {@code type}, the scans every property and command lookup starts from, see
+     * {@link solutions.alterego.androidbound.ViewBinder#prewarm(Class[])}. Properties and commands are still only created
+     * for the names the bindings ask for.
+     */
+    public static void prewarm(Class<?> type) {
+        getAllMethods(type);
+        getAllFields(type);
+    }
+
+    private static <T> T getUninterruptibly(FutureTask<T> task) {
+        boolean interrupted = false;
+        try {
+            while (true) {
+                try {
+                    return task.get();
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                } catch (ExecutionException e) {
+                    throw new RuntimeException(e.getCause());
+                }
+            }
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
     public static List<ConstructorInfo> getAllConstructors(Class<?> type) {
         int typecode = type.hashCode();
         List<ConstructorInfo> retval = null;
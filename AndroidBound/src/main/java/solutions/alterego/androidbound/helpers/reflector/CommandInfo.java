@@ -45,49 +45,48 @@ public class CommandInfo {
 
     public boolean check(Object subject, Object parameter) throws IllegalArgumentException,
             IllegalAccessException, InvocationTargetException {
-        if (mCheckerMethod != null) {
-            if (mCheckerHasParameter) {
-                return (boolean) mCheckerMethod.getOriginalMethod().invoke(subject, parameter);
-            } else {
-                return (boolean) mCheckerMethod.getOriginalMethod().invoke(subject);
-            }
-        }
-        return true;
+        return check(subject, null, parameter);
     }
 
-    public boolean check(Object subject, View parameter, Object parameter2) throws IllegalArgumentException,
+    public boolean check(Object subject, View view, Object parameter) throws IllegalArgumentException,
             IllegalAccessException, InvocationTargetException {
         if (mCheckerMethod != null) {
-            if (mCheckerHasParameter) {
-                return (boolean) mCheckerMethod.getOriginalMethod().invoke(subject, parameter, parameter2);
-            } else {
-                return (boolean) mCheckerMethod.getOriginalMethod().invoke(subject);
-            }
+            return (boolean) mCheckerMethod.getOriginalMethod().invoke(subject, arguments(mCheckerMethod, view, parameter));
         }
         return true;
     }
 
-
-    public void invoke(Object subject, Object parameter) throws IllegalArgumentException,
+    /**
+     * Returns what the invoker returned, the {@link io.reactivex.Completable} or {@link io.reactivex.Single} of an async command.
+     */
+    public Object invoke(Object subject, Object parameter) throws IllegalArgumentException,
             IllegalAccessException, InvocationTargetException {
-        if (mInvokerMethod != null) {
-            if (mInvokerHasParameter) {
-                mInvokerMethod.getOriginalMethod().invoke(subject, parameter);
-            } else {
-                mInvokerMethod.getOriginalMethod().invoke(subject);
-            }
-        }
+        return invoke(subject, null, parameter);
     }
 
-    public void invoke(Object subject, View parameter, Object parameter2) throws IllegalArgumentException,
+    public Object invoke(Object subject, View view, Object parameter) throws IllegalArgumentException,
             IllegalAccessException, InvocationTargetException {
         if (mInvokerMethod != null) {
-            if (mInvokerHasParameter) {
-                mInvokerMethod.getOriginalMethod().invoke(subject, parameter, parameter2);
-            } else {
-                mInvokerMethod.getOriginalMethod().invoke(subject);
-            }
+            return mInvokerMethod.getOriginalMethod().invoke(subject, arguments(mInvokerMethod, view, parameter));
         }
+        return null;
     }
 
+    /**
+     * A single parameter gets the command parameter, null included. The view goes in instead when the method takes a
+     * {@link View} and the parameter is null or doesn't fit, so an {@code Object} parameter still gets null.
+     */
+    private static Object[] arguments(MethodInfo method, View view, Object parameter) {
+        switch (method.getMethodParameterCount()) {
+            case 0:
+                return new Object[0];
+            case 1:
+                Class<?> type = method.getMethodParameterTypes()[0];
+                boolean takesView = type.isInstance(view)
+                        && (parameter != null ? !type.isInstance(parameter) : View.class.isAssignableFrom(type));
+                return new Object[]{takesView ? view : parameter};
+            default:
+                return new Object[]{view, parameter};
+        }
+    }
 }
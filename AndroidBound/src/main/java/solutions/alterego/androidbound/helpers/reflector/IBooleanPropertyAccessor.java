@@ -0,0 +1,6 @@
+package solutions.alterego.androidbound.helpers.reflector;
+
+public interface IBooleanPropertyAccessor extends IPropertyAccessor {
+
+    boolean getBoolean(Object subject);
+}
@@ -0,0 +1,6 @@
+package solutions.alterego.androidbound.helpers.reflector;
+
+public interface IDoublePropertyAccessor extends IPropertyAccessor {
+
+    double getDouble(Object subject);
+}
@@ -0,0 +1,6 @@
+package solutions.alterego.androidbound.helpers.reflector;
+
+public interface IFloatPropertyAccessor extends IPropertyAccessor {
+
+    float getFloat(Object subject);
+}
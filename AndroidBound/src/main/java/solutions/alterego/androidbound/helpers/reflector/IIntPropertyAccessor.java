@@ -0,0 +1,6 @@
+package solutions.alterego.androidbound.helpers.reflector;
+
+public interface IIntPropertyAccessor extends IPropertyAccessor {
+
+    int getInt(Object subject);
+}
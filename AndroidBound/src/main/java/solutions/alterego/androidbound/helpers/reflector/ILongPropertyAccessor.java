@@ -0,0 +1,6 @@
+package solutions.alterego.androidbound.helpers.reflector;
+
+public interface ILongPropertyAccessor extends IPropertyAccessor {
+
+    long getLong(Object subject);
+}
@@ -0,0 +1,11 @@
+package solutions.alterego.androidbound.helpers.reflector;
+
+/**
+ * Direct access to a property, used instead of reflection when the accessor was generated at build time. Writable
+ * properties get an {@link IWritablePropertyAccessor}, primitive ones also the accessor of their type, e.g.
+ * {@link IIntPropertyAccessor}, which reads and writes the value without boxing it.
+ */
+public interface IPropertyAccessor {
+
+    Object get(Object subject);
+}
@@ -0,0 +1,6 @@
+package solutions.alterego.androidbound.helpers.reflector;
+
+public interface IWritableBooleanPropertyAccessor extends IBooleanPropertyAccessor, IWritablePropertyAccessor {
+
+    void setBoolean(Object subject, boolean value);
+}
@@ -0,0 +1,6 @@
+package solutions.alterego.androidbound.helpers.reflector;
+
+public interface IWritableDoublePropertyAccessor extends IDoublePropertyAccessor, IWritablePropertyAccessor {
+
+    void setDouble(Object subject, double value);
+}
@@ -0,0 +1,6 @@
+package solutions.alterego.androidbound.helpers.reflector;
+
+public interface IWritableFloatPropertyAccessor extends IFloatPropertyAccessor, IWritablePropertyAccessor {
+
+    void setFloat(Object subject, float value);
+}
@@ -0,0 +1,6 @@
+package solutions.alterego.androidbound.helpers.reflector;
+
+public interface IWritableIntPropertyAccessor extends IIntPropertyAccessor, IWritablePropertyAccessor {
+
+    void setInt(Object subject, int value);
+}
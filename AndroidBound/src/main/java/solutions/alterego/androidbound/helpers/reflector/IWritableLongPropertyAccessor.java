@@ -0,0 +1,6 @@
+package solutions.alterego.androidbound.helpers.reflector;
+
+public interface IWritableLongPropertyAccessor extends ILongPropertyAccessor, IWritablePropertyAccessor {
+
+    void setLong(Object subject, long value);
+}
@@ -0,0 +1,6 @@
+package solutions.alterego.androidbound.helpers.reflector;
+
+public interface IWritablePropertyAccessor extends IPropertyAccessor {
+
+    void set(Object subject, Object value);
+}
@@ -0,0 +1,326 @@
+package solutions.alterego.androidbound.helpers.reflector;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import io.reactivex.schedulers.Schedulers;
+import lombok.Getter;
+import lombok.experimental.Accessors;
+
+/**
+ * Remembers which members {@link solutions.alterego.androidbound.helpers.Reflector} resolved for a property or a command,
+ * and in which role, so the next process start can fetch exactly those instead of scanning {@code getMethods()} of the class.
+ * <p>
+ * The file is only valid for the app build it was written by: a different version code or install time discards it,
+ * so a debug build that adds a member without raising the version code is scanned again. Members that were not found
+ * are not recorded, a later build may have added them.
+ */
+@Accessors(prefix = "m")
+public class MetadataStore {
+
+    public enum Role {
+        Getter,
+        Setter,
+        Adder,
+        Remover,
+        Field,
+        Invoker,
+        Checker
+    }
+
+    private static final int MAGIC = 0x4142524D;
+
+    private static final int FORMAT_VERSION = 2;
+
+    private static final long SAVE_DELAY_MS = 2000;
+
+    /**
+     * Commands share the namespace of properties, {@code doName} and {@code getName} both being "Name".
+     */
+    private static final String COMMAND_PREFIX = "!";
+
+    private static final Map<String, Class<?>> PRIMITIVES = new HashMap<String, Class<?>>();
+
+    static {
+        for (Class<?> type : new Class<?>[]{boolean.class, byte.class, char.class, short.class, int.class, long.class, float.class,
+                double.class}) {
+            PRIMITIVES.put(type.getName(), type);
+        }
+    }
+
+    private final File mFile;
+
+    @Getter
+    private final long mVersionCode;
+
+    @Getter
+    private final long mLastUpdateTime;
+
+    private final ConcurrentHashMap<String, Map<String, Member>> mMembers = new ConcurrentHashMap<String, Map<String, Member>>();
+
+    private final AtomicBoolean mSaveScheduled = new AtomicBoolean();
+
+    private final Runnable mSave = new Runnable() {
+        @Override
+        public void run() {
+            mSaveScheduled.set(false);
+            try {
+                save();
+            } catch (IOException e) {
+                // the store is only an optimization, the next start scans again
+            }
+        }
+    };
+
+    /**
+     * @param lastUpdateTime when the APK was installed or updated, which changes with every install of a debug build
+     */
+    public MetadataStore(File file, long versionCode, long lastUpdateTime) {
+        mFile = file;
+        mVersionCode = versionCode;
+        mLastUpdateTime = lastUpdateTime;
+    }
+
+    /**
+     * Reads the members recorded by a previous run, returns false when there are none for this build.
+     */
+    public boolean load() {
+        if (!mFile.isFile()) {
+            return false;
+        }
+
+        Map<String, Map<String, Member>> members = new HashMap<String, Map<String, Member>>();
+        DataInputStream input = null;
+        try {
+            input = new DataInputStream(new BufferedInputStream(new FileInputStream(mFile)));
+            if (input.readInt() != MAGIC || input.readInt() != FORMAT_VERSION || input.readLong() != mVersionCode
+                    || input.readLong() != mLastUpdateTime) {
+                return false;
+            }
+
+            int typeCount = input.readInt();
+            for (int i = 0; i < typeCount; i++) {
+                String typeName = input.readUTF();
+                Map<String, Member> typeMembers = new ConcurrentHashMap<String, Member>();
+                int memberCount = input.readInt();
+                for (int j = 0; j < memberCount; j++) {
+                    Member member = new Member(input.readUTF());
+                    int roleCount = input.readByte();
+                    for (int k = 0; k < roleCount; k++) {
+                        int role = input.readByte();
+                        String name = input.readUTF();
+                        String[] parameterTypes = new String[input.readByte()];
+                        for (int p = 0; p < parameterTypes.length; p++) {
+                            parameterTypes[p] = input.readUTF();
+                        }
+                        member.mNames[role] = name;
+                        member.mParameterTypes[role] = parameterTypes;
+                    }
+                    if (!member.isEmpty()) {
+                        typeMembers.put(member.mName, member);
+                    }
+                }
+                members.put(typeName, typeMembers);
+            }
+        } catch (IOException e) {
+            return false;
+        } catch (RuntimeException e) {
+            return false;
+        } finally {
+            close(input);
+        }
+
+        mMembers.putAll(members);
+        return true;
+    }
+
+    public synchronized void save() throws IOException {
+        File temporary = new File(mFile.getPath() + ".tmp");
+        DataOutputStream output = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(temporary)));
+        try {
+            output.writeInt(MAGIC);
+            output.writeInt(FORMAT_VERSION);
+            output.writeLong(mVersionCode);
+            output.writeLong(mLastUpdateTime);
+
+            Map<String, Map<String, Member>> members = new HashMap<String, Map<String, Member>>(mMembers);
+            output.writeInt(members.size());
+            for (Map.Entry<String, Map<String, Member>> type : members.entrySet()) {
+                Map<String, Member> typeMembers = new HashMap<String, Member>(type.getValue());
+                output.writeUTF(type.getKey());
+                output.writeInt(typeMembers.size());
+                for (Member member : typeMembers.values()) {
+                    output.writeUTF(member.mName);
+                    int roleCount = 0;
+                    for (String name : member.mNames) {
+                        roleCount += name != null ? 1 : 0;
+                    }
+                    output.writeByte(roleCount);
+                    for (int role = 0; role < member.mNames.length; role++) {
+                        if (member.mNames[role] == null) {
+                            continue;
+                        }
+                        output.writeByte(role);
+                        output.writeUTF(member.mNames[role]);
+                        output.writeByte(member.mParameterTypes[role].length);
+                        for (String parameterType : member.mParameterTypes[role]) {
+                            output.writeUTF(parameterType);
+                        }
+                    }
+                }
+            }
+        } finally {
+            output.close();
+        }
+
+        if (!temporary.renameTo(mFile)) {
+            temporary.delete();
+            throw new IOException("cannot replace " + mFile);
+        }
+    }
+
+    /**
+     * Returns the recorded property, or null when {@code name} of {@code type} was never resolved.
+     */
+    public Member findProperty(Class<?> type, String name) {
+        return find(type, name);
+    }
+
+    public Member findCommand(Class<?> type, String name) {
+        return find(type, COMMAND_PREFIX + name);
+    }
+
+    private Member find(Class<?> type, String key) {
+        Map<String, Member> members = mMembers.get(type.getName());
+        return members != null ? members.get(key) : null;
+    }
+
+    /**
+     * Records the members resolved for a property, null ones are not there. Nothing is recorded when all of them are
+     * null, the next lookup scans the class again. The file is written shortly after.
+     */
+    public void recordProperty(Class<?> type, String name, Method getter, Method setter, Method adder, Method remover, Field field) {
+        Member member = new Member(name);
+        member.set(Role.Getter, getter);
+        member.set(Role.Setter, setter);
+        member.set(Role.Adder, adder);
+        member.set(Role.Remover, remover);
+        if (field != null) {
+            member.mNames[Role.Field.ordinal()] = field.getName();
+            member.mParameterTypes[Role.Field.ordinal()] = new String[0];
+        }
+        record(type, member);
+    }
+
+    public void recordCommand(Class<?> type, String name, Method invoker, Method checker) {
+        Member member = new Member(COMMAND_PREFIX + name);
+        member.set(Role.Invoker, invoker);
+        member.set(Role.Checker, checker);
+        record(type, member);
+    }
+
+    private void record(Class<?> type, Member member) {
+        if (member.isEmpty()) {
+            return;
+        }
+
+        Map<String, Member> members = mMembers.get(type.getName());
+        if (members == null) {
+            members = new ConcurrentHashMap<String, Member>();
+            Map<String, Member> previous = mMembers.putIfAbsent(type.getName(), members);
+            if (previous != null) {
+                members = previous;
+            }
+        }
+        members.put(member.mName, member);
+
+        if (mSaveScheduled.compareAndSet(false, true)) {
+            Schedulers.io().scheduleDirect(mSave, SAVE_DELAY_MS, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private static String[] typeNames(Class<?>[] types) {
+        String[] names = new String[types.length];
+        for (int i = 0; i < types.length; i++) {
+            names[i] = types[i].getName();
+        }
+        return names;
+    }
+
+    private static void close(DataInputStream input) {
+        if (input != null) {
+            try {
+                input.close();
+            } catch (IOException e) {
+                // nothing left to do
+            }
+        }
+    }
+
+    public static class Member {
+
+        private final String mName;
+
+        private final String[] mNames = new String[Role.values().length];
+
+        private final String[][] mParameterTypes = new String[Role.values().length][];
+
+        Member(String name) {
+            mName = name;
+        }
+
+        private void set(Role role, Method method) {
+            if (method != null) {
+                mNames[role.ordinal()] = method.getName();
+                mParameterTypes[role.ordinal()] = typeNames(method.getParameterTypes());
+            }
+        }
+
+        public boolean has(Role role) {
+            return mNames[role.ordinal()] != null;
+        }
+
+        /**
+         * True when no member was resolved in any role, which is never stored.
+         */
+        public boolean isEmpty() {
+            for (String name : mNames) {
+                if (name != null) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * Fetches the public method recorded for {@code role} directly. Throws when it can't be resolved anymore,
+         * the caller falls back to scanning the class then.
+         */
+        public Method method(Class<?> type, Role role) throws ClassNotFoundException, NoSuchMethodException {
+            String[] parameterTypeNames = mParameterTypes[role.ordinal()];
+            Class<?>[] parameterTypes = new Class<?>[parameterTypeNames.length];
+            for (int i = 0; i < parameterTypes.length; i++) {
+                Class<?> primitive = PRIMITIVES.get(parameterTypeNames[i]);
+                parameterTypes[i] = primitive != null ? primitive : Class.forName(parameterTypeNames[i], false, type.getClassLoader());
+            }
+            return type.getMethod(mNames[role.ordinal()], parameterTypes);
+        }
+
+        public Field field(Class<?> type) throws NoSuchFieldException {
+            return type.getField(mNames[Role.Field.ordinal()]);
+        }
+    }
+}
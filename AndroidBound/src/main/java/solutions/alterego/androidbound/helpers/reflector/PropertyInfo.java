@@ -10,6 +10,15 @@ import solutions.alterego.androidbound.interfaces.ILogger;
 @Accessors(prefix = "m")
 public class PropertyInfo {
 
+    private static final Object[] NO_ARGUMENTS = new Object[0];
+
+    private static final ThreadLocal<Object[]> sSetterArguments = new ThreadLocal<Object[]>() {
+        @Override
+        protected Object[] initialValue() {
+            return new Object[1];
+        }
+    };
+
     @Getter
     public final Class<?> mPropertyType;
 
@@ -44,6 +53,9 @@ public class PropertyInfo {
 
     private final MethodInfo mRemover;
 
+    @Getter
+    private final IPropertyAccessor mAccessor;
+
     public PropertyInfo(String name, boolean canRead, boolean canWrite, boolean canAdd, boolean canRemove, Class<?> type,
             MethodInfo getter, MethodInfo setter, MethodInfo adder, MethodInfo remover, FieldInfo field, ILogger logger) {
         mPropertyType = type;
@@ -58,13 +70,39 @@ public class PropertyInfo {
         mField = field;
         mAdder = adder;
         mLogger = logger;
+        mAccessor = null;
+    }
+
+    /**
+     * Property backed by an accessor generated at build time instead of reflected methods.
+     */
+    public PropertyInfo(String name, Class<?> type, boolean canWrite, IPropertyAccessor accessor, ILogger logger) {
+        mPropertyType = type;
+        mPropertyName = name;
+        mCanRead = true;
+        mCanWrite = canWrite;
+        mCanAdd = false;
+        mCanRemove = false;
+        mGetterMethod = null;
+        mSetterMethod = null;
+        mRemover = null;
+        mField = null;
+        mAdder = null;
+        mLogger = logger;
+        mAccessor = accessor;
     }
 
     public Object getValue(Object obj) {
         Object result = null;
-        if (mGetterMethod != null || mField != null) {
+        if (mAccessor != null) {
             try {
-                result = mGetterMethod != null ? mGetterMethod.getOriginalMethod().invoke(obj) : mField.getFieldOriginal().get(obj);
+                result = mAccessor.get(obj);
+            } catch (Exception e) {
+                mLogger.error("PropertyInfo getValue exception = " + e.toString() + " for object = " + obj);
+            }
+        } else if (mGetterMethod != null || mField != null) {
+            try {
+                result = mGetterMethod != null ? mGetterMethod.getOriginalMethod().invoke(obj, NO_ARGUMENTS) : mField.getFieldOriginal().get(obj);
             } catch (Exception e) {
                 mLogger.error("PropertyInfo getValue exception = " + e.getCause().toString() + " for object = " + obj);
             }
@@ -78,20 +116,22 @@ public class PropertyInfo {
     }
 
     public void setValue(Object obj, Object value) {
-        if (mSetterMethod != null) {
+        if (mAccessor instanceof IWritablePropertyAccessor) {
             try {
-                mLogger.verbose(
-                        "PropertyInfo setValue value = " + value + " for object = " + obj + " using method = "
-                                + mSetterMethod.getOriginalMethod().getName());
-                mSetterMethod.getOriginalMethod().invoke(obj, value);
+                ((IWritablePropertyAccessor) mAccessor).set(obj, value);
+            } catch (Exception e) {
+                mLogger.warning("PropertyInfo couldn't setValue using accessor, value = " + value + " for object = " + obj);
+            }
+        } else if (mAccessor != null) {
+            mLogger.warning("PropertyInfo couldn't setValue of read-only property = " + mPropertyName + " for object = " + obj);
+        } else if (mSetterMethod != null) {
+            try {
+                invokeSetter(obj, value);
             } catch (Exception e) {
                 mLogger.warning("PropertyInfo couldn't setValue using method, value = " + value + " for object = " + obj);
             }
         } else if (mField != null) {
             try {
-                mLogger.verbose(
-                        "PropertyInfo setValue value = " + value + " for object = " + obj + " using field = "
-                                + mField.getFieldOriginal().getName());
                 mField.getFieldOriginal().set(obj, value);
             } catch (Exception e) {
                 mLogger.warning("PropertyInfo couldn't setValue using property, value = " + value + " for object = " + obj);
@@ -101,6 +141,187 @@ public class PropertyInfo {
         }
     }
 
+    /**
+     * Reuses one argument array per thread, so a reflected setter allocates at most the boxed value. Booleans and
+     * small ints and longs are cached by their wrapper classes.
+     */
+    private void invokeSetter(Object obj, Object value) throws Exception {
+        Object[] arguments = sSetterArguments.get();
+        arguments[0] = value;
+        try {
+            mSetterMethod.getOriginalMethod().invoke(obj, arguments);
+        } finally {
+            arguments[0] = null;
+        }
+    }
+
+    /**
+     * Primitive accessors read and write the property without boxing when it is backed by a generated accessor or a field.
+     * Reflected methods still box the value for {@link java.lang.reflect.Method#invoke}, but skip the converter lookup.
+     */
+    public boolean isPrimitive() {
+        return mPropertyType != null && mPropertyType.isPrimitive();
+    }
+
+    private boolean hasPrimitiveField() {
+        return mAccessor == null && mGetterMethod == null && mField != null && mField.getFieldOriginal().getType().isPrimitive();
+    }
+
+    public int getInt(Object obj) {
+        try {
+            if (mAccessor instanceof IIntPropertyAccessor) {
+                return ((IIntPropertyAccessor) mAccessor).getInt(obj);
+            } else if (hasPrimitiveField()) {
+                return mField.getFieldOriginal().getInt(obj);
+            }
+        } catch (Exception e) {
+            mLogger.error("PropertyInfo getInt exception = " + e.toString() + " for property = " + mPropertyName);
+            return 0;
+        }
+        Object value = getValue(obj);
+        return value != null ? ((Number) value).intValue() : 0;
+    }
+
+    public void setInt(Object obj, int value) {
+        try {
+            if (mAccessor instanceof IWritableIntPropertyAccessor) {
+                ((IWritableIntPropertyAccessor) mAccessor).setInt(obj, value);
+                return;
+            } else if (hasPrimitiveField() && mSetterMethod == null) {
+                mField.getFieldOriginal().setInt(obj, value);
+                return;
+            }
+        } catch (Exception e) {
+            mLogger.warning("PropertyInfo couldn't setInt, value = " + value + " for property = " + mPropertyName);
+            return;
+        }
+        setValue(obj, value);
+    }
+
+    public long getLong(Object obj) {
+        try {
+            if (mAccessor instanceof ILongPropertyAccessor) {
+                return ((ILongPropertyAccessor) mAccessor).getLong(obj);
+            } else if (hasPrimitiveField()) {
+                return mField.getFieldOriginal().getLong(obj);
+            }
+        } catch (Exception e) {
+            mLogger.error("PropertyInfo getLong exception = " + e.toString() + " for property = " + mPropertyName);
+            return 0;
+        }
+        Object value = getValue(obj);
+        return value != null ? ((Number) value).longValue() : 0;
+    }
+
+    public void setLong(Object obj, long value) {
+        try {
+            if (mAccessor instanceof IWritableLongPropertyAccessor) {
+                ((IWritableLongPropertyAccessor) mAccessor).setLong(obj, value);
+                return;
+            } else if (hasPrimitiveField() && mSetterMethod == null) {
+                mField.getFieldOriginal().setLong(obj, value);
+                return;
+            }
+        } catch (Exception e) {
+            mLogger.warning("PropertyInfo couldn't setLong, value = " + value + " for property = " + mPropertyName);
+            return;
+        }
+        setValue(obj, value);
+    }
+
+    public float getFloat(Object obj) {
+        try {
+            if (mAccessor instanceof IFloatPropertyAccessor) {
+                return ((IFloatPropertyAccessor) mAccessor).getFloat(obj);
+            } else if (hasPrimitiveField()) {
+                return mField.getFieldOriginal().getFloat(obj);
+            }
+        } catch (Exception e) {
+            mLogger.error("PropertyInfo getFloat exception = " + e.toString() + " for property = " + mPropertyName);
+            return 0;
+        }
+        Object value = getValue(obj);
+        return value != null ? ((Number) value).floatValue() : 0;
+    }
+
+    public void setFloat(Object obj, float value) {
+        try {
+            if (mAccessor instanceof IWritableFloatPropertyAccessor) {
+                ((IWritableFloatPropertyAccessor) mAccessor).setFloat(obj, value);
+                return;
+            } else if (hasPrimitiveField() && mSetterMethod == null) {
+                mField.getFieldOriginal().setFloat(obj, value);
+                return;
+            }
+        } catch (Exception e) {
+            mLogger.warning("PropertyInfo couldn't setFloat, value = " + value + " for property = " + mPropertyName);
+            return;
+        }
+        setValue(obj, value);
+    }
+
+    public double getDouble(Object obj) {
+        try {
+            if (mAccessor instanceof IDoublePropertyAccessor) {
+                return ((IDoublePropertyAccessor) mAccessor).getDouble(obj);
+            } else if (hasPrimitiveField()) {
+                return mField.getFieldOriginal().getDouble(obj);
+            }
+        } catch (Exception e) {
+            mLogger.error("PropertyInfo getDouble exception = " + e.toString() + " for property = " + mPropertyName);
+            return 0;
+        }
+        Object value = getValue(obj);
+        return value != null ? ((Number) value).doubleValue() : 0;
+    }
+
+    public void setDouble(Object obj, double value) {
+        try {
+            if (mAccessor instanceof IWritableDoublePropertyAccessor) {
+                ((IWritableDoublePropertyAccessor) mAccessor).setDouble(obj, value);
+                return;
+            } else if (hasPrimitiveField() && mSetterMethod == null) {
+                mField.getFieldOriginal().setDouble(obj, value);
+                return;
+            }
+        } catch (Exception e) {
+            mLogger.warning("PropertyInfo couldn't setDouble, value = " + value + " for property = " + mPropertyName);
+            return;
+        }
+        setValue(obj, value);
+    }
+
+    public boolean getBoolean(Object obj) {
+        try {
+            if (mAccessor instanceof IBooleanPropertyAccessor) {
+                return ((IBooleanPropertyAccessor) mAccessor).getBoolean(obj);
+            } else if (hasPrimitiveField()) {
+                return mField.getFieldOriginal().getBoolean(obj);
+            }
+        } catch (Exception e) {
+            mLogger.error("PropertyInfo getBoolean exception = " + e.toString() + " for property = " + mPropertyName);
+            return false;
+        }
+        Object value = getValue(obj);
+        return value != null ? (Boolean) value : false;
+    }
+
+    public void setBoolean(Object obj, boolean value) {
+        try {
+            if (mAccessor instanceof IWritableBooleanPropertyAccessor) {
+                ((IWritableBooleanPropertyAccessor) mAccessor).setBoolean(obj, value);
+                return;
+            } else if (hasPrimitiveField() && mSetterMethod == null) {
+                mField.getFieldOriginal().setBoolean(obj, value);
+                return;
+            }
+        } catch (Exception e) {
+            mLogger.warning("PropertyInfo couldn't setBoolean, value = " + value + " for property = " + mPropertyName);
+            return;
+        }
+        setValue(obj, value);
+    }
+
     public void addValue(Object src, Object dst) {
         try {
             if (mAdder != null) {
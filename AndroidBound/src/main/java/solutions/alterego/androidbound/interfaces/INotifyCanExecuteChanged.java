@@ -0,0 +1,12 @@
+package solutions.alterego.androidbound.interfaces;
+
+import io.reactivex.Observable;
+
+/**
+ * Implemented by commands whose {@link ICommand#canExecute(Object)} changes on its own, e.g. while an async command runs.
+ * The stream starts with the current value, then only emits changes, and is delivered on the main thread.
+ */
+public interface INotifyCanExecuteChanged {
+
+    Observable<Boolean> onCanExecuteChanged();
+}
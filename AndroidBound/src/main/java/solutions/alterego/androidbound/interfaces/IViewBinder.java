@@ -27,6 +27,20 @@ public interface IViewBinder extends IResourceRegistry, IValueConverterProvider,
 
     IViewBindingEngine getViewBindingEngine();
 
+    /**
+     * Reads the binding metadata of {@code types} on a background thread, e.g. the ViewModels of the first screens,
+     * so binding them later doesn't stall the main thread. Bindings that need it earlier wait for the warm-up in progress.
+     */
+    void prewarm(Class<?>... types);
+
+    void prewarmBindableViews();
+
+    /**
+     * Remembers the members resolved for bindings in the cache directory, so the next start of the same app version
+     * fetches them directly instead of scanning every bound class. Call it before the first layout is inflated.
+     */
+    void enableMetadataStore();
+
     View inflate(Context context, Object source, int layoutResID, ViewGroup viewGroup);
 
     View inflate(Context context, Object source, int layoutResID, ViewGroup viewGroup, boolean attachToRoot);
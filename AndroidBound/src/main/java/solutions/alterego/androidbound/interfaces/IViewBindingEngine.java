@@ -3,12 +3,14 @@ package solutions.alterego.androidbound.interfaces;
 import android.content.Context;
 import android.view.View;
 
+import java.nio.ByteBuffer;
 import java.util.List;
 
 import solutions.alterego.androidbound.android.interfaces.IHasImageLoader;
 import solutions.alterego.androidbound.android.interfaces.INeedsImageLoader;
 import solutions.alterego.androidbound.binding.interfaces.IBinder;
 import solutions.alterego.androidbound.binding.interfaces.IBindingAssociationEngine;
+import solutions.alterego.androidbound.binding.interfaces.ILayoutBinder;
 import solutions.alterego.androidbound.converters.interfaces.IValueConverterProvider;
 import solutions.alterego.androidbound.resources.interfaces.IResourceRegistry;
 
@@ -29,7 +31,15 @@ public interface IViewBindingEngine extends IDisposable, INeedsImageLoader, IHas
 
     void clearBindingForViewAndChildren(View rootView);
 
+    void suspendBindingsForViewAndChildren(View rootView);
+
+    void resumeBindingsForViewAndChildren(View rootView);
+
     void clearAllBindings();
 
     void disposeOf(Context context);
+
+    void registerLayoutBinder(ILayoutBinder layoutBinder);
+
+    void registerSpecificationTable(ByteBuffer table);
 }
@@ -2,6 +2,8 @@ package solutions.alterego.androidbound.parsers;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import solutions.alterego.androidbound.binding.data.BindingSpecification;
 import solutions.alterego.androidbound.interfaces.ILogger;
@@ -12,6 +14,12 @@ public class BindingSpecificationListParser implements IParser<List<BindingSpeci
 
     private IParser<BindingSpecification> singleParser;
 
+    private Map<String, List<BindingSpecification>> precompiled = new ConcurrentHashMap<String, List<BindingSpecification>>();
+
+    private Map<String, List<BindingSpecification>> decoded = new ConcurrentHashMap<String, List<BindingSpecification>>();
+
+    private volatile SpecificationTable table;
+
     public BindingSpecificationListParser(IParser<BindingSpecification> singleParser, ILogger logger) {
         this.singleParser = singleParser;
         setLogger(logger);
@@ -21,7 +29,52 @@ public class BindingSpecificationListParser implements IParser<List<BindingSpeci
         this.logger = logger.getLogger(this);
     }
 
+    /**
+     * Registers specifications parsed at build time; {@link #parse(String)} returns them as they are for the same binding string.
+     */
+    public void registerSpecifications(Map<String, List<BindingSpecification>> specifications) {
+        precompiled.putAll(specifications);
+    }
+
+    /**
+     * Sets the table of binding strings parsed at build time, consulted before parsing a string that wasn't registered
+     * with {@link #registerSpecifications(Map)}.
+     */
+    public void setSpecificationTable(SpecificationTable table) {
+        this.table = table;
+        decoded.clear();
+    }
+
+    /**
+     * Drops the specifications decoded from the table, so their converters and resources are looked up again on the next
+     * {@link #parse(String)}, e.g. after one was registered. Registered specifications are kept.
+     */
+    public void clearDecodedSpecifications() {
+        decoded.clear();
+    }
+
     public List<BindingSpecification> parse(String content) {
+        if (content != null) {
+            List<BindingSpecification> specifications = precompiled.get(content);
+            if (specifications != null) {
+                return specifications;
+            }
+
+            specifications = decoded.get(content);
+            if (specifications != null) {
+                return specifications;
+            }
+
+            SpecificationTable currentTable = table;
+            if (currentTable != null) {
+                specifications = currentTable.find(content);
+                if (specifications != null) {
+                    decoded.put(content, specifications);
+                    return specifications;
+                }
+            }
+        }
+
         logger.verbose("Parse content for BindingSpecificationList, content = " + content);
         List<BindingSpecification> result = new ArrayList<BindingSpecification>();
 
@@ -1,10 +1,14 @@
 package solutions.alterego.androidbound.parsers;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 
 import solutions.alterego.androidbound.NullLogger;
 import solutions.alterego.androidbound.binding.data.BindingMode;
 import solutions.alterego.androidbound.binding.data.BindingSpecification;
+import solutions.alterego.androidbound.binding.data.BindingTiming;
+import solutions.alterego.androidbound.converters.interfaces.IMultiValueConverter;
 import solutions.alterego.androidbound.converters.interfaces.IValueConverterProvider;
 import solutions.alterego.androidbound.helpers.Matcher;
 import solutions.alterego.androidbound.helpers.Pattern;
@@ -24,6 +28,30 @@ public class BindingSpecificationParser implements IParser<BindingSpecification>
                     "(?:\\s*\\|\\|\\s*(?:(?:(?<fallbackName>[a-zA-Z][a-zA-Z0-9]*)" +
                     "+?|(?:'(?<fallbackString>(?:[^'\\\\]|\\\\.)*)')+?))?)?");
 
+    /**
+     * Multi-source form, e.g. {@code {Text @= FullName(FirstName, LastName, 'param')}}. It's only used when the converter is
+     * a registered {@link IMultiValueConverter}, otherwise the second argument keeps meaning a named converter parameter.
+     */
+    private final static Pattern MULTI_PATTERN = Pattern
+            .compile("\\s*(?<target>[a-zA-Z][a-zA-Z0-9]*(?:\\.[a-zA-Z][a-zA-Z0-9]*)*)" +
+                    "\\s*(?<mode>@=@|@-|-@|=@|=|@=|@\\+@|(@\\+)|(\\+@)|\\!@)" +
+                    "\\s*(?<converter>[a-zA-Z][a-zA-Z0-9]*)\\s*\\((?<arguments>(?:[^'\\(\\)]|'(?:[^'\\\\]|\\\\.)*')*)\\)" +
+                    "(?:\\s*\\|\\|\\s*(?:(?:(?<fallbackName>[a-zA-Z][a-zA-Z0-9]*)" +
+                    "+?|(?:'(?<fallbackString>(?:[^'\\\\]|\\\\.)*)')+?))?)?");
+
+    /**
+     * Optional timing modifier after the binding, e.g. {@code {Query =@ TextString | debounce(300)}}.
+     */
+    private final static Pattern TIMING_PATTERN = Pattern
+            .compile("\\|\\s*(?<timing>debounce|throttle|sample)\\s*\\(\\s*(?<interval>[0-9]+)\\s*\\)");
+
+    private final static char TIMING_SEPARATOR = '|';
+
+    /**
+     * Separates the arguments of a converter, without one a binding can only be a multi binding through a single source.
+     */
+    private final static char ARGUMENT_SEPARATOR = ',';
+
     private ILogger mLogger = NullLogger.instance;
 
     protected IValueConverterProvider mValueConverterProvider;
@@ -42,16 +70,161 @@ public class BindingSpecificationParser implements IParser<BindingSpecification>
 
     public BindingSpecification parse(String content) {
         mLogger.verbose("Parse content for BindingSpecification");
+        BindingTiming timing = BindingTiming.None;
+        long interval = 0;
+
+        // most bindings have neither a modifier nor several arguments, so they only run PATTERN
+        if (content.indexOf(TIMING_SEPARATOR) >= 0) {
+            Matcher timingMatcher = TIMING_PATTERN.matcher(content);
+            if (findTiming(timingMatcher, content)) {
+                timing = parseTiming(timingMatcher.group("timing"));
+                interval = Long.parseLong(timingMatcher.group("interval"));
+                content = content.substring(0, timingMatcher.start()) + content.substring(timingMatcher.end());
+            }
+        }
+
+        BindingSpecification.BindingSpecificationBuilder result = null;
+        if (content.indexOf(ARGUMENT_SEPARATOR) >= 0) {
+            result = parseMultiBinding(content);
+        }
+        if (result == null) {
+            result = parseSingleBinding(content);
+        }
+        return result
+                .setTiming(timing)
+                .setTimingInterval(interval)
+                .build();
+    }
+
+    /**
+     * Creates the specification of a binding that was already split up at build time, see {@link SpecificationTable}.
+     * Returns null when {@code converter} is a multi-value converter, those bindings have to go through {@link #parse(String)}.
+     */
+    public BindingSpecification create(String target, BindingMode mode, String converter, String source, String parameterName,
+            String parameterString, String fallbackName, String fallbackString, BindingTiming timing, long interval) {
+        if (mValueConverterProvider.findMultiConverter(converter) != null) {
+            return null;
+        }
+
+        return new BindingSpecification.BindingSpecificationBuilder()
+                .setTarget(target)
+                .setSource(source)
+                .setMode(mode)
+                .setValueConverter(mValueConverterProvider.findConverter(converter))
+                .setConverterParameter(resolveResource(parameterString, parameterName))
+                .setFallbackValue(resolveResource(fallbackString, fallbackName))
+                .setTiming(timing)
+                .setTimingInterval(interval)
+                .build();
+    }
+
+    private BindingSpecification.BindingSpecificationBuilder parseSingleBinding(String content) {
         Matcher matcher = PATTERN.matcher(content);
         Map<String, String> groups = matcher.namedGroups();
 
-        BindingSpecification result = new BindingSpecification();
-        result.setTarget(groups.get("target"));
-        result.setSource(groups.get("source"));
-        result.setMode(parseMode(groups.get("mode")));
-        result.setValueConverter(mValueConverterProvider.findConverter(groups.get("converter")));
-        result.setConverterParameter(resolveResource(groups.get("parameterString"), groups.get("parameterName")));
-        result.setFallbackValue(resolveResource(groups.get("fallbackString"), groups.get("fallbackName")));
+        // a multi-value converter given a single source, which the separator check let through
+        String converter = groups.get("converter");
+        if (converter != null && content.indexOf(ARGUMENT_SEPARATOR) < 0 && mValueConverterProvider.findMultiConverter(converter) != null) {
+            BindingSpecification.BindingSpecificationBuilder multi = parseMultiBinding(content);
+            if (multi != null) {
+                return multi;
+            }
+        }
+
+        return new BindingSpecification.BindingSpecificationBuilder()
+                .setTarget(groups.get("target"))
+                .setSource(groups.get("source"))
+                .setMode(parseMode(groups.get("mode")))
+                .setValueConverter(mValueConverterProvider.findConverter(converter))
+                .setConverterParameter(resolveResource(groups.get("parameterString"), groups.get("parameterName")))
+                .setFallbackValue(resolveResource(groups.get("fallbackString"), groups.get("fallbackName")));
+    }
+
+    private BindingSpecification.BindingSpecificationBuilder parseMultiBinding(String content) {
+        Map<String, String> groups = MULTI_PATTERN.matcher(content).namedGroups();
+        IMultiValueConverter converter = mValueConverterProvider.findMultiConverter(groups.get("converter"));
+        if (converter == null) {
+            return null;
+        }
+
+        List<String> sources = new ArrayList<String>();
+        String parameter = null;
+        for (String argument : splitArguments(groups.get("arguments"))) {
+            if (argument.startsWith("'") && argument.endsWith("'") && argument.length() > 1) {
+                parameter = StringUtils.unescape(argument.substring(1, argument.length() - 1));
+            } else if (argument.length() > 0) {
+                sources.add(argument);
+            }
+        }
+
+        if (sources.isEmpty()) {
+            mLogger.warning("Multi binding '" + content + "' has no sources");
+            return null;
+        }
+
+        return new BindingSpecification.BindingSpecificationBuilder()
+                .setTarget(groups.get("target"))
+                .setSource(sources.get(0))
+                .setSources(sources)
+                .setMode(parseMode(groups.get("mode")))
+                .setValueConverter(mValueConverterProvider.findConverter(null))
+                .setMultiValueConverter(converter)
+                .setConverterParameter(parameter)
+                .setFallbackValue(resolveResource(groups.get("fallbackString"), groups.get("fallbackName")));
+    }
+
+    /**
+     * Finds the timing modifier outside of quoted strings, as a quoted converter parameter or fallback may contain the same
+     * text; the {@code ||} of a fallback isn't one either.
+     */
+    private static boolean findTiming(Matcher matcher, String content) {
+        boolean inQuote = false;
+        boolean inEscape = false;
+        int scanned = 0;
+        while (matcher.find()) {
+            int start = matcher.start();
+            for (; scanned < start; scanned++) {
+                char code = content.charAt(scanned);
+                if (inEscape) {
+                    inEscape = false;
+                } else if (code == '\\' && inQuote) {
+                    inEscape = true;
+                } else if (code == '\'') {
+                    inQuote = !inQuote;
+                }
+            }
+            if (!inQuote && (start == 0 || content.charAt(start - 1) != '|')) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static List<String> splitArguments(String arguments) {
+        List<String> result = new ArrayList<String>();
+        if (arguments == null) {
+            return result;
+        }
+
+        StringBuilder buffer = new StringBuilder();
+        boolean inQuote = false;
+        boolean inEscape = false;
+        for (int i = 0; i < arguments.length(); i++) {
+            char code = arguments.charAt(i);
+            if (inEscape) {
+                inEscape = false;
+            } else if (code == '\\' && inQuote) {
+                inEscape = true;
+            } else if (code == '\'') {
+                inQuote = !inQuote;
+            } else if (code == ',' && !inQuote) {
+                result.add(buffer.toString().trim());
+                buffer = new StringBuilder();
+                continue;
+            }
+            buffer.append(code);
+        }
+        result.add(buffer.toString().trim());
         return result;
     }
 
@@ -62,6 +235,16 @@ public class BindingSpecificationParser implements IParser<BindingSpecification>
         return StringUtils.unescape(constValue);
     }
 
+    private BindingTiming parseTiming(String value) {
+        if (value.equals("debounce")) {
+            return BindingTiming.Debounce;
+        }
+        if (value.equals("throttle")) {
+            return BindingTiming.Throttle;
+        }
+        return BindingTiming.Sample;
+    }
+
     private BindingMode parseMode(String value) {
         if (value == null || value.equals("=")) {
             return BindingMode.Default;
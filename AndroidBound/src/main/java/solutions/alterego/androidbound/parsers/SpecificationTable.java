@@ -0,0 +1,187 @@
+package solutions.alterego.androidbound.parsers;
+
+import android.content.res.AssetFileDescriptor;
+import android.content.res.AssetManager;
+
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.List;
+
+import solutions.alterego.androidbound.binding.data.BindingMode;
+import solutions.alterego.androidbound.binding.data.BindingSpecification;
+import solutions.alterego.androidbound.binding.data.BindingTiming;
+
+/**
+ * Binding strings parsed at build time by AndroidBoundCompiler's {@code SpecificationTableGenerator}, read straight from the
+ * buffer the table was mapped into. The format is described in AndroidBoundCompiler's {@code SpecificationTableWriter};
+ * only the binding strings that are looked up get decoded.
+ */
+public class SpecificationTable {
+
+    public static final String ASSET_NAME = "androidbound/specifications.bin";
+
+    /**
+     * The layout constants mirror AndroidBoundCompiler's {@code SpecificationTableWriter}, SpecificationTableTest checks they agree.
+     */
+    public static final int MAGIC = 0x41425354;
+
+    public static final int VERSION = 1;
+
+    public static final int HEADER_SIZE = 16;
+
+    public static final int STATEMENT_SIZE = 9 * 4 + 8;
+
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+    private final ByteBuffer mBuffer;
+
+    private final BindingSpecificationParser mParser;
+
+    private final int mStringCount;
+
+    private final int mEntryCount;
+
+    private final int mIndexOffset;
+
+    public SpecificationTable(ByteBuffer buffer, BindingSpecificationParser parser) {
+        if (buffer.capacity() < HEADER_SIZE || buffer.getInt(0) != MAGIC) {
+            throw new IllegalArgumentException("not a binding specification table");
+        }
+        if (buffer.getInt(4) != VERSION) {
+            throw new IllegalArgumentException("unsupported binding specification table version " + buffer.getInt(4));
+        }
+
+        mBuffer = buffer;
+        mParser = parser;
+        mStringCount = buffer.getInt(8);
+        mEntryCount = buffer.getInt(12);
+        mIndexOffset = HEADER_SIZE + 4 * mStringCount;
+    }
+
+    /**
+     * Maps the table asset, it has to be stored uncompressed for that ({@code aaptOptions.noCompress 'bin'}). A compressed
+     * asset is read into a direct buffer instead. Returns null when the app has no table.
+     */
+    public static ByteBuffer readAsset(AssetManager assets, String assetName) throws IOException {
+        try {
+            AssetFileDescriptor descriptor = assets.openFd(assetName);
+            FileInputStream stream = descriptor.createInputStream();
+            try {
+                return stream.getChannel().map(FileChannel.MapMode.READ_ONLY, descriptor.getStartOffset(), descriptor.getLength());
+            } finally {
+                stream.close();
+                descriptor.close();
+            }
+        } catch (FileNotFoundException e) {
+            // either missing or compressed, openFd doesn't tell them apart
+        }
+
+        InputStream stream;
+        try {
+            stream = assets.open(assetName);
+        } catch (FileNotFoundException e) {
+            return null;
+        }
+
+        try {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(stream.available());
+            byte[] chunk = new byte[8192];
+            int read;
+            while ((read = stream.read(chunk)) > 0) {
+                if (buffer.remaining() < read) {
+                    ByteBuffer larger = ByteBuffer.allocateDirect(Math.max(buffer.capacity() * 2, buffer.position() + read));
+                    buffer.flip();
+                    larger.put(buffer);
+                    buffer = larger;
+                }
+                buffer.put(chunk, 0, read);
+            }
+            buffer.flip();
+            return buffer.slice();
+        } finally {
+            stream.close();
+        }
+    }
+
+    public int size() {
+        return mEntryCount;
+    }
+
+    /**
+     * Returns the specifications of {@code bindingString}, or null when it isn't in the table or has to be parsed at runtime.
+     */
+    public List<BindingSpecification> find(String bindingString) {
+        int hash = bindingString.hashCode();
+
+        int low = 0;
+        int high = mEntryCount - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int middleHash = indexHash(middle);
+            if (middleHash < hash) {
+                low = middle + 1;
+            } else if (middleHash > hash) {
+                high = middle - 1;
+            } else {
+                while (middle > 0 && indexHash(middle - 1) == hash) {
+                    middle--;
+                }
+                for (int i = middle; i < mEntryCount && indexHash(i) == hash; i++) {
+                    int entry = mBuffer.getInt(mIndexOffset + 8 * i + 4);
+                    if (bindingString.equals(string(mBuffer.getInt(entry)))) {
+                        return read(entry);
+                    }
+                }
+                return null;
+            }
+        }
+        return null;
+    }
+
+    private int indexHash(int index) {
+        return mBuffer.getInt(mIndexOffset + 8 * index);
+    }
+
+    private List<BindingSpecification> read(int entry) {
+        int count = mBuffer.getInt(entry + 4);
+        List<BindingSpecification> result = new ArrayList<BindingSpecification>(count);
+        for (int i = 0; i < count; i++) {
+            int statement = entry + 8 + i * STATEMENT_SIZE;
+            BindingSpecification specification = mParser.create(
+                    string(mBuffer.getInt(statement)),
+                    BindingMode.valueOf(string(mBuffer.getInt(statement + 4))),
+                    string(mBuffer.getInt(statement + 8)),
+                    string(mBuffer.getInt(statement + 12)),
+                    string(mBuffer.getInt(statement + 16)),
+                    string(mBuffer.getInt(statement + 20)),
+                    string(mBuffer.getInt(statement + 24)),
+                    string(mBuffer.getInt(statement + 28)),
+                    BindingTiming.valueOf(string(mBuffer.getInt(statement + 32))),
+                    mBuffer.getLong(statement + 36));
+            if (specification == null) {
+                return null;
+            }
+            result.add(specification);
+        }
+        return result;
+    }
+
+    private String string(int index) {
+        if (index < 0 || index >= mStringCount) {
+            return null;
+        }
+
+        int offset = mBuffer.getInt(HEADER_SIZE + 4 * index);
+        byte[] bytes = new byte[mBuffer.getInt(offset)];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = mBuffer.get(offset + 4 + i);
+        }
+        return new String(bytes, UTF_8);
+    }
+}
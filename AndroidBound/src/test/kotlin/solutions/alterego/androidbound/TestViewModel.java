@@ -0,0 +1,27 @@
+package solutions.alterego.androidbound;
+
+import io.reactivex.Observable;
+import io.reactivex.subjects.PublishSubject;
+import solutions.alterego.androidbound.binding.interfaces.INotifyPropertyChanged;
+
+/**
+ * Base of the ViewModels bound in tests, raising its property changes like an app's ViewModel would.
+ */
+public class TestViewModel implements INotifyPropertyChanged {
+
+    private final PublishSubject<String> mPropertyChanged = PublishSubject.create();
+
+    @Override
+    public Observable<String> onPropertyChanged() {
+        return mPropertyChanged;
+    }
+
+    protected void raise(String propertyName) {
+        mPropertyChanged.onNext(propertyName);
+    }
+
+    @Override
+    public void dispose() {
+        mPropertyChanged.onComplete();
+    }
+}
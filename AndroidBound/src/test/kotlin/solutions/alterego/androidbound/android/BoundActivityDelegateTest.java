@@ -0,0 +1,52 @@
+package solutions.alterego.androidbound.android;
+
+import android.app.Activity;
+
+import org.fest.assertions.api.Assertions;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.Robolectric;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+import org.robolectric.shadows.ShadowLooper;
+
+@RunWith(RobolectricTestRunner.class)
+@Config(manifest = Config.NONE, sdk = 23)
+public class BoundActivityDelegateTest {
+
+    private static final int LAYOUT = 1;
+
+    private BoundListScreen mScreen;
+
+    private BoundActivityDelegate mDelegate;
+
+    @Before
+    public void setUp() {
+        Activity activity = Robolectric.setupActivity(Activity.class);
+        mScreen = new BoundListScreen(activity);
+        mDelegate = new BoundActivityDelegate(activity, mScreen.mViewBinder);
+        mDelegate.setContentView(LAYOUT, mScreen.mViewModel);
+        mScreen.layOutAndBindItem();
+        ShadowLooper.idleMainLooper();
+    }
+
+    @Test
+    public void itemBindingIsSuspendedWhileStoppedAndCatchesUpOnStart() {
+        Assertions.assertThat(mScreen.mItem.getParent()).isSameAs(mScreen.mList);
+        Assertions.assertThat(mScreen.mItem.getTitle()).isEqualTo("first");
+
+        mDelegate.onStop();
+        mScreen.mViewModel.setTitle("while stopped");
+        ShadowLooper.idleMainLooper();
+        Assertions.assertThat(mScreen.mItem.getTitle()).isEqualTo("first");
+
+        mDelegate.onStart();
+        ShadowLooper.idleMainLooper();
+        Assertions.assertThat(mScreen.mItem.getTitle()).isEqualTo("while stopped");
+
+        mScreen.mViewModel.setTitle("started");
+        ShadowLooper.idleMainLooper();
+        Assertions.assertThat(mScreen.mItem.getTitle()).isEqualTo("started");
+    }
+}
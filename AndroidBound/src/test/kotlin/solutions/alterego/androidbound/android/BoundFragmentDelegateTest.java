@@ -0,0 +1,47 @@
+package solutions.alterego.androidbound.android;
+
+import android.support.v4.app.Fragment;
+
+import org.fest.assertions.api.Assertions;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.RuntimeEnvironment;
+import org.robolectric.annotation.Config;
+import org.robolectric.shadows.ShadowLooper;
+
+@RunWith(RobolectricTestRunner.class)
+@Config(manifest = Config.NONE, sdk = 23)
+public class BoundFragmentDelegateTest {
+
+    private static final int LAYOUT = 1;
+
+    private BoundListScreen mScreen;
+
+    private BoundFragmentDelegate mDelegate;
+
+    @Before
+    public void setUp() {
+        mScreen = new BoundListScreen(RuntimeEnvironment.application);
+        mDelegate = new BoundFragmentDelegate(new Fragment(), mScreen.mViewBinder);
+        mDelegate.addViewModel(LAYOUT, mScreen.mViewModel, BoundFragmentDelegate.TAG_VIEWMODEL_MAIN, null);
+        mScreen.layOutAndBindItem();
+        ShadowLooper.idleMainLooper();
+    }
+
+    @Test
+    public void itemBindingIsSuspendedWhileStoppedAndCatchesUpOnStart() {
+        Assertions.assertThat(mScreen.mItem.getParent()).isSameAs(mScreen.mList);
+        Assertions.assertThat(mScreen.mItem.getTitle()).isEqualTo("first");
+
+        mDelegate.onStop();
+        mScreen.mViewModel.setTitle("while stopped");
+        ShadowLooper.idleMainLooper();
+        Assertions.assertThat(mScreen.mItem.getTitle()).isEqualTo("first");
+
+        mDelegate.onStart();
+        ShadowLooper.idleMainLooper();
+        Assertions.assertThat(mScreen.mItem.getTitle()).isEqualTo("while stopped");
+    }
+}
@@ -0,0 +1,138 @@
+package solutions.alterego.androidbound.android;
+
+import android.content.Context;
+import android.view.View;
+import android.view.ViewGroup;
+import android.widget.BaseAdapter;
+import android.widget.FrameLayout;
+import android.widget.ListView;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import solutions.alterego.androidbound.NullLogger;
+import solutions.alterego.androidbound.ViewModel;
+import solutions.alterego.androidbound.binding.BindingAssociationEngine;
+import solutions.alterego.androidbound.binding.ViewBindingEngine;
+import solutions.alterego.androidbound.binding.data.BindingMode;
+import solutions.alterego.androidbound.binding.data.BindingRequest;
+import solutions.alterego.androidbound.binding.data.BindingSpecification;
+import solutions.alterego.androidbound.binding.interfaces.IBindingAssociationEngine;
+import solutions.alterego.androidbound.converters.DefaultConverter;
+import solutions.alterego.androidbound.factories.SourceBindingFactory;
+import solutions.alterego.androidbound.factories.TargetBindingFactory;
+import solutions.alterego.androidbound.interfaces.IViewBinder;
+
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyBoolean;
+import static org.mockito.Matchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Bound screen whose only binding is on the item view of a list, which {@link ViewBindingEngine#getBindingsForView(View)}
+ * leaves to the adapter.
+ */
+class BoundListScreen {
+
+    public static class ScreenViewModel extends ViewModel {
+
+        private String mTitle = "first";
+
+        public String getTitle() {
+            return mTitle;
+        }
+
+        public void setTitle(String title) {
+            mTitle = title;
+            raisePropertyChanged("Title");
+        }
+    }
+
+    public static class TitleView extends View {
+
+        private String mTitle;
+
+        public TitleView(Context context) {
+            super(context);
+        }
+
+        public String getTitle() {
+            return mTitle;
+        }
+
+        public void setTitle(String title) {
+            mTitle = title;
+        }
+    }
+
+    final ViewBindingEngine mEngine = new ViewBindingEngine(NullLogger.instance);
+
+    final IViewBinder mViewBinder = mock(IViewBinder.class);
+
+    final ScreenViewModel mViewModel = new ScreenViewModel();
+
+    final FrameLayout mRoot;
+
+    final ListView mList;
+
+    final TitleView mItem;
+
+    BoundListScreen(Context context) {
+        mRoot = new FrameLayout(context);
+        mItem = new TitleView(context);
+        mList = new ListView(context);
+        mList.setAdapter(new BaseAdapter() {
+            @Override
+            public int getCount() {
+                return 1;
+            }
+
+            @Override
+            public Object getItem(int position) {
+                return mViewModel;
+            }
+
+            @Override
+            public long getItemId(int position) {
+                return position;
+            }
+
+            @Override
+            public View getView(int position, View convertView, ViewGroup parent) {
+                return mItem;
+            }
+        });
+        mRoot.addView(mList);
+
+        when(mViewBinder.getLogger()).thenReturn(NullLogger.instance);
+        when(mViewBinder.getViewBindingEngine()).thenReturn(mEngine);
+        when(mViewBinder.inflate(any(Context.class), any(), anyInt(), any(ViewGroup.class))).thenReturn(mRoot);
+        when(mViewBinder.inflate(any(Context.class), any(), anyInt(), any(ViewGroup.class), anyBoolean())).thenReturn(mRoot);
+    }
+
+    /**
+     * Lays the list out, so the item view is its child, and binds the item's Title one way to the view model.
+     */
+    void layOutAndBindItem() {
+        int size = View.MeasureSpec.makeMeasureSpec(100, View.MeasureSpec.EXACTLY);
+        mRoot.measure(size, size);
+        mRoot.layout(0, 0, 100, 100);
+
+        BindingSpecification specification = new BindingSpecification.BindingSpecificationBuilder()
+                .setSource("Title")
+                .setTarget("Title")
+                .setMode(BindingMode.OneWay)
+                .setValueConverter(DefaultConverter.instance)
+                .build();
+        BindingRequest request = new BindingRequest();
+        request.setSource(mViewModel);
+        request.setTarget(mItem);
+        request.setSpecification(specification);
+
+        List<IBindingAssociationEngine> bindings = new ArrayList<>();
+        bindings.add(new BindingAssociationEngine(request, new SourceBindingFactory(NullLogger.instance),
+                new TargetBindingFactory(NullLogger.instance), NullLogger.instance));
+        mEngine.registerBindingsFor(mItem, bindings);
+    }
+}
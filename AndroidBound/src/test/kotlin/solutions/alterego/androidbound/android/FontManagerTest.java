@@ -0,0 +1,152 @@
+package solutions.alterego.androidbound.android;
+
+import org.fest.assertions.api.Assertions;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import android.graphics.Typeface;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import io.reactivex.Scheduler;
+import io.reactivex.functions.Function;
+import io.reactivex.plugins.RxJavaPlugins;
+import io.reactivex.schedulers.Schedulers;
+import solutions.alterego.androidbound.NullLogger;
+
+import static org.mockito.Mockito.mock;
+
+public class FontManagerTest {
+
+    private AssetFontManager mFontManager;
+
+    private Typeface mDefault;
+
+    private Typeface mBrand;
+
+    private Typeface mMono;
+
+    @Before
+    public void setUp() {
+        RxJavaPlugins.setIoSchedulerHandler(new Function<Scheduler, Scheduler>() {
+            @Override
+            public Scheduler apply(Scheduler scheduler) throws Exception {
+                return Schedulers.trampoline();
+            }
+        });
+
+        mDefault = mock(Typeface.class);
+        mBrand = mock(Typeface.class);
+        mMono = mock(Typeface.class);
+
+        mFontManager = new AssetFontManager();
+        mFontManager.setDefaultFont(mDefault);
+        mFontManager.mFonts.put("fonts/brand.ttf", mBrand);
+        mFontManager.mFonts.put("fonts/mono.ttf", mMono);
+    }
+
+    @After
+    public void tearDown() {
+        RxJavaPlugins.reset();
+    }
+
+    @Test
+    public void assetFontIsLoadedOnFirstUseOnly() {
+        mFontManager.registerFontAsset("Brand", "fonts/brand.ttf");
+
+        Assertions.assertThat(mFontManager.mLoaded).isEmpty();
+
+        Assertions.assertThat(mFontManager.getFont("BRAND")).isSameAs(mBrand);
+        Assertions.assertThat(mFontManager.getFont("brand")).isSameAs(mBrand);
+        Assertions.assertThat(mFontManager.getFont("Brand")).isSameAs(mBrand);
+
+        Assertions.assertThat(mFontManager.mLoaded).containsExactly("fonts/brand.ttf");
+    }
+
+    @Test
+    public void assetFontIsReloadedOnlyWhenItsPathChanges() {
+        mFontManager.registerFontAsset("brand", "fonts/brand.ttf");
+        mFontManager.getFont("brand");
+
+        mFontManager.registerFontAsset("BRAND", "fonts/brand.ttf");
+        Assertions.assertThat(mFontManager.getFont("brand")).isSameAs(mBrand);
+
+        mFontManager.registerFontAsset("brand", "fonts/mono.ttf");
+        Assertions.assertThat(mFontManager.getFont("brand")).isSameAs(mMono);
+
+        Assertions.assertThat(mFontManager.mLoaded).containsExactly("fonts/brand.ttf", "fonts/mono.ttf");
+    }
+
+    @Test
+    public void missingAssetFallsBackToDefaultFontAndIsNotRetried() {
+        mFontManager.registerFontAsset("missing", "fonts/missing.ttf");
+
+        Assertions.assertThat(mFontManager.getFont("missing")).isSameAs(mDefault);
+        Assertions.assertThat(mFontManager.getFont("missing")).isSameAs(mDefault);
+
+        Assertions.assertThat(mFontManager.mLoaded).containsExactly("fonts/missing.ttf");
+    }
+
+    @Test
+    public void unknownOrEmptyNameFallsBackToDefaultFont() {
+        mFontManager.registerFont("bold", mBrand);
+
+        Assertions.assertThat(mFontManager.getFont("bold")).isSameAs(mBrand);
+        Assertions.assertThat(mFontManager.getFont("unknown")).isSameAs(mDefault);
+        Assertions.assertThat(mFontManager.getFont("")).isSameAs(mDefault);
+        Assertions.assertThat(mFontManager.getFont(null)).isSameAs(mDefault);
+        Assertions.assertThat(mFontManager.mLoaded).isEmpty();
+    }
+
+    @Test
+    public void preloadLoadsEveryRegisteredAssetOnce() {
+        mFontManager.registerFontAsset("brand", "fonts/brand.ttf");
+        mFontManager.registerFontAsset("mono", "fonts/mono.ttf");
+
+        mFontManager.preloadFonts();
+
+        Assertions.assertThat(mFontManager.mLoaded).containsOnly("fonts/brand.ttf", "fonts/mono.ttf");
+
+        Assertions.assertThat(mFontManager.getFont("brand")).isSameAs(mBrand);
+        Assertions.assertThat(mFontManager.getFont("mono")).isSameAs(mMono);
+        Assertions.assertThat(mFontManager.mLoaded).hasSize(2);
+    }
+
+    @Test
+    public void preloadOfNamedFontsLeavesTheOthersLazy() {
+        mFontManager.registerFontAsset("brand", "fonts/brand.ttf");
+        mFontManager.registerFontAsset("mono", "fonts/mono.ttf");
+
+        mFontManager.preloadFonts("Mono");
+
+        Assertions.assertThat(mFontManager.mLoaded).containsExactly("fonts/mono.ttf");
+    }
+
+    /**
+     * Serves the asset fonts from a map, {@link Typeface#createFromAsset} being a stub in unit tests.
+     */
+    private static class AssetFontManager extends FontManager {
+
+        final Map<String, Typeface> mFonts = new HashMap<>();
+
+        final List<String> mLoaded = new ArrayList<>();
+
+        AssetFontManager() {
+            super(NullLogger.instance);
+        }
+
+        @Override
+        Typeface createFontFromAsset(String assetPath) {
+            mLoaded.add(assetPath);
+            Typeface font = mFonts.get(assetPath);
+            if (font == null) {
+                throw new RuntimeException("Font asset not found " + assetPath);
+            }
+            return font;
+        }
+    }
+}
@@ -0,0 +1,194 @@
+package solutions.alterego.androidbound.android.adapters;
+
+import android.content.Context;
+import android.view.View;
+import android.view.ViewGroup;
+import android.widget.FrameLayout;
+
+import org.fest.assertions.api.Assertions;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.RuntimeEnvironment;
+import org.robolectric.annotation.Config;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import solutions.alterego.androidbound.NullLogger;
+import solutions.alterego.androidbound.android.interfaces.IHasStableId;
+import solutions.alterego.androidbound.binding.interfaces.IBindingAssociationEngine;
+import solutions.alterego.androidbound.interfaces.IViewBinder;
+import solutions.alterego.androidbound.interfaces.IViewBindingEngine;
+
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyBoolean;
+import static org.mockito.Matchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(RobolectricTestRunner.class)
+@Config(manifest = Config.NONE, sdk = 23)
+public class BindableListAdapterTest {
+
+    private static final int ROW_LAYOUT = 10;
+
+    private static final int HEADER_LAYOUT = 20;
+
+    private static final int FOOTER_LAYOUT = 5;
+
+    public static class Row implements IHasStableId {
+
+        private final long mId;
+
+        Row(long id) {
+            mId = id;
+        }
+
+        @Override
+        public long getStableId() {
+            return mId;
+        }
+    }
+
+    public static class Header implements IHasStableId {
+
+        @Override
+        public long getStableId() {
+            return -1;
+        }
+    }
+
+    public static class Footer {
+    }
+
+    private Context mContext;
+
+    private IViewBinder mViewBinder;
+
+    private IViewBindingEngine mBindingEngine;
+
+    private ViewGroup mParent;
+
+    @Before
+    public void setUp() {
+        mContext = RuntimeEnvironment.application;
+        mParent = new FrameLayout(mContext);
+        mBindingEngine = mock(IViewBindingEngine.class);
+        mViewBinder = mock(IViewBinder.class);
+        when(mViewBinder.getLogger()).thenReturn(NullLogger.instance);
+        when(mViewBinder.getViewBindingEngine()).thenReturn(mBindingEngine);
+        when(mViewBinder.inflate(any(Context.class), any(), anyInt(), any(ViewGroup.class), anyBoolean())).thenAnswer(
+                new Answer<View>() {
+                    @Override
+                    public View answer(InvocationOnMock invocation) throws Throwable {
+                        return new View(mContext);
+                    }
+                });
+    }
+
+    @Test
+    public void templatesForObjectsGetTheirOwnViewTypes() {
+        BindableListAdapter adapter = new BindableListAdapter(mContext, mViewBinder, ROW_LAYOUT,
+                Arrays.asList(new Header(), new Row(1), new Footer()));
+        Map<Class<?>, Integer> templates = new HashMap<Class<?>, Integer>();
+        templates.put(Header.class, HEADER_LAYOUT);
+        templates.put(Footer.class, FOOTER_LAYOUT);
+        templates.put(Row.class, ROW_LAYOUT);
+        adapter.setTemplatesForObjects(templates);
+
+        Assertions.assertThat(adapter.getViewTypeCount()).isEqualTo(3);
+        Assertions.assertThat(adapter.getItemViewType(1)).isEqualTo(0);
+        Assertions.assertThat(adapter.getItemViewType(0)).isNotEqualTo(adapter.getItemViewType(2));
+        Assertions.assertThat(adapter.getItemViewType(0)).isGreaterThan(0).isLessThan(3);
+        Assertions.assertThat(adapter.getItemViewType(2)).isGreaterThan(0).isLessThan(3);
+    }
+
+    @Test
+    public void stableIdsComeFromTheItems() {
+        BindableListAdapter adapter = new BindableListAdapter(mContext, mViewBinder, ROW_LAYOUT,
+                Arrays.asList(new Header(), new Row(7), new Row(3)));
+        adapter.setHasStableIds(true);
+
+        Assertions.assertThat(adapter.hasStableIds()).isTrue();
+        Assertions.assertThat(adapter.getItemId(0)).isEqualTo(-1);
+        Assertions.assertThat(adapter.getItemId(1)).isEqualTo(7);
+        Assertions.assertThat(adapter.getItemId(2)).isEqualTo(3);
+    }
+
+    @Test
+    public void stableIdsDoNotDependOnTheItems() {
+        BindableListAdapter adapter = new BindableListAdapter(mContext, mViewBinder, ROW_LAYOUT, Arrays.asList(new Row(7)));
+        adapter.setHasStableIds(true);
+
+        adapter.setItemsSource(new ArrayList<Object>());
+        Assertions.assertThat(adapter.hasStableIds()).isTrue();
+
+        adapter.setItemsSource(Arrays.asList(new Row(7), new Row(8)));
+        Assertions.assertThat(adapter.hasStableIds()).isTrue();
+        Assertions.assertThat(adapter.getItemId(1)).isEqualTo(8);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void itemWithoutStableIdBreaksTheContract() {
+        BindableListAdapter adapter = new BindableListAdapter(mContext, mViewBinder, ROW_LAYOUT,
+                Arrays.asList(new Row(7), new Footer()));
+        adapter.setHasStableIds(true);
+
+        adapter.getItemId(1);
+    }
+
+    @Test
+    public void stableIdsAreOffUnlessEnabled() {
+        BindableListAdapter adapter = new BindableListAdapter(mContext, mViewBinder, ROW_LAYOUT,
+                Arrays.asList(new Row(7), new Row(8)));
+
+        Assertions.assertThat(adapter.hasStableIds()).isFalse();
+        Assertions.assertThat(adapter.getItemId(1)).isEqualTo(1);
+    }
+
+    @Test
+    public void recycledViewReusesTheBindingsFoundAtInflation() {
+        IBindingAssociationEngine binding = mock(IBindingAssociationEngine.class);
+        List<IBindingAssociationEngine> bindings = new ArrayList<IBindingAssociationEngine>();
+        bindings.add(binding);
+        when(mBindingEngine.getBindingsForView(any(View.class))).thenReturn(bindings);
+        Row first = new Row(1);
+        Row second = new Row(2);
+        Row third = new Row(3);
+        BindableListAdapter adapter = new BindableListAdapter(mContext, mViewBinder, ROW_LAYOUT, Arrays.asList(first, second, third));
+
+        View view = adapter.getView(0, null, mParent);
+        Assertions.assertThat(adapter.getView(1, view, mParent)).isSameAs(view);
+        Assertions.assertThat(adapter.getView(2, view, mParent)).isSameAs(view);
+
+        verify(mViewBinder, times(1)).inflate(any(Context.class), any(), anyInt(), any(ViewGroup.class), anyBoolean());
+        verify(mBindingEngine, times(1)).getBindingsForView(view);
+        verify(binding).setDataContext(second);
+        verify(binding).setDataContext(third);
+    }
+
+    @Test
+    public void viewOfAnotherTemplateIsNotRecycled() {
+        when(mBindingEngine.getBindingsForView(any(View.class))).thenReturn(new ArrayList<IBindingAssociationEngine>());
+        BindableListAdapter adapter = new BindableListAdapter(mContext, mViewBinder, ROW_LAYOUT,
+                Arrays.asList(new Row(1), new Header()));
+        Map<Class<?>, Integer> templates = new HashMap<Class<?>, Integer>();
+        templates.put(Header.class, HEADER_LAYOUT);
+        adapter.setTemplatesForObjects(templates);
+
+        View row = adapter.getView(0, null, mParent);
+        View header = adapter.getView(1, row, mParent);
+
+        Assertions.assertThat(header).isNotSameAs(row);
+        verify(mViewBinder, times(2)).inflate(any(Context.class), any(), anyInt(), any(ViewGroup.class), anyBoolean());
+    }
+}
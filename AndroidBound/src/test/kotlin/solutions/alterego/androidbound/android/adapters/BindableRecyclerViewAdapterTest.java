@@ -0,0 +1,301 @@
+package solutions.alterego.androidbound.android.adapters;
+
+import android.content.Context;
+import android.support.v7.widget.RecyclerView;
+import android.view.View;
+import android.view.ViewGroup;
+import android.widget.FrameLayout;
+
+import org.fest.assertions.api.Assertions;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.RuntimeEnvironment;
+import org.robolectric.annotation.Config;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import solutions.alterego.androidbound.NullLogger;
+import solutions.alterego.androidbound.binding.data.BindableList;
+import solutions.alterego.androidbound.binding.data.IndexedGroupingList;
+import solutions.alterego.androidbound.interfaces.IViewBinder;
+import solutions.alterego.androidbound.interfaces.IViewBindingEngine;
+
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyBoolean;
+import static org.mockito.Matchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(RobolectricTestRunner.class)
+@Config(manifest = Config.NONE, sdk = 23)
+public class BindableRecyclerViewAdapterTest {
+
+    private static final int ITEM_LAYOUT = 10;
+
+    private static final int BASE_LAYOUT = 11;
+
+    private static final int EXACT_LAYOUT = 12;
+
+    private static final int TITLED_LAYOUT = 13;
+
+    private static final int HEADER_LAYOUT = 14;
+
+    public interface Titled {
+    }
+
+    public interface Headline extends Titled {
+    }
+
+    public static class Base {
+    }
+
+    public static class Derived extends Base {
+    }
+
+    public static class Exact {
+    }
+
+    public static class Article implements Titled {
+    }
+
+    public static class Breaking implements Headline {
+    }
+
+    public static class Unrelated {
+    }
+
+    private Context mContext;
+
+    private IViewBinder mViewBinder;
+
+    private IViewBindingEngine mBindingEngine;
+
+    private ViewGroup mParent;
+
+    private int mInflatedLayout;
+
+    @Before
+    public void setUp() {
+        mContext = RuntimeEnvironment.application;
+        mParent = new FrameLayout(mContext);
+        mParent.setLayoutParams(new ViewGroup.LayoutParams(ViewGroup.LayoutParams.MATCH_PARENT, ViewGroup.LayoutParams.WRAP_CONTENT));
+        mBindingEngine = mock(IViewBindingEngine.class);
+        mViewBinder = mock(IViewBinder.class);
+        when(mViewBinder.getLogger()).thenReturn(NullLogger.instance);
+        when(mViewBinder.getViewBindingEngine()).thenReturn(mBindingEngine);
+        when(mViewBinder.inflate(any(Context.class), any(), anyInt(), any(ViewGroup.class), anyBoolean())).thenAnswer(
+                new Answer<View>() {
+                    @Override
+                    public View answer(InvocationOnMock invocation) throws Throwable {
+                        mInflatedLayout = (Integer) invocation.getArguments()[2];
+                        return new View(mContext);
+                    }
+                });
+    }
+
+    @Test
+    public void exactClassGetsItsTemplate() {
+        BindableRecyclerViewAdapter adapter = adapter(new Exact(), new Base());
+
+        Assertions.assertThat(layoutAt(adapter, 0)).isEqualTo(EXACT_LAYOUT);
+        Assertions.assertThat(layoutAt(adapter, 1)).isEqualTo(BASE_LAYOUT);
+        Assertions.assertThat(adapter.getItemViewType(0)).isNotEqualTo(adapter.getItemViewType(1));
+    }
+
+    @Test
+    public void subclassGetsTheTemplateOfItsSuperclass() {
+        BindableRecyclerViewAdapter adapter = adapter(new Base(), new Derived());
+
+        Assertions.assertThat(adapter.getItemViewType(1)).isEqualTo(adapter.getItemViewType(0));
+        Assertions.assertThat(layoutAt(adapter, 1)).isEqualTo(BASE_LAYOUT);
+    }
+
+    @Test
+    public void implementerGetsTheTemplateOfItsInterface() {
+        BindableRecyclerViewAdapter adapter = adapter(new Article(), new Breaking());
+
+        Assertions.assertThat(layoutAt(adapter, 0)).isEqualTo(TITLED_LAYOUT);
+        // through the interface the item's interface extends
+        Assertions.assertThat(layoutAt(adapter, 1)).isEqualTo(TITLED_LAYOUT);
+    }
+
+    @Test
+    public void itemWithoutTemplateFallsBackToTheItemTemplate() {
+        BindableRecyclerViewAdapter adapter = adapter(new Unrelated(), null);
+
+        Assertions.assertThat(adapter.getItemViewType(0)).isEqualTo(BindableRecyclerViewAdapter.ITEM_TEMPLATE_VIEW_TYPE);
+        Assertions.assertThat(adapter.getItemViewType(1)).isEqualTo(BindableRecyclerViewAdapter.ITEM_TEMPLATE_VIEW_TYPE);
+        Assertions.assertThat(layoutAt(adapter, 0)).isEqualTo(ITEM_LAYOUT);
+    }
+
+    @Test
+    public void itemTemplateIsUsedWithoutTemplatesForObjects() {
+        BindableRecyclerViewAdapter adapter = new BindableRecyclerViewAdapter(mViewBinder, ITEM_LAYOUT);
+        adapter.setItemsSource(new BindableList<Object>(Arrays.<Object>asList(new Exact())));
+
+        Assertions.assertThat(adapter.getItemViewType(0)).isEqualTo(BindableRecyclerViewAdapter.ITEM_TEMPLATE_VIEW_TYPE);
+        Assertions.assertThat(layoutAt(adapter, 0)).isEqualTo(ITEM_LAYOUT);
+    }
+
+    @Test
+    public void laterLookupsReuseTheResolvedViewType() {
+        BindableRecyclerViewAdapter adapter = adapter(new Derived(), new Derived(), new Unrelated());
+
+        int viewType = adapter.getItemViewType(0);
+        Assertions.assertThat(adapter.mResolvedViewTypes).hasSize(1);
+        Assertions.assertThat(adapter.mResolvedViewTypes.get(Derived.class)).isEqualTo(viewType);
+
+        adapter.getItemViewType(2);
+        Assertions.assertThat(adapter.mResolvedViewTypes.get(Unrelated.class))
+                .isEqualTo(BindableRecyclerViewAdapter.ITEM_TEMPLATE_VIEW_TYPE);
+
+        // a class already seen is answered from the cache, without walking its hierarchy again
+        adapter.mResolvedViewTypes.put(Derived.class, 42);
+        Assertions.assertThat(adapter.getItemViewType(1)).isEqualTo(42);
+        Assertions.assertThat(adapter.mResolvedViewTypes).hasSize(2);
+    }
+
+    @Test
+    public void newTemplatesDropTheResolvedViewTypes() {
+        BindableRecyclerViewAdapter adapter = adapter(new Derived());
+        adapter.getItemViewType(0);
+
+        Map<Class<?>, Integer> templates = new HashMap<Class<?>, Integer>();
+        templates.put(Derived.class, EXACT_LAYOUT);
+        adapter.setTemplatesForObjects(templates);
+
+        Assertions.assertThat(adapter.mResolvedViewTypes).isEmpty();
+        Assertions.assertThat(layoutAt(adapter, 0)).isEqualTo(EXACT_LAYOUT);
+    }
+
+    @Test
+    public void addedItemsAreInsertedAtOnce() {
+        Exact first = new Exact();
+        Exact second = new Exact();
+        Base third = new Base();
+        Base fourth = new Base();
+        BindableList<Object> items = new BindableList<Object>(Arrays.<Object>asList(first, second));
+        BindableRecyclerViewAdapter adapter = new BindableRecyclerViewAdapter(mViewBinder, ITEM_LAYOUT);
+        adapter.setItemsSource(items);
+        List<String> notifications = record(adapter);
+
+        adapter.addItemsSource(Arrays.asList(third, second, null, fourth, third));
+
+        Assertions.assertThat(items).containsExactly(first, second, third, fourth);
+        Assertions.assertThat(notifications).containsExactly("Changed(1, 1)", "Inserted(2, 2)");
+    }
+
+    @Test
+    public void sectionHeadersGetTheirOwnViewTypeAndTemplate() {
+        IndexedGroupingList<String, Object> sections = new IndexedGroupingList<String, Object>();
+        sections.addSection("first", Arrays.<Object>asList(new Exact(), new Exact()));
+        sections.addSection("second", Arrays.<Object>asList(new Base()));
+        BindableRecyclerViewAdapter adapter = adapter(sections);
+
+        Assertions.assertThat(adapter.getItemViewType(0)).isEqualTo(BindableRecyclerViewAdapter.SECTION_HEADER_VIEW_TYPE);
+        Assertions.assertThat(adapter.getItemViewType(3)).isEqualTo(BindableRecyclerViewAdapter.SECTION_HEADER_VIEW_TYPE);
+        Assertions.assertThat(rowLayouts(adapter)).containsExactly(HEADER_LAYOUT, EXACT_LAYOUT,
+                EXACT_LAYOUT, HEADER_LAYOUT, BASE_LAYOUT);
+
+        RecyclerView.ViewHolder header = adapter.onCreateViewHolder(mParent, adapter.getItemViewType(3));
+        adapter.onBindViewHolder(header, 3);
+        verify(mBindingEngine).lazyBindView(header.itemView, "second");
+    }
+
+    @Test
+    public void sectionPositionsFollowInsertsAndRemovals() {
+        IndexedGroupingList<String, Object> sections = new IndexedGroupingList<String, Object>();
+        sections.addSection("first", Arrays.<Object>asList(new Exact(), new Exact()));
+        sections.addSection("second", Arrays.<Object>asList(new Base()));
+        BindableRecyclerViewAdapter adapter = adapter(sections);
+        List<String> notifications = record(adapter);
+
+        Base added = new Base();
+        sections.addItem(0, 1, added);
+        Assertions.assertThat(rowLayouts(adapter)).containsExactly(HEADER_LAYOUT, EXACT_LAYOUT, BASE_LAYOUT,
+                EXACT_LAYOUT, HEADER_LAYOUT, BASE_LAYOUT);
+        Assertions.assertThat(adapter.getItemsSource().get(2)).isSameAs(added);
+
+        sections.removeItem(1, 0);
+        sections.removeItem(0, 0);
+        Assertions.assertThat(rowLayouts(adapter)).containsExactly(HEADER_LAYOUT, BASE_LAYOUT, EXACT_LAYOUT, HEADER_LAYOUT);
+        Assertions.assertThat(adapter.getItemsSource().get(3)).isEqualTo("second");
+
+        sections.addSection(0, "zero", Arrays.<Object>asList(new Exact()));
+        Assertions.assertThat(rowLayouts(adapter)).containsExactly(HEADER_LAYOUT, EXACT_LAYOUT, HEADER_LAYOUT,
+                BASE_LAYOUT, EXACT_LAYOUT, HEADER_LAYOUT);
+
+        sections.removeSection(1);
+        Assertions.assertThat(rowLayouts(adapter)).containsExactly(HEADER_LAYOUT, EXACT_LAYOUT, HEADER_LAYOUT);
+        Assertions.assertThat(adapter.getItemsSource().get(2)).isEqualTo("second");
+
+        Assertions.assertThat(notifications).containsExactly(
+                "Inserted(2, 1)",
+                "Removed(5, 1)",
+                "Removed(1, 1)",
+                "Inserted(0, 2)",
+                "Removed(2, 3)");
+    }
+
+    private BindableRecyclerViewAdapter adapter(Object... items) {
+        BindableRecyclerViewAdapter adapter = new BindableRecyclerViewAdapter(mViewBinder, ITEM_LAYOUT);
+        Map<Class<?>, Integer> templates = new HashMap<Class<?>, Integer>();
+        templates.put(Base.class, BASE_LAYOUT);
+        templates.put(Exact.class, EXACT_LAYOUT);
+        templates.put(Titled.class, TITLED_LAYOUT);
+        adapter.setTemplatesForObjects(templates);
+        adapter.setItemsSource(new BindableList<Object>(Arrays.asList(items)));
+        return adapter;
+    }
+
+    private BindableRecyclerViewAdapter adapter(IndexedGroupingList<String, Object> sections) {
+        BindableRecyclerViewAdapter adapter = adapter();
+        adapter.setSectionHeaderTemplate(HEADER_LAYOUT);
+        adapter.setItemsSource(sections);
+        return adapter;
+    }
+
+    private List<Integer> rowLayouts(BindableRecyclerViewAdapter adapter) {
+        List<Integer> layouts = new ArrayList<Integer>();
+        for (int position = 0; position < adapter.getItemCount(); position++) {
+            layouts.add(layoutAt(adapter, position));
+        }
+        return layouts;
+    }
+
+    private static List<String> record(BindableRecyclerViewAdapter adapter) {
+        final List<String> notifications = new ArrayList<String>();
+        adapter.registerAdapterDataObserver(new RecyclerView.AdapterDataObserver() {
+            @Override
+            public void onItemRangeChanged(int positionStart, int itemCount) {
+                notifications.add("Changed(" + positionStart + ", " + itemCount + ")");
+            }
+
+            @Override
+            public void onItemRangeInserted(int positionStart, int itemCount) {
+                notifications.add("Inserted(" + positionStart + ", " + itemCount + ")");
+            }
+
+            @Override
+            public void onItemRangeRemoved(int positionStart, int itemCount) {
+                notifications.add("Removed(" + positionStart + ", " + itemCount + ")");
+            }
+        });
+        return notifications;
+    }
+
+    private int layoutAt(BindableRecyclerViewAdapter adapter, int position) {
+        mInflatedLayout = 0;
+        adapter.onCreateViewHolder(mParent, adapter.getItemViewType(position));
+        return mInflatedLayout;
+    }
+}
@@ -0,0 +1,135 @@
+package solutions.alterego.androidbound.android.imageloader;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+
+import org.fest.assertions.api.Assertions;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import solutions.alterego.androidbound.NullLogger;
+
+public class DiskCacheTest {
+
+    private static final byte[] IMAGE = new byte[1024];
+
+    @Rule
+    public TemporaryFolder mFolder = new TemporaryFolder();
+
+    private HttpServer mServer;
+
+    private AtomicInteger mRequests = new AtomicInteger();
+
+    private String mBaseUri;
+
+    @Before
+    public void setUp() throws Exception {
+        mServer = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        mServer.createContext("/", new HttpHandler() {
+            @Override
+            public void handle(HttpExchange exchange) throws IOException {
+                mRequests.incrementAndGet();
+                boolean found = !exchange.getRequestURI().getPath().contains("missing");
+                exchange.sendResponseHeaders(found ? 200 : 404, found ? IMAGE.length : -1);
+                if (found) {
+                    OutputStream body = exchange.getResponseBody();
+                    body.write(IMAGE);
+                    body.close();
+                }
+                exchange.close();
+            }
+        });
+        mServer.start();
+        mBaseUri = "http://127.0.0.1:" + mServer.getAddress().getPort() + "/";
+    }
+
+    @After
+    public void tearDown() {
+        mServer.stop(0);
+    }
+
+    @Test
+    public void fetchDownloadsOnlyOnce() throws Exception {
+        DiskCache cache = new DiskCache(mFolder.newFolder("cache"), 64 * 1024, NullLogger.instance);
+
+        File first = cache.fetch(mBaseUri + "image.png");
+        File second = cache.fetch(mBaseUri + "image.png");
+
+        Assertions.assertThat(mRequests.get()).isEqualTo(1);
+        Assertions.assertThat(second).isEqualTo(first);
+        Assertions.assertThat(first.length()).isEqualTo(IMAGE.length);
+    }
+
+    @Test
+    public void fetchCopiesFileUris() throws Exception {
+        File source = mFolder.newFile("local.png");
+        FileOutputStream output = new FileOutputStream(source);
+        output.write(IMAGE, 0, 100);
+        output.close();
+        DiskCache cache = new DiskCache(mFolder.newFolder("cache"), 64 * 1024, NullLogger.instance);
+
+        File cached = cache.fetch(source.toURI().toString());
+
+        Assertions.assertThat(cached.length()).isEqualTo(100);
+        Assertions.assertThat(cache.get(source.toURI().toString())).isEqualTo(cached);
+    }
+
+    @Test
+    public void trimsLeastRecentlyUsedFiles() throws Exception {
+        DiskCache cache = new DiskCache(mFolder.newFolder("cache"), 2 * IMAGE.length, NullLogger.instance);
+
+        cache.fetch(mBaseUri + "1.png").setLastModified(1000);
+        cache.fetch(mBaseUri + "2.png").setLastModified(2000);
+        cache.fetch(mBaseUri + "3.png");
+
+        Assertions.assertThat(cache.get(mBaseUri + "1.png")).isNull();
+        Assertions.assertThat(cache.get(mBaseUri + "2.png")).isNotNull();
+        Assertions.assertThat(cache.get(mBaseUri + "3.png")).isNotNull();
+    }
+
+    @Test
+    public void trimNeverEvictsTheFileJustFetchedNorDownloadsInProgress() throws Exception {
+        File directory = mFolder.newFolder("cache");
+        DiskCache cache = new DiskCache(directory, IMAGE.length / 2, NullLogger.instance);
+        File download = new File(directory, "other.tmp");
+        download.createNewFile();
+        download.setLastModified(500);
+
+        cache.fetch(mBaseUri + "1.png").setLastModified(1000);
+        File fetched = cache.fetch(mBaseUri + "2.png");
+
+        Assertions.assertThat(fetched.isFile()).isTrue();
+        Assertions.assertThat(cache.get(mBaseUri + "1.png")).isNull();
+        Assertions.assertThat(download.isFile()).isTrue();
+    }
+
+    @Test(expected = IOException.class)
+    public void fetchFailsOnHttpError() throws Exception {
+        DiskCache cache = new DiskCache(mFolder.newFolder("cache"), 64 * 1024, NullLogger.instance);
+
+        try {
+            cache.fetch(mBaseUri + "missing.png");
+        } finally {
+            Assertions.assertThat(cache.get(mBaseUri + "missing.png")).isNull();
+        }
+    }
+
+    @Test
+    public void inSampleSizeKeepsImageLargerThanView() {
+        Assertions.assertThat(ReferenceImageLoader.calculateInSampleSize(4000, 3000, 1000, 700)).isEqualTo(4);
+        Assertions.assertThat(ReferenceImageLoader.calculateInSampleSize(4000, 3000, 1001, 700)).isEqualTo(2);
+        Assertions.assertThat(ReferenceImageLoader.calculateInSampleSize(400, 300, 1000, 700)).isEqualTo(1);
+        Assertions.assertThat(ReferenceImageLoader.calculateInSampleSize(4000, 3000, 0, 700)).isEqualTo(1);
+    }
+}
@@ -0,0 +1,149 @@
+package solutions.alterego.androidbound.android.imageloader;
+
+import org.fest.assertions.api.Assertions;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.RuntimeEnvironment;
+import org.robolectric.annotation.Config;
+
+import android.content.Context;
+import android.graphics.Bitmap;
+import android.graphics.drawable.BitmapDrawable;
+import android.widget.ImageView;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+
+import io.reactivex.Scheduler;
+import io.reactivex.android.plugins.RxAndroidPlugins;
+import io.reactivex.functions.Function;
+import io.reactivex.plugins.RxJavaPlugins;
+import io.reactivex.schedulers.TestScheduler;
+import solutions.alterego.androidbound.NullLogger;
+
+@RunWith(RobolectricTestRunner.class)
+@Config(manifest = Config.NONE, sdk = 23)
+public class ReferenceImageLoaderTest {
+
+    private static final String FIRST = "content://images/first";
+
+    private static final String SECOND = "content://images/second";
+
+    private TestScheduler mIo;
+
+    private TestScheduler mMainThread;
+
+    private FakeImageLoader mLoader;
+
+    private ImageView mImage;
+
+    @Before
+    public void setUp() {
+        mIo = new TestScheduler();
+        mMainThread = new TestScheduler();
+        RxJavaPlugins.setIoSchedulerHandler(new Function<Scheduler, Scheduler>() {
+            @Override
+            public Scheduler apply(Scheduler scheduler) throws Exception {
+                return mIo;
+            }
+        });
+        RxAndroidPlugins.setInitMainThreadSchedulerHandler(new Function<Callable<Scheduler>, Scheduler>() {
+            @Override
+            public Scheduler apply(Callable<Scheduler> scheduler) throws Exception {
+                return mMainThread;
+            }
+        });
+        RxAndroidPlugins.setMainThreadSchedulerHandler(new Function<Scheduler, Scheduler>() {
+            @Override
+            public Scheduler apply(Scheduler scheduler) throws Exception {
+                return mMainThread;
+            }
+        });
+
+        Context context = RuntimeEnvironment.application;
+        mLoader = new FakeImageLoader(context);
+        mLoader.mBitmaps.put(FIRST, Bitmap.createBitmap(4, 4, Bitmap.Config.ARGB_8888));
+        mLoader.mBitmaps.put(SECOND, Bitmap.createBitmap(4, 4, Bitmap.Config.ARGB_8888));
+        mImage = new ImageView(context);
+    }
+
+    @After
+    public void tearDown() {
+        RxJavaPlugins.reset();
+        RxAndroidPlugins.reset();
+    }
+
+    @Test
+    public void secondRequestCancelsTheFirstBeforeItDecodes() {
+        mLoader.loadImageFromUri(FIRST, mImage);
+        mLoader.loadImageFromUri(SECOND, mImage);
+
+        mIo.triggerActions();
+        mMainThread.triggerActions();
+
+        Assertions.assertThat(mLoader.mDecoded).containsExactly(SECOND);
+        Assertions.assertThat(shownBitmap()).isSameAs(mLoader.mBitmaps.get(SECOND));
+    }
+
+    @Test
+    public void firstRequestDecodedLateIsNeverApplied() {
+        mLoader.loadImageFromUri(FIRST, mImage);
+        mIo.triggerActions();
+
+        mLoader.loadImageFromUri(SECOND, mImage);
+        mMainThread.triggerActions();
+
+        Assertions.assertThat(mImage.getDrawable()).isNull();
+
+        mIo.triggerActions();
+        mMainThread.triggerActions();
+
+        Assertions.assertThat(mLoader.mDecoded).containsExactly(FIRST, SECOND);
+        Assertions.assertThat(shownBitmap()).isSameAs(mLoader.mBitmaps.get(SECOND));
+    }
+
+    @Test
+    public void cancelledResultIsNotCached() {
+        mLoader.loadImageFromUri(FIRST, mImage);
+        mIo.triggerActions();
+        mLoader.cancel(mImage);
+        mMainThread.triggerActions();
+
+        mLoader.loadImageFromUri(FIRST, mImage);
+        mIo.triggerActions();
+        mMainThread.triggerActions();
+
+        Assertions.assertThat(mLoader.mDecoded).containsExactly(FIRST, FIRST);
+
+        mLoader.loadImageFromUri(FIRST, new ImageView(RuntimeEnvironment.application));
+
+        Assertions.assertThat(mLoader.mDecoded).hasSize(2);
+    }
+
+    private Bitmap shownBitmap() {
+        return ((BitmapDrawable) mImage.getDrawable()).getBitmap();
+    }
+
+    private static class FakeImageLoader extends ReferenceImageLoader {
+
+        final Map<String, Bitmap> mBitmaps = new HashMap<>();
+
+        final List<String> mDecoded = new ArrayList<>();
+
+        FakeImageLoader(Context context) {
+            super(context, 1024 * 1024, 1024 * 1024, NullLogger.instance);
+        }
+
+        @Override
+        protected Bitmap decode(String uri, int width, int height) {
+            mDecoded.add(uri);
+            return mBitmaps.get(uri);
+        }
+    }
+}
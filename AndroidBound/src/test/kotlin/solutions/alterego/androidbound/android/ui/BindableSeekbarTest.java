@@ -0,0 +1,112 @@
+package solutions.alterego.androidbound.android.ui;
+
+import org.fest.assertions.api.Assertions;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.RuntimeEnvironment;
+import org.robolectric.annotation.Config;
+
+import solutions.alterego.androidbound.NullLogger;
+import solutions.alterego.androidbound.TestViewModel;
+import solutions.alterego.androidbound.binding.BindingAssociationEngine;
+import solutions.alterego.androidbound.binding.data.BindingMode;
+import solutions.alterego.androidbound.binding.data.BindingRequest;
+import solutions.alterego.androidbound.binding.data.BindingSpecification;
+import solutions.alterego.androidbound.converters.DefaultConverter;
+import solutions.alterego.androidbound.factories.SourceBindingFactory;
+import solutions.alterego.androidbound.factories.TargetBindingFactory;
+import solutions.alterego.androidbound.helpers.Reflector;
+import solutions.alterego.androidbound.helpers.reflector.IWritableIntPropertyAccessor;
+import solutions.alterego.androidbound.helpers.reflector.PropertyInfo;
+
+@RunWith(RobolectricTestRunner.class)
+@Config(manifest = Config.NONE, sdk = 23)
+public class BindableSeekbarTest {
+
+    public static class ProgressModel extends TestViewModel {
+
+        private int mProgress;
+
+        public int getProgress() {
+            return mProgress;
+        }
+
+        public void setProgress(int progress) {
+            mProgress = progress;
+            raise("Progress");
+        }
+    }
+
+    /**
+     * What AndroidBoundCompiler generates for the Progress property of a bound ViewModel.
+     */
+    private static final IWritableIntPropertyAccessor MODEL_PROGRESS = new IWritableIntPropertyAccessor() {
+        @Override
+        public Object get(Object subject) {
+            return ((ProgressModel) subject).getProgress();
+        }
+
+        @Override
+        public void set(Object subject, Object value) {
+            ((ProgressModel) subject).setProgress(((Number) value).intValue());
+        }
+
+        @Override
+        public int getInt(Object subject) {
+            return ((ProgressModel) subject).getProgress();
+        }
+
+        @Override
+        public void setInt(Object subject, int value) {
+            ((ProgressModel) subject).setProgress(value);
+        }
+    };
+
+    private BindableSeekbar mSeekbar;
+
+    private ProgressModel mModel;
+
+    @Before
+    public void setUp() {
+        Reflector.registerProperty(ProgressModel.class, new PropertyInfo("Progress", int.class, true, MODEL_PROGRESS, NullLogger.instance));
+        mSeekbar = new BindableSeekbar(RuntimeEnvironment.application);
+        mModel = new ProgressModel();
+    }
+
+    @Test
+    public void progressIsAccessedWithoutReflection() {
+        PropertyInfo progress = Reflector.getProperty(BindableSeekbar.class, "Progress", NullLogger.instance);
+
+        Assertions.assertThat(progress.getAccessor()).isSameAs(BindableSeekbar.PROGRESS);
+        Assertions.assertThat(progress.getGetterMethod()).isNull();
+        Assertions.assertThat(progress.getSetterMethod()).isNull();
+    }
+
+    @Test
+    public void progressChangesReachTheModelWithoutATrackingCommand() {
+        BindingAssociationEngine engine = bind();
+
+        mSeekbar.setProgress(42);
+
+        Assertions.assertThat(mModel.getProgress()).isEqualTo(42);
+        engine.dispose();
+    }
+
+    private BindingAssociationEngine bind() {
+        BindingSpecification specification = new BindingSpecification.BindingSpecificationBuilder()
+                .setSource("Progress")
+                .setTarget("Progress")
+                .setMode(BindingMode.TwoWay)
+                .setValueConverter(DefaultConverter.instance)
+                .build();
+
+        BindingRequest request = new BindingRequest();
+        request.setSource(mModel);
+        request.setTarget(mSeekbar);
+        request.setSpecification(specification);
+        return new BindingAssociationEngine(request, new SourceBindingFactory(NullLogger.instance),
+                new TargetBindingFactory(NullLogger.instance), NullLogger.instance);
+    }
+}
@@ -0,0 +1,118 @@
+package solutions.alterego.androidbound.android.ui;
+
+import android.view.View;
+
+import org.fest.assertions.api.Assertions;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.RuntimeEnvironment;
+import org.robolectric.annotation.Config;
+
+import io.reactivex.Observable;
+import io.reactivex.subjects.BehaviorSubject;
+import solutions.alterego.androidbound.interfaces.ICommand;
+import solutions.alterego.androidbound.interfaces.INotifyCanExecuteChanged;
+
+@RunWith(RobolectricTestRunner.class)
+@Config(manifest = Config.NONE, sdk = 23)
+public class BindableViewDelegateTest {
+
+    private View mView;
+
+    private BindableViewDelegate mDelegate;
+
+    @Before
+    public void setUp() {
+        mView = new View(RuntimeEnvironment.application);
+        mDelegate = new BindableViewDelegate(mView);
+    }
+
+    @Test
+    public void executableCommandKeepsADisabledViewDisabled() {
+        mView.setEnabled(false);
+
+        mDelegate.setClick(new NotifyingCommand(true));
+
+        Assertions.assertThat(mView.isEnabled()).isFalse();
+    }
+
+    @Test
+    public void viewIsDisabledWhileTheCommandCannotExecute() {
+        NotifyingCommand command = new NotifyingCommand(true);
+        mDelegate.setClick(command);
+
+        command.mCanExecute.onNext(false);
+        Assertions.assertThat(mView.isEnabled()).isFalse();
+
+        command.mCanExecute.onNext(true);
+        Assertions.assertThat(mView.isEnabled()).isTrue();
+    }
+
+    @Test
+    public void viewDisabledBeforeTheCommandRanStaysDisabled() {
+        NotifyingCommand command = new NotifyingCommand(true);
+        mDelegate.setClick(command);
+        mView.setEnabled(false);
+
+        command.mCanExecute.onNext(false);
+        command.mCanExecute.onNext(true);
+
+        Assertions.assertThat(mView.isEnabled()).isFalse();
+    }
+
+    @Test
+    public void viewEnabledByABindingMeanwhileIsLeftEnabled() {
+        NotifyingCommand command = new NotifyingCommand(false);
+        mView.setEnabled(false);
+        mDelegate.setClick(command);
+
+        mView.setEnabled(true);
+        command.mCanExecute.onNext(true);
+
+        Assertions.assertThat(mView.isEnabled()).isTrue();
+    }
+
+    @Test
+    public void replacedCommandRestoresTheEnabledState() {
+        mDelegate.setClick(new NotifyingCommand(false));
+        Assertions.assertThat(mView.isEnabled()).isFalse();
+
+        mDelegate.setClick(null);
+
+        Assertions.assertThat(mView.isEnabled()).isTrue();
+    }
+
+    private static class NotifyingCommand implements ICommand, INotifyCanExecuteChanged {
+
+        final BehaviorSubject<Boolean> mCanExecute;
+
+        NotifyingCommand(boolean canExecute) {
+            mCanExecute = BehaviorSubject.createDefault(canExecute);
+        }
+
+        @Override
+        public boolean canExecute(Object parameter) {
+            return mCanExecute.getValue();
+        }
+
+        @Override
+        public void execute(Object parameter) {
+        }
+
+        @Override
+        public boolean canExecute(View view, Object parameter) {
+            return canExecute(parameter);
+        }
+
+        @Override
+        public void execute(View view, Object parameter) {
+        }
+
+        @Override
+        public Observable<Boolean> onCanExecuteChanged() {
+            return mCanExecute;
+        }
+    }
+}
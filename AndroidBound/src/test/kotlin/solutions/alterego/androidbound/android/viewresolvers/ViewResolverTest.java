@@ -0,0 +1,106 @@
+package solutions.alterego.androidbound.android.viewresolvers;
+
+import android.content.Context;
+import android.view.View;
+
+import org.fest.assertions.api.Assertions;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.RuntimeEnvironment;
+import org.robolectric.annotation.Config;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import solutions.alterego.androidbound.NullLogger;
+import solutions.alterego.androidbound.android.ui.BindableTextView;
+import solutions.alterego.androidbound.interfaces.ILogger;
+
+@RunWith(RobolectricTestRunner.class)
+@Config(manifest = Config.NONE, sdk = 23)
+public class ViewResolverTest {
+
+    private Context mContext;
+
+    private RecordingLogger mLogger;
+
+    private ViewResolver mResolver;
+
+    @Before
+    public void setUp() {
+        mContext = RuntimeEnvironment.application;
+        mLogger = new RecordingLogger();
+        mResolver = new ViewResolver(mLogger);
+    }
+
+    @Test
+    public void laterLookupsOfANameHitTheCache() {
+        View first = mResolver.createView("TextView", mContext, null);
+        View second = mResolver.createView("TextView", mContext, null);
+
+        Assertions.assertThat(first).isInstanceOf(BindableTextView.class);
+        Assertions.assertThat(second).isInstanceOf(BindableTextView.class).isNotSameAs(first);
+
+        for (int i = 2; i < 100; i++) {
+            mResolver.createView("TextView", mContext, null);
+        }
+        Assertions.assertThat(mLogger.mDebugs).hasSize(1);
+        Assertions.assertThat(mLogger.mDebugs.get(0)).contains("lookups = 100, hits = 99,").contains("cached names = 1");
+    }
+
+    @Test
+    public void nameWithoutMappingIsLoadedOnce() {
+        View first = mResolver.createView("CheckBox", mContext, null);
+        View second = mResolver.createView("CheckBox", mContext, null);
+
+        Assertions.assertThat(first).isInstanceOf(android.widget.CheckBox.class);
+        Assertions.assertThat(second).isInstanceOf(android.widget.CheckBox.class);
+        Assertions.assertThat(mLogger.mDebugs).containsExactly("Resolving CheckBox with android.widget.CheckBox");
+    }
+
+    @Test
+    public void unknownNamesStayUnresolved() {
+        Assertions.assertThat(mResolver.createView("NoSuchView", mContext, null)).isNull();
+        Assertions.assertThat(mResolver.createView("NoSuchView", mContext, null)).isNull();
+        Assertions.assertThat(mResolver.createView("com.example.NoSuchView", mContext, null)).isNull();
+
+        // remembered as unresolved, so the class isn't looked up again
+        Assertions.assertThat(mLogger.mWarnings).containsExactly("View not found for name NoSuchView",
+                "View not found for name com.example.NoSuchView");
+        Assertions.assertThat(mLogger.mDebugs).containsExactly("Resolving NoSuchView with android.widget.NoSuchView",
+                "Resolving com.example.NoSuchView with com.example.NoSuchView");
+    }
+
+    @Test
+    public void disposeForgetsTheResolvedNames() {
+        mResolver.createView("NoSuchView", mContext, null);
+        mResolver.dispose();
+        mResolver.createView("NoSuchView", mContext, null);
+
+        Assertions.assertThat(mLogger.mWarnings).hasSize(2);
+    }
+
+    private static class RecordingLogger extends NullLogger {
+
+        final List<String> mDebugs = new ArrayList<String>();
+
+        final List<String> mWarnings = new ArrayList<String>();
+
+        @Override
+        public void debug(String msg) {
+            mDebugs.add(msg);
+        }
+
+        @Override
+        public void warning(String msg) {
+            mWarnings.add(msg);
+        }
+
+        @Override
+        public ILogger getLogger(Object object) {
+            return this;
+        }
+    }
+}
@@ -0,0 +1,197 @@
+package solutions.alterego.androidbound.binding;
+
+import org.fest.assertions.api.Assertions;
+import org.junit.After;
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.RuntimeEnvironment;
+import org.robolectric.annotation.Config;
+import org.robolectric.shadows.ShadowLooper;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+import solutions.alterego.androidbound.NullLogger;
+import solutions.alterego.androidbound.TestViewModel;
+import solutions.alterego.androidbound.android.ui.BindableSeekbar;
+import solutions.alterego.androidbound.android.ui.BindableView;
+import solutions.alterego.androidbound.binding.data.BindingMode;
+import solutions.alterego.androidbound.binding.data.BindingRequest;
+import solutions.alterego.androidbound.binding.data.BindingSpecification;
+import solutions.alterego.androidbound.binding.types.TargetPropertyBinding;
+import solutions.alterego.androidbound.converters.DefaultConverter;
+import solutions.alterego.androidbound.factories.SourceBindingFactory;
+import solutions.alterego.androidbound.factories.TargetBindingFactory;
+import solutions.alterego.androidbound.helpers.Reflector;
+import solutions.alterego.androidbound.helpers.reflector.IWritableIntPropertyAccessor;
+import solutions.alterego.androidbound.helpers.reflector.PropertyInfo;
+
+/**
+ * Measures the allocations of warmed-up updates between a ViewModel and real Bindable views, bound like a layout binds
+ * them: the view side is a {@link TargetPropertyBinding}, int values are copied without boxing and the views are written
+ * through their setters. Needs a VM that counts the bytes allocated by a thread, HotSpot does.
+ */
+@RunWith(RobolectricTestRunner.class)
+@Config(manifest = Config.NONE, sdk = 23)
+public class BindingAllocationTest {
+
+    private static final int UPDATES = 10000;
+
+    private static final int WARM_UP = UPDATES * 5;
+
+    public static class Model extends TestViewModel {
+
+        private int mLevel;
+
+        private Object mValue;
+
+        int mLevelWrites;
+
+        public int getLevel() {
+            return mLevel;
+        }
+
+        public void setLevel(int level) {
+            mLevel = level;
+            mLevelWrites++;
+            raise("Level");
+        }
+
+        public Object getValue() {
+            return mValue;
+        }
+
+        public void setValue(Object value) {
+            mValue = value;
+            raise("Value");
+        }
+    }
+
+    /**
+     * What AndroidBoundCompiler generates for the Level property of a bound ViewModel.
+     */
+    private static final IWritableIntPropertyAccessor MODEL_LEVEL = new IWritableIntPropertyAccessor() {
+        @Override
+        public Object get(Object subject) {
+            return ((Model) subject).getLevel();
+        }
+
+        @Override
+        public void set(Object subject, Object value) {
+            ((Model) subject).setLevel(((Number) value).intValue());
+        }
+
+        @Override
+        public int getInt(Object subject) {
+            return ((Model) subject).getLevel();
+        }
+
+        @Override
+        public void setInt(Object subject, int value) {
+            ((Model) subject).setLevel(value);
+        }
+    };
+
+    private com.sun.management.ThreadMXBean mAllocations;
+
+    private long mThread;
+
+    private Model mModel;
+
+    private BindableSeekbar mSeekbar;
+
+    private BindableView mView;
+
+    private BindingAssociationEngine mLevelBinding;
+
+    private BindingAssociationEngine mValueBinding;
+
+    @Before
+    public void setUp() {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        Assume.assumeTrue(threads instanceof com.sun.management.ThreadMXBean
+                && ((com.sun.management.ThreadMXBean) threads).isThreadAllocatedMemorySupported());
+        mAllocations = (com.sun.management.ThreadMXBean) threads;
+        mAllocations.setThreadAllocatedMemoryEnabled(true);
+        mThread = Thread.currentThread().getId();
+
+        Reflector.registerProperty(Model.class, new PropertyInfo("Level", int.class, true, MODEL_LEVEL, NullLogger.instance));
+        mModel = new Model();
+        mSeekbar = new BindableSeekbar(RuntimeEnvironment.application);
+        mView = new BindableView(RuntimeEnvironment.application);
+        mLevelBinding = bind(mSeekbar, "Progress", "Level", BindingMode.TwoWay);
+        mValueBinding = bind(mView, "Tag", "Value", BindingMode.OneWay);
+    }
+
+    @After
+    public void tearDown() {
+        if (mLevelBinding != null) {
+            mLevelBinding.dispose();
+            mValueBinding.dispose();
+        }
+    }
+
+    @Test
+    public void viewChangesReachTheModelWithoutAllocating() {
+        for (int i = 0; i < WARM_UP; i++) {
+            mSeekbar.setProgress(i % 100);
+        }
+
+        long before = mAllocations.getThreadAllocatedBytes(mThread);
+        for (int i = 0; i < UPDATES; i++) {
+            mSeekbar.setProgress(i % 100);
+        }
+        long allocated = mAllocations.getThreadAllocatedBytes(mThread) - before;
+
+        Assertions.assertThat(mModel.getLevel()).isEqualTo((UPDATES - 1) % 100);
+        Assertions.assertThat(allocated).as("bytes allocated by " + UPDATES + " progress changes of the seekbar").isEqualTo(0);
+    }
+
+    @Test
+    public void modelChangesReachTheViewsWithoutAllocating() {
+        Object[] values = {new Object(), new Object(), new Object()};
+        for (int i = 0; i < WARM_UP; i++) {
+            mModel.setLevel(i % 100);
+            mModel.setValue(values[i % values.length]);
+            ShadowLooper.idleMainLooper();
+        }
+
+        // the first write of a burst posts the one runnable the later writes share, the main looper's cost isn't ours
+        ShadowLooper.pauseMainLooper();
+        mModel.setLevel(1);
+        mModel.setValue(null);
+        long before = mAllocations.getThreadAllocatedBytes(mThread);
+        for (int i = 0; i < UPDATES; i++) {
+            mModel.setLevel(i % 100);
+            mModel.setValue(values[i % values.length]);
+        }
+        long allocated = mAllocations.getThreadAllocatedBytes(mThread) - before;
+        int levelWrites = mModel.mLevelWrites;
+        ShadowLooper.unPauseMainLooper();
+
+        Assertions.assertThat(mSeekbar.getProgress()).isEqualTo((UPDATES - 1) % 100);
+        Assertions.assertThat(mView.getTag()).isSameAs(values[(UPDATES - 1) % values.length]);
+        // the seekbar's change raised by the write is its echo, the model isn't written back
+        Assertions.assertThat(mModel.mLevelWrites).isEqualTo(levelWrites);
+        Assertions.assertThat(allocated).as("bytes allocated by " + UPDATES + " changes of each model property").isEqualTo(0);
+    }
+
+    private BindingAssociationEngine bind(Object view, String target, String source, BindingMode mode) {
+        BindingSpecification specification = new BindingSpecification.BindingSpecificationBuilder()
+                .setSource(source)
+                .setTarget(target)
+                .setMode(mode)
+                .setValueConverter(DefaultConverter.instance)
+                .build();
+
+        BindingRequest request = new BindingRequest();
+        request.setSource(mModel);
+        request.setTarget(view);
+        request.setSpecification(specification);
+        return new BindingAssociationEngine(request, new SourceBindingFactory(NullLogger.instance),
+                new TargetBindingFactory(NullLogger.instance), NullLogger.instance);
+    }
+}
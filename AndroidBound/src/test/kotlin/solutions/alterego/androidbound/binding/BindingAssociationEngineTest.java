@@ -0,0 +1,615 @@
+package solutions.alterego.androidbound.binding;
+
+import org.fest.assertions.api.Assertions;
+import org.junit.After;
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+import io.reactivex.Scheduler;
+import io.reactivex.functions.Function;
+import io.reactivex.plugins.RxJavaPlugins;
+import io.reactivex.schedulers.Schedulers;
+import solutions.alterego.androidbound.NullLogger;
+import solutions.alterego.androidbound.binding.data.BindingMode;
+import solutions.alterego.androidbound.binding.data.BindingRequest;
+import solutions.alterego.androidbound.binding.data.BindingSpecification;
+import solutions.alterego.androidbound.binding.interfaces.IBinding;
+import solutions.alterego.androidbound.binding.interfaces.IPrimitiveBinding;
+import solutions.alterego.androidbound.binding.types.BindingBase;
+import solutions.alterego.androidbound.converters.DefaultConverter;
+import solutions.alterego.androidbound.converters.interfaces.IValueConverter;
+import solutions.alterego.androidbound.factories.IBindingFactory;
+import solutions.alterego.androidbound.interfaces.ILogger;
+
+public class BindingAssociationEngineTest {
+
+    private static final int ASSOCIATIONS = 100;
+
+    @Before
+    public void setUp() {
+        RxJavaPlugins.setComputationSchedulerHandler(new Function<Scheduler, Scheduler>() {
+            @Override
+            public Scheduler apply(Scheduler scheduler) throws Exception {
+                return Schedulers.trampoline();
+            }
+        });
+    }
+
+    @After
+    public void tearDown() {
+        RxJavaPlugins.reset();
+    }
+
+    @Test
+    public void createsOneSourceAndOneTargetBindingForEveryMode() {
+        for (BindingMode mode : BindingMode.values()) {
+            CountingBindingFactory sourceFactory = new CountingBindingFactory();
+            CountingBindingFactory targetFactory = new CountingBindingFactory();
+
+            BindingAssociationEngine engine = new BindingAssociationEngine(createRequest(mode), sourceFactory, targetFactory, NullLogger.instance);
+
+            Assertions.assertThat(sourceFactory.mCreated).as("source bindings for " + mode).isEqualTo(1);
+            Assertions.assertThat(targetFactory.mCreated).as("target bindings for " + mode).isEqualTo(1);
+            engine.dispose();
+        }
+    }
+
+    @Test
+    public void setDataContextRecreatesOnlyTheSourceBinding() {
+        CountingBindingFactory sourceFactory = new CountingBindingFactory();
+        CountingBindingFactory targetFactory = new CountingBindingFactory();
+
+        BindingAssociationEngine engine = new BindingAssociationEngine(createRequest(BindingMode.TwoWay), sourceFactory, targetFactory,
+                NullLogger.instance);
+        engine.setDataContext(new Object());
+
+        Assertions.assertThat(sourceFactory.mCreated).isEqualTo(2);
+        Assertions.assertThat(targetFactory.mCreated).isEqualTo(1);
+        engine.dispose();
+    }
+
+    /**
+     * The baseline constructor also created a remove, an accumulate source and an accumulate target binding, without
+     * changes, and then overwrote them. They are created here next to the engine to measure what sharing saved.
+     */
+    @Test
+    public void sharedConstructionAllocatesLessPerAssociation() {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        Assume.assumeTrue(threads instanceof com.sun.management.ThreadMXBean
+                && ((com.sun.management.ThreadMXBean) threads).isThreadAllocatedMemorySupported());
+        com.sun.management.ThreadMXBean allocations = (com.sun.management.ThreadMXBean) threads;
+        allocations.setThreadAllocatedMemoryEnabled(true);
+
+        for (BindingMode mode : Arrays.asList(BindingMode.OneWay, BindingMode.TwoWay, BindingMode.AccumulateTwoWay)) {
+            List<BindingRequest> requests = new ArrayList<>(ASSOCIATIONS);
+            for (int i = 0; i < ASSOCIATIONS; i++) {
+                requests.add(createRequest(mode));
+            }
+            // warms up both paths, so class loading and compilation are not measured
+            construct(requests, false);
+            construct(requests, true);
+
+            long shared = construct(requests, false);
+            long baseline = construct(requests, true);
+
+            String perAssociation = mode + ": " + shared / ASSOCIATIONS + " bytes per association, "
+                    + baseline / ASSOCIATIONS + " with the baseline's extra bindings";
+            Assertions.assertThat(shared).as(perAssociation).isLessThan(baseline);
+        }
+    }
+
+    /**
+     * Returns the bytes allocated on this thread to build and keep an association for each request.
+     */
+    private static long construct(List<BindingRequest> requests, boolean withBaselineBindings) {
+        com.sun.management.ThreadMXBean allocations = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long thread = Thread.currentThread().getId();
+        CountingBindingFactory sourceFactory = new CountingBindingFactory();
+        CountingBindingFactory targetFactory = new CountingBindingFactory();
+        List<Object> retained = new ArrayList<>(requests.size() * 4);
+
+        long before = allocations.getThreadAllocatedBytes(thread);
+        for (BindingRequest request : requests) {
+            retained.add(new BindingAssociationEngine(request, sourceFactory, targetFactory, NullLogger.instance));
+            if (withBaselineBindings) {
+                String target = request.getSpecification().getTarget();
+                String source = request.getSpecification().getSource();
+                retained.add(targetFactory.create(request.getSource(), target, false));
+                retained.add(sourceFactory.create(request.getSource(), source, false));
+                retained.add(targetFactory.create(request.getTarget(), target, false));
+            }
+        }
+        long allocated = allocations.getThreadAllocatedBytes(thread) - before;
+
+        for (Object association : retained) {
+            if (association instanceof BindingAssociationEngine) {
+                ((BindingAssociationEngine) association).dispose();
+            } else {
+                ((IBinding) association).dispose();
+            }
+        }
+        return allocated;
+    }
+
+    @Test
+    public void removeSourceRemovesChangesOfTheSourceFromTheTarget() {
+        EchoingBindingFactory sourceFactory = new EchoingBindingFactory();
+        EchoingBindingFactory targetFactory = new EchoingBindingFactory();
+        BindingAssociationEngine engine = new BindingAssociationEngine(createRequest(BindingMode.RemoveSource), sourceFactory,
+                targetFactory, NullLogger.instance);
+        EchoingBinding source = sourceFactory.mLastCreated;
+        EchoingBinding target = targetFactory.mLastCreated;
+        target.mRemoved.clear();
+        source.mRemoved.clear();
+
+        source.raise("gone");
+        target.raise("typed");
+
+        Assertions.assertThat(target.mRemoved).containsExactly("gone");
+        Assertions.assertThat(source.mRemoved).isEmpty();
+        Assertions.assertThat(source.mSets).isEqualTo(0);
+        engine.dispose();
+    }
+
+    @Test
+    public void twoWaySourceChangeDoesNotEchoBack() {
+        EchoingBindingFactory sourceFactory = new EchoingBindingFactory();
+        EchoingBindingFactory targetFactory = new EchoingBindingFactory();
+        BindingAssociationEngine engine = new BindingAssociationEngine(createRequest(BindingMode.TwoWay), sourceFactory, targetFactory,
+                NullLogger.instance);
+        EchoingBinding source = sourceFactory.mLastCreated;
+        EchoingBinding target = targetFactory.mLastCreated;
+        source.mSets = 0;
+        target.mSets = 0;
+
+        source.raise("from source");
+
+        Assertions.assertThat(target.getValue()).isEqualTo("from source");
+        Assertions.assertThat(target.mSets).isEqualTo(1);
+        Assertions.assertThat(source.mSets).isEqualTo(0);
+        engine.dispose();
+    }
+
+    @Test
+    public void twoWayTargetChangeDoesNotEchoBack() {
+        EchoingBindingFactory sourceFactory = new EchoingBindingFactory();
+        EchoingBindingFactory targetFactory = new EchoingBindingFactory();
+        BindingAssociationEngine engine = new BindingAssociationEngine(createRequest(BindingMode.TwoWay), sourceFactory, targetFactory,
+                NullLogger.instance);
+        EchoingBinding source = sourceFactory.mLastCreated;
+        EchoingBinding target = targetFactory.mLastCreated;
+        source.mSets = 0;
+        target.mSets = 0;
+
+        for (int i = 0; i < 10; i++) {
+            target.raise("keystroke " + i);
+        }
+
+        Assertions.assertThat(source.getValue()).isEqualTo("keystroke 9");
+        Assertions.assertThat(source.mSets).isEqualTo(10);
+        Assertions.assertThat(target.mSets).isEqualTo(0);
+        engine.dispose();
+    }
+
+    @Test
+    public void twoWayPassesBackValueChangedBySource() {
+        EchoingBindingFactory sourceFactory = new EchoingBindingFactory();
+        EchoingBindingFactory targetFactory = new EchoingBindingFactory();
+        BindingAssociationEngine engine = new BindingAssociationEngine(createRequest(BindingMode.TwoWay), sourceFactory, targetFactory,
+                NullLogger.instance);
+        EchoingBinding source = sourceFactory.mLastCreated;
+        EchoingBinding target = targetFactory.mLastCreated;
+        source.mTrims = true;
+        source.mSets = 0;
+        target.mSets = 0;
+
+        target.raise(" padded ");
+
+        Assertions.assertThat(source.getValue()).isEqualTo("padded");
+        Assertions.assertThat(target.getValue()).isEqualTo("padded");
+        Assertions.assertThat(source.mSets).isEqualTo(1);
+        Assertions.assertThat(target.mSets).isEqualTo(1);
+        engine.dispose();
+    }
+
+    @Test
+    public void suspendedEngineAppliesOneUpdateOnResume() {
+        EchoingBindingFactory sourceFactory = new EchoingBindingFactory();
+        EchoingBindingFactory targetFactory = new EchoingBindingFactory();
+        BindingAssociationEngine engine = new BindingAssociationEngine(createRequest(BindingMode.OneWay), sourceFactory, targetFactory,
+                NullLogger.instance);
+        EchoingBinding source = sourceFactory.mLastCreated;
+        EchoingBinding target = targetFactory.mLastCreated;
+        target.mSets = 0;
+
+        engine.suspend();
+        for (int i = 0; i < 10; i++) {
+            source.raise("background " + i);
+        }
+        Assertions.assertThat(target.mSets).isEqualTo(0);
+
+        engine.resume();
+        Assertions.assertThat(target.mSets).isEqualTo(1);
+        Assertions.assertThat(target.getValue()).isEqualTo("background 9");
+
+        engine.resume();
+        source.raise("visible");
+        Assertions.assertThat(target.mSets).isEqualTo(2);
+        Assertions.assertThat(target.getValue()).isEqualTo("visible");
+        engine.dispose();
+    }
+
+    @Test
+    public void detachedEngineIgnoresItsOldDataContext() {
+        EchoingBindingFactory sourceFactory = new EchoingBindingFactory();
+        EchoingBindingFactory targetFactory = new EchoingBindingFactory();
+        BindingAssociationEngine engine = new BindingAssociationEngine(createRequest(BindingMode.TwoWay), sourceFactory, targetFactory,
+                NullLogger.instance);
+        EchoingBinding recycledSource = sourceFactory.mLastCreated;
+        EchoingBinding target = targetFactory.mLastCreated;
+
+        engine.detachDataContext();
+        recycledSource.raise("off screen");
+        target.raise("stale view");
+
+        Assertions.assertThat(target.getValue()).isEqualTo("stale view");
+        Assertions.assertThat(recycledSource.getValue()).isEqualTo("off screen");
+
+        engine.setDataContext(new Object());
+        sourceFactory.mLastCreated.raise("next item");
+
+        Assertions.assertThat(target.getValue()).isEqualTo("next item");
+        engine.dispose();
+    }
+
+    @Test
+    public void sameIntTypesAreCopiedThroughPrimitiveAccessors() {
+        PrimitiveBindingFactory sourceFactory = new PrimitiveBindingFactory(int.class);
+        PrimitiveBindingFactory targetFactory = new PrimitiveBindingFactory(int.class);
+        BindingAssociationEngine engine = new BindingAssociationEngine(createRequest(BindingMode.TwoWay), sourceFactory, targetFactory,
+                NullLogger.instance);
+        PrimitiveBinding source = sourceFactory.mLastCreated;
+        PrimitiveBinding target = targetFactory.mLastCreated;
+        source.reset();
+        target.reset();
+
+        source.raise(4);
+        target.raise(9);
+
+        Assertions.assertThat(target.getValue()).isEqualTo(4);
+        Assertions.assertThat(target.mPrimitiveSets).isEqualTo(1);
+        Assertions.assertThat(target.mBoxedSets).isEqualTo(0);
+        Assertions.assertThat(source.getValue()).isEqualTo(9);
+        Assertions.assertThat(source.mPrimitiveSets).isEqualTo(1);
+        Assertions.assertThat(source.mBoxedSets).isEqualTo(0);
+        engine.dispose();
+    }
+
+    @Test
+    public void sameBooleanTypesAreCopiedThroughPrimitiveAccessors() {
+        PrimitiveBindingFactory sourceFactory = new PrimitiveBindingFactory(boolean.class);
+        PrimitiveBindingFactory targetFactory = new PrimitiveBindingFactory(boolean.class);
+        BindingAssociationEngine engine = new BindingAssociationEngine(createRequest(BindingMode.OneWay), sourceFactory, targetFactory,
+                NullLogger.instance);
+        PrimitiveBinding target = targetFactory.mLastCreated;
+        target.reset();
+
+        sourceFactory.mLastCreated.raise(true);
+
+        Assertions.assertThat(target.getValue()).isEqualTo(true);
+        Assertions.assertThat(target.mPrimitiveSets).isEqualTo(1);
+        Assertions.assertThat(target.mBoxedSets).isEqualTo(0);
+        engine.dispose();
+    }
+
+    @Test
+    public void boxedTargetOfPrimitiveSourceIsSetThroughTheConverter() {
+        PrimitiveBindingFactory sourceFactory = new PrimitiveBindingFactory(int.class);
+        PrimitiveBindingFactory targetFactory = new PrimitiveBindingFactory(Integer.class);
+        BindingAssociationEngine engine = new BindingAssociationEngine(createRequest(BindingMode.OneWay), sourceFactory, targetFactory,
+                NullLogger.instance);
+        PrimitiveBinding target = targetFactory.mLastCreated;
+        target.reset();
+
+        sourceFactory.mLastCreated.raise(4);
+
+        Assertions.assertThat(target.getValue()).isEqualTo(4);
+        Assertions.assertThat(target.mPrimitiveSets).isEqualTo(0);
+        Assertions.assertThat(target.mBoxedSets).isEqualTo(1);
+        engine.dispose();
+    }
+
+    @Test
+    public void customConverterDisablesPrimitiveCopy() {
+        IValueConverter doubling = new IValueConverter() {
+            @Override
+            public String getBindingName() {
+                return "Double";
+            }
+
+            @Override
+            public Object convert(Object value, Class<?> targetType, Object param, Locale locale) {
+                return (Integer) value * 2;
+            }
+
+            @Override
+            public Object convertBack(Object value, Class<?> targetType, Object param, Locale locale) {
+                return (Integer) value / 2;
+            }
+        };
+        PrimitiveBindingFactory sourceFactory = new PrimitiveBindingFactory(int.class);
+        PrimitiveBindingFactory targetFactory = new PrimitiveBindingFactory(int.class);
+        BindingAssociationEngine engine = new BindingAssociationEngine(createRequest(BindingMode.OneWay, doubling), sourceFactory,
+                targetFactory, NullLogger.instance);
+        PrimitiveBinding target = targetFactory.mLastCreated;
+        target.reset();
+
+        sourceFactory.mLastCreated.raise(4);
+
+        Assertions.assertThat(target.getValue()).isEqualTo(8);
+        Assertions.assertThat(target.mPrimitiveSets).isEqualTo(0);
+        Assertions.assertThat(target.mBoxedSets).isEqualTo(1);
+        engine.dispose();
+    }
+
+    private static BindingRequest createRequest(BindingMode mode) {
+        return createRequest(mode, DefaultConverter.instance);
+    }
+
+    private static BindingRequest createRequest(BindingMode mode, IValueConverter converter) {
+        BindingSpecification specification = new BindingSpecification.BindingSpecificationBuilder()
+                .setSource("Source")
+                .setTarget("Target")
+                .setMode(mode)
+                .setValueConverter(converter)
+                .build();
+
+        BindingRequest request = new BindingRequest();
+        request.setSource(new Object());
+        request.setTarget(new Object());
+        request.setSpecification(specification);
+        return request;
+    }
+
+    private static class CountingBindingFactory implements IBindingFactory {
+
+        int mCreated;
+
+        @Override
+        public IBinding create(Object source, String combinedPath, boolean needChangesIfPossible) {
+            mCreated++;
+            return new ValueBinding(source, needChangesIfPossible);
+        }
+
+        @Override
+        public IBinding create(Object source, List<String> pathTokens, boolean needChangesIfPossible) {
+            return create(source, pathTokens.get(0), needChangesIfPossible);
+        }
+
+        @Override
+        public void setLogger(ILogger logger) {
+        }
+    }
+
+    private static class ValueBinding extends BindingBase {
+
+        private Object mValue;
+
+        final List<Object> mRemoved = new ArrayList<>();
+
+        ValueBinding(Object subject, boolean needChanges) {
+            super(subject, NullLogger.instance);
+            setupChanges(needChanges);
+        }
+
+        @Override
+        public Class<?> getType() {
+            return Object.class;
+        }
+
+        @Override
+        public Object getValue() {
+            return mValue;
+        }
+
+        @Override
+        public void setValue(Object value) {
+            mValue = value;
+        }
+
+        @Override
+        public void addValue(Object object) {
+            mValue = object;
+        }
+
+        @Override
+        public void removeValue(Object result) {
+            mRemoved.add(result);
+            mValue = null;
+        }
+    }
+
+    private static class EchoingBindingFactory implements IBindingFactory {
+
+        EchoingBinding mLastCreated;
+
+        @Override
+        public IBinding create(Object source, String combinedPath, boolean needChangesIfPossible) {
+            mLastCreated = new EchoingBinding(source, needChangesIfPossible);
+            return mLastCreated;
+        }
+
+        @Override
+        public IBinding create(Object source, List<String> pathTokens, boolean needChangesIfPossible) {
+            return create(source, pathTokens.get(0), needChangesIfPossible);
+        }
+
+        @Override
+        public void setLogger(ILogger logger) {
+        }
+    }
+
+    /**
+     * Raises a change on every write like a ViewModel setter or a view listener would.
+     */
+    private static class EchoingBinding extends ValueBinding {
+
+        int mSets;
+
+        boolean mTrims;
+
+        EchoingBinding(Object subject, boolean needChanges) {
+            super(subject, needChanges);
+        }
+
+        void raise(Object value) {
+            super.setValue(value);
+            notifyChange(value);
+        }
+
+        @Override
+        public void setValue(Object value) {
+            mSets++;
+            beginApplying(value);
+            try {
+                Object stored = mTrims && value instanceof String ? ((String) value).trim() : value;
+                super.setValue(stored);
+                notifyChange(stored);
+            } finally {
+                endApplying();
+            }
+        }
+    }
+
+    private static class PrimitiveBindingFactory implements IBindingFactory {
+
+        private final Class<?> mType;
+
+        PrimitiveBinding mLastCreated;
+
+        PrimitiveBindingFactory(Class<?> type) {
+            mType = type;
+        }
+
+        @Override
+        public IBinding create(Object source, String combinedPath, boolean needChangesIfPossible) {
+            mLastCreated = new PrimitiveBinding(source, mType, needChangesIfPossible);
+            return mLastCreated;
+        }
+
+        @Override
+        public IBinding create(Object source, List<String> pathTokens, boolean needChangesIfPossible) {
+            return create(source, pathTokens.get(0), needChangesIfPossible);
+        }
+
+        @Override
+        public void setLogger(ILogger logger) {
+        }
+    }
+
+    /**
+     * Counts whether values were written through the primitive accessors or boxed.
+     */
+    private static class PrimitiveBinding extends ValueBinding implements IPrimitiveBinding {
+
+        private final Class<?> mType;
+
+        int mPrimitiveSets;
+
+        int mBoxedSets;
+
+        PrimitiveBinding(Object subject, Class<?> type, boolean needChanges) {
+            super(subject, needChanges);
+            mType = type;
+        }
+
+        void raise(Object value) {
+            super.setValue(value);
+            notifyChange(value);
+        }
+
+        void reset() {
+            mPrimitiveSets = 0;
+            mBoxedSets = 0;
+        }
+
+        @Override
+        public Class<?> getType() {
+            return mType;
+        }
+
+        @Override
+        public void setValue(Object value) {
+            mBoxedSets++;
+            super.setValue(value);
+        }
+
+        @Override
+        public boolean isPrimitive() {
+            return mType.isPrimitive();
+        }
+
+        @Override
+        public int getInt() {
+            return (Integer) getValue();
+        }
+
+        @Override
+        public void setInt(int value) {
+            mPrimitiveSets++;
+            super.setValue(value);
+        }
+
+        @Override
+        public long getLong() {
+            return (Long) getValue();
+        }
+
+        @Override
+        public void setLong(long value) {
+            mPrimitiveSets++;
+            super.setValue(value);
+        }
+
+        @Override
+        public float getFloat() {
+            return (Float) getValue();
+        }
+
+        @Override
+        public void setFloat(float value) {
+            mPrimitiveSets++;
+            super.setValue(value);
+        }
+
+        @Override
+        public double getDouble() {
+            return (Double) getValue();
+        }
+
+        @Override
+        public void setDouble(double value) {
+            mPrimitiveSets++;
+            super.setValue(value);
+        }
+
+        @Override
+        public boolean getBoolean() {
+            return (Boolean) getValue();
+        }
+
+        @Override
+        public void setBoolean(boolean value) {
+            mPrimitiveSets++;
+            super.setValue(value);
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package solutions.alterego.androidbound.binding;
+
+import org.fest.assertions.api.Assertions;
+import org.junit.Test;
+
+import solutions.alterego.androidbound.compiler.LayoutBinderGenerator;
+
+/**
+ * The compiler names the binders it generates, the runtime looks them up by name; both sides have to agree.
+ */
+public class GeneratedLayoutBindersTest {
+
+    @Test
+    public void binderClassNameMatchesTheGeneratedBinder() {
+        String[][] viewModels = {
+                {"com.example", "com.example.MainViewModel", "activity_main"},
+                {"com.example.screens", "com.example.screens.Outer$InnerViewModel", "list_item__row"},
+                {"com.example", "com.example.MainViewModel", "main"},
+                {"", "RootViewModel", "fragment_root_2"},
+        };
+
+        for (String[] viewModel : viewModels) {
+            String packageName = viewModel[0];
+            String simpleName = LayoutBinderGenerator.binderSimpleName(viewModel[1], packageName, viewModel[2]);
+            String generated = packageName.isEmpty() ? simpleName : packageName + "." + simpleName;
+
+            Assertions.assertThat(GeneratedLayoutBinders.binderClassName(viewModel[1], viewModel[2])).as(viewModel[1]).isEqualTo(generated);
+        }
+    }
+
+    @Test
+    public void binderSuffixMatchesTheCompiler() {
+        Assertions.assertThat(GeneratedLayoutBinders.BINDER_SUFFIX).isEqualTo(LayoutBinderGenerator.BINDER_SUFFIX);
+    }
+}
@@ -0,0 +1,214 @@
+package solutions.alterego.androidbound.binding;
+
+import org.fest.assertions.api.Assertions;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.Callable;
+
+import io.reactivex.Scheduler;
+import io.reactivex.android.plugins.RxAndroidPlugins;
+import io.reactivex.functions.Function;
+import io.reactivex.plugins.RxJavaPlugins;
+import io.reactivex.schedulers.Schedulers;
+import io.reactivex.schedulers.TestScheduler;
+import solutions.alterego.androidbound.NullLogger;
+import solutions.alterego.androidbound.binding.data.BindingMode;
+import solutions.alterego.androidbound.binding.data.BindingRequest;
+import solutions.alterego.androidbound.binding.data.BindingSpecification;
+import solutions.alterego.androidbound.binding.interfaces.IBinding;
+import solutions.alterego.androidbound.binding.types.BindingBase;
+import solutions.alterego.androidbound.converters.interfaces.IMultiValueConverter;
+import solutions.alterego.androidbound.factories.IBindingFactory;
+import solutions.alterego.androidbound.interfaces.ILogger;
+
+public class MultiBindingAssociationEngineTest {
+
+    private TestScheduler mMainThread;
+
+    @Before
+    public void setUp() {
+        mMainThread = new TestScheduler();
+        RxAndroidPlugins.setInitMainThreadSchedulerHandler(new Function<Callable<Scheduler>, Scheduler>() {
+            @Override
+            public Scheduler apply(Callable<Scheduler> scheduler) throws Exception {
+                return mMainThread;
+            }
+        });
+        RxAndroidPlugins.setMainThreadSchedulerHandler(new Function<Scheduler, Scheduler>() {
+            @Override
+            public Scheduler apply(Scheduler scheduler) throws Exception {
+                return mMainThread;
+            }
+        });
+        RxJavaPlugins.setComputationSchedulerHandler(new Function<Scheduler, Scheduler>() {
+            @Override
+            public Scheduler apply(Scheduler scheduler) throws Exception {
+                return Schedulers.trampoline();
+            }
+        });
+    }
+
+    @After
+    public void tearDown() {
+        RxAndroidPlugins.reset();
+        RxJavaPlugins.reset();
+    }
+
+    @Test
+    public void changesOfSeveralSourcesInOneFrameSetTheTargetOnce() {
+        ValueBindingFactory sourceFactory = new ValueBindingFactory();
+        ValueBindingFactory targetFactory = new ValueBindingFactory();
+        JoiningConverter converter = new JoiningConverter();
+        MultiBindingAssociationEngine engine = new MultiBindingAssociationEngine(createRequest(converter), sourceFactory, targetFactory,
+                NullLogger.instance);
+        ValueBinding firstName = sourceFactory.mCreated.get(0);
+        ValueBinding lastName = sourceFactory.mCreated.get(1);
+        ValueBinding target = targetFactory.mCreated.get(0);
+        target.mSets = 0;
+        converter.mCalls = 0;
+
+        firstName.raise("Ada");
+        lastName.raise("Byron");
+        lastName.raise("Lovelace");
+
+        Assertions.assertThat(target.mSets).isEqualTo(0);
+
+        mMainThread.triggerActions();
+
+        Assertions.assertThat(target.mSets).isEqualTo(1);
+        Assertions.assertThat(converter.mCalls).isEqualTo(1);
+        Assertions.assertThat(target.getValue()).isEqualTo("Ada Lovelace");
+
+        firstName.raise("Augusta");
+        mMainThread.triggerActions();
+
+        Assertions.assertThat(target.mSets).isEqualTo(2);
+        Assertions.assertThat(target.getValue()).isEqualTo("Augusta Lovelace");
+        engine.dispose();
+    }
+
+    @Test
+    public void suspendedEngineSetsTheTargetOnceOnResume() {
+        ValueBindingFactory sourceFactory = new ValueBindingFactory();
+        ValueBindingFactory targetFactory = new ValueBindingFactory();
+        MultiBindingAssociationEngine engine = new MultiBindingAssociationEngine(createRequest(new JoiningConverter()), sourceFactory,
+                targetFactory, NullLogger.instance);
+        ValueBinding target = targetFactory.mCreated.get(0);
+        target.mSets = 0;
+
+        engine.suspend();
+        sourceFactory.mCreated.get(0).raise("Ada");
+        sourceFactory.mCreated.get(1).raise("Lovelace");
+        mMainThread.triggerActions();
+
+        Assertions.assertThat(target.mSets).isEqualTo(0);
+
+        engine.resume();
+        mMainThread.triggerActions();
+
+        Assertions.assertThat(target.mSets).isEqualTo(1);
+        Assertions.assertThat(target.getValue()).isEqualTo("Ada Lovelace");
+        engine.dispose();
+    }
+
+    private static BindingRequest createRequest(IMultiValueConverter converter) {
+        BindingSpecification specification = new BindingSpecification.BindingSpecificationBuilder()
+                .setTarget("Text")
+                .setSources(Arrays.asList("FirstName", "LastName"))
+                .setMultiValueConverter(converter)
+                .setMode(BindingMode.OneWay)
+                .build();
+
+        BindingRequest request = new BindingRequest();
+        request.setSource(new Object());
+        request.setTarget(new Object());
+        request.setSpecification(specification);
+        return request;
+    }
+
+    private static class JoiningConverter implements IMultiValueConverter {
+
+        int mCalls;
+
+        @Override
+        public String getBindingName() {
+            return "Join";
+        }
+
+        @Override
+        public Object convert(Object[] values, Class<?> targetType, Object param, Locale locale) {
+            mCalls++;
+            return values[0] + " " + values[1];
+        }
+    }
+
+    private static class ValueBindingFactory implements IBindingFactory {
+
+        final List<ValueBinding> mCreated = new ArrayList<>();
+
+        @Override
+        public IBinding create(Object source, String combinedPath, boolean needChangesIfPossible) {
+            ValueBinding binding = new ValueBinding(source, needChangesIfPossible);
+            mCreated.add(binding);
+            return binding;
+        }
+
+        @Override
+        public IBinding create(Object source, List<String> pathTokens, boolean needChangesIfPossible) {
+            return create(source, pathTokens.get(0), needChangesIfPossible);
+        }
+
+        @Override
+        public void setLogger(ILogger logger) {
+        }
+    }
+
+    private static class ValueBinding extends BindingBase {
+
+        int mSets;
+
+        private Object mValue;
+
+        ValueBinding(Object subject, boolean needChanges) {
+            super(subject, NullLogger.instance);
+            setupChanges(needChanges);
+        }
+
+        void raise(Object value) {
+            mValue = value;
+            notifyChange(value);
+        }
+
+        @Override
+        public Class<?> getType() {
+            return Object.class;
+        }
+
+        @Override
+        public Object getValue() {
+            return mValue;
+        }
+
+        @Override
+        public void setValue(Object value) {
+            mSets++;
+            mValue = value;
+        }
+
+        @Override
+        public void addValue(Object object) {
+            mValue = object;
+        }
+
+        @Override
+        public void removeValue(Object result) {
+            mValue = null;
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package solutions.alterego.androidbound.binding;
+
+import org.fest.assertions.api.Assertions;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+import java.util.List;
+
+import io.reactivex.Scheduler;
+import io.reactivex.functions.Function;
+import io.reactivex.plugins.RxJavaPlugins;
+import io.reactivex.schedulers.Schedulers;
+import solutions.alterego.androidbound.NullLogger;
+import solutions.alterego.androidbound.TestViewModel;
+import solutions.alterego.androidbound.binding.data.BindingMode;
+import solutions.alterego.androidbound.binding.data.BindingRequest;
+import solutions.alterego.androidbound.binding.data.BindingSpecification;
+import solutions.alterego.androidbound.binding.interfaces.IBinding;
+import solutions.alterego.androidbound.binding.types.PropertyBinding;
+import solutions.alterego.androidbound.converters.DefaultConverter;
+import solutions.alterego.androidbound.factories.IBindingFactory;
+import solutions.alterego.androidbound.interfaces.ILogger;
+
+/**
+ * Recycles an association between real {@link PropertyBinding}s the way a list row does: detached from one item and
+ * given the next one as its data context.
+ */
+@RunWith(RobolectricTestRunner.class)
+@Config(manifest = Config.NONE, sdk = 23)
+public class RecycledBindingAssociationEngineTest {
+
+    private CountingPropertyBindingFactory mSourceFactory;
+
+    private Row mRow;
+
+    private BindingAssociationEngine mEngine;
+
+    @Before
+    public void setUp() {
+        RxJavaPlugins.setComputationSchedulerHandler(new Function<Scheduler, Scheduler>() {
+            @Override
+            public Scheduler apply(Scheduler scheduler) throws Exception {
+                return Schedulers.trampoline();
+            }
+        });
+        mSourceFactory = new CountingPropertyBindingFactory();
+        mRow = new Row();
+    }
+
+    @After
+    public void tearDown() {
+        if (mEngine != null) {
+            mEngine.dispose();
+        }
+        RxJavaPlugins.reset();
+    }
+
+    @Test
+    public void detachedEngineIgnoresItsOldItem() {
+        Item first = new Item("first");
+        mEngine = bind(first);
+
+        mEngine.detachDataContext();
+        first.setTitle("off screen");
+        mRow.setText("stale row");
+
+        Assertions.assertThat(mRow.getText()).isEqualTo("stale row");
+        Assertions.assertThat(first.getTitle()).isEqualTo("off screen");
+    }
+
+    @Test
+    public void nextItemOfTheSameClassRepointsTheSourceBinding() {
+        Item first = new Item("first");
+        Item second = new Item("second");
+        mEngine = bind(first);
+
+        mEngine.detachDataContext();
+        mEngine.setDataContext(second);
+
+        Assertions.assertThat(mSourceFactory.mCreated).isEqualTo(1);
+        Assertions.assertThat(mRow.getText()).isEqualTo("second");
+
+        second.setTitle("second, edited");
+        Assertions.assertThat(mRow.getText()).isEqualTo("second, edited");
+
+        mRow.setText("typed");
+        Assertions.assertThat(second.getTitle()).isEqualTo("typed");
+        Assertions.assertThat(first.getTitle()).isEqualTo("first");
+
+        first.setTitle("recycled");
+        Assertions.assertThat(mRow.getText()).isEqualTo("typed");
+    }
+
+    @Test
+    public void itemOfAnotherClassRecreatesTheSourceBinding() {
+        mEngine = bind(new Item("first"));
+
+        mEngine.setDataContext(new Header("header"));
+
+        Assertions.assertThat(mSourceFactory.mCreated).isEqualTo(2);
+        Assertions.assertThat(mRow.getText()).isEqualTo("header");
+    }
+
+    private BindingAssociationEngine bind(Object item) {
+        BindingSpecification specification = new BindingSpecification.BindingSpecificationBuilder()
+                .setSource("Title")
+                .setTarget("Text")
+                .setMode(BindingMode.TwoWay)
+                .setValueConverter(DefaultConverter.instance)
+                .build();
+
+        BindingRequest request = new BindingRequest();
+        request.setSource(item);
+        request.setTarget(mRow);
+        request.setSpecification(specification);
+        return new BindingAssociationEngine(request, mSourceFactory, new CountingPropertyBindingFactory(), NullLogger.instance);
+    }
+
+    public static class Item extends TestViewModel {
+
+        private String mTitle;
+
+        public Item(String title) {
+            mTitle = title;
+        }
+
+        public String getTitle() {
+            return mTitle;
+        }
+
+        public void setTitle(String title) {
+            mTitle = title;
+            raise("Title");
+        }
+    }
+
+    public static class Header extends Item {
+
+        public Header(String title) {
+            super(title);
+        }
+    }
+
+    /**
+     * Stands in for the bound view, raising its changes like a view listener would.
+     */
+    public static class Row extends TestViewModel {
+
+        private String mText;
+
+        public String getText() {
+            return mText;
+        }
+
+        public void setText(String text) {
+            mText = text;
+            raise("Text");
+        }
+    }
+
+    private static class CountingPropertyBindingFactory implements IBindingFactory {
+
+        int mCreated;
+
+        @Override
+        public IBinding create(Object source, String combinedPath, boolean needChangesIfPossible) {
+            mCreated++;
+            return new PropertyBinding(source, combinedPath, needChangesIfPossible, NullLogger.instance);
+        }
+
+        @Override
+        public IBinding create(Object source, List<String> pathTokens, boolean needChangesIfPossible) {
+            return create(source, pathTokens.get(0), needChangesIfPossible);
+        }
+
+        @Override
+        public void setLogger(ILogger logger) {
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package solutions.alterego.androidbound.binding;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import io.reactivex.observers.TestObserver;
+import io.reactivex.schedulers.TestScheduler;
+import io.reactivex.subjects.PublishSubject;
+import solutions.alterego.androidbound.binding.data.BindingTiming;
+
+public class TimingTransformerTest {
+
+    private static final long INTERVAL = 300;
+
+    private TestScheduler mScheduler;
+
+    private PublishSubject<String> mChanges;
+
+    @Before
+    public void setUp() {
+        mScheduler = new TestScheduler();
+        mChanges = PublishSubject.create();
+    }
+
+    @Test
+    public void debouncePassesTheLastChangeAfterAPause() {
+        TestObserver<String> observer = observe(BindingTiming.Debounce);
+
+        emit("a", 0);
+        emit("ab", 100);
+        emit("abc", 100);
+        observer.assertNoValues();
+
+        mScheduler.advanceTimeBy(INTERVAL, TimeUnit.MILLISECONDS);
+        observer.assertValues("abc");
+
+        emit("abcd", 0);
+        mScheduler.advanceTimeBy(INTERVAL, TimeUnit.MILLISECONDS);
+        observer.assertValues("abc", "abcd");
+    }
+
+    @Test
+    public void throttlePassesTheFirstChangeAndDropsTheRestOfTheInterval() {
+        TestObserver<String> observer = observe(BindingTiming.Throttle);
+
+        emit("first", 0);
+        observer.assertValues("first");
+
+        emit("dropped", 100);
+        emit("dropped too", 100);
+        observer.assertValues("first");
+
+        emit("next", INTERVAL);
+        observer.assertValues("first", "next");
+    }
+
+    @Test
+    public void samplePassesTheLatestChangeOncePerInterval() {
+        TestObserver<String> observer = observe(BindingTiming.Sample);
+
+        emit("1", 0);
+        emit("2", 100);
+        emit("3", 100);
+        observer.assertNoValues();
+
+        mScheduler.advanceTimeBy(100, TimeUnit.MILLISECONDS);
+        observer.assertValues("3");
+
+        mScheduler.advanceTimeBy(INTERVAL, TimeUnit.MILLISECONDS);
+        observer.assertValues("3");
+
+        emit("4", 0);
+        mChanges.onComplete();
+        observer.assertValues("3", "4");
+    }
+
+    @Test
+    public void noTimingOrNoIntervalPassesEveryChange() {
+        TestObserver<String> none = mChanges.compose(new TimingTransformer<String>(BindingTiming.None, INTERVAL, mScheduler)).test();
+        TestObserver<String> noInterval = mChanges.compose(new TimingTransformer<String>(BindingTiming.Debounce, 0, mScheduler)).test();
+
+        emit("a", 0);
+        emit("b", 0);
+
+        none.assertValues("a", "b");
+        noInterval.assertValues("a", "b");
+    }
+
+    private TestObserver<String> observe(BindingTiming timing) {
+        return mChanges.compose(new TimingTransformer<String>(timing, INTERVAL, mScheduler)).test();
+    }
+
+    private void emit(String value, long afterMillis) {
+        mScheduler.advanceTimeBy(afterMillis, TimeUnit.MILLISECONDS);
+        mChanges.onNext(value);
+    }
+}
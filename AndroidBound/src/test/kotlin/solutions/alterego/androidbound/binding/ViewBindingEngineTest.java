@@ -0,0 +1,167 @@
+package solutions.alterego.androidbound.binding;
+
+import android.app.Activity;
+import android.content.Context;
+import android.view.View;
+
+import org.fest.assertions.api.Assertions;
+import org.junit.Assume;
+import org.junit.Test;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import solutions.alterego.androidbound.NullLogger;
+import solutions.alterego.androidbound.binding.interfaces.IBindingAssociationEngine;
+import solutions.alterego.androidbound.interfaces.ILogger;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class ViewBindingEngineTest {
+
+    @Test
+    public void collectedViewIsDroppedAndItsBindingsDisposed() throws Exception {
+        ViewBindingEngine engine = new ViewBindingEngine(NullLogger.instance);
+        CountingBinding binding = new CountingBinding();
+        WeakReference<View> view = bindUnreachableView(engine, binding);
+        View otherView = mock(View.class);
+
+        for (int i = 0; i < 100 && binding.mDisposed == 0; i++) {
+            System.gc();
+            Thread.sleep(10);
+            engine.getBindingsForView(otherView);
+        }
+        Assume.assumeTrue("the VM didn't collect the view", view.get() == null);
+
+        Assertions.assertThat(binding.mDisposed).isEqualTo(1);
+        engine.getBindingsForView(otherView);
+        Assertions.assertThat(binding.mDisposed).isEqualTo(1);
+    }
+
+    @Test
+    public void bindingsOfViewInDestroyedActivityAreReportedAsLeaked() {
+        RecordingLogger logger = new RecordingLogger();
+        ContextViewBindingEngine engine = new ContextViewBindingEngine(logger);
+        engine.setDebugMode(true);
+
+        Activity destroyed = mock(Activity.class);
+        when(destroyed.isDestroyed()).thenReturn(true);
+        when(destroyed.isFinishing()).thenReturn(true);
+        View leaked = engine.createView(destroyed);
+        View cleared = engine.createView(mock(Activity.class));
+        engine.registerBindingsFor(leaked, bindings(new CountingBinding()));
+        engine.registerBindingsFor(cleared, bindings(new CountingBinding()));
+
+        engine.clearBindingForViewAndChildren(cleared);
+
+        Assertions.assertThat(logger.mWarnings).hasSize(1);
+        Assertions.assertThat(logger.mWarnings.get(0)).contains("1 leaked bindings");
+    }
+
+    @Test
+    public void bindingsOfViewInLiveActivityAreNotReported() {
+        RecordingLogger logger = new RecordingLogger();
+        ContextViewBindingEngine engine = new ContextViewBindingEngine(logger);
+        engine.setDebugMode(true);
+
+        View remaining = engine.createView(mock(Activity.class));
+        View cleared = engine.createView(mock(Activity.class));
+        engine.registerBindingsFor(remaining, bindings(new CountingBinding()));
+        engine.registerBindingsFor(cleared, bindings(new CountingBinding()));
+
+        engine.clearBindingForViewAndChildren(cleared);
+
+        Assertions.assertThat(logger.mWarnings).isEmpty();
+    }
+
+    /**
+     * The view is only reachable through the returned reference once this returns.
+     */
+    private static WeakReference<View> bindUnreachableView(ViewBindingEngine engine, IBindingAssociationEngine binding) {
+        View view = mock(View.class);
+        engine.registerBindingsFor(view, bindings(binding));
+        return new WeakReference<>(view);
+    }
+
+    private static List<IBindingAssociationEngine> bindings(IBindingAssociationEngine binding) {
+        return new ArrayList<>(Collections.singletonList(binding));
+    }
+
+    /**
+     * {@link View#getContext()} is final, so the contexts of the mocked views are kept here.
+     */
+    private static class ContextViewBindingEngine extends ViewBindingEngine {
+
+        private final Map<View, Context> mContexts = new IdentityHashMap<>();
+
+        ContextViewBindingEngine(ILogger logger) {
+            super(logger);
+        }
+
+        View createView(Context context) {
+            View view = mock(View.class);
+            mContexts.put(view, context);
+            return view;
+        }
+
+        @Override
+        Context contextOf(View view) {
+            return mContexts.get(view);
+        }
+    }
+
+    private static class RecordingLogger extends NullLogger {
+
+        final List<String> mWarnings = new ArrayList<>();
+
+        @Override
+        public void warning(String msg) {
+            mWarnings.add(msg);
+        }
+
+        @Override
+        public ILogger getLogger(Object object) {
+            return this;
+        }
+    }
+
+    private static class CountingBinding implements IBindingAssociationEngine {
+
+        int mDisposed;
+
+        @Override
+        public Object getDataContext() {
+            return null;
+        }
+
+        @Override
+        public void setDataContext(Object value) {
+        }
+
+        @Override
+        public void detachDataContext() {
+        }
+
+        @Override
+        public void suspend() {
+        }
+
+        @Override
+        public void resume() {
+        }
+
+        @Override
+        public void setLogger(ILogger logger) {
+        }
+
+        @Override
+        public void dispose() {
+            mDisposed++;
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package solutions.alterego.androidbound.binding.data;
+
+import org.fest.assertions.api.Assertions;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import io.reactivex.functions.Action;
+import io.reactivex.functions.Consumer;
+
+public class BindableListTest {
+
+    @Test
+    public void mutationsAreReportedAsRanges() {
+        BindableList<String> list = new BindableList<>();
+        final List<String> changes = new ArrayList<>();
+        list.onChanges().subscribe(new Consumer<BindableList.Change>() {
+            @Override
+            public void accept(BindableList.Change change) throws Exception {
+                changes.add(change.toString());
+            }
+        });
+
+        list.addAll(Arrays.asList("a", "b", "c", "d"));
+        list.add(1, "x");
+        list.set(0, "z");
+        list.move(0, 4);
+        list.remove(2);
+        list.subList(0, 2).clear();
+        list.clear();
+
+        Assertions.assertThat(changes).containsExactly(
+                "Inserted(0, 4)",
+                "Inserted(1, 1)",
+                "Changed(0, 1)",
+                "Moved(0, 1 -> 4)",
+                "Removed(2, 1)",
+                "Removed(0, 2)",
+                "Removed(0, 2)");
+        Assertions.assertThat(list).isEmpty();
+    }
+
+    @Test
+    public void removeAllReportsEveryRemovedItem() {
+        BindableList<Integer> list = new BindableList<>(Arrays.asList(1, 2, 3, 4, 5));
+        final List<Integer> removedPositions = new ArrayList<>();
+        list.onChanges().subscribe(new Consumer<BindableList.Change>() {
+            @Override
+            public void accept(BindableList.Change change) throws Exception {
+                removedPositions.add(change.getPosition());
+            }
+        });
+
+        list.removeAll(Arrays.asList(2, 4));
+
+        Assertions.assertThat(list).containsExactly(1, 3, 5);
+        Assertions.assertThat(removedPositions).containsExactly(1, 2);
+    }
+
+    @Test
+    public void disposedListHasNoChanges() {
+        BindableList<String> list = new BindableList<>(Arrays.asList("a"));
+        list.dispose();
+
+        final List<String> events = new ArrayList<>();
+        list.onChanges().subscribe(new Consumer<BindableList.Change>() {
+            @Override
+            public void accept(BindableList.Change change) throws Exception {
+                events.add(change.toString());
+            }
+        }, new Consumer<Throwable>() {
+            @Override
+            public void accept(Throwable throwable) throws Exception {
+                events.add("error");
+            }
+        }, new Action() {
+            @Override
+            public void run() throws Exception {
+                events.add("complete");
+            }
+        });
+        list.add("b");
+
+        Assertions.assertThat(events).containsExactly("complete");
+        Assertions.assertThat(list).containsExactly("a", "b");
+    }
+}
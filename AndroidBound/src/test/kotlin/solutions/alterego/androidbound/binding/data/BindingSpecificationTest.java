@@ -0,0 +1,138 @@
+package solutions.alterego.androidbound.binding.data;
+
+import org.fest.assertions.api.Assertions;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+import solutions.alterego.androidbound.NullLogger;
+import solutions.alterego.androidbound.converters.DefaultConverter;
+import solutions.alterego.androidbound.converters.ValueConverterService;
+import solutions.alterego.androidbound.parsers.BindingSpecificationParser;
+import solutions.alterego.androidbound.resources.ResourceService;
+
+public class BindingSpecificationTest {
+
+    private static final int ROWS = 1000;
+
+    @Test
+    public void identicalSpecificationsAreShared() {
+        BindingSpecification first = row().build();
+
+        Assertions.assertThat(row().build()).isSameAs(first);
+        Assertions.assertThat(row().setTarget("Visibility").build()).isNotSameAs(first);
+        Assertions.assertThat(row().setConverterParameter(null).build()).isNotSameAs(first);
+    }
+
+    @Test
+    public void toBuilderCopiesTheContent() {
+        BindingSpecification specification = row().build();
+        BindingSpecification timed = specification.toBuilder()
+                .setTiming(BindingTiming.Debounce)
+                .setTimingInterval(300)
+                .build();
+
+        Assertions.assertThat(timed).isNotSameAs(specification);
+        Assertions.assertThat(timed.getSource()).isEqualTo(specification.getSource());
+        Assertions.assertThat(timed.getTiming()).isEqualTo(BindingTiming.Debounce);
+        Assertions.assertThat(specification.getTiming()).isEqualTo(BindingTiming.None);
+        Assertions.assertThat(timed.toBuilder().setTiming(BindingTiming.None).setTimingInterval(0).build()).isSameAs(specification);
+    }
+
+    @Test
+    public void rowsBuiltWithEqualContentShareOneInstance() {
+        Set<BindingSpecification> instances = identitySet();
+        for (int i = 0; i < ROWS; i++) {
+            instances.add(row().build());
+        }
+
+        Assertions.assertThat(instances).hasSize(1);
+    }
+
+    @Test
+    public void everyInflationOfABindingSharesOneInstance() {
+        BindingSpecificationParser parser = new BindingSpecificationParser(new ValueConverterService(NullLogger.instance),
+                new ResourceService(NullLogger.instance), NullLogger.instance);
+        Set<BindingSpecification> instances = identitySet();
+        for (int i = 0; i < ROWS; i++) {
+            instances.add(parser.parse(new String("{Text @= Name || 'none'}")));
+        }
+
+        Assertions.assertThat(instances).hasSize(1);
+        Assertions.assertThat(instances.iterator().next().getFallbackValue()).isEqualTo("none");
+    }
+
+    @Test
+    public void retainedBytesSavedByInterning() {
+        BindingSpecificationParser parser = new BindingSpecificationParser(new ValueConverterService(NullLogger.instance),
+                new ResourceService(NullLogger.instance), NullLogger.instance);
+        List<BindingSpecification> interned = new ArrayList<BindingSpecification>(ROWS);
+        List<BindingSpecification> copies = new ArrayList<BindingSpecification>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            BindingSpecification parsed = parser.parse(new String("{Text @= Name || 'none'}"));
+            interned.add(parsed);
+            // what every row kept before interning: its own specification and its own parsed strings
+            copies.add(new BindingSpecification(parsed.toBuilder()
+                    .setTarget(new String(parsed.getTarget()))
+                    .setSource(new String(parsed.getSource()))
+                    .setFallbackValue(new String((String) parsed.getFallbackValue()))));
+        }
+
+        long with = retainedSize(interned);
+        long without = retainedSize(copies);
+
+        Assertions.assertThat(with).as(ROWS + " rows retain " + with + " bytes interned, " + without + " bytes without")
+                .isEqualTo(without / ROWS)
+                .isLessThan(without);
+    }
+
+    /**
+     * Shallow sizes of the distinct specifications and their strings, laid out as on a 64-bit VM with compressed
+     * references: 12 byte headers, 4 byte references and 8 byte alignment. Shared converters and enums are left out.
+     */
+    private static long retainedSize(List<BindingSpecification> specifications) {
+        Set<Object> seen = Collections.newSetFromMap(new IdentityHashMap<Object, Boolean>());
+        long size = 0;
+        for (BindingSpecification specification : specifications) {
+            if (!seen.add(specification)) {
+                continue;
+            }
+            // nine references and the timing interval
+            size += align(12 + 9 * 4 + 8);
+            for (Object value : Arrays.asList(specification.getTarget(), specification.getSource(),
+                    specification.getConverterParameter(), specification.getFallbackValue())) {
+                if (value instanceof String && seen.add(value)) {
+                    // the String with its char[] reference and hash, then the char[] itself
+                    size += align(12 + 4 + 4) + align(16 + 2 * ((String) value).length());
+                }
+            }
+        }
+        return size;
+    }
+
+    private static long align(long size) {
+        return (size + 7) & ~7L;
+    }
+
+    private static Set<BindingSpecification> identitySet() {
+        return Collections.newSetFromMap(new IdentityHashMap<BindingSpecification, Boolean>());
+    }
+
+    /**
+     * Parsing creates new parameter and fallback strings for every row, like this does.
+     */
+    private static BindingSpecification.BindingSpecificationBuilder row() {
+        return new BindingSpecification.BindingSpecificationBuilder()
+                .setTarget("Text")
+                .setSource("Name")
+                .setMode(BindingMode.OneWay)
+                .setValueConverter(DefaultConverter.instance)
+                .setConverterParameter(new String("parameter"))
+                .setFallbackValue(new String("fallback"));
+    }
+}
@@ -0,0 +1,67 @@
+package solutions.alterego.androidbound.binding.data;
+
+import org.fest.assertions.api.Assertions;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import io.reactivex.functions.Consumer;
+import solutions.alterego.androidbound.utils.GroupedList;
+import solutions.alterego.androidbound.utils.GroupingList;
+
+public class IndexedGroupingListTest {
+
+    @Test
+    public void flatPositionsMapToSectionsAndBack() {
+        IndexedGroupingList<String, Integer> list = new IndexedGroupingList<String, Integer>(groups());
+
+        // A 1 2 | B | C 3 4 5
+        Assertions.assertThat(list).containsExactly("A", 1, 2, "B", "C", 3, 4, 5);
+        Assertions.assertThat(list.getSectionForPosition(3)).isEqualTo(1);
+        Assertions.assertThat(list.isHeader(3)).isTrue();
+        Assertions.assertThat(list.getSectionForPosition(6)).isEqualTo(2);
+        Assertions.assertThat(list.getOffsetForPosition(6)).isEqualTo(1);
+        Assertions.assertThat(list.getPosition(2, 1)).isEqualTo(6);
+        Assertions.assertThat(list.getPosition(1, -1)).isEqualTo(3);
+        Assertions.assertThat(list.indexOfKey("C")).isEqualTo(2);
+    }
+
+    @Test
+    public void itemChangesAreReportedInFlatPositions() {
+        IndexedGroupingList<String, Integer> list = new IndexedGroupingList<String, Integer>(groups());
+        final List<String> changes = new ArrayList<String>();
+        list.onChanges().subscribe(new Consumer<BindableList.Change>() {
+            @Override
+            public void accept(BindableList.Change change) throws Exception {
+                changes.add(change.toString());
+            }
+        });
+
+        list.addItem(1, 9);
+        list.removeItem(0, 0);
+        list.addSection(1, "Z", Arrays.asList(7, 8));
+        list.removeSection(0);
+
+        Assertions.assertThat(changes).containsExactly("Inserted(4, 1)", "Removed(1, 1)", "Inserted(2, 3)", "Removed(0, 2)");
+        Assertions.assertThat(list).containsExactly("Z", 7, 8, "B", 9, "C", 3, 4, 5);
+        Assertions.assertThat(list.getSectionForPosition(4)).isEqualTo(1);
+        Assertions.assertThat(list.indexOfKey("B")).isEqualTo(1);
+        Assertions.assertThat(list.indexOfKey("A")).isEqualTo(-1);
+    }
+
+    private static GroupingList<String, Integer> groups() {
+        GroupingList<String, Integer> groups = new GroupingList<String, Integer>();
+        groups.add(group("A", 1, 2));
+        groups.add(group("B"));
+        groups.add(group("C", 3, 4, 5));
+        return groups;
+    }
+
+    private static GroupedList<String, Integer> group(String key, Integer... items) {
+        GroupedList<String, Integer> group = new GroupedList<String, Integer>(key);
+        group.addAll(Arrays.asList(items));
+        return group;
+    }
+}
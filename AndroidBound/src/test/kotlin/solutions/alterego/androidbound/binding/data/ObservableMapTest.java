@@ -0,0 +1,128 @@
+package solutions.alterego.androidbound.binding.data;
+
+import org.fest.assertions.api.Assertions;
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+
+import io.reactivex.functions.Consumer;
+import io.reactivex.observers.TestObserver;
+import solutions.alterego.androidbound.NullLogger;
+import solutions.alterego.androidbound.binding.types.MapEntryBinding;
+import solutions.alterego.androidbound.utils.Exceptional;
+
+public class ObservableMapTest {
+
+    @Test
+    public void keyStreamOnlySeesItsKey() {
+        ObservableMap<String, String> map = new ObservableMap<>();
+        TestObserver<Exceptional<String>> name = map.onKeyChanged("Name").test();
+
+        map.put("Name", "a");
+        map.put("Other", "b");
+        map.put("Name", "a");
+        map.remove("Name");
+
+        name.assertValues(Exceptional.right("a"), Exceptional.<String>right(null));
+    }
+
+    @Test
+    public void putAllAndClearAreBatched() {
+        ObservableMap<String, Integer> map = new ObservableMap<>();
+        TestObserver<Set<String>> batches = map.onKeysChanged().test();
+        TestObserver<String> properties = map.onPropertyChanged().test();
+
+        Map<String, Integer> values = new HashMap<>();
+        for (int i = 0; i < 100; i++) {
+            values.put("key" + i, i);
+        }
+        map.putAll(values);
+        map.putAll(values);
+        map.clear();
+
+        batches.assertValueCount(2);
+        Assertions.assertThat(batches.values().get(0)).hasSize(100);
+        Assertions.assertThat(batches.values().get(1)).hasSize(100);
+        properties.assertValueCount(200);
+    }
+
+    @Test
+    public void concurrentMapAcceptsWritesFromManyThreads() throws Exception {
+        final ObservableMap<String, Integer> map = ObservableMap.concurrent();
+        TestObserver<Set<String>> batches = map.onKeysChanged().test();
+        final CountDownLatch done = new CountDownLatch(4);
+
+        for (int t = 0; t < 4; t++) {
+            final int thread = t;
+            new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    for (int i = 0; i < 1000; i++) {
+                        map.put(thread + "-" + i, i);
+                    }
+                    done.countDown();
+                }
+            }).start();
+        }
+        done.await();
+
+        Assertions.assertThat(map.size()).isEqualTo(4000);
+        batches.assertValueCount(4000);
+    }
+
+    @Test
+    public void concurrentClearReportsEveryKeyItRemoves() throws Exception {
+        final ObservableMap<String, Integer> map = ObservableMap.concurrent();
+        final Map<String, Integer> notifications = new HashMap<>();
+        map.onKeysChanged().subscribe(new Consumer<Set<String>>() {
+            @Override
+            public void accept(Set<String> keys) throws Exception {
+                for (String key : keys) {
+                    Integer count = notifications.get(key);
+                    notifications.put(key, count == null ? 1 : count + 1);
+                }
+            }
+        });
+        final CountDownLatch done = new CountDownLatch(1);
+        new Thread(new Runnable() {
+            @Override
+            public void run() {
+                for (int i = 0; i < 20000; i++) {
+                    map.put("key" + i, i);
+                }
+                done.countDown();
+            }
+        }).start();
+
+        while (done.getCount() > 0) {
+            map.clear();
+        }
+        done.await();
+
+        // each key is put once, then either reported by a clear or still in the map
+        Assertions.assertThat(notifications).hasSize(20000);
+        for (Map.Entry<String, Integer> entry : notifications.entrySet()) {
+            int expected = map.containsKey(entry.getKey()) ? 1 : 2;
+            Assertions.assertThat(entry.getValue()).as(entry.getKey()).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    public void mapEntryBindingReadsWritesAndFollowsItsKey() {
+        ObservableMap<String, Object> map = new ObservableMap<>();
+        map.put("Title", "first");
+        MapEntryBinding binding = new MapEntryBinding(map, "Title", true, NullLogger.instance);
+        TestObserver<Exceptional<Object>> changes = binding.getChanges().test();
+
+        Assertions.assertThat(binding.getValue()).isEqualTo("first");
+        map.put("Title", "second");
+        binding.setValue("third");
+
+        Assertions.assertThat(map.get("Title")).isEqualTo("third");
+        changes.assertValues(Exceptional.<Object>right("second"));
+        binding.dispose();
+    }
+}
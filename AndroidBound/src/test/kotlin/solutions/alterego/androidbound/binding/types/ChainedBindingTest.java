@@ -0,0 +1,134 @@
+package solutions.alterego.androidbound.binding.types;
+
+import org.fest.assertions.api.Assertions;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import solutions.alterego.androidbound.NullLogger;
+import solutions.alterego.androidbound.TestViewModel;
+import solutions.alterego.androidbound.binding.interfaces.IBinding;
+import solutions.alterego.androidbound.binding.interfaces.IBindingChangeListener;
+import solutions.alterego.androidbound.factories.IBindingFactory;
+import solutions.alterego.androidbound.interfaces.ILogger;
+
+@RunWith(RobolectricTestRunner.class)
+@Config(manifest = Config.NONE, sdk = 23)
+public class ChainedBindingTest {
+
+    @Test
+    public void intermediateChangeRepointsTheChildBinding() {
+        Address previous = new Address("Zagreb");
+        Person person = new Person(previous);
+        CountingBindingFactory factory = new CountingBindingFactory();
+        ChainedBinding binding = new ChainedBinding(person, "Address", Collections.singletonList("City"), true, factory,
+                NullLogger.instance);
+        RecordingListener listener = new RecordingListener();
+        binding.addChangeListener(listener);
+
+        Address moved = new Address("Split");
+        person.setAddress(moved);
+
+        Assertions.assertThat(factory.mCreated).isEqualTo(1);
+        Assertions.assertThat(binding.getValue()).isEqualTo("Split");
+        Assertions.assertThat(listener.mValues).containsExactly("Split");
+
+        previous.setCity("Rijeka");
+        moved.setCity("Osijek");
+
+        Assertions.assertThat(listener.mValues).containsExactly("Split", "Osijek");
+        binding.dispose();
+    }
+
+    @Test
+    public void intermediateChangeToAnotherClassRecreatesTheChildBinding() {
+        Person person = new Person(new Address("Zagreb"));
+        CountingBindingFactory factory = new CountingBindingFactory();
+        ChainedBinding binding = new ChainedBinding(person, "Address", Collections.singletonList("City"), true, factory,
+                NullLogger.instance);
+
+        person.setAddress(new PostalAddress("Pula"));
+
+        Assertions.assertThat(factory.mCreated).isEqualTo(2);
+        Assertions.assertThat(binding.getValue()).isEqualTo("Pula");
+        binding.dispose();
+    }
+
+    public static class Person extends TestViewModel {
+
+        private Address mAddress;
+
+        public Person(Address address) {
+            mAddress = address;
+        }
+
+        public Address getAddress() {
+            return mAddress;
+        }
+
+        public void setAddress(Address address) {
+            mAddress = address;
+            raise("Address");
+        }
+    }
+
+    public static class Address extends TestViewModel {
+
+        private String mCity;
+
+        public Address(String city) {
+            mCity = city;
+        }
+
+        public String getCity() {
+            return mCity;
+        }
+
+        public void setCity(String city) {
+            mCity = city;
+            raise("City");
+        }
+    }
+
+    public static class PostalAddress extends Address {
+
+        public PostalAddress(String city) {
+            super(city);
+        }
+    }
+
+    private static class CountingBindingFactory implements IBindingFactory {
+
+        int mCreated;
+
+        @Override
+        public IBinding create(Object source, String combinedPath, boolean needChangesIfPossible) {
+            mCreated++;
+            return new PropertyBinding(source, combinedPath, needChangesIfPossible, NullLogger.instance);
+        }
+
+        @Override
+        public IBinding create(Object source, List<String> pathTokens, boolean needChangesIfPossible) {
+            return create(source, pathTokens.get(0), needChangesIfPossible);
+        }
+
+        @Override
+        public void setLogger(ILogger logger) {
+        }
+    }
+
+    private static class RecordingListener implements IBindingChangeListener {
+
+        final List<Object> mValues = new ArrayList<>();
+
+        @Override
+        public void onBindingChanged(IBinding binding, Object value) {
+            mValues.add(value);
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package solutions.alterego.androidbound.binding.types;
+
+import org.fest.assertions.api.Assertions;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+import io.reactivex.Completable;
+import io.reactivex.Scheduler;
+import io.reactivex.android.plugins.RxAndroidPlugins;
+import io.reactivex.functions.Consumer;
+import io.reactivex.functions.Function;
+import io.reactivex.schedulers.Schedulers;
+import io.reactivex.schedulers.TestScheduler;
+import solutions.alterego.androidbound.NullLogger;
+import solutions.alterego.androidbound.TestViewModel;
+import solutions.alterego.androidbound.annotations.DependsOn;
+import solutions.alterego.androidbound.interfaces.ICommand;
+import solutions.alterego.androidbound.interfaces.INotifyCanExecuteChanged;
+
+@RunWith(RobolectricTestRunner.class)
+@Config(manifest = Config.NONE, sdk = 23)
+public class CommandBindingTest {
+
+    public static class Screen extends TestViewModel {
+
+        int mSaves;
+
+        int mChecks;
+
+        String mName;
+
+        public Completable doSave() {
+            mSaves++;
+            return Completable.complete();
+        }
+
+        @DependsOn("Name")
+        public boolean canSubmit() {
+            mChecks++;
+            return mName != null;
+        }
+
+        public void doSubmit() {
+        }
+
+        void setName(String name) {
+            mName = name;
+            raise("Name");
+        }
+
+        void setTitle() {
+            raise("Title");
+        }
+    }
+
+    private TestScheduler mMainThread;
+
+    @Before
+    public void setUp() {
+        mMainThread = new TestScheduler();
+        RxAndroidPlugins.setInitMainThreadSchedulerHandler(new Function<Callable<Scheduler>, Scheduler>() {
+            @Override
+            public Scheduler apply(Callable<Scheduler> scheduler) throws Exception {
+                return mMainThread;
+            }
+        });
+        RxAndroidPlugins.setMainThreadSchedulerHandler(new Function<Scheduler, Scheduler>() {
+            @Override
+            public Scheduler apply(Scheduler scheduler) throws Exception {
+                return mMainThread;
+            }
+        });
+        CommandBinding.setCommandScheduler(Schedulers.trampoline());
+    }
+
+    @After
+    public void tearDown() {
+        CommandBinding.setCommandScheduler(null);
+        RxAndroidPlugins.reset();
+    }
+
+    @Test
+    public void asyncCommandIsBusyUntilItCompletes() {
+        Screen screen = new Screen();
+        ICommand command = command(screen, "Save");
+        List<Boolean> canExecute = record(command);
+
+        command.execute(null);
+
+        Assertions.assertThat(screen.mSaves).isEqualTo(1);
+        Assertions.assertThat(command.canExecute(null)).isFalse();
+        Assertions.assertThat(canExecute).containsExactly(true, false);
+
+        mMainThread.triggerActions();
+
+        Assertions.assertThat(command.canExecute(null)).isTrue();
+        Assertions.assertThat(canExecute).containsExactly(true, false, true);
+    }
+
+    @Test
+    public void tapsWhileTheCommandRunsAreDropped() {
+        Screen screen = new Screen();
+        ICommand command = command(screen, "Save");
+
+        command.execute(null);
+        command.execute(null);
+        command.execute(null);
+
+        Assertions.assertThat(screen.mSaves).isEqualTo(1);
+
+        mMainThread.triggerActions();
+        command.execute(null);
+
+        Assertions.assertThat(screen.mSaves).isEqualTo(2);
+    }
+
+    @Test
+    public void dependentCheckerIsOnlyEvaluatedWhenItsPropertiesChange() {
+        Screen screen = new Screen();
+        ICommand command = command(screen, "Submit");
+        List<Boolean> canExecute = record(command);
+
+        Assertions.assertThat(screen.mChecks).isEqualTo(1);
+        Assertions.assertThat(command.canExecute(null)).isFalse();
+        Assertions.assertThat(command.canExecute(null)).isFalse();
+        Assertions.assertThat(screen.mChecks).isEqualTo(1);
+
+        screen.setTitle();
+        mMainThread.triggerActions();
+        Assertions.assertThat(screen.mChecks).isEqualTo(1);
+
+        screen.setName("Ada");
+        mMainThread.triggerActions();
+
+        Assertions.assertThat(screen.mChecks).isEqualTo(2);
+        Assertions.assertThat(command.canExecute(null)).isTrue();
+        Assertions.assertThat(canExecute).containsExactly(false, true);
+    }
+
+    @Test
+    public void unchangedResultIsNotPublishedAgain() {
+        Screen screen = new Screen();
+        screen.mName = "Ada";
+        ICommand command = command(screen, "Submit");
+        List<Boolean> canExecute = record(command);
+
+        screen.setName("Grace");
+        mMainThread.triggerActions();
+
+        Assertions.assertThat(screen.mChecks).isEqualTo(2);
+        Assertions.assertThat(canExecute).containsExactly(true);
+    }
+
+    private static ICommand command(Object subject, String name) {
+        return (ICommand) new CommandBinding(subject, name, NullLogger.instance).getValue();
+    }
+
+    private static List<Boolean> record(ICommand command) {
+        final List<Boolean> values = new ArrayList<Boolean>();
+        ((INotifyCanExecuteChanged) command).onCanExecuteChanged().subscribe(new Consumer<Boolean>() {
+            @Override
+            public void accept(Boolean value) throws Exception {
+                values.add(value);
+            }
+        });
+        return values;
+    }
+}
@@ -229,4 +229,12 @@ public class DefaultConverterBoxingAndUnboxingTest {
                 .isEqualTo(DefaultConverter.unbox(classCharacter));
     }
 
-}
\ No newline at end of file
+    @Test
+    public void unboxingToMatchingPrimitiveKeepsTheInstance() {
+        Integer classInteger = 1000;
+        Double classDouble = 0.5;
+
+        Assertions.assertThat(DefaultConverter.instance.convert(classInteger, int.class, null, null)).isSameAs(classInteger);
+        Assertions.assertThat(DefaultConverter.instance.convertBack(classDouble, double.class, null, null)).isSameAs(classDouble);
+    }
+}
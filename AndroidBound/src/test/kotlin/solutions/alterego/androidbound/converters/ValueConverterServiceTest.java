@@ -3,9 +3,14 @@ package solutions.alterego.androidbound.converters;
 import org.fest.assertions.api.Assertions;
 import org.junit.Test;
 
+import android.view.View;
+
 import java.util.Locale;
 
 import solutions.alterego.androidbound.NullLogger;
+import solutions.alterego.androidbound.android.converters.BooleanToInvisibilityConverter;
+import solutions.alterego.androidbound.android.converters.BooleanToVisibilityConverter;
+import solutions.alterego.androidbound.converters.interfaces.IPureValueConverter;
 import solutions.alterego.androidbound.converters.interfaces.IValueConverter;
 
 public class ValueConverterServiceTest {
@@ -29,6 +34,26 @@ public class ValueConverterServiceTest {
         }
     };
 
+    private int pureConversions;
+
+    private IPureValueConverter pureConverter = new IPureValueConverter() {
+        @Override
+        public String getBindingName() {
+            return "pure";
+        }
+
+        @Override
+        public Object convert(Object value, Class<?> targetType, Object param, Locale locale) {
+            pureConversions++;
+            return value + "-" + param;
+        }
+
+        @Override
+        public Object convertBack(Object value, Class<?> targetType, Object param, Locale locale) {
+            return null;
+        }
+    };
+
     public ValueConverterServiceTest() {
         mValueConverterService = new ValueConverterService(NullLogger.instance);
     }
@@ -57,4 +82,64 @@ public class ValueConverterServiceTest {
         Assertions.assertThat(mValueConverterService.findConverter("test").convertBack(null, null, null, null)).isEqualTo("convertedBack");
     }
 
-}
\ No newline at end of file
+    @Test
+    public void memoizesPureConverter() {
+        mValueConverterService.registerConverter(pureConverter);
+        IValueConverter converter = mValueConverterService.findConverter("pure");
+
+        for (int i = 0; i < 10; i++) {
+            Assertions.assertThat(converter.convert("a", String.class, "x", Locale.US)).isEqualTo("a-x");
+        }
+        Assertions.assertThat(converter.convert("a", String.class, "y", Locale.US)).isEqualTo("a-y");
+
+        Assertions.assertThat(pureConversions).isEqualTo(2);
+        Assertions.assertThat(((MemoizingValueConverter) converter).getHits()).isEqualTo(9);
+        Assertions.assertThat(converter.getBindingName()).isEqualTo("pure");
+    }
+
+    @Test
+    public void clearConverterCachesDropsMemoizedResults() {
+        mValueConverterService.registerConverter(pureConverter);
+        IValueConverter converter = mValueConverterService.findConverter("pure");
+
+        converter.convert("a", String.class, "x", Locale.US);
+        mValueConverterService.clearConverterCaches();
+        converter.convert("a", String.class, "x", Locale.US);
+
+        Assertions.assertThat(pureConversions).isEqualTo(2);
+    }
+
+    @Test
+    public void memoizedResultsAreBounded() {
+        MemoizingValueConverter converter = new MemoizingValueConverter(pureConverter, 2);
+
+        converter.convert("a", String.class, null, Locale.US);
+        converter.convert("b", String.class, null, Locale.US);
+        converter.convert("c", String.class, null, Locale.US);
+        converter.convert("a", String.class, null, Locale.US);
+
+        Assertions.assertThat(pureConversions).isEqualTo(4);
+    }
+
+    @Test
+    public void visibilityConvertersAreNotMemoized() {
+        BooleanToVisibilityConverter visibility = new BooleanToVisibilityConverter();
+        BooleanToInvisibilityConverter invisibility = new BooleanToInvisibilityConverter();
+        mValueConverterService.registerConverter(visibility);
+        mValueConverterService.registerConverter(invisibility);
+
+        // a ternary on the value, so a memo key and its lock would only cost more
+        Assertions.assertThat(mValueConverterService.findConverter(BooleanToVisibilityConverter.CONVERTER_NAME)).isSameAs(visibility);
+        Assertions.assertThat(mValueConverterService.findConverter(BooleanToInvisibilityConverter.CONVERTER_NAME)).isSameAs(invisibility);
+        Assertions.assertThat(visibility.convert(false, int.class, null, Locale.US)).isEqualTo(View.GONE);
+        Assertions.assertThat(invisibility.convert(false, int.class, null, Locale.US)).isEqualTo(View.INVISIBLE);
+    }
+
+    @Test
+    public void doesNotMemoizeOtherConverters() {
+        mValueConverterService.registerConverter(testConverter);
+
+        Assertions.assertThat(mValueConverterService.findConverter("test")).isSameAs(testConverter);
+    }
+
+}
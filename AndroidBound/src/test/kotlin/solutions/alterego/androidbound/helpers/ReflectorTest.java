@@ -0,0 +1,142 @@
+package solutions.alterego.androidbound.helpers;
+
+import android.util.SparseArray;
+
+import org.fest.assertions.api.Assertions;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import solutions.alterego.androidbound.NullLogger;
+import solutions.alterego.androidbound.helpers.reflector.MethodInfo;
+import solutions.alterego.androidbound.helpers.reflector.PropertyInfo;
+import solutions.alterego.androidbound.interfaces.ILogger;
+
+@RunWith(RobolectricTestRunner.class)
+@Config(manifest = Config.NONE, sdk = 23)
+public class ReflectorTest {
+
+    public static class Subject {
+
+        public int count;
+
+        public String getName() {
+            return null;
+        }
+
+        public boolean isVisible() {
+            return true;
+        }
+
+        public void doOpen() {
+        }
+    }
+
+    @Test
+    public void concurrentLookupsShareOneComputation() throws Exception {
+        final SparseArray<Object> cache = new SparseArray<Object>();
+        final Map<Class<?>, FutureTask<Object>> inProgress = new HashMap<Class<?>, FutureTask<Object>>();
+        final AtomicInteger computations = new AtomicInteger();
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final Callable<Object> computation = new Callable<Object>() {
+            @Override
+            public Object call() throws Exception {
+                computations.incrementAndGet();
+                started.countDown();
+                release.await();
+                return new Object();
+            }
+        };
+
+        final AtomicReference<Object> first = new AtomicReference<Object>();
+        Thread owner = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                first.set(Reflector.computeOnce(Subject.class, cache, inProgress, computation));
+            }
+        });
+        owner.start();
+        Assertions.assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        final AtomicReference<Object> second = new AtomicReference<Object>();
+        Thread waiter = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                second.set(Reflector.computeOnce(Subject.class, cache, inProgress, computation));
+            }
+        });
+        waiter.start();
+        // the second lookup parks on the first one's task
+        for (int i = 0; i < 500 && waiter.getState() != Thread.State.WAITING; i++) {
+            Thread.sleep(10);
+        }
+        Assertions.assertThat(waiter.getState()).isEqualTo(Thread.State.WAITING);
+
+        release.countDown();
+        owner.join(5000);
+        waiter.join(5000);
+
+        Assertions.assertThat(computations.get()).isEqualTo(1);
+        Assertions.assertThat(first.get()).isNotNull();
+        Assertions.assertThat(second.get()).isSameAs(first.get());
+        Assertions.assertThat(cache.get(Subject.class.hashCode())).isSameAs(first.get());
+        Assertions.assertThat(inProgress).isEmpty();
+    }
+
+    @Test
+    public void fieldsAreComputedOnce() {
+        Assertions.assertThat(Reflector.getAllFields(Subject.class)).isSameAs(Reflector.getAllFields(Subject.class));
+    }
+
+    @Test
+    public void prewarmFillsOnlyTheMethodAndFieldCaches() {
+        Reflector.prewarm(WarmedSubject.class);
+        SparseArray<List<MethodInfo>> methods = Reflector.getAllMethods(WarmedSubject.class);
+
+        Assertions.assertThat(Reflector.getAllMethods(WarmedSubject.class)).isSameAs(methods);
+        Assertions.assertThat(Reflector.getMethods(WarmedSubject.class, "getName")).hasSize(1);
+        Assertions.assertThat(Reflector.getField(WarmedSubject.class, "count")).isNotNull();
+
+        // the property is only created by the first lookup, so it logs through that lookup's logger
+        RecordingLogger lookupLogger = new RecordingLogger();
+        PropertyInfo name = Reflector.getProperty(WarmedSubject.class, "Name", lookupLogger);
+        name.setValue(new WarmedSubject(), "renamed");
+
+        Assertions.assertThat(lookupLogger.mWarnings).hasSize(1);
+        Assertions.assertThat(name.isCanWrite()).isFalse();
+    }
+
+    /**
+     * Only looked up by {@link #prewarmFillsOnlyTheMethodAndFieldCaches()}, so nothing else fills its caches first.
+     */
+    public static class WarmedSubject extends Subject {
+    }
+
+    private static class RecordingLogger extends NullLogger {
+
+        final List<String> mWarnings = new ArrayList<String>();
+
+        @Override
+        public void warning(String msg) {
+            mWarnings.add(msg);
+        }
+
+        @Override
+        public ILogger getLogger(Object object) {
+            return this;
+        }
+    }
+}
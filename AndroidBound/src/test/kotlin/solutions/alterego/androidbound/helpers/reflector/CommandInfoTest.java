@@ -0,0 +1,135 @@
+package solutions.alterego.androidbound.helpers.reflector;
+
+import android.view.View;
+
+import org.fest.assertions.api.Assertions;
+import org.junit.Test;
+
+import java.lang.reflect.Method;
+
+import static org.mockito.Mockito.mock;
+
+public class CommandInfoTest {
+
+    public static class Subject {
+
+        Object mFirst;
+
+        Object mSecond;
+
+        int mCalls;
+
+        public void doNothing() {
+            mCalls++;
+        }
+
+        public void doObject(Object parameter) {
+            mFirst = parameter;
+        }
+
+        public void doText(String text) {
+            mFirst = text;
+        }
+
+        public void doView(View view) {
+            mFirst = view;
+        }
+
+        public void doBoth(View view, Object parameter) {
+            mFirst = view;
+            mSecond = parameter;
+        }
+
+        public boolean canObject(Object parameter) {
+            mFirst = parameter;
+            return parameter != null;
+        }
+    }
+
+    private final View mView = mock(View.class);
+
+    @Test
+    public void methodWithoutParametersGetsNone() throws Exception {
+        Subject subject = new Subject();
+
+        command("Nothing", Object.class).invoke(subject, mView, "parameter");
+
+        Assertions.assertThat(subject.mCalls).isEqualTo(1);
+    }
+
+    @Test
+    public void objectParameterGetsTheCommandParameter() throws Exception {
+        Subject subject = new Subject();
+
+        command("Object", Object.class).invoke(subject, mView, "parameter");
+
+        Assertions.assertThat(subject.mFirst).isEqualTo("parameter");
+    }
+
+    @Test
+    public void objectParameterGetsNullRatherThanTheView() throws Exception {
+        Subject subject = new Subject();
+        subject.mFirst = "unset";
+
+        command("Object", Object.class).invoke(subject, mView, null);
+
+        Assertions.assertThat(subject.mFirst).isNull();
+    }
+
+    @Test
+    public void viewParameterGetsTheViewWhenTheParameterDoesNotFit() throws Exception {
+        Subject subject = new Subject();
+
+        command("View", View.class).invoke(subject, mView, null);
+        Assertions.assertThat(subject.mFirst).isSameAs(mView);
+
+        subject.mFirst = null;
+        command("View", View.class).invoke(subject, mView, "parameter");
+        Assertions.assertThat(subject.mFirst).isSameAs(mView);
+    }
+
+    @Test
+    public void typedParameterGetsNullWhenThereIsNoParameter() throws Exception {
+        Subject subject = new Subject();
+        subject.mFirst = "unset";
+
+        command("Text", String.class).invoke(subject, mView, null);
+
+        Assertions.assertThat(subject.mFirst).isNull();
+    }
+
+    @Test
+    public void twoParametersGetTheViewAndTheParameter() throws Exception {
+        Subject subject = new Subject();
+
+        command("Both", View.class).invoke(subject, mView, "parameter");
+
+        Assertions.assertThat(subject.mFirst).isSameAs(mView);
+        Assertions.assertThat(subject.mSecond).isEqualTo("parameter");
+    }
+
+    @Test
+    public void checkerPicksItsArgumentsTheSameWay() throws Exception {
+        Subject subject = new Subject();
+        CommandInfo info = new CommandInfo("Object", Object.class, Object.class, method("doObject", Object.class),
+                method("canObject", Object.class));
+
+        Assertions.assertThat(info.check(subject, mView, null)).isFalse();
+        Assertions.assertThat(info.check(subject, mView, "parameter")).isTrue();
+        Assertions.assertThat(subject.mFirst).isEqualTo("parameter");
+    }
+
+    private static CommandInfo command(String name, Class<?> parameterType) throws Exception {
+        for (Method method : Subject.class.getMethods()) {
+            if (method.getName().equals("do" + name)) {
+                return new CommandInfo(name, method.getParameterTypes().length > 0 ? parameterType : null, null,
+                        MethodInfo.getMethodInfo(method), null);
+            }
+        }
+        throw new NoSuchMethodException("do" + name);
+    }
+
+    private static MethodInfo method(String name, Class<?>... parameterTypes) throws Exception {
+        return MethodInfo.getMethodInfo(Subject.class.getMethod(name, parameterTypes));
+    }
+}
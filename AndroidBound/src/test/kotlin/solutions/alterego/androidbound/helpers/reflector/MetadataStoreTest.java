@@ -0,0 +1,87 @@
+package solutions.alterego.androidbound.helpers.reflector;
+
+import org.fest.assertions.api.Assertions;
+import org.junit.Test;
+
+import java.io.File;
+
+public class MetadataStoreTest {
+
+    public static class Subject {
+
+        public int count;
+
+        public String getName() {
+            return null;
+        }
+
+        public void setName(String name) {
+        }
+
+        public void doOpen(Object parameter) {
+        }
+
+        public boolean canOpen(Object parameter) {
+            return true;
+        }
+    }
+
+    @Test
+    public void recordedMembersSurviveAReload() throws Exception {
+        File file = File.createTempFile("metadata", ".bin");
+        file.deleteOnExit();
+
+        MetadataStore store = new MetadataStore(file, 7, 100);
+        store.recordProperty(Subject.class, "Name", Subject.class.getMethod("getName"), Subject.class.getMethod("setName", String.class),
+                null, null, null);
+        store.recordProperty(Subject.class, "count", null, null, null, null, Subject.class.getField("count"));
+        store.recordCommand(Subject.class, "Open", Subject.class.getMethod("doOpen", Object.class),
+                Subject.class.getMethod("canOpen", Object.class));
+        store.save();
+
+        MetadataStore loaded = new MetadataStore(file, 7, 100);
+        Assertions.assertThat(loaded.load()).isTrue();
+
+        MetadataStore.Member name = loaded.findProperty(Subject.class, "Name");
+        Assertions.assertThat(name.method(Subject.class, MetadataStore.Role.Setter))
+                .isEqualTo(Subject.class.getMethod("setName", String.class));
+        Assertions.assertThat(name.has(MetadataStore.Role.Adder)).isFalse();
+        Assertions.assertThat(loaded.findProperty(Subject.class, "count").field(Subject.class)).isEqualTo(Subject.class.getField("count"));
+        Assertions.assertThat(loaded.findCommand(Subject.class, "Open").method(Subject.class, MetadataStore.Role.Checker))
+                .isEqualTo(Subject.class.getMethod("canOpen", Object.class));
+        Assertions.assertThat(loaded.findProperty(Subject.class, "Open")).isNull();
+
+        Assertions.assertThat(new MetadataStore(file, 8, 100).load()).isFalse();
+    }
+
+    @Test
+    public void reinstalledBuildWithTheSameVersionCodeDiscardsTheFile() throws Exception {
+        File file = File.createTempFile("metadata", ".bin");
+        file.deleteOnExit();
+
+        MetadataStore store = new MetadataStore(file, 7, 100);
+        store.recordProperty(Subject.class, "Name", Subject.class.getMethod("getName"), null, null, null, null);
+        store.save();
+
+        Assertions.assertThat(new MetadataStore(file, 7, 100).load()).isTrue();
+        Assertions.assertThat(new MetadataStore(file, 7, 200).load()).isFalse();
+    }
+
+    @Test
+    public void membersThatWereNotFoundAreNotRecorded() throws Exception {
+        File file = File.createTempFile("metadata", ".bin");
+        file.deleteOnExit();
+
+        MetadataStore store = new MetadataStore(file, 7, 100);
+        store.recordProperty(Subject.class, "Title", null, null, null, null, null);
+        store.recordCommand(Subject.class, "Close", null, null);
+        store.save();
+
+        Assertions.assertThat(store.findProperty(Subject.class, "Title")).isNull();
+        Assertions.assertThat(store.findCommand(Subject.class, "Close")).isNull();
+
+        MetadataStore loaded = new MetadataStore(file, 7, 100);
+        Assertions.assertThat(loaded.load()).isTrue();
+        Assertions.assertThat(loaded.findProperty(Subject.class, "Title")).isNull();
+    }
+}
@@ -0,0 +1,129 @@
+package solutions.alterego.androidbound.helpers.reflector;
+
+import org.fest.assertions.api.Assertions;
+import org.junit.Test;
+
+import solutions.alterego.androidbound.NullLogger;
+
+public class PropertyInfoTest {
+
+    @Test
+    public void writableAccessorIsReadAndWrittenUnboxed() {
+        CountingIntAccessor accessor = new CountingIntAccessor();
+        PropertyInfo info = new PropertyInfo("Count", int.class, true, accessor, NullLogger.instance);
+        Counter counter = new Counter();
+
+        info.setInt(counter, 5);
+
+        Assertions.assertThat(info.getInt(counter)).isEqualTo(5);
+        Assertions.assertThat(accessor.mPrimitiveCalls).isEqualTo(2);
+        Assertions.assertThat(accessor.mBoxedCalls).isEqualTo(0);
+    }
+
+    @Test
+    public void readOnlyAccessorIsReadUnboxedAndNeverWritten() {
+        IIntPropertyAccessor accessor = new IIntPropertyAccessor() {
+            @Override
+            public int getInt(Object subject) {
+                return ((Counter) subject).getTotal();
+            }
+
+            @Override
+            public Object get(Object subject) {
+                return ((Counter) subject).getTotal();
+            }
+        };
+        PropertyInfo info = new PropertyInfo("Total", int.class, false, accessor, NullLogger.instance);
+        Counter counter = new Counter();
+        counter.mCount = 3;
+
+        info.setInt(counter, 100);
+        info.setValue(counter, 100);
+
+        Assertions.assertThat(info.getInt(counter)).isEqualTo(6);
+        Assertions.assertThat(counter.mCount).isEqualTo(3);
+    }
+
+    @Test
+    public void primitiveFieldIsReadAndWrittenDirectly() throws Exception {
+        PropertyInfo info = new PropertyInfo("Count", true, true, false, false, int.class, null, null, null, null,
+                new FieldInfo(Counter.class.getField("mCount")), NullLogger.instance);
+        Counter counter = new Counter();
+
+        info.setInt(counter, 7);
+
+        Assertions.assertThat(counter.mCount).isEqualTo(7);
+        Assertions.assertThat(info.getInt(counter)).isEqualTo(7);
+    }
+
+    @Test
+    public void reflectedSetterIsCalledAgainAfterReentrantWrite() throws Exception {
+        PropertyInfo info = new PropertyInfo("Count", true, true, false, false, int.class,
+                MethodInfo.getMethodInfo(Counter.class.getMethod("getCount")),
+                MethodInfo.getMethodInfo(Counter.class.getMethod("setCount", int.class)), null, null, null, NullLogger.instance);
+        Counter counter = new Counter();
+        counter.mMirror = new Counter();
+        counter.mMirrorInfo = info;
+
+        info.setInt(counter, 1000);
+
+        Assertions.assertThat(counter.getCount()).isEqualTo(1000);
+        Assertions.assertThat(counter.mMirror.getCount()).isEqualTo(1001);
+        Assertions.assertThat(info.getInt(counter)).isEqualTo(1000);
+    }
+
+    public static class Counter {
+
+        public int mCount;
+
+        Counter mMirror;
+
+        PropertyInfo mMirrorInfo;
+
+        public int getCount() {
+            return mCount;
+        }
+
+        public void setCount(int count) {
+            mCount = count;
+            if (mMirror != null) {
+                mMirrorInfo.setInt(mMirror, count + 1);
+            }
+        }
+
+        public int getTotal() {
+            return mCount * 2;
+        }
+    }
+
+    private static class CountingIntAccessor implements IWritableIntPropertyAccessor {
+
+        int mPrimitiveCalls;
+
+        int mBoxedCalls;
+
+        @Override
+        public int getInt(Object subject) {
+            mPrimitiveCalls++;
+            return ((Counter) subject).getCount();
+        }
+
+        @Override
+        public void setInt(Object subject, int value) {
+            mPrimitiveCalls++;
+            ((Counter) subject).setCount(value);
+        }
+
+        @Override
+        public Object get(Object subject) {
+            mBoxedCalls++;
+            return ((Counter) subject).getCount();
+        }
+
+        @Override
+        public void set(Object subject, Object value) {
+            mBoxedCalls++;
+            ((Counter) subject).setCount((Integer) value);
+        }
+    }
+}
@@ -4,11 +4,17 @@ import org.fest.assertions.api.Assertions;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
 import solutions.alterego.androidbound.NullLogger;
 import solutions.alterego.androidbound.android.converters.BooleanToVisibilityConverter;
 import solutions.alterego.androidbound.binding.data.BindingMode;
 import solutions.alterego.androidbound.binding.data.BindingSpecification;
+import solutions.alterego.androidbound.binding.data.BindingTiming;
 import solutions.alterego.androidbound.converters.ValueConverterService;
+import solutions.alterego.androidbound.converters.interfaces.IMultiValueConverter;
 import solutions.alterego.androidbound.resources.ResourceService;
 
 public class BindingSpecificationParserTest {
@@ -56,6 +62,12 @@ public class BindingSpecificationParserTest {
 
     private final String binding_with_trailing_semicolons = "{Text = TeamLabel};;";
 
+    private final String binding_multi = "{Text @= Format(FirstName, Address.City, '%s from %s')}";
+
+    private final String binding_debounced = "{Query =@ TextString || 'none' | debounce(300)}";
+
+    private final String binding_quoted_timing = "{Text @= Prefix(Name, 'a | debounce(300)') | throttle(50)}";
+
     private final ValueConverterService mValueConverterService;
 
     private BindingSpecificationParser mParser;
@@ -64,6 +76,17 @@ public class BindingSpecificationParserTest {
         mValueConverterService = new ValueConverterService(NullLogger.instance);
         ResourceService resourceService = new ResourceService(NullLogger.instance);
 
+        mValueConverterService.registerMultiConverter(new IMultiValueConverter() {
+            @Override
+            public String getBindingName() {
+                return "Format";
+            }
+
+            @Override
+            public Object convert(Object[] values, Class<?> targetType, Object param, Locale locale) {
+                return String.format(locale, (String) param, values);
+            }
+        });
         mParser = new BindingSpecificationParser(mValueConverterService, resourceService, NullLogger.instance);
     }
 
@@ -209,4 +232,75 @@ public class BindingSpecificationParserTest {
         Assertions.assertThat(Default.getMode()).isEqualTo(BindingMode.Default);
     }
 
-}
\ No newline at end of file
+    @Test
+    public void parseRecognizesMultiBinding() throws Exception {
+        BindingSpecification multi = mParser.parse(binding_multi);
+        Assertions.assertThat(multi.isMultiBinding()).isTrue();
+        Assertions.assertThat(multi.getTarget()).isEqualTo("Text");
+        Assertions.assertThat(multi.getMode()).isEqualTo(BindingMode.OneWay);
+        Assertions.assertThat(multi.getSources()).containsExactly("FirstName", "Address.City");
+        Assertions.assertThat(multi.getConverterParameter()).isEqualTo("%s from %s");
+    }
+
+    @Test
+    public void parseRecognizesMultiBindingWithASingleSource() throws Exception {
+        BindingSpecification multi = mParser.parse("{Text @= Format(FirstName)}");
+        Assertions.assertThat(multi.isMultiBinding()).isTrue();
+        Assertions.assertThat(multi.getSources()).containsExactly("FirstName");
+    }
+
+    @Test
+    public void parseOnlyLooksForMultiConvertersWhenTheBindingHasAConverter() throws Exception {
+        final List<String> lookups = new ArrayList<String>();
+        ValueConverterService converters = new ValueConverterService(NullLogger.instance) {
+            @Override
+            public IMultiValueConverter findMultiConverter(String name) {
+                lookups.add(name);
+                return super.findMultiConverter(name);
+            }
+        };
+        BindingSpecificationParser parser = new BindingSpecificationParser(converters, new ResourceService(NullLogger.instance),
+                NullLogger.instance);
+
+        parser.parse(binding_mode_Default);
+        parser.parse("{Text @=@ Profile.Name || 'none'}");
+        parser.parse(binding_converter_simple);
+
+        Assertions.assertThat(lookups).containsExactly("ToVisibility");
+    }
+
+    @Test
+    public void parseKeepsSingleSourceConverterBinding() throws Exception {
+        BindingSpecification simple = mParser.parse(binding_converter_simple);
+        Assertions.assertThat(simple.isMultiBinding()).isFalse();
+        Assertions.assertThat(simple.getSource()).isEqualTo("ChallengeViewModel.CurrentMealsSharedVisible");
+    }
+
+    @Test
+    public void parseReadsTimingModifier() throws Exception {
+        BindingSpecification debounced = mParser.parse(binding_debounced);
+        Assertions.assertThat(debounced.getTiming()).isEqualTo(BindingTiming.Debounce);
+        Assertions.assertThat(debounced.getTimingInterval()).isEqualTo(300);
+        Assertions.assertThat(debounced.getSource()).isEqualTo("TextString");
+        Assertions.assertThat(debounced.getFallbackValue()).isEqualTo("none");
+    }
+
+    @Test
+    public void parseIgnoresTimingSyntaxInsideQuotes() throws Exception {
+        BindingSpecification quoted = mParser.parse(binding_quoted_timing);
+        Assertions.assertThat(quoted.getTiming()).isEqualTo(BindingTiming.Throttle);
+        Assertions.assertThat(quoted.getTimingInterval()).isEqualTo(50);
+        Assertions.assertThat(quoted.getConverterParameter()).isEqualTo("a | debounce(300)");
+
+        BindingSpecification untimed = mParser.parse("{Text @= Name || 'a | sample(10)'}");
+        Assertions.assertThat(untimed.getTiming()).isEqualTo(BindingTiming.None);
+        Assertions.assertThat(untimed.getFallbackValue()).isEqualTo("a | sample(10)");
+    }
+
+    @Test
+    public void parseDefaultsToNoTiming() throws Exception {
+        BindingSpecification Default = mParser.parse(binding_mode_Default);
+        Assertions.assertThat(Default.getTiming()).isEqualTo(BindingTiming.None);
+    }
+
+}
@@ -0,0 +1,74 @@
+package solutions.alterego.androidbound.parsers;
+
+import org.fest.assertions.api.Assertions;
+import org.junit.Test;
+
+import java.util.List;
+
+import solutions.alterego.androidbound.NullLogger;
+import solutions.alterego.androidbound.android.converters.BooleanToVisibilityConverter;
+import solutions.alterego.androidbound.binding.data.BindingMode;
+import solutions.alterego.androidbound.binding.data.BindingSpecification;
+import solutions.alterego.androidbound.binding.data.BindingTiming;
+import solutions.alterego.androidbound.compiler.BindingStatement;
+import solutions.alterego.androidbound.converters.ValueConverterService;
+import solutions.alterego.androidbound.resources.ResourceService;
+
+/**
+ * Generated binders and the specification table carry what the compiler's {@link BindingStatement} parsed, so it has to
+ * read every binding string the same way the runtime parsers do.
+ */
+public class BindingStatementAgreementTest {
+
+    private static final String[] BINDINGS = {
+            "{Text = TeamLabel}",
+            "{Text -@ TeamLabel}",
+            "{Text =@ TeamLabel}",
+            "{Text @- TeamLabel}",
+            "{Text @= TeamLabel}",
+            "{Text @=@ TeamLabel}",
+            "{Text @+ TeamLabel}",
+            "{Text +@ TeamLabel}",
+            "{Text @+@ TeamLabel}",
+            "{Text !@ TeamLabel}",
+            "{{ BackgroundColor @= MainActivityBackgroundColor }}",
+            "{ Click @- OpenNormalActivity }; {Text @= OpenNormalActivityText }; { Typeface @- ToFont(this, 'italic') }",
+            "{ItemsSource @= DataItems};  ",
+            "{BackgroundResource @- PrimaryAction.BackgroundResource}",
+            "{Visibility @= ToVisibility(ChallengeViewModel.CurrentMealsSharedVisible)}",
+            "{SourceUriWithDynamicRatio @= ToVisibility(ChallengeViewModel.ChallengeAvatar, '360, 0, jpg, 75, fill')}",
+            "{Text @= Format(Name, NamedParameter)}",
+            "{Text @=@ Profile.Name || 'none'}",
+            "{Text @= Name || Fallback}",
+            "{Text @= Escaped(Name, 'it\\'s {quoted}')}",
+            "{Query =@ TextString || 'none' | debounce(300)}",
+            "{Progress =@ Volume | sample(100)}; {Text @= Volume | throttle(50)}",
+            "{Text @= Prefix(Name, 'a | debounce(300)') | throttle(50)}",
+            "{Text @= Name || 'a | sample(10)'}",
+    };
+
+    @Test
+    public void compilerParsesBindingsLikeTheRuntime() throws Exception {
+        ValueConverterService converters = new ValueConverterService(NullLogger.instance);
+        converters.registerConverter(new BooleanToVisibilityConverter());
+        BindingSpecificationParser parser = new BindingSpecificationParser(converters, new ResourceService(NullLogger.instance),
+                NullLogger.instance);
+        BindingSpecificationListParser listParser = new BindingSpecificationListParser(parser, NullLogger.instance);
+
+        for (String binding : BINDINGS) {
+            List<BindingSpecification> parsed = listParser.parse(binding);
+            List<BindingStatement> statements = BindingStatement.parseList(binding);
+
+            Assertions.assertThat(statements).as(binding).hasSize(parsed.size());
+            for (int i = 0; i < statements.size(); i++) {
+                BindingStatement statement = statements.get(i);
+                BindingSpecification created = parser.create(statement.getTarget(), BindingMode.valueOf(statement.getModeName()),
+                        statement.getConverter(), statement.getSource(), statement.getParameterName(), statement.getParameterString(),
+                        statement.getFallbackName(), statement.getFallbackString(), BindingTiming.valueOf(statement.getTimingName()),
+                        statement.getTimingInterval());
+
+                Assertions.assertThat(created).as(binding).isEqualTo(parsed.get(i));
+            }
+        }
+    }
+}
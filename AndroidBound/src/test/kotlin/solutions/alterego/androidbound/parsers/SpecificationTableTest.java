@@ -0,0 +1,109 @@
+package solutions.alterego.androidbound.parsers;
+
+import org.fest.assertions.api.Assertions;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.util.List;
+
+import solutions.alterego.androidbound.NullLogger;
+import solutions.alterego.androidbound.android.converters.BooleanToVisibilityConverter;
+import solutions.alterego.androidbound.binding.data.BindingSpecification;
+import solutions.alterego.androidbound.compiler.BindingStatement;
+import solutions.alterego.androidbound.compiler.SpecificationTableWriter;
+import solutions.alterego.androidbound.converters.DefaultConverter;
+import solutions.alterego.androidbound.converters.ValueConverterService;
+import solutions.alterego.androidbound.resources.ResourceService;
+
+public class SpecificationTableTest {
+
+    private static final String[] BINDINGS = {
+            "{Text @= Name}",
+            "{Text @= Title}; {Click @- Open}",
+            "{Visibility @= ToVisibility(Flag)}",
+            "{Query =@ TextString || 'none' | debounce(300)}",
+            // "Aa" and "BB" have the same hash code, so these two share a hash in the index
+            "{Text @= Aa}",
+            "{Text @= BB}",
+    };
+
+    private ValueConverterService mConverters;
+
+    private BindingSpecificationParser mParser;
+
+    @Before
+    public void setUp() {
+        mConverters = new ValueConverterService(NullLogger.instance);
+        mParser = new BindingSpecificationParser(mConverters, new ResourceService(NullLogger.instance), NullLogger.instance);
+    }
+
+    @Test
+    public void layoutConstantsMatchTheWriter() {
+        Assertions.assertThat(SpecificationTable.MAGIC).isEqualTo(SpecificationTableWriter.MAGIC);
+        Assertions.assertThat(SpecificationTable.VERSION).isEqualTo(SpecificationTableWriter.VERSION);
+        Assertions.assertThat(SpecificationTable.HEADER_SIZE).isEqualTo(SpecificationTableWriter.HEADER_SIZE);
+        Assertions.assertThat(SpecificationTable.STATEMENT_SIZE).isEqualTo(SpecificationTableWriter.STATEMENT_SIZE);
+    }
+
+    @Test
+    public void findReadsBackWhatTheRuntimeParses() throws Exception {
+        SpecificationTable table = new SpecificationTable(ByteBuffer.wrap(write(BINDINGS)), mParser);
+        BindingSpecificationListParser listParser = new BindingSpecificationListParser(mParser, NullLogger.instance);
+
+        Assertions.assertThat(table.size()).isEqualTo(BINDINGS.length);
+        Assertions.assertThat("{Text @= Aa}".hashCode()).isEqualTo("{Text @= BB}".hashCode());
+        for (String binding : BINDINGS) {
+            Assertions.assertThat(table.find(binding)).as(binding).isEqualTo(listParser.parse(binding));
+        }
+    }
+
+    @Test
+    public void findReturnsNullForStringsNotInTheTable() throws Exception {
+        SpecificationTable table = new SpecificationTable(ByteBuffer.wrap(write(BINDINGS)), mParser);
+
+        Assertions.assertThat(table.find("{Text @= Missing}")).isNull();
+        // same hash as two entries, different string
+        Assertions.assertThat(table.find("{Text @= C#}")).isNull();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsBufferWithoutMagic() throws Exception {
+        byte[] bytes = write(BINDINGS);
+        bytes[0] = 0;
+        new SpecificationTable(ByteBuffer.wrap(bytes), mParser);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsOtherVersion() throws Exception {
+        ByteBuffer buffer = ByteBuffer.wrap(write(BINDINGS));
+        buffer.putInt(4, SpecificationTable.VERSION + 1);
+        new SpecificationTable(buffer, mParser);
+    }
+
+    @Test
+    public void converterRegisteredAfterLookupIsPickedUp() throws Exception {
+        String binding = "{Visibility @= ToVisibility(Flag)}";
+        BindingSpecificationListParser listParser = new BindingSpecificationListParser(mParser, NullLogger.instance);
+        listParser.setSpecificationTable(new SpecificationTable(ByteBuffer.wrap(write(BINDINGS)), mParser));
+
+        List<BindingSpecification> before = listParser.parse(binding);
+        mConverters.registerConverter(new BooleanToVisibilityConverter());
+        listParser.clearDecodedSpecifications();
+        List<BindingSpecification> after = listParser.parse(binding);
+
+        Assertions.assertThat(before.get(0).getValueConverter()).isSameAs(DefaultConverter.instance);
+        Assertions.assertThat(after.get(0).getValueConverter()).isSameAs(mConverters.findConverter("ToVisibility"));
+    }
+
+    private static byte[] write(String... bindings) throws Exception {
+        SpecificationTableWriter writer = new SpecificationTableWriter();
+        for (String binding : bindings) {
+            writer.add(binding, BindingStatement.parseList(binding));
+        }
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        writer.write(output);
+        return output.toByteArray();
+    }
+}
@@ -0,0 +1,247 @@
+package solutions.alterego.androidbound.compiler;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Build-time counterpart of the runtime BindingSpecificationListParser and BindingSpecificationParser.
+ * The grammar has to stay in sync with them, otherwise generated specifications won't match what the runtime would parse;
+ * AndroidBound's BindingStatementAgreementTest parses the same binding strings with both.
+ */
+public class BindingStatement {
+
+    private static final Pattern PATTERN = Pattern
+            .compile("\\s*(?<target>(?:[a-zA-Z][a-zA-Z0-9]*(?:\\.[a-zA-Z][a-zA-Z0-9]*)*)*)" +
+                    "\\s*(?<mode>@=@|@-|-@|=@|=|@=|@\\+@|(@\\+)|(\\+@)|\\!@)" +
+                    "\\s*(?:(?<converter>[a-zA-Z][a-zA-Z0-9]*)\\" +
+                    "s*\\()?\\s*(?<source>(?:[a-zA-Z][a-zA-Z0-9]*(?:\\.[a-zA-Z][a-zA-Z0-9]*)*)*)" +
+                    "\\s*(?:,\\s*(?:(?<parameterName>[a-zA-Z][a-zA-Z0-9]*)" +
+                    "+?|(?:'(?<parameterString>(?:[^'\\\\]|\\\\.)*)')+?))?\\s*\\)?" +
+                    "(?:\\s*\\|\\|\\s*(?:(?:(?<fallbackName>[a-zA-Z][a-zA-Z0-9]*)" +
+                    "+?|(?:'(?<fallbackString>(?:[^'\\\\]|\\\\.)*)')+?))?)?");
+
+    private static final Pattern TIMING_PATTERN = Pattern
+            .compile("\\|\\s*(?<timing>debounce|throttle|sample)\\s*\\(\\s*(?<interval>[0-9]+)\\s*\\)");
+
+    private final String mTarget;
+
+    private final String mMode;
+
+    private final String mModeName;
+
+    private final String mConverter;
+
+    private final String mSource;
+
+    private final String mParameterName;
+
+    private final String mParameterString;
+
+    private final String mFallbackName;
+
+    private final String mFallbackString;
+
+    private String mTimingName = "None";
+
+    private long mTimingInterval;
+
+    private BindingStatement(Matcher matcher) {
+        mTarget = matcher.group("target");
+        mMode = matcher.group("mode");
+        mModeName = modeName(mMode);
+        mConverter = matcher.group("converter");
+        mSource = matcher.group("source");
+        mParameterName = matcher.group("parameterName");
+        mParameterString = matcher.group("parameterString");
+        mFallbackName = matcher.group("fallbackName");
+        mFallbackString = matcher.group("fallbackString");
+    }
+
+    public static BindingStatement parse(String content) throws InvalidBindingException {
+        String timingName = "None";
+        long timingInterval = 0;
+
+        Matcher timing = TIMING_PATTERN.matcher(content);
+        if (findTiming(timing, content)) {
+            String name = timing.group("timing");
+            timingName = Character.toUpperCase(name.charAt(0)) + name.substring(1);
+            timingInterval = Long.parseLong(timing.group("interval"));
+            content = content.substring(0, timing.start()) + content.substring(timing.end());
+        }
+
+        Matcher matcher = PATTERN.matcher(content);
+        if (!matcher.find(0)) {
+            throw new InvalidBindingException("'" + content + "' is not a valid binding");
+        }
+
+        BindingStatement statement = new BindingStatement(matcher);
+        statement.mTimingName = timingName;
+        statement.mTimingInterval = timingInterval;
+        if (statement.getTarget() == null || statement.getTarget().isEmpty()) {
+            throw new InvalidBindingException("'" + content + "' has no target property");
+        }
+        return statement;
+    }
+
+    public static List<BindingStatement> parseList(String content) throws InvalidBindingException {
+        List<BindingStatement> result = new ArrayList<BindingStatement>();
+
+        StringBuilder buffer = new StringBuilder();
+        boolean inGroup = false;
+        boolean inQuote = false;
+        boolean inEscape = false;
+        for (int i = 0; i < content.length(); i++) {
+            char code = content.charAt(i);
+            if (inEscape) {
+                buffer.append(code);
+                inEscape = false;
+                continue;
+            }
+            switch (code) {
+                case '{':
+                    if (!inQuote && !inGroup) {
+                        inGroup = true;
+                    }
+                    break;
+                case '}':
+                    if (!inQuote && inGroup) {
+                        inGroup = false;
+                        buffer.append(code);
+                        result.add(parse(buffer.toString()));
+                        buffer = new StringBuilder();
+                    }
+                    break;
+                case '\'':
+                    inQuote = !inQuote;
+                    break;
+                case '\\':
+                    inEscape = true;
+                    break;
+            }
+            if (inGroup) {
+                buffer.append(code);
+            }
+        }
+
+        if (inGroup) {
+            throw new InvalidBindingException("'" + content + "' has an unterminated binding, missing '}'");
+        }
+        return result;
+    }
+
+    /**
+     * Finds the timing modifier outside of quoted strings, as a quoted converter parameter or fallback may contain the same
+     * text; the {@code ||} of a fallback isn't one either.
+     */
+    private static boolean findTiming(Matcher matcher, String content) {
+        boolean inQuote = false;
+        boolean inEscape = false;
+        int scanned = 0;
+        while (matcher.find()) {
+            int start = matcher.start();
+            for (; scanned < start; scanned++) {
+                char code = content.charAt(scanned);
+                if (inEscape) {
+                    inEscape = false;
+                } else if (code == '\\' && inQuote) {
+                    inEscape = true;
+                } else if (code == '\'') {
+                    inQuote = !inQuote;
+                }
+            }
+            if (!inQuote && (start == 0 || content.charAt(start - 1) != '|')) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public String getTarget() {
+        return mTarget;
+    }
+
+    public String getMode() {
+        return mMode;
+    }
+
+    public String getModeName() {
+        return mModeName;
+    }
+
+    public String getConverter() {
+        return mConverter;
+    }
+
+    public String getSource() {
+        return mSource;
+    }
+
+    public String getParameterName() {
+        return mParameterName;
+    }
+
+    public String getParameterString() {
+        return mParameterString;
+    }
+
+    public String getFallbackName() {
+        return mFallbackName;
+    }
+
+    public String getFallbackString() {
+        return mFallbackString;
+    }
+
+    public String getTimingName() {
+        return mTimingName;
+    }
+
+    public long getTimingInterval() {
+        return mTimingInterval;
+    }
+
+    public boolean hasTiming() {
+        return mTimingInterval > 0 && !"None".equals(mTimingName);
+    }
+
+    public boolean hasSource() {
+        return mSource != null && !mSource.isEmpty();
+    }
+
+    private static String modeName(String mode) {
+        if (mode == null || mode.equals("=")) {
+            return "Default";
+        }
+        switch (mode) {
+            case "-@":
+                return "OneWayToSourceOneTime";
+            case "=@":
+                return "OneWayToSource";
+            case "@-":
+                return "OneWayOneTime";
+            case "@=":
+                return "OneWay";
+            case "@=@":
+                return "TwoWay";
+            case "@+":
+                return "Accumulate";
+            case "+@":
+                return "AccumulateToSource";
+            case "@+@":
+                return "AccumulateTwoWay";
+            case "!@":
+                return "RemoveSource";
+            default:
+                return "Default";
+        }
+    }
+
+    public static class InvalidBindingException extends Exception {
+
+        public InvalidBindingException(String message) {
+            super(message);
+        }
+    }
+}
@@ -0,0 +1,195 @@
+package solutions.alterego.androidbound.compiler;
+
+import com.google.auto.service.AutoService;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Messager;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.Processor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic;
+
+import solutions.alterego.androidbound.compiler.BindingStatement.InvalidBindingException;
+import solutions.alterego.androidbound.compiler.LayoutScanner.LayoutBinding;
+import solutions.alterego.androidbound.compiler.ViewModelValidator.ResolvedProperty;
+import solutions.alterego.androidbound.compiler.ViewModelValidator.Resolution;
+
+/**
+ * Checks the bindings of every layout listed in {@code @BoundLayout} against the annotated ViewModel and generates a
+ * layout binder for it. Invalid bindings are reported as compiler errors, so they fail the build instead of being logged at runtime.
+ * <p>
+ * The layouts are looked up in the resource directories passed with the {@code androidbound.resDirs} processor option,
+ * separated by the platform path separator.
+ */
+@AutoService(Processor.class)
+public class BoundLayoutProcessor extends AbstractProcessor {
+
+    public static final String BOUND_LAYOUT = "solutions.alterego.androidbound.annotations.BoundLayout";
+
+    public static final String OPTION_RESOURCE_DIRECTORIES = "androidbound.resDirs";
+
+    private Messager mMessager;
+
+    private LayoutScanner mScanner;
+
+    private ViewModelValidator mValidator;
+
+    private LayoutBinderGenerator mGenerator;
+
+    @Override
+    public synchronized void init(ProcessingEnvironment processingEnv) {
+        super.init(processingEnv);
+        mMessager = processingEnv.getMessager();
+        mValidator = new ViewModelValidator(processingEnv.getElementUtils(), processingEnv.getTypeUtils());
+        mGenerator = new LayoutBinderGenerator(processingEnv.getElementUtils());
+
+        String resourceDirectories = processingEnv.getOptions().get(OPTION_RESOURCE_DIRECTORIES);
+        if (resourceDirectories != null) {
+            List<File> directories = new ArrayList<File>();
+            for (String directory : resourceDirectories.split(File.pathSeparator)) {
+                if (!directory.trim().isEmpty()) {
+                    directories.add(new File(directory.trim()));
+                }
+            }
+            mScanner = new LayoutScanner(directories);
+        }
+    }
+
+    @Override
+    public Set<String> getSupportedAnnotationTypes() {
+        return Collections.singleton(BOUND_LAYOUT);
+    }
+
+    @Override
+    public Set<String> getSupportedOptions() {
+        return Collections.singleton(OPTION_RESOURCE_DIRECTORIES);
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        TypeElement boundLayout = processingEnv.getElementUtils().getTypeElement(BOUND_LAYOUT);
+        if (boundLayout == null) {
+            return false;
+        }
+
+        for (Element element : roundEnv.getElementsAnnotatedWith(boundLayout)) {
+            if (element.getKind() != ElementKind.CLASS) {
+                error(element, "@BoundLayout can only be used on ViewModel classes");
+                continue;
+            }
+            if (mScanner == null) {
+                error(element, "@BoundLayout needs the " + OPTION_RESOURCE_DIRECTORIES + " annotation processor option pointing to the res directories");
+                continue;
+            }
+
+            for (String layoutName : layoutNames(element)) {
+                processLayout((TypeElement) element, layoutName);
+            }
+        }
+        return true;
+    }
+
+    private void processLayout(TypeElement viewModel, String layoutName) {
+        List<File> layoutFiles = mScanner.findLayoutFiles(layoutName);
+        if (layoutFiles.isEmpty()) {
+            error(viewModel, "layout " + layoutName + " wasn't found in " + OPTION_RESOURCE_DIRECTORIES);
+            return;
+        }
+
+        boolean valid = true;
+        Map<String, List<BindingStatement>> specifications = new LinkedHashMap<String, List<BindingStatement>>();
+        Map<String, ResolvedProperty> properties = new LinkedHashMap<String, ResolvedProperty>();
+
+        for (File layoutFile : layoutFiles) {
+            List<LayoutBinding> bindings;
+            try {
+                bindings = mScanner.readBindings(layoutFile);
+            } catch (Exception e) {
+                error(viewModel, "couldn't read layout " + layoutFile + ": " + e.getMessage());
+                valid = false;
+                continue;
+            }
+
+            for (LayoutBinding binding : bindings) {
+                String location = layoutFile.getParentFile().getName() + "/" + layoutFile.getName() + ", <" + binding.getViewName() + "> ";
+                try {
+                    List<BindingStatement> statements = BindingStatement.parseList(binding.getBindingString());
+                    for (BindingStatement statement : statements) {
+                        if (!statement.hasSource()) {
+                            continue;
+                        }
+
+                        Resolution resolution = mValidator.resolve(viewModel, statement.getSource());
+                        for (String warning : resolution.getWarnings()) {
+                            mMessager.printMessage(Diagnostic.Kind.WARNING, location + warning, viewModel);
+                        }
+                        for (ResolvedProperty property : resolution.getProperties()) {
+                            if (property.isDirectlyAccessible()) {
+                                properties.put(property.getKey(), property);
+                            }
+                        }
+                    }
+                    specifications.put(binding.getBindingString(), statements);
+                } catch (InvalidBindingException e) {
+                    error(viewModel, location + "binding \"" + binding.getBindingString() + "\": " + e.getMessage());
+                    valid = false;
+                }
+            }
+        }
+
+        if (!valid) {
+            return;
+        }
+
+        try {
+            mGenerator.generate(viewModel, layoutName, specifications, properties.values()).writeTo(processingEnv.getFiler());
+        } catch (IOException e) {
+            error(viewModel, "couldn't write the binder for layout " + layoutName + ": " + e.getMessage());
+        }
+    }
+
+    private List<String> layoutNames(Element element) {
+        List<String> result = new ArrayList<String>();
+        for (AnnotationMirror mirror : element.getAnnotationMirrors()) {
+            if (!((TypeElement) mirror.getAnnotationType().asElement()).getQualifiedName().contentEquals(BOUND_LAYOUT)) {
+                continue;
+            }
+            for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : mirror.getElementValues().entrySet()) {
+                Object value = entry.getValue().getValue();
+                if (value instanceof List) {
+                    for (Object item : (List<?>) value) {
+                        result.add(String.valueOf(((AnnotationValue) item).getValue()));
+                    }
+                } else {
+                    result.add(String.valueOf(value));
+                }
+            }
+        }
+        return result;
+    }
+
+    private void error(Element element, String message) {
+        mMessager.printMessage(Diagnostic.Kind.ERROR, message, element);
+    }
+}
@@ -0,0 +1,212 @@
+package solutions.alterego.androidbound.compiler;
+
+import com.squareup.javapoet.AnnotationSpec;
+import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.CodeBlock;
+import com.squareup.javapoet.JavaFile;
+import com.squareup.javapoet.MethodSpec;
+import com.squareup.javapoet.TypeName;
+import com.squareup.javapoet.TypeSpec;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.util.Elements;
+
+import solutions.alterego.androidbound.compiler.ViewModelValidator.ResolvedProperty;
+
+/**
+ * Writes the {@code LayoutBinder} subclass of one layout and ViewModel. The naming scheme has to match
+ * GeneratedLayoutBinders.binderClassName at runtime, AndroidBound's GeneratedLayoutBindersTest checks that it does.
+ */
+public class LayoutBinderGenerator {
+
+    public static final String BINDER_SUFFIX = "LayoutBinder";
+
+    private static final ClassName LAYOUT_BINDER = ClassName.get("solutions.alterego.androidbound.binding", "LayoutBinder");
+
+    private static final ClassName BINDING_MODE = ClassName.get("solutions.alterego.androidbound.binding.data", "BindingMode");
+
+    private static final ClassName BINDING_TIMING = ClassName.get("solutions.alterego.androidbound.binding.data", "BindingTiming");
+
+    private static final String REFLECTOR_PACKAGE = "solutions.alterego.androidbound.helpers.reflector";
+
+    private final Elements mElements;
+
+    public LayoutBinderGenerator(Elements elements) {
+        mElements = elements;
+    }
+
+    public static String binderSimpleName(String binaryName, String packageName, String layoutName) {
+        String className = packageName.isEmpty() ? binaryName : binaryName.substring(packageName.length() + 1);
+        StringBuilder name = new StringBuilder(className.replace('$', '_')).append('_');
+        for (String part : layoutName.split("_")) {
+            if (part.length() > 0) {
+                name.append(Character.toUpperCase(part.charAt(0))).append(part.substring(1));
+            }
+        }
+        return name.append(BINDER_SUFFIX).toString();
+    }
+
+    public JavaFile generate(TypeElement viewModel, String layoutName, Map<String, List<BindingStatement>> specifications,
+            Collection<ResolvedProperty> properties) {
+        String packageName = mElements.getPackageOf(viewModel).getQualifiedName().toString();
+        String binaryName = mElements.getBinaryName(viewModel).toString();
+        ClassName viewModelClass = ClassName.get(viewModel);
+
+        TypeSpec binder = TypeSpec.classBuilder(binderSimpleName(binaryName, packageName, layoutName))
+                .addJavadoc("Generated by AndroidBoundCompiler from layout $L, do not edit.\n", layoutName)
+                .addAnnotation(AnnotationSpec.builder(SuppressWarnings.class).addMember("value", "$S", "unchecked").build())
+                .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
+                .superclass(LAYOUT_BINDER)
+                .addMethod(MethodSpec.methodBuilder("getLayoutName")
+                        .addAnnotation(Override.class)
+                        .addModifiers(Modifier.PUBLIC)
+                        .returns(String.class)
+                        .addStatement("return $S", layoutName)
+                        .build())
+                .addMethod(MethodSpec.methodBuilder("getViewModelType")
+                        .addAnnotation(Override.class)
+                        .addModifiers(Modifier.PUBLIC)
+                        .returns(Class.class)
+                        .addStatement("return $T.class", viewModelClass)
+                        .build())
+                .addMethod(registerAccessors(properties))
+                .addMethod(registerSpecifications(specifications))
+                .build();
+
+        return JavaFile.builder(packageName, binder).skipJavaLangImports(true).build();
+    }
+
+    private MethodSpec registerAccessors(Collection<ResolvedProperty> properties) {
+        MethodSpec.Builder method = MethodSpec.methodBuilder("registerAccessors")
+                .addAnnotation(Override.class)
+                .addModifiers(Modifier.PUBLIC);
+
+        for (ResolvedProperty property : properties) {
+            ClassName owner = ClassName.get(property.getOwner());
+            TypeName type = TypeName.get(property.getType());
+            boolean canWrite = property.getSetter() != null
+                    || (property.getField() != null && !property.getField().getModifiers().contains(Modifier.FINAL));
+
+            MethodSpec.Builder getter = MethodSpec.methodBuilder("get")
+                    .addAnnotation(Override.class)
+                    .addModifiers(Modifier.PUBLIC)
+                    .returns(Object.class)
+                    .addParameter(Object.class, "subject");
+            if (property.getGetter() != null) {
+                getter.addStatement("return (($T) subject).$L()", owner, property.getGetter().getSimpleName());
+            } else {
+                getter.addStatement("return (($T) subject).$L", owner, property.getField().getSimpleName());
+            }
+
+            TypeSpec.Builder accessor = TypeSpec.anonymousClassBuilder("")
+                    .addMethod(getter.build());
+            if (canWrite) {
+                MethodSpec.Builder setter = MethodSpec.methodBuilder("set")
+                        .addAnnotation(Override.class)
+                        .addModifiers(Modifier.PUBLIC)
+                        .addParameter(Object.class, "subject")
+                        .addParameter(Object.class, "value");
+                if (property.getSetter() != null) {
+                    setter.addStatement("(($T) subject).$L(($T) value)", owner, property.getSetter().getSimpleName(), type.box());
+                } else {
+                    setter.addStatement("(($T) subject).$L = ($T) value", owner, property.getField().getSimpleName(), type.box());
+                }
+                accessor.addMethod(setter.build());
+            }
+
+            String primitiveName = primitiveAccessorName(type);
+            if (primitiveName != null) {
+                addPrimitiveAccessors(accessor, property, owner, type, primitiveName, canWrite);
+            }
+            accessor.addSuperinterface(accessorInterface(primitiveName, canWrite));
+
+            method.addStatement("registerProperty($T.class, $S, $T.class, $L, $L)", owner, property.getName(), type, canWrite, accessor.build());
+        }
+        return method.build();
+    }
+
+    /**
+     * Suffix of the unboxed accessor pair for the property type, e.g. getInt/setInt, or null if the type has none.
+     */
+    private static String primitiveAccessorName(TypeName type) {
+        if (TypeName.INT.equals(type)) {
+            return "Int";
+        } else if (TypeName.LONG.equals(type)) {
+            return "Long";
+        } else if (TypeName.FLOAT.equals(type)) {
+            return "Float";
+        } else if (TypeName.DOUBLE.equals(type)) {
+            return "Double";
+        } else if (TypeName.BOOLEAN.equals(type)) {
+            return "Boolean";
+        }
+        return null;
+    }
+
+    /**
+     * The accessor interface matching the property, e.g. IWritableIntPropertyAccessor, so read-only properties don't get a setter.
+     */
+    private static ClassName accessorInterface(String primitiveName, boolean canWrite) {
+        String name = "I" + (canWrite ? "Writable" : "") + (primitiveName != null ? primitiveName : "") + "PropertyAccessor";
+        return ClassName.get(REFLECTOR_PACKAGE, name);
+    }
+
+    private void addPrimitiveAccessors(TypeSpec.Builder accessor, ResolvedProperty property, ClassName owner, TypeName type, String name,
+            boolean canWrite) {
+        MethodSpec.Builder getter = MethodSpec.methodBuilder("get" + name)
+                .addAnnotation(Override.class)
+                .addModifiers(Modifier.PUBLIC)
+                .returns(type)
+                .addParameter(Object.class, "subject");
+        if (property.getGetter() != null) {
+            getter.addStatement("return (($T) subject).$L()", owner, property.getGetter().getSimpleName());
+        } else {
+            getter.addStatement("return (($T) subject).$L", owner, property.getField().getSimpleName());
+        }
+
+        accessor.addMethod(getter.build());
+        if (!canWrite) {
+            return;
+        }
+
+        MethodSpec.Builder setter = MethodSpec.methodBuilder("set" + name)
+                .addAnnotation(Override.class)
+                .addModifiers(Modifier.PUBLIC)
+                .addParameter(Object.class, "subject")
+                .addParameter(type, "value");
+        if (property.getSetter() != null) {
+            setter.addStatement("(($T) subject).$L(value)", owner, property.getSetter().getSimpleName());
+        } else {
+            setter.addStatement("(($T) subject).$L = value", owner, property.getField().getSimpleName());
+        }
+        accessor.addMethod(setter.build());
+    }
+
+    private MethodSpec registerSpecifications(Map<String, List<BindingStatement>> specifications) {
+        MethodSpec.Builder method = MethodSpec.methodBuilder("registerSpecifications")
+                .addAnnotation(Override.class)
+                .addModifiers(Modifier.PROTECTED);
+
+        for (Map.Entry<String, List<BindingStatement>> entry : specifications.entrySet()) {
+            CodeBlock.Builder call = CodeBlock.builder().add("specifications($S", entry.getKey());
+            for (BindingStatement statement : entry.getValue()) {
+                CodeBlock specification = CodeBlock.of("specification($S, $T.$L, $S, $S, $S, $S, $S, $S)",
+                        statement.getTarget(), BINDING_MODE, statement.getModeName(), statement.getConverter(), statement.getSource(),
+                        statement.getParameterName(), statement.getParameterString(), statement.getFallbackName(),
+                        statement.getFallbackString());
+                if (statement.hasTiming()) {
+                    specification = CodeBlock.of("timed($L, $T.$L, $LL)", specification, BINDING_TIMING, statement.getTimingName(),
+                            statement.getTimingInterval());
+                }
+                call.add(",\n$>$>$L$<$<", specification);
+            }
+            method.addStatement(call.add(")").build());
+        }
+        return method.build();
+    }
+}
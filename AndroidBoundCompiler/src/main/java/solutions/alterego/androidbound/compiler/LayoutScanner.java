@@ -0,0 +1,122 @@
+package solutions.alterego.androidbound.compiler;
+
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import javax.xml.parsers.DocumentBuilder;
+import javax.xml.parsers.DocumentBuilderFactory;
+
+/**
+ * Reads the {@code binding} attributes of a layout from every {@code layout*} folder of the given resource directories.
+ */
+public class LayoutScanner {
+
+    public static final String BINDING_ATTRIBUTE = "binding";
+
+    private final List<File> mResourceDirectories;
+
+    public LayoutScanner(List<File> resourceDirectories) {
+        mResourceDirectories = resourceDirectories;
+    }
+
+    public List<File> findLayoutFiles(String layoutName) {
+        List<File> result = new ArrayList<File>();
+        for (File folder : findLayoutFolders()) {
+            File layout = new File(folder, layoutName + ".xml");
+            if (layout.isFile()) {
+                result.add(layout);
+            }
+        }
+        return result;
+    }
+
+    public List<File> findAllLayoutFiles() {
+        List<File> result = new ArrayList<File>();
+        for (File folder : findLayoutFolders()) {
+            File[] layouts = folder.listFiles();
+            if (layouts == null) {
+                continue;
+            }
+            Arrays.sort(layouts);
+            for (File layout : layouts) {
+                if (layout.isFile() && layout.getName().endsWith(".xml")) {
+                    result.add(layout);
+                }
+            }
+        }
+        return result;
+    }
+
+    private List<File> findLayoutFolders() {
+        List<File> result = new ArrayList<File>();
+        for (File resourceDirectory : mResourceDirectories) {
+            File[] folders = resourceDirectory.listFiles();
+            if (folders == null) {
+                continue;
+            }
+            Arrays.sort(folders);
+            for (File folder : folders) {
+                if (folder.isDirectory() && (folder.getName().equals("layout") || folder.getName().startsWith("layout-"))) {
+                    result.add(folder);
+                }
+            }
+        }
+        return result;
+    }
+
+    public List<LayoutBinding> readBindings(File layoutFile) throws Exception {
+        DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+        factory.setNamespaceAware(true);
+        DocumentBuilder builder = factory.newDocumentBuilder();
+        Document document = builder.parse(layoutFile);
+
+        List<LayoutBinding> result = new ArrayList<LayoutBinding>();
+        collect(document.getDocumentElement(), result);
+        return result;
+    }
+
+    private void collect(Element element, List<LayoutBinding> result) {
+        // the inflater factory reads the attribute without a namespace, prefixed ones are ignored at runtime too
+        if (element.hasAttributeNS(null, BINDING_ATTRIBUTE)) {
+            String value = element.getAttributeNS(null, BINDING_ATTRIBUTE);
+            if (!value.trim().isEmpty()) {
+                result.add(new LayoutBinding(element.getTagName(), value));
+            }
+        }
+
+        NodeList children = element.getChildNodes();
+        for (int i = 0; i < children.getLength(); i++) {
+            Node child = children.item(i);
+            if (child instanceof Element) {
+                collect((Element) child, result);
+            }
+        }
+    }
+
+    public static class LayoutBinding {
+
+        private final String mViewName;
+
+        private final String mBindingString;
+
+        public LayoutBinding(String viewName, String bindingString) {
+            mViewName = viewName;
+            mBindingString = bindingString;
+        }
+
+        public String getViewName() {
+            return mViewName;
+        }
+
+        public String getBindingString() {
+            return mBindingString;
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package solutions.alterego.androidbound.compiler;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import solutions.alterego.androidbound.compiler.BindingStatement.InvalidBindingException;
+import solutions.alterego.androidbound.compiler.LayoutScanner.LayoutBinding;
+
+/**
+ * Build step that parses the {@code binding} attributes of every layout and writes them as a {@link SpecificationTableWriter}
+ * table, so they don't have to be parsed again at runtime.
+ * <p>
+ * Usage: {@code SpecificationTableGenerator <output file> <resource directory>...}. Invalid bindings are left out of the table
+ * and reported; the runtime parser still sees them and logs the error like it always did.
+ */
+public class SpecificationTableGenerator {
+
+    public static void main(String[] args) throws Exception {
+        if (args.length < 2) {
+            System.err.println("usage: SpecificationTableGenerator <output file> <resource directory>...");
+            System.exit(1);
+        }
+
+        List<File> resourceDirectories = new ArrayList<File>();
+        for (int i = 1; i < args.length; i++) {
+            resourceDirectories.add(new File(args[i]));
+        }
+
+        SpecificationTableWriter writer = generate(new LayoutScanner(resourceDirectories));
+
+        File output = new File(args[0]);
+        File parent = output.getAbsoluteFile().getParentFile();
+        if (parent != null && !parent.isDirectory() && !parent.mkdirs()) {
+            throw new IOException("cannot create " + parent);
+        }
+
+        OutputStream stream = new BufferedOutputStream(new FileOutputStream(output));
+        try {
+            writer.write(stream);
+        } finally {
+            stream.close();
+        }
+        System.out.println("AndroidBound: wrote " + writer.size() + " binding strings to " + output);
+    }
+
+    public static SpecificationTableWriter generate(LayoutScanner scanner) throws Exception {
+        SpecificationTableWriter writer = new SpecificationTableWriter();
+        for (File layout : scanner.findAllLayoutFiles()) {
+            for (LayoutBinding binding : scanner.readBindings(layout)) {
+                try {
+                    writer.add(binding.getBindingString(), BindingStatement.parseList(binding.getBindingString()));
+                } catch (InvalidBindingException e) {
+                    System.err.println("AndroidBound: " + layout.getName() + ", " + binding.getViewName() + ": " + e.getMessage());
+                }
+            }
+        }
+        return writer;
+    }
+}
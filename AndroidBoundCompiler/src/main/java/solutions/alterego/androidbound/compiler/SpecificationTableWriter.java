@@ -0,0 +1,162 @@
+package solutions.alterego.androidbound.compiler;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes parsed binding strings as the binary table read at runtime by {@code solutions.alterego.androidbound.parsers.SpecificationTable}.
+ * All values are big-endian:
+ * <pre>
+ * int magic, int version, int stringCount, int entryCount
+ * int[stringCount] string offsets
+ * (int hash, int offset)[entryCount], sorted by the {@link String#hashCode()} of the binding string
+ * string: int byteLength, UTF-8 bytes
+ * entry: int bindingString, int statementCount, then for each statement
+ *        int target, int mode, int converter, int source, int parameterName, int parameterString,
+ *        int fallbackName, int fallbackString, int timing, long timingInterval
+ * </pre>
+ * Strings are referenced by their index in the string pool, {@code -1} stands for null. Offsets are from the start of the table.
+ */
+public class SpecificationTableWriter {
+
+    public static final int MAGIC = 0x41425354;
+
+    public static final int VERSION = 1;
+
+    public static final int HEADER_SIZE = 16;
+
+    public static final int STATEMENT_SIZE = 9 * 4 + 8;
+
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+    private final Map<String, List<BindingStatement>> mEntries = new LinkedHashMap<String, List<BindingStatement>>();
+
+    private final Map<String, Integer> mStringIndices = new HashMap<String, Integer>();
+
+    private final List<String> mStrings = new ArrayList<String>();
+
+    public void add(String bindingString, List<BindingStatement> statements) {
+        mEntries.put(bindingString, statements);
+    }
+
+    public int size() {
+        return mEntries.size();
+    }
+
+    public void write(OutputStream output) throws IOException {
+        mStringIndices.clear();
+        mStrings.clear();
+
+        List<Entry> entries = new ArrayList<Entry>();
+        for (Map.Entry<String, List<BindingStatement>> entry : mEntries.entrySet()) {
+            entries.add(new Entry(entry.getKey(), entry.getValue(), intern(entry.getKey())));
+            for (BindingStatement statement : entry.getValue()) {
+                intern(statement.getTarget());
+                intern(statement.getModeName());
+                intern(statement.getConverter());
+                intern(statement.getSource());
+                intern(statement.getParameterName());
+                intern(statement.getParameterString());
+                intern(statement.getFallbackName());
+                intern(statement.getFallbackString());
+                intern(statement.getTimingName());
+            }
+        }
+        Collections.sort(entries, new Comparator<Entry>() {
+            @Override
+            public int compare(Entry lhs, Entry rhs) {
+                return lhs.mHash < rhs.mHash ? -1 : (lhs.mHash == rhs.mHash ? 0 : 1);
+            }
+        });
+
+        int headerSize = HEADER_SIZE + 4 * mStrings.size() + 8 * entries.size();
+        ByteArrayOutputStream data = new ByteArrayOutputStream();
+        DataOutputStream dataOutput = new DataOutputStream(data);
+
+        int[] stringOffsets = new int[mStrings.size()];
+        for (int i = 0; i < mStrings.size(); i++) {
+            stringOffsets[i] = headerSize + dataOutput.size();
+            byte[] bytes = mStrings.get(i).getBytes(UTF_8);
+            dataOutput.writeInt(bytes.length);
+            dataOutput.write(bytes);
+        }
+
+        for (Entry entry : entries) {
+            entry.mOffset = headerSize + dataOutput.size();
+            dataOutput.writeInt(entry.mBindingString);
+            dataOutput.writeInt(entry.mStatements.size());
+            for (BindingStatement statement : entry.mStatements) {
+                dataOutput.writeInt(indexOf(statement.getTarget()));
+                dataOutput.writeInt(indexOf(statement.getModeName()));
+                dataOutput.writeInt(indexOf(statement.getConverter()));
+                dataOutput.writeInt(indexOf(statement.getSource()));
+                dataOutput.writeInt(indexOf(statement.getParameterName()));
+                dataOutput.writeInt(indexOf(statement.getParameterString()));
+                dataOutput.writeInt(indexOf(statement.getFallbackName()));
+                dataOutput.writeInt(indexOf(statement.getFallbackString()));
+                dataOutput.writeInt(indexOf(statement.getTimingName()));
+                dataOutput.writeLong(statement.getTimingInterval());
+            }
+        }
+        dataOutput.flush();
+
+        DataOutputStream header = new DataOutputStream(output);
+        header.writeInt(MAGIC);
+        header.writeInt(VERSION);
+        header.writeInt(mStrings.size());
+        header.writeInt(entries.size());
+        for (int offset : stringOffsets) {
+            header.writeInt(offset);
+        }
+        for (Entry entry : entries) {
+            header.writeInt(entry.mHash);
+            header.writeInt(entry.mOffset);
+        }
+        data.writeTo(header);
+        header.flush();
+    }
+
+    private int intern(String value) {
+        if (value == null) {
+            return -1;
+        }
+        Integer index = mStringIndices.get(value);
+        if (index == null) {
+            index = mStrings.size();
+            mStrings.add(value);
+            mStringIndices.put(value, index);
+        }
+        return index;
+    }
+
+    private int indexOf(String value) {
+        return value == null ? -1 : mStringIndices.get(value);
+    }
+
+    private static class Entry {
+
+        private final List<BindingStatement> mStatements;
+
+        private final int mBindingString;
+
+        private final int mHash;
+
+        private int mOffset;
+
+        Entry(String bindingString, List<BindingStatement> statements, int bindingStringIndex) {
+            mStatements = statements;
+            mBindingString = bindingStringIndex;
+            mHash = bindingString.hashCode();
+        }
+    }
+}
@@ -0,0 +1,245 @@
+package solutions.alterego.androidbound.compiler;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+
+import solutions.alterego.androidbound.compiler.BindingStatement.InvalidBindingException;
+
+/**
+ * Resolves binding source paths against the ViewModel the same way Reflector does at runtime: commands ("do" methods),
+ * then "get"/"is" getters with their matching setter, then public fields.
+ */
+public class ViewModelValidator {
+
+    private static final String SELF = "this";
+
+    private final Elements mElements;
+
+    private final Types mTypes;
+
+    public ViewModelValidator(Elements elements, Types types) {
+        mElements = elements;
+        mTypes = types;
+    }
+
+    /**
+     * Members missing on the ViewModel itself are errors; further down the path the declared type may be a supertype of
+     * the runtime value, so misses there only produce warnings.
+     */
+    public Resolution resolve(TypeElement viewModel, String sourcePath) throws InvalidBindingException {
+        Resolution resolution = new Resolution();
+        String[] tokens = sourcePath.split("\\.");
+
+        TypeMirror current = viewModel.asType();
+        for (int i = 0; i < tokens.length; i++) {
+            String token = tokens[i];
+            boolean last = i == tokens.length - 1;
+
+            if (last && token.equals(SELF)) {
+                break;
+            }
+            if (current.getKind() != TypeKind.DECLARED) {
+                break;
+            }
+
+            TypeElement owner = (TypeElement) ((DeclaredType) current).asElement();
+            if (isMap(owner)) {
+                break;
+            }
+            if (last && hasCommand(owner, token)) {
+                break;
+            }
+
+            ResolvedProperty property = findProperty(owner, token);
+            if (property == null) {
+                String message = owner.getQualifiedName() + " has no property " + (last ? "or command " : "") + "'" + token + "'";
+                if (i == 0) {
+                    throw new InvalidBindingException(message);
+                }
+                resolution.mWarnings.add(message + ", it will be resolved at runtime");
+                break;
+            }
+
+            resolution.mProperties.add(property);
+            current = property.getType();
+        }
+        return resolution;
+    }
+
+    private boolean isMap(TypeElement owner) {
+        TypeElement map = mElements.getTypeElement("java.util.Map");
+        return map != null && mTypes.isAssignable(mTypes.erasure(owner.asType()), mTypes.erasure(map.asType()));
+    }
+
+    private boolean hasCommand(TypeElement owner, String name) {
+        for (ExecutableElement method : publicMethods(owner)) {
+            if (method.getSimpleName().contentEquals("do" + name) && method.getParameters().size() <= 2) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private ResolvedProperty findProperty(TypeElement owner, String name) {
+        List<ExecutableElement> methods = publicMethods(owner);
+
+        ExecutableElement getter = findMethod(methods, "get" + name, 0);
+        if (getter == null) {
+            getter = findMethod(methods, "is" + name, 0);
+        }
+
+        if (getter != null) {
+            TypeMirror type = mTypes.erasure(getter.getReturnType());
+            ExecutableElement setter = null;
+            for (ExecutableElement method : methods) {
+                if (method.getSimpleName().contentEquals("set" + name) && method.getParameters().size() == 1
+                        && mTypes.isSameType(type, mTypes.erasure(method.getParameters().get(0).asType()))) {
+                    setter = method;
+                    break;
+                }
+            }
+            boolean hasCollectionMethods = findMethod(methods, "add" + name, 1) != null || findMethod(methods, "remove" + name, 1) != null;
+            return new ResolvedProperty(owner, name, type, getter, setter, null,
+                    isAccessible(owner) && !getter.getModifiers().contains(Modifier.STATIC) && !hasCollectionMethods);
+        }
+
+        // lombok generated getters may not be visible yet, so the usual backing fields count as well
+        String[] fieldNames = new String[]{name, "m" + name, Character.toLowerCase(name.charAt(0)) + name.substring(1)};
+        for (String fieldName : fieldNames) {
+            for (VariableElement field : ElementFilter.fieldsIn(mElements.getAllMembers(owner))) {
+                if (!field.getSimpleName().contentEquals(fieldName)) {
+                    continue;
+                }
+                Set<Modifier> modifiers = field.getModifiers();
+                boolean direct = fieldName.equals(name) && modifiers.contains(Modifier.PUBLIC) && !modifiers.contains(Modifier.STATIC);
+                return new ResolvedProperty(owner, name, mTypes.erasure(field.asType()), null, null, direct ? field : null,
+                        direct && isAccessible(owner));
+            }
+        }
+        return null;
+    }
+
+    private ExecutableElement findMethod(List<ExecutableElement> methods, String name, int parameterCount) {
+        for (ExecutableElement method : methods) {
+            if (method.getSimpleName().contentEquals(name) && method.getParameters().size() == parameterCount) {
+                return method;
+            }
+        }
+        return null;
+    }
+
+    private List<ExecutableElement> publicMethods(TypeElement owner) {
+        List<ExecutableElement> result = new ArrayList<ExecutableElement>();
+        for (ExecutableElement method : ElementFilter.methodsIn(mElements.getAllMembers(owner))) {
+            if (method.getModifiers().contains(Modifier.PUBLIC)) {
+                result.add(method);
+            }
+        }
+        return result;
+    }
+
+    private boolean isAccessible(TypeElement type) {
+        for (Element element = type; element.getKind().isClass() || element.getKind().isInterface();
+                element = element.getEnclosingElement()) {
+            if (!element.getModifiers().contains(Modifier.PUBLIC)) {
+                return false;
+            }
+            if (element.getEnclosingElement().getKind() == ElementKind.PACKAGE) {
+                break;
+            }
+        }
+        return true;
+    }
+
+    public static class Resolution {
+
+        private final List<ResolvedProperty> mProperties = new ArrayList<ResolvedProperty>();
+
+        private final List<String> mWarnings = new ArrayList<String>();
+
+        public List<ResolvedProperty> getProperties() {
+            return mProperties;
+        }
+
+        public List<String> getWarnings() {
+            return mWarnings;
+        }
+    }
+
+    public static class ResolvedProperty {
+
+        private final TypeElement mOwner;
+
+        private final String mName;
+
+        private final TypeMirror mType;
+
+        private final ExecutableElement mGetter;
+
+        private final ExecutableElement mSetter;
+
+        private final VariableElement mField;
+
+        private final boolean mDirectlyAccessible;
+
+        ResolvedProperty(TypeElement owner, String name, TypeMirror type, ExecutableElement getter, ExecutableElement setter,
+                VariableElement field, boolean directlyAccessible) {
+            mOwner = owner;
+            mName = name;
+            mType = type;
+            mGetter = getter;
+            mSetter = setter;
+            mField = field;
+            mDirectlyAccessible = directlyAccessible;
+        }
+
+        public TypeElement getOwner() {
+            return mOwner;
+        }
+
+        public String getName() {
+            return mName;
+        }
+
+        public TypeMirror getType() {
+            return mType;
+        }
+
+        public ExecutableElement getGetter() {
+            return mGetter;
+        }
+
+        public ExecutableElement getSetter() {
+            return mSetter;
+        }
+
+        public VariableElement getField() {
+            return mField;
+        }
+
+        /**
+         * Whether the generated binder can read (and write) the property without reflection.
+         */
+        public boolean isDirectlyAccessible() {
+            return mDirectlyAccessible;
+        }
+
+        public String getKey() {
+            return mOwner.getQualifiedName() + "#" + mName;
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package solutions.alterego.androidbound.compiler;
+
+import org.fest.assertions.api.Assertions;
+import org.junit.Test;
+
+import java.util.List;
+
+import solutions.alterego.androidbound.compiler.BindingStatement.InvalidBindingException;
+
+public class BindingStatementTest {
+
+    @Test
+    public void parseList_parsesAllGroups() throws Exception {
+        List<BindingStatement> statements = BindingStatement
+                .parseList("{ Click @- OpenNormalActivity }; {Text @= OpenNormalActivityText }; { Typeface @- ToFont(this, 'italic') }");
+
+        Assertions.assertThat(statements).hasSize(3);
+        Assertions.assertThat(statements.get(0).getTarget()).isEqualTo("Click");
+        Assertions.assertThat(statements.get(0).getModeName()).isEqualTo("OneWayOneTime");
+        Assertions.assertThat(statements.get(1).getSource()).isEqualTo("OpenNormalActivityText");
+        Assertions.assertThat(statements.get(2).getConverter()).isEqualTo("ToFont");
+        Assertions.assertThat(statements.get(2).getSource()).isEqualTo("this");
+        Assertions.assertThat(statements.get(2).getParameterString()).isEqualTo("italic");
+    }
+
+    @Test
+    public void parse_readsModeAndFallback() throws Exception {
+        BindingStatement statement = BindingStatement.parse("{Text @=@ Profile.Name || 'none'}");
+
+        Assertions.assertThat(statement.getModeName()).isEqualTo("TwoWay");
+        Assertions.assertThat(statement.getSource()).isEqualTo("Profile.Name");
+        Assertions.assertThat(statement.getFallbackString()).isEqualTo("none");
+    }
+
+    @Test
+    public void parse_readsTimingModifier() throws Exception {
+        BindingStatement statement = BindingStatement.parse("{Progress =@ Volume | sample(100)}");
+
+        Assertions.assertThat(statement.getSource()).isEqualTo("Volume");
+        Assertions.assertThat(statement.getTimingName()).isEqualTo("Sample");
+        Assertions.assertThat(statement.getTimingInterval()).isEqualTo(100);
+        Assertions.assertThat(statement.hasTiming()).isTrue();
+    }
+
+    @Test
+    public void parse_ignoresTimingSyntaxInsideQuotes() throws Exception {
+        BindingStatement statement = BindingStatement.parse("{Text @= Prefix(Name, 'a | debounce(300)') | throttle(50)}");
+
+        Assertions.assertThat(statement.getParameterString()).isEqualTo("a | debounce(300)");
+        Assertions.assertThat(statement.getTimingName()).isEqualTo("Throttle");
+        Assertions.assertThat(statement.getTimingInterval()).isEqualTo(50);
+
+        statement = BindingStatement.parse("{Text @= Name || 'a | sample(10)'}");
+        Assertions.assertThat(statement.getFallbackString()).isEqualTo("a | sample(10)");
+        Assertions.assertThat(statement.hasTiming()).isFalse();
+    }
+
+    @Test(expected = InvalidBindingException.class)
+    public void parse_withoutMode_fails() throws Exception {
+        BindingStatement.parse("{Text Name}");
+    }
+
+    @Test(expected = InvalidBindingException.class)
+    public void parseList_unterminatedGroup_fails() throws Exception {
+        BindingStatement.parseList("{Text @= Name");
+    }
+}
@@ -0,0 +1,101 @@
+package solutions.alterego.androidbound.compiler;
+
+import com.google.testing.compile.Compilation;
+import com.google.testing.compile.Compiler;
+import com.google.testing.compile.JavaFileObjects;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+
+import javax.tools.JavaFileObject;
+
+import static com.google.testing.compile.CompilationSubject.assertThat;
+
+/**
+ * Only the failing builds are compiled here, a generated binder needs the AndroidBound runtime on the classpath.
+ * {@link LayoutBinderGeneratorTest} covers what gets generated.
+ */
+public class BoundLayoutProcessorTest {
+
+    private static final JavaFileObject BOUND_LAYOUT = JavaFileObjects.forSourceLines(BoundLayoutProcessor.BOUND_LAYOUT,
+            "package solutions.alterego.androidbound.annotations;",
+            "public @interface BoundLayout {",
+            "    String[] value();",
+            "}");
+
+    @Rule
+    public TemporaryFolder mFolder = new TemporaryFolder();
+
+    @Test
+    public void missingPropertyFailsTheBuild() throws Exception {
+        writeLayout("activity_main", "{Text @= Missing}");
+
+        Compilation compilation = compile(true, "activity_main");
+
+        assertThat(compilation).failed();
+        assertThat(compilation).hadErrorContaining("has no property or command 'Missing'");
+    }
+
+    @Test
+    public void invalidBindingFailsTheBuild() throws Exception {
+        writeLayout("activity_main", "{Text Name}");
+
+        Compilation compilation = compile(true, "activity_main");
+
+        assertThat(compilation).failed();
+        assertThat(compilation).hadErrorContaining("is not a valid binding");
+    }
+
+    @Test
+    public void missingLayoutFailsTheBuild() throws Exception {
+        writeLayout("activity_main", "{Text @= Name}");
+
+        Compilation compilation = compile(true, "activity_other");
+
+        assertThat(compilation).failed();
+        assertThat(compilation).hadErrorContaining("layout activity_other wasn't found");
+    }
+
+    @Test
+    public void missingResourceDirectoriesFailTheBuild() throws Exception {
+        Compilation compilation = compile(false, "activity_main");
+
+        assertThat(compilation).failed();
+        assertThat(compilation).hadErrorContaining(BoundLayoutProcessor.OPTION_RESOURCE_DIRECTORIES);
+    }
+
+    private Compilation compile(boolean withResourceDirectories, String layoutName) {
+        JavaFileObject viewModel = JavaFileObjects.forSourceLines("test.MainViewModel",
+                "package test;",
+                "@solutions.alterego.androidbound.annotations.BoundLayout(\"" + layoutName + "\")",
+                "public class MainViewModel {",
+                "    public String getName() {",
+                "        return null;",
+                "    }",
+                "}");
+
+        Compiler compiler = Compiler.javac().withProcessors(new BoundLayoutProcessor());
+        if (withResourceDirectories) {
+            compiler = compiler.withOptions("-A" + BoundLayoutProcessor.OPTION_RESOURCE_DIRECTORIES + "=" + mFolder.getRoot().getPath());
+        }
+        return compiler.compile(BOUND_LAYOUT, viewModel);
+    }
+
+    private void writeLayout(String layoutName, String bindingString) throws IOException {
+        File folder = new File(mFolder.getRoot(), "layout");
+        folder.mkdirs();
+        Writer writer = new OutputStreamWriter(new FileOutputStream(new File(folder, layoutName + ".xml")), "UTF-8");
+        try {
+            writer.write("<TextView binding=\"" + bindingString + "\"/>");
+        } finally {
+            writer.close();
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package solutions.alterego.androidbound.compiler;
+
+import com.google.testing.compile.CompilationRule;
+import com.squareup.javapoet.JavaFile;
+
+import org.fest.assertions.api.Assertions;
+import org.junit.Rule;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.lang.model.element.TypeElement;
+
+import solutions.alterego.androidbound.compiler.ViewModelValidator.ResolvedProperty;
+
+public class LayoutBinderGeneratorTest {
+
+    @Rule
+    public CompilationRule mCompilation = new CompilationRule();
+
+    @Test
+    public void binderIsNamedAfterViewModelAndLayout() throws Exception {
+        JavaFile file = generate("activity_main", "{Text @= Name}");
+
+        Assertions.assertThat(file.packageName).isEqualTo("solutions.alterego.androidbound.compiler");
+        Assertions.assertThat(file.typeSpec.name).isEqualTo("LayoutBinderGeneratorTest_SampleViewModel_ActivityMainLayoutBinder");
+        Assertions.assertThat(source(file)).contains("return \"activity_main\";");
+    }
+
+    @Test
+    public void specificationsAreRegisteredUnderTheirBindingString() throws Exception {
+        String source = source(generate("activity_main", "{Text @=@ Name || 'none'}; {Click @- Save}"));
+
+        Assertions.assertThat(source).contains("specifications(\"{Text @=@ Name || 'none'}; {Click @- Save}\"");
+        Assertions.assertThat(source).contains("specification(\"Text\", BindingMode.TwoWay, null, \"Name\", null, null, null, \"none\")");
+        Assertions.assertThat(source).contains("specification(\"Click\", BindingMode.OneWayOneTime, null, \"Save\", null, null, null, null)");
+    }
+
+    @Test
+    public void timingModifierIsKept() throws Exception {
+        String source = source(generate("activity_main", "{Progress =@ Count | sample(100)}"));
+
+        Assertions.assertThat(source).contains("timed(specification(\"Progress\", BindingMode.OneWayToSource");
+        Assertions.assertThat(source).contains("BindingTiming.Sample, 100L)");
+    }
+
+    @Test
+    public void resolvedPropertiesGetAccessors() throws Exception {
+        String source = source(generate("activity_main", "{Text @= Name}; {Progress =@ Count}"));
+
+        Assertions.assertThat(source).contains("SampleViewModel.class, \"Name\", String.class, true,");
+        Assertions.assertThat(source).contains("SampleViewModel.class, \"Count\", int.class, true,");
+        Assertions.assertThat(source).contains("((LayoutBinderGeneratorTest.SampleViewModel) subject).getName()");
+    }
+
+    @Test
+    public void accessorsMatchTypeAndWritability() throws Exception {
+        String source = source(generate("activity_main", "{Text @= Name}; {Progress @=@ Count}; {Max @= Total}"));
+
+        Assertions.assertThat(source).contains("new IWritablePropertyAccessor()");
+        Assertions.assertThat(source).contains("new IWritableIntPropertyAccessor()");
+        Assertions.assertThat(source).contains("public void setInt(Object subject, int value) "
+                + "{ ((LayoutBinderGeneratorTest.SampleViewModel) subject).setCount(value); }");
+        Assertions.assertThat(source).contains("SampleViewModel.class, \"Total\", int.class, false, new IIntPropertyAccessor()");
+        Assertions.assertThat(source).contains("public int getInt(Object subject) "
+                + "{ return ((LayoutBinderGeneratorTest.SampleViewModel) subject).getTotal(); }");
+        Assertions.assertThat(source).doesNotContain("UnsupportedOperationException");
+    }
+
+    /**
+     * JavaPoet wraps long lines, the checks don't depend on where.
+     */
+    private static String source(JavaFile file) {
+        return file.toString().replaceAll("\\s+", " ");
+    }
+
+    private JavaFile generate(String layoutName, String bindingString) throws Exception {
+        TypeElement viewModel = mCompilation.getElements().getTypeElement(SampleViewModel.class.getCanonicalName());
+        ViewModelValidator validator = new ViewModelValidator(mCompilation.getElements(), mCompilation.getTypes());
+
+        List<BindingStatement> statements = BindingStatement.parseList(bindingString);
+        Map<String, ResolvedProperty> properties = new LinkedHashMap<String, ResolvedProperty>();
+        for (BindingStatement statement : statements) {
+            for (ResolvedProperty property : validator.resolve(viewModel, statement.getSource()).getProperties()) {
+                if (property.isDirectlyAccessible()) {
+                    properties.put(property.getKey(), property);
+                }
+            }
+        }
+
+        Map<String, List<BindingStatement>> specifications = new LinkedHashMap<String, List<BindingStatement>>();
+        specifications.put(bindingString, statements);
+        return new LayoutBinderGenerator(mCompilation.getElements())
+                .generate(viewModel, layoutName, specifications, new ArrayList<ResolvedProperty>(properties.values()));
+    }
+
+    public static class SampleViewModel {
+
+        private String mName;
+
+        private int mCount;
+
+        public String getName() {
+            return mName;
+        }
+
+        public void setName(String name) {
+            mName = name;
+        }
+
+        public int getCount() {
+            return mCount;
+        }
+
+        public void setCount(int count) {
+            mCount = count;
+        }
+
+        public int getTotal() {
+            return mCount * 2;
+        }
+
+        public void doSave() {
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package solutions.alterego.androidbound.compiler;
+
+import org.fest.assertions.api.Assertions;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+
+public class SpecificationTableWriterTest {
+
+    @Test
+    public void write_indexesEntriesByHashAndSharesStrings() throws Exception {
+        SpecificationTableWriter writer = new SpecificationTableWriter();
+        writer.add("{Text @= Name}", BindingStatement.parseList("{Text @= Name}"));
+        writer.add("{Text @= Title}; {Click @- Open}", BindingStatement.parseList("{Text @= Title}; {Click @- Open}"));
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        writer.write(output);
+        ByteBuffer table = ByteBuffer.wrap(output.toByteArray());
+
+        Assertions.assertThat(table.getInt(0)).isEqualTo(SpecificationTableWriter.MAGIC);
+        Assertions.assertThat(table.getInt(4)).isEqualTo(SpecificationTableWriter.VERSION);
+        int stringCount = table.getInt(8);
+        Assertions.assertThat(table.getInt(12)).isEqualTo(2);
+
+        int index = SpecificationTableWriter.HEADER_SIZE + 4 * stringCount;
+        Assertions.assertThat(table.getInt(index)).isLessThanOrEqualTo(table.getInt(index + 8));
+
+        for (int i = 0; i < 2; i++) {
+            int entry = table.getInt(index + 8 * i + 4);
+            String bindingString = string(table, table.getInt(entry));
+            Assertions.assertThat(bindingString.hashCode()).isEqualTo(table.getInt(index + 8 * i));
+
+            if (bindingString.equals("{Text @= Title}; {Click @- Open}")) {
+                Assertions.assertThat(table.getInt(entry + 4)).isEqualTo(2);
+                int second = entry + 8 + SpecificationTableWriter.STATEMENT_SIZE;
+                Assertions.assertThat(string(table, table.getInt(second))).isEqualTo("Click");
+                Assertions.assertThat(string(table, table.getInt(second + 4))).isEqualTo("OneWayOneTime");
+                Assertions.assertThat(table.getInt(second + 8)).isEqualTo(-1);
+                Assertions.assertThat(string(table, table.getInt(second + 12))).isEqualTo("Open");
+            }
+        }
+
+        // "Text", "None", ... are written once even though three statements use them
+        Assertions.assertThat(stringCount).isEqualTo(10);
+    }
+
+    private static String string(ByteBuffer table, int index) {
+        int offset = table.getInt(SpecificationTableWriter.HEADER_SIZE + 4 * index);
+        byte[] bytes = new byte[table.getInt(offset)];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = table.get(offset + 4 + i);
+        }
+        return new String(bytes, Charset.forName("UTF-8"));
+    }
+}
@@ -12,6 +12,7 @@ import solutions.alterego.androidbound.ViewBinder;
 import solutions.alterego.androidbound.example.imageloader.UILImageLoader;
 import solutions.alterego.androidbound.example.util.AdvancedAndroidLoggerAdapter;
 import solutions.alterego.androidbound.example.util.CustomValueConverters;
+import solutions.alterego.androidbound.example.viewmodels.MainActivityViewModel;
 import solutions.alterego.androidbound.interfaces.ILogger;
 import solutions.alterego.androidbound.interfaces.IViewBinder;
 
@@ -41,9 +42,13 @@ public class ExampleApplication extends Application {
 //        mViewBinder.setDebug(true); //use for testing!
         mViewBinder.setImageLoader(new UILImageLoader(this, null));
         mViewBinder.getFontManager().setDefaultFont(Typeface.createFromAsset(getAssets(), "Roboto-Regular.ttf"));
-        mViewBinder.getFontManager().registerFont("light", Typeface.createFromAsset(getAssets(), "Roboto-Light.ttf"));
-        mViewBinder.getFontManager().registerFont("italic", Typeface.createFromAsset(getAssets(), "Roboto-Italic.ttf"));
-        mViewBinder.getFontManager().registerFont("bold", Typeface.createFromAsset(getAssets(), "Roboto-Bold.ttf"));
+        mViewBinder.getFontManager().registerFontAsset("light", "Roboto-Light.ttf");
+        mViewBinder.getFontManager().registerFontAsset("italic", "Roboto-Italic.ttf");
+        mViewBinder.getFontManager().registerFontAsset("bold", "Roboto-Bold.ttf");
+        mViewBinder.getFontManager().preloadFonts();
         CustomValueConverters customValueConverters = new CustomValueConverters(this, mViewBinder);
+        mViewBinder.enableMetadataStore();
+        mViewBinder.prewarm(MainActivityViewModel.class);
+        mViewBinder.prewarmBindableViews();
     }
 }
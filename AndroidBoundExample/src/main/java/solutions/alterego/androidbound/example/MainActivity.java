@@ -33,9 +33,9 @@ public class MainActivity extends AppCompatActivity {
         mViewBinder = ExampleApplication.getViewBinder();
 
         mViewBinder.getFontManager().setDefaultFont(Typeface.createFromAsset(getAssets(), "Roboto-Bold.ttf"));
-        mViewBinder.getFontManager().registerFont("light", Typeface.createFromAsset(getAssets(), "Roboto-Light.ttf"));
-        mViewBinder.getFontManager().registerFont("italic", Typeface.createFromAsset(getAssets(), "Roboto-Italic.ttf"));
-        mViewBinder.getFontManager().registerFont("bold", Typeface.createFromAsset(getAssets(), "Roboto-Bold.ttf"));
+        mViewBinder.getFontManager().registerFontAsset("light", "Roboto-Light.ttf");
+        mViewBinder.getFontManager().registerFontAsset("italic", "Roboto-Italic.ttf");
+        mViewBinder.getFontManager().registerFontAsset("bold", "Roboto-Bold.ttf");
         mViewBinder.setImageLoader(new UILImageLoader(this, null));
 
         mViewModel = new MainActivityViewModel(this, logger);
@@ -7,6 +7,7 @@ import android.graphics.Color;
 import lombok.Getter;
 import lombok.experimental.Accessors;
 import solutions.alterego.androidbound.ViewModel;
+import solutions.alterego.androidbound.annotations.BoundLayout;
 import solutions.alterego.androidbound.example.ListViewActivity;
 import solutions.alterego.androidbound.example.ListViewWithObjectsActivity;
 import solutions.alterego.androidbound.example.MainBindingActivity;
@@ -17,6 +18,7 @@ import solutions.alterego.androidbound.example.RecyclerViewWithObjectsActivity;
 import solutions.alterego.androidbound.example.fragment.TestFragmentActivity;
 import solutions.alterego.androidbound.interfaces.ILogger;
 
+@BoundLayout("activity_main")
 @Accessors(prefix = "m")
 public class MainActivityViewModel extends ViewModel {
 